@@ -0,0 +1,83 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.mapper;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.records.TicketsRecord;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.BuyingTicketResponseDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.TicketResponseDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.Role;
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.TicketRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Carrier;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.User;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс замеров производительности JMH для преобразования модели билета в DTO маппером MapStruct {@link TicketMapper}
+ * и в сущность jOOQ маппером {@link TicketRecordMapper}. Замеры не обращаются к базе данных
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TicketMapperBenchmark {
+    private TicketMapper ticketMapper;
+    private TicketRecordMapper ticketRecordMapper;
+    private Ticket ticket;
+
+    /**
+     * Этот метод создает мапперы и модель купленного билета с маршрутом, перевозчиком и покупателем
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ticketMapper = new TicketMapperImpl();
+        ticketRecordMapper = new TicketRecordMapper(DSL.using(SQLDialect.POSTGRES));
+
+        Carrier carrier = new Carrier();
+        carrier.setId(1L);
+        carrier.setCompanyName("Перевозчик 1");
+        carrier.setPhoneNumber("+79000000001");
+        Route route = new Route();
+        route.setId(1L);
+        route.setDeparturePoint("Москва");
+        route.setDestination("Санкт-Петербург");
+        route.setCarrier(carrier);
+        route.setCarrierId(carrier.getId());
+        route.setDurationInMinutes(240);
+        User user = new User();
+        user.setId(1L);
+        user.setLogin("benchmark");
+        user.setRole(Role.BUYER);
+
+        ticket = new Ticket();
+        ticket.setId(1L);
+        ticket.setRoute(route);
+        ticket.setRouteId(route.getId());
+        ticket.setDateTimeDeparture(LocalDateTime.of(2030, 1, 1, 12, 0));
+        ticket.setSeatNumber(12);
+        ticket.setPrice(1500);
+        ticket.setDateTimeTicketIssuance(LocalDateTime.of(2029, 12, 1, 9, 30));
+        ticket.setUser(user);
+        ticket.setUserId(user.getId());
+        ticket.setTicketStatus(TicketStatus.NOT_ON_SALE);
+    }
+
+    @Benchmark
+    public TicketResponseDto toTicketResponseDto() {
+        return ticketMapper.toTicketResponseDto(ticket);
+    }
+
+    @Benchmark
+    public BuyingTicketResponseDto toBuyingTicketResponseDto() {
+        return ticketMapper.toBuyingTicketResponseDto(ticket);
+    }
+
+    @Benchmark
+    public TicketsRecord unmap() {
+        return ticketRecordMapper.unmap(ticket);
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.redis.serializer;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.TicketResponseDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.Role;
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Carrier;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс замеров производительности JMH для сериализации значений Redis: сериализацией JDK, которой значения
+ * записывались раньше, и компактным двоичным форматом {@link CompactRedisSerializer} без сжатия и со сжатием LZ4.
+ * Размер значений в байтах выводится при подготовке замеров. Страница ответов сравнивается только
+ * в компактном формате, потому что DTO ответов не реализуют Serializable и сериализацией JDK не записываются
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisSerializerBenchmark {
+    private static final int PAGE_SIZE = 20;
+    private static final int COMPRESSION_THRESHOLD = 512;
+    private JdkSerializationRedisSerializer jdkSerializer;
+    private CompactRedisSerializer compactSerializer;
+    private CompactRedisSerializer compressingSerializer;
+    private Ticket ticket;
+    private List<TicketResponseDto> page;
+    private byte[] jdkTicket;
+    private byte[] compactTicket;
+    private byte[] compactPage;
+    private byte[] compressedPage;
+
+    /**
+     * Этот метод создает сериализаторы, купленный билет с маршрутом, перевозчиком и покупателем
+     * и страницу ответов с информацией о билетах
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        jdkSerializer = new JdkSerializationRedisSerializer();
+        compactSerializer = new CompactRedisSerializer(0);
+        compressingSerializer = new CompactRedisSerializer(COMPRESSION_THRESHOLD);
+
+        Carrier carrier = new Carrier();
+        carrier.setId(1L);
+        carrier.setCompanyName("Перевозчик 1");
+        carrier.setPhoneNumber("+79000000001");
+        Route route = new Route();
+        route.setId(1L);
+        route.setDeparturePoint("Москва");
+        route.setDestination("Санкт-Петербург");
+        route.setCarrier(carrier);
+        route.setCarrierId(carrier.getId());
+        route.setDurationInMinutes(240);
+        User user = new User();
+        user.setId(1L);
+        user.setLogin("benchmark");
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1Q6r3rC2kR1eV0s5gQ2Y3a");
+        user.setFirstName("Иван");
+        user.setLastName("Иванов");
+        user.setRole(Role.BUYER);
+
+        ticket = new Ticket();
+        ticket.setId(123_456L);
+        ticket.setRoute(route);
+        ticket.setRouteId(route.getId());
+        ticket.setDateTimeDeparture(LocalDateTime.of(2030, 1, 1, 12, 0));
+        ticket.setSeatNumber(12);
+        ticket.setPrice(1500);
+        ticket.setDateTimeTicketIssuance(LocalDateTime.of(2029, 12, 1, 9, 30));
+        ticket.setUser(user);
+        ticket.setUserId(user.getId());
+        ticket.setTicketStatus(TicketStatus.NOT_ON_SALE);
+
+        page = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            TicketResponseDto ticketResponseDto = new TicketResponseDto();
+            ticketResponseDto.setId(1_000L + i);
+            ticketResponseDto.setRouteId(route.getId());
+            ticketResponseDto.setDeparturePoint(route.getDeparturePoint());
+            ticketResponseDto.setDestination(route.getDestination());
+            ticketResponseDto.setDurationInMinutes(route.getDurationInMinutes());
+            ticketResponseDto.setDateTimeDeparture(ticket.getDateTimeDeparture().plusHours(i));
+            ticketResponseDto.setDateTimeTicketIssuance(ticket.getDateTimeTicketIssuance());
+            ticketResponseDto.setSeatNumber(i + 1);
+            ticketResponseDto.setPrice(ticket.getPrice());
+            ticketResponseDto.setCarrierId(carrier.getId());
+            ticketResponseDto.setCompanyName(carrier.getCompanyName());
+            ticketResponseDto.setPhoneNumber(carrier.getPhoneNumber());
+            ticketResponseDto.setTicketStatus(TicketStatus.NOT_ON_SALE.name());
+            page.add(ticketResponseDto);
+        }
+
+        jdkTicket = jdkSerializer.serialize(ticket);
+        compactTicket = compactSerializer.serialize(ticket);
+        compactPage = compactSerializer.serialize(page);
+        compressedPage = compressingSerializer.serialize(page);
+        System.out.printf("%nБилет: JDK %d байт, компактный формат %d байт%n", jdkTicket.length, compactTicket.length);
+        System.out.printf("Страница из %d ответов: компактный формат %d байт, со сжатием LZ4 %d байт%n",
+                PAGE_SIZE, compactPage.length, compressedPage.length);
+    }
+
+    @Benchmark
+    public byte[] serializeTicketJdk() {
+        return jdkSerializer.serialize(ticket);
+    }
+
+    @Benchmark
+    public byte[] serializeTicketCompact() {
+        return compactSerializer.serialize(ticket);
+    }
+
+    @Benchmark
+    public Object deserializeTicketJdk() {
+        return jdkSerializer.deserialize(jdkTicket);
+    }
+
+    @Benchmark
+    public Object deserializeTicketCompact() {
+        return compactSerializer.deserialize(compactTicket);
+    }
+
+    @Benchmark
+    public byte[] serializePageCompact() {
+        return compactSerializer.serialize(page);
+    }
+
+    @Benchmark
+    public byte[] serializePageCompressed() {
+        return compressingSerializer.serialize(page);
+    }
+
+    @Benchmark
+    public Object deserializePageCompact() {
+        return compactSerializer.deserialize(compactPage);
+    }
+
+    @Benchmark
+    public Object deserializePageCompressed() {
+        return compressingSerializer.deserialize(compressedPage);
+    }
+}
@@ -0,0 +1,509 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.service.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete.impl.CityAutocompleteImpl;
+import com.github.stanislavbukaevsky.purchasetransporttickets.database.EmbeddedDatabase;
+import com.github.stanislavbukaevsky.purchasetransporttickets.cache.impl.ReferenceDataCacheImpl;
+import com.github.stanislavbukaevsky.purchasetransporttickets.configuration.R2dbcConfiguration;
+import com.github.stanislavbukaevsky.purchasetransporttickets.configuration.R2dbcDslContext;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Departures;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Tickets;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.*;
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketHoldStatus;
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
+import com.github.stanislavbukaevsky.purchasetransporttickets.inventory.TicketInventory;
+import com.github.stanislavbukaevsky.purchasetransporttickets.inventory.impl.TicketInventoryImpl;
+import com.github.stanislavbukaevsky.purchasetransporttickets.journey.impl.JourneyPlannerImpl;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.TicketMapperImpl;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.CarrierRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.RouteRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.TicketRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.UserRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.*;
+import com.github.stanislavbukaevsky.purchasetransporttickets.seatmap.SeatMap;
+import com.github.stanislavbukaevsky.purchasetransporttickets.seatmap.impl.SeatAllocatorImpl;
+import com.github.stanislavbukaevsky.purchasetransporttickets.security.CustomPrincipal;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс замеров производительности JMH для поиска и покупки билетов в {@link TicketServiceImpl}.
+ * Репозитории jOOQ работают со встроенной базой данных PostgreSQL,
+ * Redis и Kafka заменены заглушками, чтобы замеры не зависели от внешних серверов.
+ * Поиск замеряется парами: через базу данных и по индексу билетов в продаже в памяти приложения,
+ * построение индекса также замеряется парой: полной выгрузкой из базы данных и восстановлением из снимка.
+ * Одновременные поиски замеряются для каждой реализации persistence.backend: JDBC и R2DBC
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TicketServiceBenchmark {
+    private static final int TICKETS_PER_ROUTE = 1_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int SEAT_MAP_SEATS = 500;
+    private static final int SEATS_PER_ROW = 4;
+    private static final int INDEX_FETCH_SIZE = 1_000;
+    private static final long SNAPSHOT_REPLAY_OVERLAP_IN_SECONDS = 60;
+    private static final long SNAPSHOT_CHANGE_RETENTION_IN_HOURS = 24;
+    private static final long PURCHASE_HOLD_TIME_TO_LIVE_IN_SECONDS = 30;
+    private static final int CONCURRENT_SEARCHES = 2_000;
+    private EmbeddedDatabase database;
+    private TicketServiceImpl ticketService;
+    private TicketServiceImpl indexedTicketService;
+    private TicketInventoryImpl ticketInventory;
+    private Path snapshotFile;
+    private TicketRequestByDateAndTimeDto dateAndTime;
+    private TicketRequestByDeparturePointDto departurePoint;
+    private TicketRequestByCompanyNameCarrierDto companyName;
+    private TicketRequestByDestinationDto destinationSubstring;
+    private TicketRequestByCompanyNameCarrierDto companyNameSubstring;
+    private TicketSearchRequestDto filtersSubstring;
+    private Authentication authentication;
+    private Ticket ticket;
+    private SeatMap seatMap;
+    private long firstTicketId;
+    private long lastTicketId;
+
+    /**
+     * Этот метод запускает встроенную базу данных, заполняет ее и собирает сервис билетов без контекста Spring
+     *
+     * @throws Exception если база данных не запустилась
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = EmbeddedDatabase.start();
+        database.seed(TICKETS_PER_ROUTE);
+        DSLContext dsl = database.dsl();
+        Scheduler scheduler = Schedulers.immediate();
+
+        TicketRepository ticketRepository = new TicketRepository(dsl, new TicketRecordMapper(dsl));
+        RouteRepository routeRepository = new RouteRepository(dsl, new RouteRecordMapper(dsl));
+        CarrierRepository carrierRepository = new CarrierRepository(dsl, new CarrierRecordMapper(dsl));
+        ReferenceDataCacheImpl referenceDataCache = new ReferenceDataCacheImpl(Caffeine.newBuilder().build(),
+                Caffeine.newBuilder().build(), routeRepository, carrierRepository, message -> {
+        });
+        snapshotFile = Files.createTempFile("availability-index", ".snapshot");
+        ticketInventory = new TicketInventoryImpl(referenceDataCache, ticketRepository, message -> {
+        }, scheduler);
+        ReflectionTestUtils.setField(ticketInventory, "enabled", true);
+        ReflectionTestUtils.setField(ticketInventory, "fetchSize", INDEX_FETCH_SIZE);
+        ReflectionTestUtils.setField(ticketInventory, "snapshotFile", snapshotFile.toString());
+        ReflectionTestUtils.setField(ticketInventory, "replayOverlapInSeconds", SNAPSHOT_REPLAY_OVERLAP_IN_SECONDS);
+        ReflectionTestUtils.setField(ticketInventory, "changeRetentionInHours", SNAPSHOT_CHANGE_RETENTION_IN_HOURS);
+        ticketInventory.reload();
+        ReactiveTicketRepository reactiveTicketRepository = new JdbcReactiveTicketRepository(ticketRepository,
+                database.dataSource(), scheduler);
+        ticketService = ticketService(dsl, ticketRepository, routeRepository, referenceDataCache,
+                new TicketInventoryImpl(referenceDataCache, ticketRepository, message -> {
+                }, scheduler), reactiveTicketRepository, scheduler);
+        indexedTicketService = ticketService(dsl, ticketRepository, routeRepository, referenceDataCache,
+                ticketInventory, reactiveTicketRepository, scheduler);
+
+        dateAndTime = new TicketRequestByDateAndTimeDto();
+        dateAndTime.setDateTimeRequest("2030-01-02 12:00");
+        dateAndTime.setDateTimeTo("2030-01-02 18:00");
+        departurePoint = new TicketRequestByDeparturePointDto();
+        departurePoint.setDeparturePoint("Петербург");
+        companyName = new TicketRequestByCompanyNameCarrierDto();
+        companyName.setCompanyName("Перевозчик");
+        destinationSubstring = new TicketRequestByDestinationDto();
+        destinationSubstring.setDestination("бург");
+        companyNameSubstring = new TicketRequestByCompanyNameCarrierDto();
+        companyNameSubstring.setCompanyName("возчик 7");
+        filtersSubstring = new TicketSearchRequestDto();
+        filtersSubstring.setDeparturePoint("город");
+        filtersSubstring.setCompanyName("чик");
+        authentication = new UsernamePasswordAuthenticationToken(
+                new CustomPrincipal(EmbeddedDatabase.LOGIN), null, Collections.emptyList());
+
+        firstTicketId = dsl.select(DSL.min(Tickets.TICKETS.ID)).from(Tickets.TICKETS).fetchOne().value1();
+        lastTicketId = dsl.select(DSL.max(Tickets.TICKETS.ID)).from(Tickets.TICKETS).fetchOne().value1();
+        ticket = ticketRepository.findTicketsByDeparturePoint("Москва", null, 1).get(0);
+        seatMap = SeatMap.build(seatMapTickets(), SEATS_PER_ROW);
+    }
+
+    /**
+     * Этот метод останавливает встроенную базу данных и удаляет снимок индекса билетов в продаже
+     *
+     * @throws Exception если база данных не остановилась
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        database.close();
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    @Benchmark
+    public TicketPageResponseDto searchByDateAndTime() {
+        return ticketService.getTicketsByDateAndTime(dateAndTime, null, PAGE_SIZE).block();
+    }
+
+    @Benchmark
+    public TicketPageResponseDto searchByDeparturePoint() {
+        return ticketService.getTicketsByDeparturePoint(departurePoint, null, PAGE_SIZE).block();
+    }
+
+    @Benchmark
+    public TicketPageResponseDto searchByCompanyNameCarrier() {
+        return ticketService.getTicketsByCompanyNameCarrier(companyName, null, PAGE_SIZE).block();
+    }
+
+    @Benchmark
+    public TicketPageResponseDto searchByDestinationSubstring() {
+        return ticketService.getTicketsByDestination(destinationSubstring, null, PAGE_SIZE).block();
+    }
+
+    @Benchmark
+    public TicketPageResponseDto searchByCompanyNameCarrierSubstring() {
+        return ticketService.getTicketsByCompanyNameCarrier(companyNameSubstring, null, PAGE_SIZE).block();
+    }
+
+    @Benchmark
+    public TicketPageResponseDto searchByFiltersSubstring() {
+        return ticketService.getTicketsByFilters(filtersSubstring, null, PAGE_SIZE).block();
+    }
+
+    @Benchmark
+    public TicketPageResponseDto indexedSearchByDateAndTime() {
+        return indexedTicketService.getTicketsByDateAndTime(dateAndTime, null, PAGE_SIZE).block();
+    }
+
+    @Benchmark
+    public TicketPageResponseDto indexedSearchByDeparturePoint() {
+        return indexedTicketService.getTicketsByDeparturePoint(departurePoint, null, PAGE_SIZE).block();
+    }
+
+    @Benchmark
+    public TicketPageResponseDto indexedSearchByCompanyNameCarrier() {
+        return indexedTicketService.getTicketsByCompanyNameCarrier(companyName, null, PAGE_SIZE).block();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_SEARCHES)
+    public List<TicketPageResponseDto> concurrentSearchesByDeparturePoint(BackendState backendState) {
+        return Flux.range(0, CONCURRENT_SEARCHES)
+                .flatMap(search -> backendState.ticketService.getTicketsByDeparturePoint(departurePoint, null, PAGE_SIZE),
+                        CONCURRENT_SEARCHES)
+                .collectList()
+                .block();
+    }
+
+    @Benchmark
+    public TicketInventory reloadIndex() {
+        ticketInventory.reload();
+        return ticketInventory;
+    }
+
+    @Benchmark
+    public TicketInventory restoreIndexFromSnapshot() {
+        ticketInventory.restore();
+        return ticketInventory;
+    }
+
+    @Benchmark
+    public BuyingTicketResponseDto buyingTicket(PurchaseState purchaseState) {
+        return ticketService.buyingTicket(purchaseState.ticketId, authentication).block();
+    }
+
+    @Benchmark
+    public TicketResponseDto formingTicketResponseDto() {
+        return ticketService.formingTicketResponseDto(ticket.getRoute(), ticket.getRoute().getCarrier(), ticket);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateAndTime() {
+        return ticketService.parseDateAndTime(dateAndTime.getDateTimeRequest());
+    }
+
+    @Benchmark
+    public int countFreeSeats() {
+        return seatMap.countFreeSeats(System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public int[][] findAdjacentSeats() {
+        return seatMap.findAdjacentSeats(2, 5, System.currentTimeMillis());
+    }
+
+    /**
+     * Этот метод собирает сервис билетов без контекста Spring с переданным индексом билетов в продаже
+     *
+     * @param dsl                      контекст jOOQ встроенной базы данных
+     * @param ticketRepository         репозиторий билетов
+     * @param routeRepository          репозиторий маршрутов
+     * @param referenceDataCache       кэш справочных данных
+     * @param ticketInventory          индекс билетов в продаже, включенный или выключенный
+     * @param reactiveTicketRepository репозиторий поиска билетов через JDBC или R2DBC
+     * @param scheduler                планировщик блокирующих обращений
+     * @return Возвращает сервис билетов
+     */
+    private TicketServiceImpl ticketService(DSLContext dsl, TicketRepository ticketRepository, RouteRepository routeRepository,
+                                            ReferenceDataCacheImpl referenceDataCache, TicketInventory ticketInventory,
+                                            ReactiveTicketRepository reactiveTicketRepository, Scheduler scheduler) {
+        InMemoryRedisRepository redisRepository = new InMemoryRedisRepository();
+        TicketServiceImpl service = new TicketServiceImpl(
+                referenceDataCache,
+                new JourneyPlannerImpl(referenceDataCache, ticketRepository, message -> {
+                }),
+                new CityAutocompleteImpl(routeRepository, message -> {
+                }),
+                new SeatAllocatorImpl(Caffeine.newBuilder().build(), ticketRepository, message -> {
+                }, scheduler),
+                ticketInventory,
+                ticketRepository,
+                reactiveTicketRepository,
+                new UserRepository(dsl, new UserRecordMapper(dsl, null)),
+                redisRepository,
+                new NoHoldRedisRepository(),
+                new InMemoryReactiveRedisRepository(redisRepository),
+                buyingTicketResponseDto -> {
+                },
+                new TicketMapperImpl(),
+                scheduler);
+        ReflectionTestUtils.setField(service, "purchaseHoldTimeToLiveInSeconds", PURCHASE_HOLD_TIME_TO_LIVE_IN_SECONDS);
+        return service;
+    }
+
+    /**
+     * Этот метод формирует билеты отправления поезда на 500 мест, в котором продано каждое третье место
+     *
+     * @return Возвращает список билетов отправления
+     */
+    private static List<Ticket> seatMapTickets() {
+        List<Ticket> tickets = new ArrayList<>(SEAT_MAP_SEATS);
+        for (int seat = 1; seat <= SEAT_MAP_SEATS; seat++) {
+            Ticket seatTicket = new Ticket();
+            seatTicket.setId((long) seat);
+            seatTicket.setSeatNumber(seat);
+            seatTicket.setTicketStatus(seat % 3 == 0 ? TicketStatus.NOT_ON_SALE : TicketStatus.AVAILABLE_FOR_SALE);
+            tickets.add(seatTicket);
+        }
+        return tickets;
+    }
+
+    /**
+     * Состояние замера одновременных поисков с сервисом билетов на выбранной реализации persistence.backend.
+     * JDBC выполняет запросы на пуле потоков размером с пул соединений, как планировщик jdbcScheduler,
+     * R2DBC - без выделения потока на запрос на пуле соединений того же размера.
+     * Разницу в расходе памяти показывает запуск с профилировщиком -prof gc
+     */
+    @State(Scope.Benchmark)
+    public static class BackendState {
+        @Param({"jdbc", "r2dbc"})
+        private String backend;
+        private TicketServiceImpl ticketService;
+        private ExecutorService jdbcExecutorService;
+        private R2dbcDslContext r2dbcDslContext;
+
+        /**
+         * Этот метод собирает сервис билетов с репозиторием поиска выбранной реализации
+         *
+         * @param benchmark общее состояние замеров со встроенной базой данных
+         */
+        @Setup(Level.Trial)
+        public void setUp(TicketServiceBenchmark benchmark) {
+            DSLContext dsl = benchmark.database.dsl();
+            jdbcExecutorService = new ThreadPoolExecutor(benchmark.database.maximumPoolSize(),
+                    benchmark.database.maximumPoolSize(), 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+            Scheduler scheduler = Schedulers.fromExecutorService(jdbcExecutorService);
+            TicketRepository ticketRepository = new TicketRepository(dsl, new TicketRecordMapper(dsl));
+            RouteRepository routeRepository = new RouteRepository(dsl, new RouteRecordMapper(dsl));
+            ReferenceDataCacheImpl referenceDataCache = new ReferenceDataCacheImpl(Caffeine.newBuilder().build(),
+                    Caffeine.newBuilder().build(), routeRepository, new CarrierRepository(dsl, new CarrierRecordMapper(dsl)),
+                    message -> {
+                    });
+            ReactiveTicketRepository reactiveTicketRepository;
+            if ("r2dbc".equals(backend)) {
+                R2dbcConfiguration r2dbcConfiguration = new R2dbcConfiguration();
+                ReflectionTestUtils.setField(r2dbcConfiguration, "url", benchmark.database.r2dbcUrl());
+                ReflectionTestUtils.setField(r2dbcConfiguration, "username", "postgres");
+                ReflectionTestUtils.setField(r2dbcConfiguration, "password", "");
+                ReflectionTestUtils.setField(r2dbcConfiguration, "maxSize", benchmark.database.maximumPoolSize());
+                r2dbcDslContext = r2dbcConfiguration.r2dbcDslContext();
+                reactiveTicketRepository = new R2dbcReactiveTicketRepository(r2dbcDslContext);
+            } else {
+                reactiveTicketRepository = new JdbcReactiveTicketRepository(ticketRepository, benchmark.database.dataSource(), scheduler);
+            }
+            ticketService = benchmark.ticketService(dsl, ticketRepository, routeRepository, referenceDataCache,
+                    new TicketInventoryImpl(referenceDataCache, ticketRepository, message -> {
+                    }, scheduler), reactiveTicketRepository, scheduler);
+        }
+
+        /**
+         * Этот метод закрывает пул соединений R2DBC и пул потоков JDBC
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            if (r2dbcDslContext != null) {
+                r2dbcDslContext.close();
+            }
+            jdbcExecutorService.shutdown();
+        }
+    }
+
+    /**
+     * Состояние замера покупки с билетом, который будет куплен в следующем вызове.
+     * Вынесено отдельно, чтобы подготовка каждого вызова не искажала остальные замеры
+     */
+    @State(Scope.Thread)
+    public static class PurchaseState {
+        private long ticketId;
+
+        /**
+         * Этот метод возвращает в продажу следующий билет по кругу, поэтому каждый вызов покупает билет из продажи,
+         * а поиск видит практически неизменный набор билетов. Место проданного билета возвращается в продажу
+         * и в счетчике его отправления
+         *
+         * @param benchmark общее состояние замеров со встроенной базой данных
+         */
+        @Setup(Level.Invocation)
+        public void resetPurchasedTicket(TicketServiceBenchmark benchmark) {
+            ticketId = ticketId < benchmark.firstTicketId || ticketId == benchmark.lastTicketId
+                    ? benchmark.firstTicketId : ticketId + 1;
+            benchmark.database.dsl().update(Tickets.TICKETS)
+                    .set(Tickets.TICKETS.TICKET_STATUS, TicketStatus.AVAILABLE_FOR_SALE.name())
+                    .setNull(Tickets.TICKETS.USER_ID)
+                    .set(Tickets.TICKETS.VERSION, Tickets.TICKETS.VERSION.plus(1))
+                    .where(Tickets.TICKETS.ID.eq(ticketId),
+                            Tickets.TICKETS.TICKET_STATUS.eq(TicketStatus.NOT_ON_SALE.name()))
+                    .returningResult(Tickets.TICKETS.ROUTE_ID, Tickets.TICKETS.DATE_TIME_DEPARTURE)
+                    .fetchOptional()
+                    .ifPresent(ticket -> benchmark.database.dsl().update(Departures.DEPARTURES)
+                            .set(Departures.DEPARTURES.AVAILABLE_SEATS, Departures.DEPARTURES.AVAILABLE_SEATS.plus(1))
+                            .where(Departures.DEPARTURES.ROUTE_ID.eq(ticket.value1()),
+                                    Departures.DEPARTURES.DATE_TIME_DEPARTURE.eq(ticket.value2()))
+                            .execute());
+        }
+    }
+
+    /**
+     * Заглушка хранилища Redis с билетами в памяти процесса. Билет перезаписывается только более новой версией,
+     * удаленный билет остается отметкой об удалении, как в кэше билетов Redis
+     */
+    private static final class InMemoryRedisRepository extends RedisRepository {
+        private final Map<Long, Ticket> tickets = new ConcurrentHashMap<>();
+        private final Map<Long, NavigableMap<Long, Ticket>> purchases = new ConcurrentHashMap<>();
+
+        @Override
+        public void save(Ticket ticket) {
+            tickets.merge(ticket.getId(), ticket,
+                    (current, updated) -> updated.getVersion() > current.getVersion() ? updated : current);
+        }
+
+        @Override
+        public void delete(Long id) {
+            Ticket deleted = new Ticket();
+            deleted.setVersion(Long.MAX_VALUE);
+            tickets.put(id, deleted);
+        }
+
+        private Ticket findById(Long id) {
+            Ticket ticket = tickets.get(id);
+            return ticket == null || ticket.getId() == null ? null : ticket;
+        }
+
+        @Override
+        public void saveAll(List<Ticket> tickets) {
+            tickets.forEach(this::save);
+        }
+
+        @Override
+        public void savePurchase(Long userId, Ticket ticket) {
+            purchases.computeIfAbsent(userId, key -> new ConcurrentSkipListMap<>()).put(ticket.getId(), ticket);
+        }
+
+        @Override
+        public void savePurchases(Long userId, List<Ticket> tickets) {
+            tickets.forEach(ticket -> savePurchase(userId, ticket));
+        }
+
+        @Override
+        public void removePurchase(Long userId, Ticket ticket) {
+            deletePurchase(userId, ticket.getId());
+        }
+
+        @Override
+        public void deletePurchase(Long userId, Long ticketId) {
+            purchases.getOrDefault(userId, new ConcurrentSkipListMap<>()).remove(ticketId);
+        }
+
+        private List<Ticket> findPurchases(Long userId, long offset, int size) {
+            NavigableMap<Long, Ticket> userPurchases = purchases.get(userId);
+            return userPurchases == null ? null : userPurchases.values().stream().skip(offset).limit(size).toList();
+        }
+    }
+
+    /**
+     * Заглушка хранилища броней Redis, в которой ни один билет не забронирован
+     */
+    private static final class NoHoldRedisRepository extends TicketHoldRedisRepository {
+        private NoHoldRedisRepository() {
+            super(null);
+        }
+
+        @Override
+        public TicketHoldStatus hold(Long ticketId, String login, Duration timeToLive) {
+            return TicketHoldStatus.HELD;
+        }
+
+        @Override
+        public boolean release(Long ticketId, String login) {
+            return true;
+        }
+    }
+
+    /**
+     * Заглушка неблокирующего хранилища Redis, которая читает билеты и историю покупок из заглушки хранилища Redis
+     * в памяти процесса. Ни один билет не забронирован
+     */
+    private static final class InMemoryReactiveRedisRepository extends ReactiveRedisRepository {
+        private final InMemoryRedisRepository redisRepository;
+
+        private InMemoryReactiveRedisRepository(InMemoryRedisRepository redisRepository) {
+            super(null, null);
+            this.redisRepository = redisRepository;
+        }
+
+        @Override
+        public Mono<Ticket> findById(Long id) {
+            return Mono.justOrEmpty(redisRepository.findById(id));
+        }
+
+        @Override
+        public Mono<List<Ticket>> findPurchases(Long userId, long offset, int size) {
+            return Mono.justOrEmpty(redisRepository.findPurchases(userId, offset, size));
+        }
+
+        @Override
+        public Mono<Set<Long>> findHeldTicketIds(List<Long> ticketIds) {
+            return Mono.just(Collections.emptySet());
+        }
+    }
+}
@@ -2,12 +2,10 @@ package com.github.stanislavbukaevsky.purchasetransporttickets;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
-@EnableCaching
 public class PurchaseTransportTicketsApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,47 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.CityCompletionResponseDto;
+
+import java.util.List;
+
+/**
+ * Сервис-интерфейс с методами для подсказки названий пунктов отправления и назначения по словарю в памяти приложения.
+ * В этом интерфейсе прописана только сигнатура методов без реализации
+ */
+public interface CityAutocomplete {
+    /**
+     * Сигнатура метода для подсказки названий пунктов по началу названия без обращения к базе данных
+     *
+     * @param prefix начало названия пункта
+     * @param limit  наибольшее количество подсказок
+     * @return Возвращает список подсказок, упорядоченный по убыванию количества билетов в продаже
+     */
+    List<CityCompletionResponseDto> complete(String prefix, int limit);
+
+    /**
+     * Сигнатура метода для приведения введенного пользователем названия пункта к названию из словаря без обращения к базе данных.
+     * Название ищется без учета регистра, алфавита (кириллица или латиница) и с небольшим количеством опечаток
+     *
+     * @param name название пункта, введенное пользователем, или null
+     * @return Возвращает название пункта из словаря или введенное название без изменений, если в словаре оно не найдено
+     */
+    String resolve(String name);
+
+    /**
+     * Сигнатура метода для перестроения словаря подсказок на всех экземплярах приложения
+     */
+    void refresh();
+
+    /**
+     * Сигнатура метода для перестроения словаря подсказок из базы данных на этом экземпляре приложения
+     */
+    void reload();
+
+    /**
+     * Сигнатура метода для перестроения словаря подсказок по сообщению, полученному из топика Redis.
+     * Сообщения, не относящиеся к словарю подсказок, игнорируются
+     *
+     * @param message текстовое сообщение
+     */
+    void apply(String message);
+}
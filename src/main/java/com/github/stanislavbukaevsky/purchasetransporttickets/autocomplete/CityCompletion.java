@@ -0,0 +1,10 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete;
+
+/**
+ * Запись, для подсказки названия пункта отправления или назначения
+ *
+ * @param city             название пункта
+ * @param availableTickets количество билетов в продаже на маршрутах из пункта и в пункт
+ */
+public record CityCompletion(String city, int availableTickets) {
+}
@@ -0,0 +1,116 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Вспомогательный класс для приведения названий пунктов отправления и назначения к единому ключу.
+ * Ключ не зависит от регистра, диакритических знаков и алфавита: кириллица переводится в латиницу,
+ * а латинские буквы и сочетания, которыми одни и те же звуки записывают по-разному, заменяются одним вариантом.
+ * Поэтому "Москва", "Moskva", "MOSKVA" дают один ключ, а "Moscow" и "Mosckow" отличаются от него на две буквы
+ */
+public final class CityNames {
+    private static final String[] CYRILLIC = new String['я' - 'а' + 1];
+
+    static {
+        String[] latin = {"a", "b", "v", "g", "d", "e", "zh", "z", "i", "y", "k", "l", "m", "n", "o", "p",
+                "r", "s", "t", "u", "f", "kh", "ts", "ch", "sh", "shch", "", "y", "", "e", "yu", "ya"};
+        System.arraycopy(latin, 0, CYRILLIC, 0, latin.length);
+    }
+
+    private CityNames() {
+    }
+
+    /**
+     * Этот метод формирует ключ из названия пункта или его начала.
+     * Знаки, которые не являются буквами или цифрами, заменяются одним пробелом, повторяющиеся буквы сокращаются до одной
+     *
+     * @param name название пункта или его начало
+     * @return Возвращает ключ названия, пустой, если в названии нет букв и цифр
+     */
+    public static String key(String name) {
+        String latin = Normalizer.normalize(transliterate(name.toLowerCase(Locale.ROOT)), Normalizer.Form.NFD);
+        StringBuilder key = new StringBuilder(latin.length());
+        for (int i = 0; i < latin.length(); i++) {
+            char symbol = latin.charAt(i);
+            char next = i + 1 < latin.length() ? latin.charAt(i + 1) : 0;
+            if (Character.getType(symbol) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (!Character.isLetterOrDigit(symbol)) {
+                if (!key.isEmpty() && key.charAt(key.length() - 1) != ' ') {
+                    key.append(' ');
+                }
+                continue;
+            }
+            switch (symbol) {
+                case 'c' -> {
+                    if (next == 'h') {
+                        append(key, 'c');
+                    } else if (next != 'k') {
+                        append(key, 'k');
+                    }
+                }
+                case 'k' -> {
+                    append(key, next == 'h' ? 'h' : 'k');
+                    if (next == 'h') {
+                        i++;
+                    }
+                }
+                case 'p' -> {
+                    append(key, next == 'h' ? 'f' : 'p');
+                    if (next == 'h') {
+                        i++;
+                    }
+                }
+                case 'q' -> append(key, 'k');
+                case 'w' -> append(key, 'v');
+                case 'j' -> append(key, 'y');
+                case 'x' -> {
+                    append(key, 'k');
+                    append(key, 's');
+                }
+                default -> append(key, symbol);
+            }
+        }
+        int length = key.length();
+        return length > 0 && key.charAt(length - 1) == ' ' ? key.substring(0, length - 1) : key.toString();
+    }
+
+    /**
+     * Приватный метод, который переводит буквы кириллицы в латиницу, остальные символы не изменяются
+     *
+     * @param name название пункта в нижнем регистре
+     * @return Возвращает название, записанное латиницей
+     */
+    private static String transliterate(String name) {
+        StringBuilder latin = new StringBuilder(name.length() + 8);
+        for (int i = 0; i < name.length(); i++) {
+            char symbol = name.charAt(i);
+            if (symbol >= 'а' && symbol <= 'я') {
+                latin.append(CYRILLIC[symbol - 'а']);
+            } else if (symbol == 'ё' || symbol == 'є') {
+                latin.append('e');
+            } else if (symbol == 'і' || symbol == 'ї') {
+                latin.append('i');
+            } else if (symbol == 'ґ') {
+                latin.append('g');
+            } else {
+                latin.append(symbol);
+            }
+        }
+        return latin.toString();
+    }
+
+    /**
+     * Приватный метод, который добавляет букву в ключ, если ключ не заканчивается той же буквой
+     *
+     * @param key    формируемый ключ
+     * @param symbol буква
+     */
+    private static void append(StringBuilder key, char symbol) {
+        if (key.isEmpty() || key.charAt(key.length() - 1) != symbol) {
+            key.append(symbol);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Класс неизменяемого префиксного дерева (trie) названий пунктов отправления и назначения.
+ * Дерево строится по ключам названий {@link CityNames}, поэтому не зависит от регистра и алфавита.
+ * Названия хранятся один раз в словаре, упорядоченном по количеству билетов в продаже,
+ * а узлы дерева хранят только номера пунктов в этом словаре. Каждый узел заранее хранит лучшие подсказки
+ * своего поддерева, поэтому подсказка по началу названия - это спуск по символам без обхода поддерева.
+ * Поиск названия с опечатками - это обход дерева автоматом Левенштейна с ограниченным числом правок:
+ * ветки, в которых правок уже больше допустимого, отбрасываются целиком.
+ * Дерево не изменяется после построения, поэтому читается из любого потока без блокировок
+ */
+public final class CityTrie {
+    private static final CityTrie EMPTY = build(Map.of(), 0);
+    private final String[] cities;
+    private final int[] availableTickets;
+    private final Node root;
+
+    private CityTrie(String[] cities, int[] availableTickets, Node root) {
+        this.cities = cities;
+        this.availableTickets = availableTickets;
+        this.root = root;
+    }
+
+    /**
+     * Этот метод возвращает пустое дерево без пунктов
+     *
+     * @return Возвращает пустое дерево
+     */
+    public static CityTrie empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Этот метод строит дерево из названий пунктов. Названия с одинаковым ключом {@link CityNames}
+     * считаются одним пунктом: их билеты складываются, а для подсказки выбирается
+     * написание с наибольшим количеством билетов
+     *
+     * @param availableTicketsByCity количество билетов в продаже по названию пункта
+     * @param maximumCompletions     наибольшее количество подсказок, которое хранит узел дерева
+     * @return Возвращает построенное дерево
+     */
+    public static CityTrie build(Map<String, Integer> availableTicketsByCity, int maximumCompletions) {
+        Map<String, String> spellings = new HashMap<>();
+        Map<String, Integer> spellingTickets = new HashMap<>();
+        Map<String, Integer> keyTickets = new HashMap<>();
+        availableTicketsByCity.forEach((city, tickets) -> {
+            String key = CityNames.key(city);
+            if (key.isEmpty()) {
+                return;
+            }
+            keyTickets.merge(key, tickets, Integer::sum);
+            String spelling = spellings.get(key);
+            if (spelling == null || tickets > spellingTickets.get(key)
+                    || tickets.equals(spellingTickets.get(key)) && city.trim().compareTo(spelling) < 0) {
+                spellings.put(key, city.trim());
+                spellingTickets.put(key, tickets);
+            }
+        });
+
+        List<String> keys = new ArrayList<>(keyTickets.keySet());
+        keys.sort(Comparator.<String>comparingInt(keyTickets::get).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        String[] cities = new String[keys.size()];
+        int[] availableTickets = new int[keys.size()];
+        NodeBuilder root = new NodeBuilder();
+        for (int city = 0; city < keys.size(); city++) {
+            String key = keys.get(city);
+            cities[city] = spellings.get(key);
+            availableTickets[city] = keyTickets.get(key);
+            root.insert(key, city, maximumCompletions);
+        }
+        return new CityTrie(cities, availableTickets, root.build());
+    }
+
+    /**
+     * Этот метод ищет пункты, ключи названий которых начинаются с ключа заданной строки
+     *
+     * @param prefix начало названия пункта
+     * @param limit  наибольшее количество подсказок
+     * @return Возвращает список подсказок, упорядоченный по убыванию количества билетов в продаже
+     */
+    public List<CityCompletion> complete(String prefix, int limit) {
+        Node node = root;
+        String key = CityNames.key(prefix);
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        int size = Math.min(limit, node.completions.length);
+        List<CityCompletion> completions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int city = node.completions[i];
+            completions.add(new CityCompletion(cities[city], availableTickets[city]));
+        }
+        return completions;
+    }
+
+    /**
+     * Этот метод возвращает количество пунктов в словаре дерева
+     *
+     * @return Возвращает количество пунктов
+     */
+    public int size() {
+        return cities.length;
+    }
+
+    /**
+     * Этот метод ищет пункт, ключ названия которого отличается от ключа заданного названия не больше,
+     * чем на допустимое количество правок (вставка, удаление или замена буквы).
+     * Допустимое количество правок зависит от длины ключа: короткие ключи должны совпадать точно
+     *
+     * @param name название пункта в любом регистре, кириллицей или латиницей, возможно с опечатками
+     * @return Возвращает название пункта с наименьшим количеством правок, а из равных - с наибольшим количеством
+     * билетов в продаже, или null, если такого пункта нет
+     */
+    public String resolve(String name) {
+        String key = CityNames.key(name);
+        if (key.isEmpty()) {
+            return null;
+        }
+        int[] row = new int[key.length() + 1];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = i;
+        }
+        Match match = new Match(maximumDistance(key.length()));
+        resolve(root, key, row, match);
+        return match.city < 0 ? null : cities[match.city];
+    }
+
+    /**
+     * Приватный метод, который обходит поддерево узла автоматом Левенштейна.
+     * Строка автомата хранит количество правок между ключом и каждым началом ключа для пути к узлу
+     *
+     * @param node  узел дерева
+     * @param key   ключ искомого названия
+     * @param row   строка автомата для пути к узлу
+     * @param match лучший найденный пункт
+     */
+    private static void resolve(Node node, String key, int[] row, Match match) {
+        if (node.city >= 0 && match.offer(node.city, row[key.length()])) {
+            return;
+        }
+        for (int child = 0; child < node.keys.length; child++) {
+            int[] next = new int[row.length];
+            next[0] = row[0] + 1;
+            int minimum = next[0];
+            for (int i = 1; i < row.length; i++) {
+                int substitution = row[i - 1] + (key.charAt(i - 1) == node.keys[child] ? 0 : 1);
+                next[i] = Math.min(substitution, Math.min(row[i], next[i - 1]) + 1);
+                minimum = Math.min(minimum, next[i]);
+            }
+            if (minimum <= match.distance) {
+                resolve(node.children[child], key, next, match);
+            }
+        }
+    }
+
+    /**
+     * Приватный метод, который возвращает допустимое количество правок для ключа заданной длины
+     *
+     * @param length длина ключа
+     * @return Возвращает допустимое количество правок
+     */
+    private static int maximumDistance(int length) {
+        return length <= 3 ? 0 : length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Узел дерева: символы переходов в порядке возрастания, дочерние узлы в том же порядке
+     * и номера лучших пунктов поддерева в словаре. Номер пункта в словаре - это его место по количеству билетов,
+     * поэтому лучшие пункты поддерева - это пункты с наименьшими номерами.
+     * Узел, на котором заканчивается ключ пункта, хранит номер этого пункта, остальные узлы - минус единицу
+     */
+    private static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private final int[] completions;
+        private final int city;
+
+        private Node(char[] keys, Node[] children, int[] completions, int city) {
+            this.keys = keys;
+            this.children = children;
+            this.completions = completions;
+            this.city = city;
+        }
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    /**
+     * Изменяемый узел дерева, который используется только во время построения
+     */
+    private static final class NodeBuilder {
+        private final TreeMap<Character, NodeBuilder> children = new TreeMap<>();
+        private final List<Integer> completions = new ArrayList<>();
+        private int city = -1;
+
+        /**
+         * Пункты добавляются в порядке номеров в словаре, поэтому первые пункты, дошедшие до узла,
+         * и есть его лучшие подсказки
+         */
+        private void insert(String key, int city, int maximumCompletions) {
+            NodeBuilder node = this;
+            node.offer(city, maximumCompletions);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), character -> new NodeBuilder());
+                node.offer(city, maximumCompletions);
+            }
+            node.city = city;
+        }
+
+        private void offer(int city, int maximumCompletions) {
+            if (completions.size() < maximumCompletions) {
+                completions.add(city);
+            }
+        }
+
+        private Node build() {
+            char[] keys = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int index = 0;
+            for (Map.Entry<Character, NodeBuilder> child : children.entrySet()) {
+                keys[index] = child.getKey();
+                nodes[index++] = child.getValue().build();
+            }
+            return new Node(keys, nodes, completions.stream().mapToInt(Integer::intValue).toArray(), city);
+        }
+    }
+
+    /**
+     * Лучший пункт, найденный обходом дерева, и допустимое количество правок для дальнейшего обхода.
+     * После каждой находки допустимое количество правок уменьшается до количества правок найденного пункта
+     */
+    private static final class Match {
+        private int distance;
+        private int city = -1;
+
+        private Match(int distance) {
+            this.distance = distance;
+        }
+
+        /**
+         * Пункт с меньшим номером в словаре продается лучше, поэтому при равном количестве правок выигрывает он
+         *
+         * @return Возвращает true, если найдено точное совпадение и обход можно не продолжать
+         */
+        private boolean offer(int city, int distance) {
+            if (distance < this.distance || distance == this.distance && (this.city < 0 || city < this.city)) {
+                this.distance = distance;
+                this.city = city;
+            }
+            return distance == 0;
+        }
+    }
+}
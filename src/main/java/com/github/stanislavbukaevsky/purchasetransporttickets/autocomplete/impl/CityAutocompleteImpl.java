@@ -0,0 +1,122 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete.impl;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete.CityAutocomplete;
+import com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete.CityCompletion;
+import com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete.CityTrie;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.CityCompletionResponseDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.MessagePublisher;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.RouteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.COMPLETE_CITIES_MESSAGE_LOGGER_SERVICE;
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.RELOAD_CITY_AUTOCOMPLETE_MESSAGE_LOGGER_SERVICE;
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.RESOLVE_CITY_MESSAGE_LOGGER_SERVICE;
+
+/**
+ * Сервис-класс с бизнес-логикой для подсказки и распознавания названий пунктов отправления и назначения.
+ * Словарь подсказок строится из маршрутов при запуске приложения, перестраивается при изменении маршрутов
+ * на всех экземплярах приложения через топик Redis и периодически, чтобы учитывать проданные билеты.
+ * Реализует интерфейс {@link CityAutocomplete}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CityAutocompleteImpl implements CityAutocomplete {
+    private static final String RELOAD_MESSAGE = "autocomplete:reload";
+    private final Object reloadLock = new Object();
+    private final RouteRepository routeRepository;
+    private final MessagePublisher messagePublisher;
+    private volatile CityTrie cityTrie = CityTrie.empty();
+    @Value("${autocomplete.maximum-completions}")
+    private Integer maximumCompletions;
+
+    /**
+     * Реализация метода для подсказки названий пунктов по началу названия без обращения к базе данных
+     *
+     * @param prefix начало названия пункта
+     * @param limit  наибольшее количество подсказок
+     * @return Возвращает список подсказок, упорядоченный по убыванию количества билетов в продаже
+     */
+    @Override
+    public List<CityCompletionResponseDto> complete(String prefix, int limit) {
+        log.debug(COMPLETE_CITIES_MESSAGE_LOGGER_SERVICE, prefix, limit);
+        return cityTrie.complete(prefix, limit).stream()
+                .map(this::formingCityCompletionResponseDto)
+                .toList();
+    }
+
+    /**
+     * Реализация метода для приведения введенного пользователем названия пункта к названию из словаря без обращения к базе данных.
+     * Название ищется без учета регистра, алфавита (кириллица или латиница) и с небольшим количеством опечаток
+     *
+     * @param name название пункта, введенное пользователем, или null
+     * @return Возвращает название пункта из словаря или введенное название без изменений, если в словаре оно не найдено
+     */
+    @Override
+    public String resolve(String name) {
+        if (name == null) {
+            return null;
+        }
+        String city = cityTrie.resolve(name);
+        log.debug(RESOLVE_CITY_MESSAGE_LOGGER_SERVICE, name, city);
+        return city == null ? name : city;
+    }
+
+    /**
+     * Реализация метода для перестроения словаря подсказок на всех экземплярах приложения
+     */
+    @Override
+    public void refresh() {
+        reload();
+        messagePublisher.publish(RELOAD_MESSAGE);
+    }
+
+    /**
+     * Реализация метода для перестроения словаря подсказок из базы данных на этом экземпляре приложения.
+     * Этот метод отрабатывает при запуске приложения и затем автоматически по расписанию.
+     * Перестроения выполняются по очереди, поэтому более старый словарь не заменит более новый
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${scheduled.time.from.city-autocomplete}")
+    public void reload() {
+        synchronized (reloadLock) {
+            cityTrie = CityTrie.build(routeRepository.countAvailableTicketsByCity(), maximumCompletions);
+        }
+        log.info(RELOAD_CITY_AUTOCOMPLETE_MESSAGE_LOGGER_SERVICE, cityTrie.size());
+    }
+
+    /**
+     * Реализация метода для перестроения словаря подсказок по сообщению, полученному из топика Redis.
+     * Сообщения, не относящиеся к словарю подсказок, игнорируются
+     *
+     * @param message текстовое сообщение
+     */
+    @Override
+    public void apply(String message) {
+        if (RELOAD_MESSAGE.equals(message)) {
+            reload();
+        }
+    }
+
+    /**
+     * Приватный метод для генерации ответа с подсказкой названия пункта
+     *
+     * @param cityCompletion подсказка названия пункта
+     * @return Возвращает сгенерированный ответ с подсказкой через DTO-класс
+     */
+    private CityCompletionResponseDto formingCityCompletionResponseDto(CityCompletion cityCompletion) {
+        CityCompletionResponseDto cityCompletionResponseDto = new CityCompletionResponseDto();
+        cityCompletionResponseDto.setCity(cityCompletion.city());
+        cityCompletionResponseDto.setAvailableTickets(cityCompletion.availableTickets());
+        return cityCompletionResponseDto;
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.cache;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Carrier;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
+
+/**
+ * Сервис-интерфейс с методами для локального кэша справочных данных (маршрутов и перевозчиков) в приложении.
+ * В этом интерфейсе прописана только сигнатура методов без реализации
+ */
+public interface ReferenceDataCache {
+    /**
+     * Сигнатура метода для поиска маршрута по его уникальному идентификатору.
+     * Возвращаемая модель общая для всех вызывающих методов и не должна изменяться
+     *
+     * @param id уникальный идентификатор маршрута
+     * @return Возвращает модель найденного маршрута
+     */
+    Route findRouteById(Long id);
+
+    /**
+     * Сигнатура метода для поиска перевозчика по его уникальному идентификатору.
+     * Возвращаемая модель общая для всех вызывающих методов и не должна изменяться
+     *
+     * @param id уникальный идентификатор перевозчика
+     * @return Возвращает модель найденного перевозчика
+     */
+    Carrier findCarrierById(Long id);
+
+    /**
+     * Сигнатура метода для формирования маршрута вместе с перевозчиком по уникальному идентификатору маршрута.
+     * Возвращается копия маршрута из кэша, которую вызывающий метод может записать в модель билета
+     *
+     * @param id уникальный идентификатор маршрута
+     * @return Возвращает копию модели маршрута с заполненным перевозчиком
+     */
+    Route findRouteWithCarrierById(Long id);
+
+    /**
+     * Сигнатура метода для сброса маршрута из кэша на всех экземплярах приложения
+     *
+     * @param id уникальный идентификатор маршрута
+     */
+    void invalidateRoute(Long id);
+
+    /**
+     * Сигнатура метода для сброса перевозчика из кэша на всех экземплярах приложения
+     *
+     * @param id уникальный идентификатор перевозчика
+     */
+    void invalidateCarrier(Long id);
+
+    /**
+     * Сигнатура метода для сброса записи из локального кэша по сообщению, полученному из топика Redis.
+     * Сообщения, не относящиеся к кэшу справочных данных, игнорируются
+     *
+     * @param message текстовое сообщение
+     */
+    void evict(String message);
+}
@@ -0,0 +1,117 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.cache.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.stanislavbukaevsky.purchasetransporttickets.cache.ReferenceDataCache;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Carrier;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.MessagePublisher;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.CarrierRepository;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.RouteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
+
+/**
+ * Сервис-класс с бизнес-логикой для локального кэша справочных данных (маршрутов и перевозчиков).
+ * При промахе запись загружается из базы данных, сброс записи рассылается остальным экземплярам через топик Redis.
+ * Реализует интерфейс {@link ReferenceDataCache}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataCacheImpl implements ReferenceDataCache {
+    private static final String EVICT_ROUTE_MESSAGE_PREFIX = "reference-cache:evict:route:";
+    private static final String EVICT_CARRIER_MESSAGE_PREFIX = "reference-cache:evict:carrier:";
+    private final Cache<Long, Route> routeCache;
+    private final Cache<Long, Carrier> carrierCache;
+    private final RouteRepository routeRepository;
+    private final CarrierRepository carrierRepository;
+    private final MessagePublisher messagePublisher;
+
+    /**
+     * Реализация метода для поиска маршрута по его уникальному идентификатору.
+     * Возвращаемая модель общая для всех вызывающих методов и не должна изменяться
+     *
+     * @param id уникальный идентификатор маршрута
+     * @return Возвращает модель найденного маршрута
+     */
+    @Override
+    public Route findRouteById(Long id) {
+        return routeCache.get(id, routeRepository::findRouteById);
+    }
+
+    /**
+     * Реализация метода для поиска перевозчика по его уникальному идентификатору.
+     * Возвращаемая модель общая для всех вызывающих методов и не должна изменяться
+     *
+     * @param id уникальный идентификатор перевозчика
+     * @return Возвращает модель найденного перевозчика
+     */
+    @Override
+    public Carrier findCarrierById(Long id) {
+        return carrierCache.get(id, carrierRepository::findCarrierById);
+    }
+
+    /**
+     * Реализация метода для формирования маршрута вместе с перевозчиком по уникальному идентификатору маршрута.
+     * Модель из кэша общая для всех вызывающих методов, поэтому перевозчик записывается в копию
+     *
+     * @param id уникальный идентификатор маршрута
+     * @return Возвращает копию модели маршрута с заполненным перевозчиком
+     */
+    @Override
+    public Route findRouteWithCarrierById(Long id) {
+        Route cached = findRouteById(id);
+        Route route = new Route();
+        route.setId(cached.getId());
+        route.setDeparturePoint(cached.getDeparturePoint());
+        route.setDestination(cached.getDestination());
+        route.setCarrierId(cached.getCarrierId());
+        route.setDurationInMinutes(cached.getDurationInMinutes());
+        route.setCarrier(findCarrierById(cached.getCarrierId()));
+        return route;
+    }
+
+    /**
+     * Реализация метода для сброса маршрута из кэша на всех экземплярах приложения
+     *
+     * @param id уникальный идентификатор маршрута
+     */
+    @Override
+    public void invalidateRoute(Long id) {
+        log.info(INVALIDATE_ROUTE_CACHE_MESSAGE_LOGGER_SERVICE, id);
+        routeCache.invalidate(id);
+        messagePublisher.publish(EVICT_ROUTE_MESSAGE_PREFIX + id);
+    }
+
+    /**
+     * Реализация метода для сброса перевозчика из кэша на всех экземплярах приложения
+     *
+     * @param id уникальный идентификатор перевозчика
+     */
+    @Override
+    public void invalidateCarrier(Long id) {
+        log.info(INVALIDATE_CARRIER_CACHE_MESSAGE_LOGGER_SERVICE, id);
+        carrierCache.invalidate(id);
+        messagePublisher.publish(EVICT_CARRIER_MESSAGE_PREFIX + id);
+    }
+
+    /**
+     * Реализация метода для сброса записи из локального кэша по сообщению, полученному из топика Redis.
+     * Сообщения, не относящиеся к кэшу справочных данных, игнорируются
+     *
+     * @param message текстовое сообщение
+     */
+    @Override
+    public void evict(String message) {
+        if (message.startsWith(EVICT_ROUTE_MESSAGE_PREFIX)) {
+            log.info(EVICT_REFERENCE_CACHE_MESSAGE_LOGGER_SERVICE, message);
+            routeCache.invalidate(Long.valueOf(message.substring(EVICT_ROUTE_MESSAGE_PREFIX.length())));
+        } else if (message.startsWith(EVICT_CARRIER_MESSAGE_PREFIX)) {
+            log.info(EVICT_REFERENCE_CACHE_MESSAGE_LOGGER_SERVICE, message);
+            carrierCache.invalidate(Long.valueOf(message.substring(EVICT_CARRIER_MESSAGE_PREFIX.length())));
+        }
+    }
+}
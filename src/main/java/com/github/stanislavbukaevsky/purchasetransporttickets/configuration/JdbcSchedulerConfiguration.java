@@ -0,0 +1,61 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Конфигурационный класс для настройки планировщика блокирующих обращений к базе данных.
+ * Запросы jOOQ выполняются на отдельном ограниченном пуле потоков, а не в потоках цикла событий Netty
+ */
+@Configuration
+public class JdbcSchedulerConfiguration {
+    private static final String JDBC_SCHEDULER_NAME = "jdbc";
+    @Value("${spring.datasource.hikari.maximum-pool-size}")
+    private Integer maximumPoolSize;
+    @Value("${jdbc.scheduler.queue-capacity}")
+    private Integer queueCapacity;
+
+    /**
+     * Этот метод создает пул потоков для блокирующих обращений к базе данных.
+     * Количество потоков равно размеру пула соединений Hikari, поэтому потоки не ждут свободного соединения.
+     * Очередь задач ограничена, при ее переполнении задача отклоняется.
+     * Пул публикует метрики executor.queued (глубина очереди) и executor.idle (время ожидания в очереди)
+     *
+     * @param meterRegistry реестр метрик приложения
+     * @return Возвращает пул потоков с метриками
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService jdbcExecutorService(MeterRegistry meterRegistry) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                maximumPoolSize,
+                maximumPoolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory(JDBC_SCHEDULER_NAME + "-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, JDBC_SCHEDULER_NAME);
+    }
+
+    /**
+     * Этот метод создает планировщик Reactor поверх пула потоков для обращений к базе данных
+     *
+     * @param jdbcExecutorService пул потоков для блокирующих обращений к базе данных
+     * @return Возвращает планировщик для блокирующих обращений к базе данных
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler(ExecutorService jdbcExecutorService) {
+        return Schedulers.fromExecutorService(jdbcExecutorService, JDBC_SCHEDULER_NAME);
+    }
+}
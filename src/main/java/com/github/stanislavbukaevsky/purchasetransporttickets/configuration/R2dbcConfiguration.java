@@ -0,0 +1,48 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.configuration;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Конфигурационный класс для настройки неблокирующего доступа к базе данных через R2DBC.
+ * Включается свойством persistence.backend=r2dbc
+ */
+@Configuration
+@ConditionalOnProperty(name = "persistence.backend", havingValue = "r2dbc")
+public class R2dbcConfiguration {
+    @Value("${persistence.r2dbc.url}")
+    private String url;
+    @Value("${spring.datasource.username}")
+    private String username;
+    @Value("${spring.datasource.password}")
+    private String password;
+    @Value("${persistence.r2dbc.pool.max-size}")
+    private Integer maxSize;
+
+    /**
+     * Этот метод создает пул соединений R2DBC и контекст jOOQ поверх него
+     *
+     * @return Возвращает контекст jOOQ для неблокирующих запросов к базе данных
+     */
+    @Bean
+    public R2dbcDslContext r2dbcDslContext() {
+        final ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url)
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        final ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options))
+                .maxSize(maxSize)
+                .build());
+        return new R2dbcDslContext(DSL.using(pool, SQLDialect.POSTGRES), pool);
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.configuration;
+
+import io.r2dbc.pool.ConnectionPool;
+import org.jooq.DSLContext;
+
+/**
+ * Контекст jOOQ поверх пула соединений R2DBC.
+ * Пул намеренно не регистрируется бином ConnectionFactory, иначе Spring Boot отключит источник данных JDBC,
+ * на котором работают остальные репозитории и миграции Liquibase
+ *
+ * @param dsl  контекст jOOQ для неблокирующих запросов
+ * @param pool пул соединений R2DBC
+ */
+public record R2dbcDslContext(DSLContext dsl, ConnectionPool pool) {
+    /**
+     * Этот метод закрывает пул соединений R2DBC при остановке приложения
+     */
+    public void close() {
+        pool.dispose();
+    }
+}
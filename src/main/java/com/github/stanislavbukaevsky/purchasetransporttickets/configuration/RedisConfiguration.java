@@ -1,31 +1,72 @@
 package com.github.stanislavbukaevsky.purchasetransporttickets.configuration;
 
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.InstanceId;
 import com.github.stanislavbukaevsky.purchasetransporttickets.redis.MessagePublisher;
 import com.github.stanislavbukaevsky.purchasetransporttickets.redis.impl.MessagePublisherImpl;
 import com.github.stanislavbukaevsky.purchasetransporttickets.redis.impl.MessageSubscriberImpl;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.serializer.CompactRedisSerializer;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulConnection;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
 
 /**
  * Конфигурационный класс для настройки конфигурации Redis
  */
 @Configuration
 public class RedisConfiguration {
+    private static final String JDK_SERIALIZER_FORMAT = "jdk";
     @Value("${spring.data.redis.host}")
     private String host;
     @Value("${spring.data.redis.port}")
     private Integer port;
     @Value("${spring.data.redis.topic}")
     private String topic;
+    @Value("${redis.serializer.format}")
+    private String serializerFormat;
+    @Value("${redis.serializer.compression-threshold-in-bytes}")
+    private Integer compressionThreshold;
+    @Value("${redis.lettuce.command-timeout-in-millis}")
+    private Long commandTimeoutInMillis;
+    @Value("${redis.lettuce.shutdown-timeout-in-millis}")
+    private Long shutdownTimeoutInMillis;
+    @Value("${redis.lettuce.share-native-connection}")
+    private Boolean shareNativeConnection;
+    @Value("${redis.lettuce.pool.enabled}")
+    private Boolean poolEnabled;
+    @Value("${redis.lettuce.pool.max-total}")
+    private Integer poolMaxTotal;
+    @Value("${redis.lettuce.pool.max-idle}")
+    private Integer poolMaxIdle;
+    @Value("${redis.lettuce.pool.min-idle}")
+    private Integer poolMinIdle;
 
     /**
-     * Этот метод создает и настраивает соединение с Redis
+     * Этот метод создает и настраивает соединение с Redis.
+     * Каждая команда, в том числе неблокирующая, ограничена временем ожидания ответа, а при потере соединения
+     * команды сразу завершаются ошибкой, а не копятся в буфере до переподключения.
+     * Обычные команды шаблонов Redis идут через одно общее соединение Lettuce. Пул соединений, если он включен,
+     * используется только для команд, которым нужно отдельное соединение: транзакций и блокирующих команд
      *
      * @return Возвращает настроенное соединение с Redis
      */
@@ -34,11 +75,40 @@ public class RedisConfiguration {
         final RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration();
         configuration.setHostName(host);
         configuration.setPort(port);
-        return new LettuceConnectionFactory(configuration);
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = poolEnabled
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig())
+                : LettuceClientConfiguration.builder();
+        LettuceClientConfiguration clientConfiguration = builder
+                .commandTimeout(Duration.ofMillis(commandTimeoutInMillis))
+                .shutdownTimeout(Duration.ofMillis(shutdownTimeoutInMillis))
+                .clientOptions(ClientOptions.builder()
+                        .timeoutOptions(TimeoutOptions.enabled())
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .build())
+                .build();
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(configuration, clientConfiguration);
+        connectionFactory.setShareNativeConnection(shareNativeConnection);
+        return connectionFactory;
     }
 
     /**
-     * Этот метод создает и настраивает взаимодействие с сервером Redis
+     * Этот метод создает сериализатор значений Redis для шаблона Redis и кэша Spring.
+     * Формат jdk оставляет сериализацию JDK, остальные значения включают компактный двоичный формат
+     *
+     * @return Возвращает сериализатор значений Redis
+     */
+    @Bean
+    public RedisSerializer<Object> redisValueSerializer() {
+        if (JDK_SERIALIZER_FORMAT.equals(serializerFormat)) {
+            return new JdkSerializationRedisSerializer();
+        }
+        return new CompactRedisSerializer(compressionThreshold);
+    }
+
+    /**
+     * Этот метод создает и настраивает взаимодействие с сервером Redis.
+     * Ключи записываются строками, ключи хэшей - строковым представлением идентификаторов,
+     * значения - сериализатором значений Redis
      *
      * @return Возвращает настроенное взаимодействие с сервером Redis
      */
@@ -46,9 +116,52 @@ public class RedisConfiguration {
     public RedisTemplate<String, Object> redisTemplate() {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(lettuceConnectionFactory());
+        template.setKeySerializer(RedisSerializer.string());
+        template.setHashKeySerializer(new GenericToStringSerializer<>(Long.class));
+        template.setValueSerializer(redisValueSerializer());
+        template.setHashValueSerializer(redisValueSerializer());
         return template;
     }
 
+    /**
+     * Этот метод создает и настраивает неблокирующее взаимодействие с сервером Redis
+     * с теми же сериализаторами ключей и значений, что и у блокирующего шаблона Redis
+     *
+     * @return Возвращает настроенное неблокирующее взаимодействие с сервером Redis
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, Object> reactiveRedisTemplate() {
+        RedisSerializationContext<String, Object> context = RedisSerializationContext
+                .<String, Object>newSerializationContext(RedisSerializer.string())
+                .hashKey(new GenericToStringSerializer<>(Long.class))
+                .value(redisValueSerializer())
+                .hashValue(redisValueSerializer())
+                .build();
+        return new ReactiveRedisTemplate<>(lettuceConnectionFactory(), context);
+    }
+
+    /**
+     * Этот метод создает и настраивает неблокирующее взаимодействие с сервером Redis со строковыми ключами и значениями.
+     * Используется для проверки брони билетов в результатах поиска
+     *
+     * @return Возвращает настроенное неблокирующее строковое взаимодействие с сервером Redis
+     */
+    @Bean
+    public ReactiveStringRedisTemplate reactiveStringRedisTemplate() {
+        return new ReactiveStringRedisTemplate(lettuceConnectionFactory());
+    }
+
+    /**
+     * Этот метод создает и настраивает взаимодействие с сервером Redis со строковыми ключами и значениями.
+     * Используется для брони билетов и Lua-скриптов
+     *
+     * @return Возвращает настроенное строковое взаимодействие с сервером Redis
+     */
+    @Bean
+    public StringRedisTemplate stringRedisTemplate() {
+        return new StringRedisTemplate(lettuceConnectionFactory());
+    }
+
     /**
      * Этот метод создает и настраивает канал связи с Redis
      *
@@ -66,16 +179,55 @@ public class RedisConfiguration {
      */
     @Bean
     public MessagePublisher redisPublisher() {
-        return new MessagePublisherImpl(redisTemplate(), channelTopic());
+        return new MessagePublisherImpl(redisTemplate(), channelTopic(), instanceId());
+    }
+
+    /**
+     * Этот метод создает идентификатор экземпляра приложения, которым помечаются сообщения топика
+     *
+     * @return Возвращает случайный идентификатор экземпляра приложения
+     */
+    @Bean
+    public InstanceId instanceId() {
+        return InstanceId.random();
     }
 
     /**
      * Этот метод создает и настраивает адаптер для прослущивания сообщений
      *
+     * @param messageSubscriber сервис получения сообщений из топика
      * @return Возвращает настроенный адаптер для прослущивания сообщений
      */
     @Bean
-    public MessageListenerAdapter messageListenerAdapter() {
-        return new MessageListenerAdapter(new MessageSubscriberImpl());
+    public MessageListenerAdapter messageListenerAdapter(MessageSubscriberImpl messageSubscriber) {
+        return new MessageListenerAdapter(messageSubscriber);
+    }
+
+    /**
+     * Этот метод создает и настраивает контейнер, который подписывает адаптер на канал связи с Redis.
+     * Через этот канал экземпляры приложения получают сообщения о сбросе локального кэша справочных данных
+     *
+     * @param messageListenerAdapter адаптер для прослущивания сообщений
+     * @return Возвращает настроенный контейнер подписки на канал связи с Redis
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(MessageListenerAdapter messageListenerAdapter) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(lettuceConnectionFactory());
+        container.addMessageListener(messageListenerAdapter, channelTopic());
+        return container;
+    }
+
+    /**
+     * Приватный метод для настройки пула соединений Lettuce
+     *
+     * @return Возвращает настройки пула соединений
+     */
+    private GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig() {
+        GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(poolMaxTotal);
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(poolMinIdle);
+        return poolConfig;
     }
 }
@@ -0,0 +1,63 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Carrier;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Конфигурационный класс для настройки локального кэша справочных данных (маршрутов и перевозчиков).
+ * Кэш ограничен по количеству записей и времени жизни, статистика попаданий и промахов публикуется в метриках
+ */
+@Configuration
+public class ReferenceCacheConfiguration {
+    private static final String ROUTE_CACHE_NAME = "routes";
+    private static final String CARRIER_CACHE_NAME = "carriers";
+    @Value("${reference.cache.maximum-size}")
+    private Long maximumSize;
+    @Value("${reference.cache.time-to-live-in-seconds}")
+    private Long timeToLiveInSeconds;
+
+    /**
+     * Этот метод создает локальный кэш маршрутов по их уникальному идентификатору
+     *
+     * @param meterRegistry реестр метрик приложения
+     * @return Возвращает локальный кэш маршрутов с метриками
+     */
+    @Bean
+    public Cache<Long, Route> routeCache(MeterRegistry meterRegistry) {
+        return CaffeineCacheMetrics.monitor(meterRegistry, buildCache(), ROUTE_CACHE_NAME);
+    }
+
+    /**
+     * Этот метод создает локальный кэш перевозчиков по их уникальному идентификатору
+     *
+     * @param meterRegistry реестр метрик приложения
+     * @return Возвращает локальный кэш перевозчиков с метриками
+     */
+    @Bean
+    public Cache<Long, Carrier> carrierCache(MeterRegistry meterRegistry) {
+        return CaffeineCacheMetrics.monitor(meterRegistry, buildCache(), CARRIER_CACHE_NAME);
+    }
+
+    /**
+     * Приватный метод, который создает кэш с ограничением по количеству записей и времени жизни записи.
+     * Метрики cache.gets (result=hit/miss) и cache.evictions доступны через /actuator/metrics
+     *
+     * @return Возвращает пустой кэш со сбором статистики
+     */
+    private <V> Cache<Long, V> buildCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(timeToLiveInSeconds))
+                .recordStats()
+                .build();
+    }
+}
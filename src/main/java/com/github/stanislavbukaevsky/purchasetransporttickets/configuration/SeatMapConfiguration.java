@@ -0,0 +1,43 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.stanislavbukaevsky.purchasetransporttickets.seatmap.DepartureKey;
+import com.github.stanislavbukaevsky.purchasetransporttickets.seatmap.SeatMap;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Конфигурационный класс для настройки локального кэша карт мест отправлений.
+ * В кэше хранятся только карты отправлений, которые недавно запрашивались. Карта, которая не изменялась
+ * дольше времени жизни, строится заново, поэтому пропущенное сообщение из топика Redis не оставляет ее устаревшей навсегда
+ */
+@Configuration
+public class SeatMapConfiguration {
+    private static final String SEAT_MAP_CACHE_NAME = "seat-maps";
+    @Value("${seat-map.cache.maximum-size}")
+    private Long maximumSize;
+    @Value("${seat-map.cache.time-to-live-in-seconds}")
+    private Long timeToLiveInSeconds;
+
+    /**
+     * Этот метод создает локальный кэш карт мест по ключу отправления
+     *
+     * @param meterRegistry реестр метрик приложения
+     * @return Возвращает локальный кэш карт мест с метриками
+     */
+    @Bean
+    public Cache<DepartureKey, SeatMap> seatMapCache(MeterRegistry meterRegistry) {
+        Cache<DepartureKey, SeatMap> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(timeToLiveInSeconds))
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, SEAT_MAP_CACHE_NAME);
+    }
+}
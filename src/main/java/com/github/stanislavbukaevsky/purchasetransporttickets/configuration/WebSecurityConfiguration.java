@@ -39,8 +39,15 @@ public class WebSecurityConfiguration {
             "/tickets/all-departure-point",
             "/tickets/all-destination",
             "/tickets/all-company-carrier",
+            "/tickets/search",
+            "/tickets/stream/**",
             "/tickets/buying/**",
-            "/tickets/buying-user-id"
+            "/tickets/hold/**",
+            "/tickets/confirm/**",
+            "/tickets/buying-user-id",
+            "/journeys/search",
+            "/autocomplete/cities",
+            "/seats/**"
     };
     private static final String[] ADMINISTRATOR_ACCESS = {
             "/carriers/add",
@@ -51,7 +58,8 @@ public class WebSecurityConfiguration {
             "/routes/delete/**",
             "/tickets/add",
             "/tickets/update/**",
-            "/tickets/delete/**"
+            "/tickets/delete/**",
+            "/actuator/**"
     };
 
     /**
@@ -18,4 +18,17 @@ public class ExceptionTextMessageConstant {
     public static final String NULL_POINTER_EXCEPTION_MESSAGE_SERVICE = "Транспортных билетов с таким запросом несуществует! Попробуйте ввести другие входные параметры";
     public static final String NULL_POINTER_EXCEPTION_THREE_MESSAGE_SERVICE = "Транспортных маршрутов с таким запросом несуществует! Попробуйте ввести другие входные параметры";
     public static final String TICKET_NOT_FOUND_EXCEPTION_MESSAGE_SERVICE = "Транспортный билет уже продан и вы не можете его купить! Попробуйте выбрать другой билет для покупки";
+    public static final String TICKET_NOT_AVAILABLE_FOR_HOLD_EXCEPTION_MESSAGE_SERVICE = "Транспортный билет уже продан или снят с продажи и вы не можете его забронировать! Попробуйте выбрать другой билет для бронирования";
+    public static final String TICKET_NOT_FOUND_BY_ID_EXCEPTION_MESSAGE_REPOSITORY = "Транспортного билета с таким идентификатором не существует! Попробуйте выбрать другой билет для покупки. Идентификатор билета: ";
+    public static final String USER_NOT_FOUND_EXCEPTION_MESSAGE_REPOSITORY = "Пользователя с таким логином не существует! Войдите в приложение повторно. Логин пользователя: ";
+    public static final String INVALID_CURSOR_EXCEPTION_MESSAGE_SERVICE = "Курсор страницы поврежден! Повторите поиск с первой страницы. Полученный курсор: ";
+    public static final String INVALID_DEPARTURE_WINDOW_EXCEPTION_MESSAGE_SERVICE = "Конец окна отправления не может быть раньше его начала! Полученное окно отправления: ";
+    public static final String TICKET_HOLD_EXCEPTION_MESSAGE_SERVICE = "Транспортный билет забронирован другим пользователем! Попробуйте выбрать другой билет или повторите попытку позже";
+    public static final String TICKET_HOLD_NOT_FOUND_EXCEPTION_MESSAGE_SERVICE = "Бронь транспортного билета истекла или принадлежит другому пользователю! Забронируйте билет повторно";
+    public static final String REJECTED_EXECUTION_EXCEPTION_MESSAGE_SERVICE = "Сервер перегружен запросами к базе данных! Повторите попытку позже";
+    public static final String CORRUPT_SNAPSHOT_HEADER_EXCEPTION_MESSAGE_SERVICE = "Заголовок снимка индекса билетов в продаже поврежден или записан другой версией формата! Файл снимка: ";
+    public static final String CORRUPT_SNAPSHOT_CHECKSUM_EXCEPTION_MESSAGE_SERVICE = "Контрольная сумма снимка индекса билетов в продаже не совпадает с его содержимым! Файл снимка: ";
+    public static final String STALE_SNAPSHOT_EXCEPTION_MESSAGE_SERVICE = "Снимок индекса билетов в продаже старше журнала изменений билетов! Файл снимка: ";
+    public static final String SNAPSHOT_TOO_LARGE_EXCEPTION_MESSAGE_SERVICE = "Снимок индекса билетов в продаже не помещается в один отображенный в память файл! Количество билетов: ";
+    public static final String CORRUPT_REDIS_VALUE_EXCEPTION_MESSAGE_SERVICE = "Значение из хранилища Redis повреждено и не может быть прочитано!";
 }
@@ -16,11 +16,22 @@ public class LoggerTextMessageConstant {
     public static final String ADD_TICKET_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для добавления нового транспортного билета на платформу в контроллере. Запрос от пользователя: {}";
     public static final String UPDATE_TICKET_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для изменения информации о транспортном билете на платформе в контроллере. Запрос от пользователя: {}. Идентификатор транспортного билета: {}";
     public static final String DELETE_TICKET_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для удаления транспортного билета с платформы в контроллере. Идентификатор транспортного билета: {}";
-    public static final String GET_TICKETS_BY_DATE_AND_TIME_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для просмотра отсортированного списка транспортных билетов по дате и времени на платформе в контроллере. Запрос от пользователя: {}. Номер страницы: {}. Количество записей на странице: {}";
-    public static final String GET_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для просмотра отсортированного списка транспортных билетов по пункту отправления на платформе в контроллере. Запрос от пользователя: {}. Номер страницы: {}. Количество записей на странице: {}";
-    public static final String GET_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для просмотра отсортированного списка транспортных билетов по пункту назначения на платформе в контроллере. Запрос от пользователя: {}. Номер страницы: {}. Количество записей на странице: {}";
-    public static final String GET_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для просмотра отсортированного списка транспортных билетов по названию компании перевозчика на платформе в контроллере. Запрос от пользователя: {}. Номер страницы: {}. Количество записей на странице: {}";
+    public static final String GET_TICKETS_BY_DATE_AND_TIME_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для просмотра отсортированного списка транспортных билетов по дате и времени на платформе в контроллере. Запрос от пользователя: {}. Курсор страницы: {}. Количество записей на странице: {}";
+    public static final String GET_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для просмотра отсортированного списка транспортных билетов по пункту отправления на платформе в контроллере. Запрос от пользователя: {}. Курсор страницы: {}. Количество записей на странице: {}";
+    public static final String GET_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для просмотра отсортированного списка транспортных билетов по пункту назначения на платформе в контроллере. Запрос от пользователя: {}. Курсор страницы: {}. Количество записей на странице: {}";
+    public static final String GET_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для просмотра отсортированного списка транспортных билетов по названию компании перевозчика на платформе в контроллере. Запрос от пользователя: {}. Курсор страницы: {}. Количество записей на странице: {}";
+    public static final String GET_TICKETS_BY_FILTERS_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для поиска транспортных билетов по нескольким условиям на платформе в контроллере. Запрос от пользователя: {}. Курсор страницы: {}. Количество записей на странице: {}";
+    public static final String FIND_JOURNEYS_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для поиска поездок с пересадками на платформе в контроллере. Запрос от пользователя: {}";
+    public static final String COMPLETE_CITIES_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для подсказки названий пунктов отправления и назначения на платформе в контроллере. Начало названия: {}. Количество подсказок: {}";
+    public static final String FIND_SEAT_MAP_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для просмотра карты мест отправления на платформе в контроллере. Уникальный идентификатор маршрута: {}. Дата и время отправления: {}. Количество соседних мест: {}";
+    public static final String STREAM_TICKETS_BY_DATE_AND_TIME_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для потоковой выгрузки транспортных билетов по дате и времени на платформе в контроллере. Запрос от пользователя: {}. Курсор начала выгрузки: {}";
+    public static final String STREAM_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для потоковой выгрузки транспортных билетов по пункту отправления на платформе в контроллере. Запрос от пользователя: {}. Курсор начала выгрузки: {}";
+    public static final String STREAM_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для потоковой выгрузки транспортных билетов по пункту назначения на платформе в контроллере. Запрос от пользователя: {}. Курсор начала выгрузки: {}";
+    public static final String STREAM_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для потоковой выгрузки транспортных билетов по названию компании перевозчика на платформе в контроллере. Запрос от пользователя: {}. Курсор начала выгрузки: {}";
     public static final String BUYING_TICKET_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для покупки транспортного билета зарегистрированному пользователю на платформе в контроллере. Уникальный идентификатор билета: {}";
+    public static final String HOLD_TICKET_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для бронирования транспортного билета зарегистрированному пользователю на платформе в контроллере. Уникальный идентификатор билета: {}";
+    public static final String CONFIRM_TICKET_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для подтверждения покупки забронированного транспортного билета на платформе в контроллере. Уникальный идентификатор билета: {}";
+    public static final String RELEASE_TICKET_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для снятия брони с транспортного билета на платформе в контроллере. Уникальный идентификатор билета: {}";
     public static final String FIND_BUYING_TICKETS_BY_USER_ID_MESSAGE_LOGGER_CONTROLLER = "Вызван метод для просмотра отсортированного списка купленных транспортных билетов пользователем на платформе в контроллере. Номер страницы: {}. Количество записей на странице: {}";
 
     // Логи для методов в сервисах
@@ -46,14 +57,43 @@ public class LoggerTextMessageConstant {
     public static final String FORMING_TICKETS_RESPONSE_DTO_MESSAGE_LOGGER_SERVICE = "Вызван приватный метод для генерации списка ответов с информацией о транспортных билетах";
     public static final String ADD_TOKEN_MESSAGE_LOGGER_SERVICE = "Вызван метод для добавления нового токена на платформу в сервисе";
     public static final String FIND_USER_BY_LOGIN_MESSAGE_LOGGER_SERVICE = "Вызван метод для поиска зарегистрированных пользователей в приложении. Логин пользователя: {}";
-    public static final String GET_TICKETS_BY_DATE_AND_TIME_MESSAGE_LOGGER_SERVICE = "Вызван метод для просмотра отсортированного списка транспортных билетов по дате и времени на платформе в сервисе. Запрос от пользователя: {}. Номер страницы: {}. Количество записей на странице: {}";
-    public static final String GET_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_SERVICE = "Вызван метод для просмотра отсортированного списка транспортных билетов по пункту отправления на платформе в сервисе. Запрос от пользователя: {}. Номер страницы: {}. Количество записей на странице: {}";
-    public static final String GET_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_SERVICE = "Вызван метод для просмотра отсортированного списка транспортных билетов по пункту назначения на платформе в сервисе. Запрос от пользователя: {}. Номер страницы: {}. Количество записей на странице: {}";
-    public static final String GET_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_SERVICE = "Вызван метод для просмотра отсортированного списка транспортных билетов по названию компании перевозчика на платформе в сервисе. Запрос от пользователя: {}. Номер страницы: {}. Количество записей на странице: {}";
+    public static final String GET_TICKETS_BY_DATE_AND_TIME_MESSAGE_LOGGER_SERVICE = "Вызван метод для просмотра отсортированного списка транспортных билетов по дате и времени на платформе в сервисе. Запрос от пользователя: {}. Курсор страницы: {}. Количество записей на странице: {}";
+    public static final String GET_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_SERVICE = "Вызван метод для просмотра отсортированного списка транспортных билетов по пункту отправления на платформе в сервисе. Запрос от пользователя: {}. Курсор страницы: {}. Количество записей на странице: {}";
+    public static final String GET_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_SERVICE = "Вызван метод для просмотра отсортированного списка транспортных билетов по пункту назначения на платформе в сервисе. Запрос от пользователя: {}. Курсор страницы: {}. Количество записей на странице: {}";
+    public static final String GET_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_SERVICE = "Вызван метод для просмотра отсортированного списка транспортных билетов по названию компании перевозчика на платформе в сервисе. Запрос от пользователя: {}. Курсор страницы: {}. Количество записей на странице: {}";
+    public static final String GET_TICKETS_BY_FILTERS_MESSAGE_LOGGER_SERVICE = "Вызван метод для поиска транспортных билетов по нескольким условиям на платформе в сервисе. Запрос от пользователя: {}. Курсор страницы: {}. Количество записей на странице: {}";
+    public static final String STREAM_TICKETS_BY_DATE_AND_TIME_MESSAGE_LOGGER_SERVICE = "Вызван метод для потоковой выгрузки транспортных билетов по дате и времени на платформе в сервисе. Запрос от пользователя: {}. Курсор начала выгрузки: {}";
+    public static final String STREAM_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_SERVICE = "Вызван метод для потоковой выгрузки транспортных билетов по пункту отправления на платформе в сервисе. Запрос от пользователя: {}. Курсор начала выгрузки: {}";
+    public static final String STREAM_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_SERVICE = "Вызван метод для потоковой выгрузки транспортных билетов по пункту назначения на платформе в сервисе. Запрос от пользователя: {}. Курсор начала выгрузки: {}";
+    public static final String STREAM_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_SERVICE = "Вызван метод для потоковой выгрузки транспортных билетов по названию компании перевозчика на платформе в сервисе. Запрос от пользователя: {}. Курсор начала выгрузки: {}";
     public static final String BUYING_TICKET_MESSAGE_LOGGER_SERVICE = "Вызван метод для покупки транспортного билета зарегистрированному пользователю на платформе в сервисе. Уникальный идентификатор билета: {}";
+    public static final String AFTER_PURCHASE_ERROR_MESSAGE_LOGGER_SERVICE = "Транспортный билет куплен, но действие после покупки завершилось ошибкой. Уникальный идентификатор билета: {}. Причина: {}";
+    public static final String HOLD_TICKET_MESSAGE_LOGGER_SERVICE = "Вызван метод для бронирования транспортного билета зарегистрированному пользователю на платформе в сервисе. Уникальный идентификатор билета: {}";
+    public static final String CONFIRM_TICKET_MESSAGE_LOGGER_SERVICE = "Вызван метод для подтверждения покупки забронированного транспортного билета на платформе в сервисе. Уникальный идентификатор билета: {}";
+    public static final String RELEASE_TICKET_MESSAGE_LOGGER_SERVICE = "Вызван метод для снятия брони с транспортного билета на платформе в сервисе. Уникальный идентификатор билета: {}";
+    public static final String TICKET_CACHE_MISS_MESSAGE_LOGGER_SERVICE = "Билета нет в кэше билетов, билет читается из базы данных. Уникальный идентификатор билета: {}";
     public static final String FIND_BUYING_TICKETS_BY_USER_ID_MESSAGE_LOGGER_SERVICE = "Вызван метод для просмотра отсортированного списка купленных транспортных билетов пользователем на платформе в сервисе. Номер страницы: {}. Количество записей на странице: {}";
     public static final String PUBLISH_MESSAGE_LOGGER_SERVICE = "Вызван метод для отправки текстовых сообщений в топик Redis в сервисе. Новое сообщение: {}";
     public static final String ON_MESSAGE_LISTENER_MESSAGE_LOGGER_SERVICE = "Вызван метод для получения текстовых сообщений из топика Redis в сервисе. Полученное сообщение: {}";
+    public static final String SKIP_OWN_MESSAGE_LOGGER_SERVICE = "Пропущено собственное сообщение из топика Redis, изменения из него уже применены в этом экземпляре. Сообщение: {}";
+    public static final String INVALIDATE_ROUTE_CACHE_MESSAGE_LOGGER_SERVICE = "Вызван метод для сброса маршрута из локального кэша справочных данных на всех экземплярах приложения в сервисе. Уникальный идентификатор маршрута: {}";
+    public static final String INVALIDATE_CARRIER_CACHE_MESSAGE_LOGGER_SERVICE = "Вызван метод для сброса перевозчика из локального кэша справочных данных на всех экземплярах приложения в сервисе. Уникальный идентификатор перевозчика: {}";
+    public static final String EVICT_REFERENCE_CACHE_MESSAGE_LOGGER_SERVICE = "Вызван метод для сброса записи из локального кэша справочных данных по сообщению из топика Redis в сервисе. Полученное сообщение: {}";
+    public static final String FIND_JOURNEYS_MESSAGE_LOGGER_SERVICE = "Вызван метод для поиска поездок с пересадками по расписанию в сервисе. Запрос от пользователя: {}";
+    public static final String RELOAD_TIMETABLE_MESSAGE_LOGGER_SERVICE = "Расписание поездок перестроено из базы данных. Количество рейсов в расписании: {}";
+    public static final String APPLY_TIMETABLE_MESSAGE_LOGGER_SERVICE = "Применено изменение расписания поездок по сообщению из топика Redis. Сообщение: {}";
+    public static final String COMPLETE_CITIES_MESSAGE_LOGGER_SERVICE = "Вызван метод для подсказки названий пунктов по началу названия в сервисе. Начало названия: {}. Количество подсказок: {}";
+    public static final String RELOAD_CITY_AUTOCOMPLETE_MESSAGE_LOGGER_SERVICE = "Словарь подсказок названий пунктов перестроен из базы данных. Количество пунктов в словаре: {}";
+    public static final String RESOLVE_CITY_MESSAGE_LOGGER_SERVICE = "Вызван метод для распознавания названия пункта по словарю в сервисе. Введенное название: {}. Найденное название: {}";
+    public static final String FIND_SEAT_MAP_MESSAGE_LOGGER_SERVICE = "Вызван метод для поиска свободных мест по карте мест отправления в сервисе. Уникальный идентификатор маршрута: {}. Дата и время отправления: {}. Количество соседних мест: {}";
+    public static final String LOAD_SEAT_MAP_MESSAGE_LOGGER_SERVICE = "Карта мест отправления построена из базы данных. Уникальный идентификатор маршрута: {}. Дата и время отправления: {}. Количество мест: {}";
+    public static final String APPLY_SEAT_MAP_MESSAGE_LOGGER_SERVICE = "Применено изменение карты мест отправления по сообщению из топика Redis. Сообщение: {}";
+    public static final String RELOAD_AVAILABILITY_INDEX_MESSAGE_LOGGER_SERVICE = "Индекс билетов в продаже перестроен из базы данных. Количество билетов в индексе: {}";
+    public static final String APPLY_AVAILABILITY_INDEX_MESSAGE_LOGGER_SERVICE = "Применено изменение индекса билетов в продаже по сообщению из топика Redis. Сообщение: {}";
+    public static final String WRITE_AVAILABILITY_SNAPSHOT_MESSAGE_LOGGER_SERVICE = "Записан снимок индекса билетов в продаже. Файл снимка: {}. Количество билетов: {}. Изменения повторяются с: {}";
+    public static final String WRITE_AVAILABILITY_SNAPSHOT_ERROR_MESSAGE_LOGGER_SERVICE = "Не удалось записать снимок индекса билетов в продаже. Файл снимка: {}. Причина: {}";
+    public static final String RESTORE_AVAILABILITY_SNAPSHOT_MESSAGE_LOGGER_SERVICE = "Индекс билетов в продаже восстановлен из снимка. Файл снимка: {}. Количество билетов: {}. Повторено изменений: {}";
+    public static final String IGNORE_AVAILABILITY_SNAPSHOT_MESSAGE_LOGGER_SERVICE = "Снимок индекса билетов в продаже не используется, индекс перестраивается из базы данных. Файл снимка: {}. Причина: {}";
     public static final String KAFKA_SEND_MESSAGE_LOGGER_SERVICE = "Вызван метод для отправки сообщений в топик Kafka в сервисе. Запрос от пользователя: {}";
     public static final String REPLACE_ACCESS_TOKEN_MESSAGE_LOGGER_SERVICE = "Автоматически вызван метод обновления access токена в сервисе. Уникальный идентификатор токена: {}";
     public static final String REPLACE_REFRESH_TOKEN_MESSAGE_LOGGER_SERVICE = "Автоматически вызван метод обновления access и refresh токенов в сервисе. Уникальный идентификатор токена: {}";
@@ -72,6 +112,7 @@ public class LoggerTextMessageConstant {
     public static final String SAVE_TICKET_MESSAGE_LOGGER_REPOSITORY = "Вызван метод сохранения нового билета в базу данных. Запрос от пользователя: {}";
     public static final String UPDATE_TICKET_MESSAGE_LOGGER_REPOSITORY = "Вызван метод изменения и сохранения информации о билете в базе данных. Запрос от пользователя: {}";
     public static final String FIND_TICKET_BY_ID_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска билета по уникальному идентификатору в базе данных. Уникальный идентификатор билета: {}";
+    public static final String BUYING_TICKET_MESSAGE_LOGGER_REPOSITORY = "Вызван метод покупки билета одним условным запросом в базе данных. Уникальный идентификатор билета: {}. Логин покупателя: {}";
     public static final String DELETE_TICKET_BY_ID_MESSAGE_LOGGER_REPOSITORY = "Вызван метод удаления билета по уникальному идентификатору из базы данных. Уникальный идентификатор билета: {}";
     public static final String SAVE_TOKEN_MESSAGE_LOGGER_REPOSITORY = "Вызван метод сохранения нового токена в базу данных. Запрос от пользователя: {}";
     public static final String UPDATE_TOKEN_MESSAGE_LOGGER_REPOSITORY = "Вызван метод изменения и сохранения информации о токене в базе данных. Запрос от пользователя: {}";
@@ -80,15 +121,34 @@ public class LoggerTextMessageConstant {
     public static final String SAVE_USER_MESSAGE_LOGGER_REPOSITORY = "Вызван метод сохранения нового пользователя в базу данных. Запрос от пользователя: {}";
     public static final String FIND_USER_BY_LOGIN_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска пользователя по его уникальному логину в базе данных. Логин пользователя: {}";
     public static final String EXISTS_USER_BY_LOGIN_MESSAGE_LOGGER_REPOSITORY = "Вызван метод проверки присутствия пользователя по его уникальному логину в базе данных. Логин пользователя: {}";
-    public static final String FIND_ROUTES_BY_DEPARTURE_POINT_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска списка маршрутов по пункту отправления в базе данных. Пункт отправления: {}";
-    public static final String FIND_ROUTES_BY_DESTINATION_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска списка маршрутов по пункту назначения в базе данных. Пункт назначения: {}";
-    public static final String FIND_ROUTES_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска списка маршрутов по названию компании перевозчика в базе данных. Уникальный идентификатор названия компании перевозчика: {}";
-    public static final String FIND_TICKETS_BY_DATE_AND_TIME_DEPARTURE_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска списка билетов по дате и времени отправления в базе данных. Дата и время отправления: {}";
+    public static final String COUNT_AVAILABLE_TICKETS_BY_CITY_MESSAGE_LOGGER_REPOSITORY = "Вызван метод подсчета билетов в продаже по пунктам отправления и назначения маршрутов в базе данных";
+    public static final String FIND_TICKETS_BY_DATE_AND_TIME_DEPARTURE_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска списка билетов по окну отправления в базе данных. Начало окна отправления: {}. Конец окна отправления: {}";
+    public static final String FIND_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска списка билетов вместе с маршрутом и перевозчиком по пункту отправления в базе данных. Пункт отправления: {}";
+    public static final String FIND_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска списка билетов вместе с маршрутом и перевозчиком по пункту назначения в базе данных. Пункт назначения: {}";
+    public static final String FIND_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска списка билетов вместе с маршрутом и перевозчиком по названию компании перевозчика в базе данных. Название компании перевозчика: {}";
+    public static final String FIND_TICKETS_BY_CRITERIA_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска списка билетов вместе с маршрутом и перевозчиком по нескольким условиям в базе данных. Условия поиска: {}";
+    public static final String FIND_AVAILABLE_TICKETS_DEPARTING_AFTER_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска всех билетов в продаже вместе с маршрутом и перевозчиком в базе данных. Отправление не раньше: {}";
+    public static final String STREAM_TICKETS_MESSAGE_LOGGER_REPOSITORY = "Открыт потоковый курсор jOOQ для выгрузки билетов из базы данных. Размер выборки за одно обращение: {}";
+    public static final String CLOSE_STREAM_TICKETS_MESSAGE_LOGGER_REPOSITORY = "Не удалось закрыть соединение потоковой выгрузки билетов из базы данных";
     public static final String FIND_TICKETS_BY_ROUTE_ID_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска списка билетов по уникальному идентификатору маршрута в базе данных. Уникальный идентификатор маршрута: {}";
+    public static final String FIND_TICKETS_BY_DEPARTURE_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска всех билетов отправления для построения карты мест в базе данных. Уникальный идентификатор маршрута: {}. Дата и время отправления: {}";
+    public static final String STREAM_AVAILABLE_TICKETS_MESSAGE_LOGGER_REPOSITORY = "Вызван метод выгрузки всех билетов в продаже для построения индекса билетов в базе данных. Размер выборки за одно обращение: {}";
+    public static final String FIND_AVAILABLE_TICKETS_BY_IDS_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска билетов в продаже по списку уникальных идентификаторов в базе данных. Количество идентификаторов: {}";
+    public static final String FIND_TICKET_CHANGES_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска изменений билетов в журнале изменений в базе данных. Изменения не раньше: {}";
+    public static final String DELETE_TICKET_CHANGES_MESSAGE_LOGGER_REPOSITORY = "Вызван метод удаления старых изменений билетов из журнала изменений в базе данных. Изменения раньше: {}";
     public static final String FIND_TICKETS_BY_USER_ID_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска списка билетов по уникальному идентификатору пользователя в базе данных. Уникальный идентификатор пользователя: {}";
     public static final String REDIS_SAVE_MESSAGE_LOGGER_REPOSITORY = "Вызван метод сохранения информации о билете в харанилище Redis. Запрос от пользователя: {}";
     public static final String REDIS_DELETE_MESSAGE_LOGGER_REPOSITORY = "Вызван метод удаления информации о билете из харанилища Redis. Уникальный идентификатор билета: {}";
-    public static final String REDIS_FIND_ALL_TICKETS_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска билетов в харанилище Redis";
+    public static final String REDIS_FIND_BY_ID_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска билета в хранилище Redis. Уникальный идентификатор билета: {}";
+    public static final String REDIS_SAVE_ALL_MESSAGE_LOGGER_REPOSITORY = "Вызван метод пакетного сохранения информации о билетах в хранилище Redis. Количество билетов: {}";
+    public static final String REDIS_SAVE_PURCHASE_MESSAGE_LOGGER_REPOSITORY = "Вызван метод сохранения купленного билета в истории покупок пользователя в хранилище Redis. Уникальный идентификатор пользователя: {}. Уникальный идентификатор билета: {}";
+    public static final String REDIS_SAVE_PURCHASES_MESSAGE_LOGGER_REPOSITORY = "Вызван метод заполнения истории покупок пользователя в хранилище Redis. Уникальный идентификатор пользователя: {}. Количество билетов: {}";
+    public static final String REDIS_DELETE_PURCHASE_MESSAGE_LOGGER_REPOSITORY = "Вызван метод удаления билета из истории покупок пользователя в хранилище Redis. Уникальный идентификатор пользователя: {}. Уникальный идентификатор билета: {}";
+    public static final String REDIS_FIND_PURCHASES_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска истории покупок пользователя в хранилище Redis. Уникальный идентификатор пользователя: {}. Номер первой записи: {}. Количество записей: {}";
+    public static final String REDIS_HOLD_TICKET_MESSAGE_LOGGER_REPOSITORY = "Вызван метод бронирования билета в хранилище Redis. Уникальный идентификатор билета: {}. Логин покупателя: {}";
+    public static final String REDIS_RELEASE_TICKET_HOLD_MESSAGE_LOGGER_REPOSITORY = "Вызван метод снятия брони с билета в хранилище Redis. Уникальный идентификатор билета: {}. Логин покупателя: {}";
+    public static final String REDIS_FIND_HELD_TICKETS_MESSAGE_LOGGER_REPOSITORY = "Вызван метод неблокирующего поиска забронированных билетов в хранилище Redis. Количество билетов: {}";
+    public static final String REDIS_FIND_HELD_TICKETS_ERROR_MESSAGE_LOGGER_REPOSITORY = "Хранилище Redis не ответило на проверку брони, билеты выдаются без проверки брони. Количество билетов: {}. Причина: {}";
     public static final String FIND_TOKENS_BY_EXPIRES_AT_ACCESS_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска списка токенов по дате и времени окончания действия access токена в базе данных. Дата и время: {}";
     public static final String FIND_TOKENS_BY_EXPIRES_AT_REFRESH_MESSAGE_LOGGER_REPOSITORY = "Вызван метод поиска списка токенов по дате и времени окончания действия refresh токена в базе данных. Дата и время: {}";
     public static final String EXISTS_TOKENS_BY_EXPIRES_AT_ACCESS_MESSAGE_LOGGER_REPOSITORY = "Вызван метод проверки присутствия списка токенов по дате и времени окончания действия access токена в базе данных. Дата и время: {}";
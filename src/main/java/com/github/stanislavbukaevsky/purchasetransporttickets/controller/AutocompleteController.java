@@ -0,0 +1,72 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.controller;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete.CityAutocomplete;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.CityCompletionResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.COMPLETE_CITIES_MESSAGE_LOGGER_CONTROLLER;
+
+/**
+ * Класс-контроллер для подсказок при вводе названий пунктов отправления и назначения на платформе
+ */
+@Slf4j
+@Validated
+@RestController
+@RequestMapping("/autocomplete")
+@RequiredArgsConstructor
+@Tag(name = "Подсказки", description = "Позволяет получать подсказки названий пунктов отправления и назначения на платформе")
+public class AutocompleteController {
+    private final CityAutocomplete cityAutocomplete;
+
+    /**
+     * Этот метод позволяет получить подсказки названий пунктов отправления и назначения по началу названия.
+     * Подсказки выдаются из словаря в памяти приложения без обращения к базе данных
+     *
+     * @param prefix начало названия пункта
+     * @param limit  наибольшее количество подсказок
+     * @return Возвращает список подсказок, упорядоченный по убыванию количества билетов в продаже
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Подсказки успешно найдены (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = CityCompletionResponseDto.class)))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для подсказки названий пунктов отправления и назначения на платформе",
+            description = "Позволяет получить пункты, названия которых начинаются с введенной строки, начиная с пунктов с наибольшим количеством билетов в продаже")
+    @GetMapping(value = "/cities", produces = MediaType.APPLICATION_JSON_VALUE)
+    @SecurityRequirement(name = "JWT")
+    public Mono<ResponseEntity<List<CityCompletionResponseDto>>> completeCities(@Parameter(description = "Начало названия пункта")
+                                                                                @RequestParam(required = false, defaultValue = "")
+                                                                                @Size(max = 64) String prefix,
+                                                                                @Parameter(description = "Наибольшее количество подсказок")
+                                                                                @RequestParam(required = false, defaultValue = "10")
+                                                                                @Positive int limit) {
+        log.debug(COMPLETE_CITIES_MESSAGE_LOGGER_CONTROLLER, prefix, limit);
+        return Mono.fromCallable(() -> cityAutocomplete.complete(prefix, limit)).map(ResponseEntity::ok);
+    }
+}
@@ -58,9 +58,8 @@ public class CarrierController {
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("hasAuthority('ADMINISTRATOR')")
     public Mono<ResponseEntity<CarrierResponseDto>> addCarrier(@Valid @RequestBody CarrierRequestDto carrierRequestDto) {
-        CarrierResponseDto carrierResponseDto = carrierService.addCarrier(carrierRequestDto);
         log.info(ADD_CARRIER_MESSAGE_LOGGER_CONTROLLER, carrierRequestDto);
-        return Mono.just(ResponseEntity.ok(carrierResponseDto));
+        return carrierService.addCarrier(carrierRequestDto).map(ResponseEntity::ok);
     }
 
     /**
@@ -88,9 +87,8 @@ public class CarrierController {
     public Mono<ResponseEntity<CarrierResponseDto>> updateCarrier(@Valid @RequestBody CarrierRequestDto carrierRequestDto,
                                                                   @Parameter(description = "Идентификатор транспортного перевозчика")
                                                                   @PathVariable @Positive Long id) {
-        CarrierResponseDto carrierResponseDto = carrierService.updateCarrier(carrierRequestDto, id);
         log.info(UPDATE_CARRIER_MESSAGE_LOGGER_CONTROLLER, carrierRequestDto, id);
-        return Mono.just(ResponseEntity.ok(carrierResponseDto));
+        return carrierService.updateCarrier(carrierRequestDto, id).map(ResponseEntity::ok);
     }
 
     /**
@@ -114,8 +112,7 @@ public class CarrierController {
     @PreAuthorize("hasAuthority('ADMINISTRATOR')")
     public Mono<ResponseEntity<Void>> deleteCarrier(@Parameter(description = "Идентификатор транспортного перевозчика")
                                                     @PathVariable @Positive Long id) {
-        carrierService.deleteCarrier(id);
         log.info(DELETE_CARRIER_MESSAGE_LOGGER_CONTROLLER, id);
-        return Mono.empty();
+        return carrierService.deleteCarrier(id).then(Mono.empty());
     }
 }
@@ -0,0 +1,65 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.controller;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.JourneyRequestDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.JourneyResponseDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.journey.JourneyPlanner;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.FIND_JOURNEYS_MESSAGE_LOGGER_CONTROLLER;
+
+/**
+ * Класс-контроллер для планирования поездок с пересадками на платформе
+ */
+@Slf4j
+@Validated
+@RestController
+@RequestMapping("/journeys")
+@RequiredArgsConstructor
+@Tag(name = "Планирование поездок", description = "Позволяет находить поездки с пересадками по расписанию на платформе")
+public class JourneyController {
+    private final JourneyPlanner journeyPlanner;
+
+    /**
+     * Этот метод позволяет найти поездки с пересадками между пунктом отправления и пунктом назначения.
+     * Поиск выполняется по расписанию в памяти приложения без обращения к базе данных
+     *
+     * @param journeyRequestDto класс-DTO для запроса от пользователя
+     * @return Возвращает список найденных поездок, упорядоченный по количеству рейсов
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Поездки успешно найдены (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = JourneyResponseDto.class)))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для поиска поездок с пересадками на платформе",
+            description = "Позволяет найти поездки из одного, двух или трех рейсов с самым ранним прибытием")
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @SecurityRequirement(name = "JWT")
+    public Mono<ResponseEntity<List<JourneyResponseDto>>> findJourneys(@Valid @RequestBody JourneyRequestDto journeyRequestDto) {
+        log.info(FIND_JOURNEYS_MESSAGE_LOGGER_CONTROLLER, journeyRequestDto);
+        return Mono.fromCallable(() -> journeyPlanner.findJourneys(journeyRequestDto)).map(ResponseEntity::ok);
+    }
+}
@@ -62,9 +62,8 @@ public class RouteController {
     public Mono<ResponseEntity<RouteResponseDto>> addRoute(@Valid @RequestBody RouteRequestDto routeRequestDto,
                                                            @Parameter(description = "Идентификатор транспортного перевозчика")
                                                            @PathVariable @Positive Long id) {
-        RouteResponseDto routeResponseDto = routeService.addRoute(routeRequestDto, id);
         log.info(ADD_ROUTE_MESSAGE_LOGGER_CONTROLLER, routeRequestDto, id);
-        return Mono.just(ResponseEntity.ok(routeResponseDto));
+        return routeService.addRoute(routeRequestDto, id).map(ResponseEntity::ok);
     }
 
     /**
@@ -92,9 +91,8 @@ public class RouteController {
     public Mono<ResponseEntity<RouteResponseDto>> updateRoute(@Valid @RequestBody RouteUpdateRequestDto routeUpdateRequestDto,
                                                               @Parameter(description = "Идентификатор транспортного маршрута")
                                                               @PathVariable @Positive Long id) {
-        RouteResponseDto routeResponseDto = routeService.updateRoute(routeUpdateRequestDto, id);
         log.info(UPDATE_ROUTE_MESSAGE_LOGGER_CONTROLLER, routeUpdateRequestDto, id);
-        return Mono.just(ResponseEntity.ok(routeResponseDto));
+        return routeService.updateRoute(routeUpdateRequestDto, id).map(ResponseEntity::ok);
     }
 
     /**
@@ -118,8 +116,7 @@ public class RouteController {
     @PreAuthorize("hasAuthority('ADMINISTRATOR')")
     public Mono<ResponseEntity<Void>> deleteRoute(@Parameter(description = "Идентификатор транспортного маршрута")
                                                   @PathVariable @Positive Long id) {
-        routeService.deleteRoute(id);
         log.info(DELETE_ROUTE_MESSAGE_LOGGER_CONTROLLER, id);
-        return Mono.empty();
+        return routeService.deleteRoute(id).then(Mono.empty());
     }
 }
@@ -0,0 +1,73 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.controller;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.SeatMapResponseDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.seatmap.SeatAllocator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.FIND_SEAT_MAP_MESSAGE_LOGGER_CONTROLLER;
+
+/**
+ * Класс-контроллер для выбора мест на отправлениях маршрутов на платформе
+ */
+@Slf4j
+@Validated
+@RestController
+@RequestMapping("/seats")
+@RequiredArgsConstructor
+@Tag(name = "Места", description = "Позволяет просматривать карту мест отправления и подбирать соседние свободные места на платформе")
+public class SeatMapController {
+    private final SeatAllocator seatAllocator;
+
+    /**
+     * Этот метод позволяет получить карту мест отправления маршрута со свободными местами и лучшими группами соседних мест.
+     * Карта читается из памяти приложения, база данных читается только при первом обращении к отправлению
+     *
+     * @param routeId           уникальный идентификатор маршрута
+     * @param dateTimeDeparture дата и время отправления
+     * @param adjacent          количество соседних мест в группе
+     * @param limit             наибольшее количество групп
+     * @return Возвращает карту мест отправления
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Карта мест успешно найдена (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = SeatMapResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для просмотра карты мест отправления на платформе",
+            description = "Позволяет получить свободные места отправления, группы соседних свободных мест в одном ряду и компактную карту мест")
+    @GetMapping(value = "/{routeId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @SecurityRequirement(name = "JWT")
+    public Mono<ResponseEntity<SeatMapResponseDto>> findSeatMap(@Parameter(description = "Идентификатор транспортного маршрута")
+                                                                @PathVariable @Positive Long routeId,
+                                                                @Parameter(description = "Дата и время отправления в формате \"yyyy-MM-dd HH:mm\"")
+                                                                @RequestParam @Size(min = 16, max = 20) String dateTimeDeparture,
+                                                                @Parameter(description = "Количество соседних мест в группе")
+                                                                @RequestParam(required = false, defaultValue = "2")
+                                                                @Positive int adjacent,
+                                                                @Parameter(description = "Наибольшее количество групп соседних мест")
+                                                                @RequestParam(required = false, defaultValue = "5")
+                                                                @Positive @Max(50) int limit) {
+        log.debug(FIND_SEAT_MAP_MESSAGE_LOGGER_CONTROLLER, routeId, dateTimeDeparture, adjacent);
+        return seatAllocator.findSeatMap(routeId, dateTimeDeparture, adjacent, limit).map(ResponseEntity::ok);
+    }
+}
@@ -61,9 +61,8 @@ public class TicketController {
     @SecurityRequirement(name = "JWT")
     @PreAuthorize("hasAuthority('ADMINISTRATOR')")
     public Mono<ResponseEntity<TicketResponseDto>> addTicket(@Valid @RequestBody TicketRequestDto ticketRequestDto) {
-        TicketResponseDto ticketResponseDto = ticketService.addTicket(ticketRequestDto);
         log.info(ADD_TICKET_MESSAGE_LOGGER_CONTROLLER, ticketRequestDto);
-        return Mono.just(ResponseEntity.ok(ticketResponseDto));
+        return ticketService.addTicket(ticketRequestDto).map(ResponseEntity::ok);
     }
 
     /**
@@ -91,9 +90,8 @@ public class TicketController {
     public Mono<ResponseEntity<TicketResponseDto>> updateTicket(@Valid @RequestBody TicketRequestDto ticketRequestDto,
                                                                 @Parameter(description = "Идентификатор транспортного билета")
                                                                 @PathVariable @Positive Long id) {
-        TicketResponseDto ticketResponseDto = ticketService.updateTicket(ticketRequestDto, id);
         log.info(UPDATE_TICKET_MESSAGE_LOGGER_CONTROLLER, ticketRequestDto, id);
-        return Mono.just(ResponseEntity.ok(ticketResponseDto));
+        return ticketService.updateTicket(ticketRequestDto, id).map(ResponseEntity::ok);
     }
 
     /**
@@ -117,23 +115,23 @@ public class TicketController {
     @PreAuthorize("hasAuthority('ADMINISTRATOR')")
     public Mono<ResponseEntity<Void>> deleteTicket(@Parameter(description = "Идентификатор транспортного билета")
                                                    @PathVariable @Positive Long id) {
-        ticketService.deleteTicket(id);
         log.info(DELETE_TICKET_MESSAGE_LOGGER_CONTROLLER, id);
-        return Mono.empty();
+        return ticketService.deleteTicket(id).then(Mono.empty());
     }
 
     /**
      * Этот метод позволяет просмотреть отсортированный список транспортных билетов по дате и времени на платформе.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Билеты ищутся в окне отправления, а без конца окна - точно по дате и времени отправления.
+     * Этот метод поддерживает постраничную выборку по ключу с непрозрачным курсором следующей страницы
      *
      * @param dateAndTime класс-DTO для запроса от пользователя
-     * @param page        номер страницы
+     * @param cursor      курсор страницы, полученный в предыдущем ответе
      * @param size        количество записей
-     * @return Возвращает список найденных транспортных билетов со всей информацией о них
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
      */
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Список транспортных билетов успешно найден (OK)",
-                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TicketResponseDto.class))),
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TicketPageResponseDto.class))),
             @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
             @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
             @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
@@ -144,30 +142,28 @@ public class TicketController {
             description = "Позволяет просмотреть отсортированный список транспортных билетов по дате и времени на платформе")
     @GetMapping(value = "/all-date-time", produces = MediaType.APPLICATION_JSON_VALUE)
     @SecurityRequirement(name = "JWT")
-    public ResponseEntity<Flux<List<TicketResponseDto>>> getTicketsByDateAndTime(@Valid @RequestBody TicketRequestByDateAndTimeDto dateAndTime,
-                                                                                 @Parameter(description = "Номер страницы")
-                                                                                 @RequestParam(required = false, defaultValue = "1")
-                                                                                 @Positive int page,
-                                                                                 @Parameter(description = "Количество записей на странице")
-                                                                                 @RequestParam(required = false, defaultValue = "1")
-                                                                                 @Positive int size) {
-        List<TicketResponseDto> tickets = ticketService.getTicketsByDateAndTime(dateAndTime, page, size);
-        log.info(GET_TICKETS_BY_DATE_AND_TIME_MESSAGE_LOGGER_CONTROLLER, dateAndTime, page, size);
-        return ResponseEntity.ok(Flux.just(tickets));
+    public Mono<ResponseEntity<TicketPageResponseDto>> getTicketsByDateAndTime(@Valid @RequestBody TicketRequestByDateAndTimeDto dateAndTime,
+                                                                               @Parameter(description = "Курсор страницы из поля next предыдущего ответа")
+                                                                               @RequestParam(required = false) String cursor,
+                                                                               @Parameter(description = "Количество записей на странице")
+                                                                               @RequestParam(required = false, defaultValue = "1")
+                                                                               @Positive int size) {
+        log.info(GET_TICKETS_BY_DATE_AND_TIME_MESSAGE_LOGGER_CONTROLLER, dateAndTime, cursor, size);
+        return ticketService.getTicketsByDateAndTime(dateAndTime, cursor, size).map(ResponseEntity::ok);
     }
 
     /**
      * Этот метод позволяет просмотреть отсортированный список транспортных билетов по пункту отправления на платформе.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Этот метод поддерживает постраничную выборку по ключу с непрозрачным курсором следующей страницы
      *
      * @param departurePoint класс-DTO для запроса от пользователя
-     * @param page           номер страницы
+     * @param cursor         курсор страницы, полученный в предыдущем ответе
      * @param size           количество записей
-     * @return Возвращает список найденных транспортных билетов со всей информацией о них
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
      */
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Список транспортных билетов успешно найден (OK)",
-                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TicketResponseDto.class))),
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TicketPageResponseDto.class))),
             @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
             @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
             @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
@@ -178,30 +174,28 @@ public class TicketController {
             description = "Позволяет просмотреть отсортированный список транспортных билетов по пункту отправления на платформе")
     @GetMapping(value = "/all-departure-point", produces = MediaType.APPLICATION_JSON_VALUE)
     @SecurityRequirement(name = "JWT")
-    public ResponseEntity<Flux<List<TicketResponseDto>>> getTicketsByDeparturePoint(@Valid @RequestBody TicketRequestByDeparturePointDto departurePoint,
-                                                                                    @Parameter(description = "Номер страницы")
-                                                                                    @RequestParam(required = false, defaultValue = "1")
-                                                                                    @Positive int page,
-                                                                                    @Parameter(description = "Количество записей на странице")
-                                                                                    @RequestParam(required = false, defaultValue = "1")
-                                                                                    @Positive int size) {
-        List<TicketResponseDto> tickets = ticketService.getTicketsByDeparturePoint(departurePoint, page, size);
-        log.info(GET_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_CONTROLLER, departurePoint, page, size);
-        return ResponseEntity.ok(Flux.just(tickets));
+    public Mono<ResponseEntity<TicketPageResponseDto>> getTicketsByDeparturePoint(@Valid @RequestBody TicketRequestByDeparturePointDto departurePoint,
+                                                                                  @Parameter(description = "Курсор страницы из поля next предыдущего ответа")
+                                                                                  @RequestParam(required = false) String cursor,
+                                                                                  @Parameter(description = "Количество записей на странице")
+                                                                                  @RequestParam(required = false, defaultValue = "1")
+                                                                                  @Positive int size) {
+        log.info(GET_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_CONTROLLER, departurePoint, cursor, size);
+        return ticketService.getTicketsByDeparturePoint(departurePoint, cursor, size).map(ResponseEntity::ok);
     }
 
     /**
      * Этот метод позволяет просмотреть отсортированный список транспортных билетов по пункту назначения на платформе.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Этот метод поддерживает постраничную выборку по ключу с непрозрачным курсором следующей страницы
      *
      * @param destination класс-DTO для запроса от пользователя
-     * @param page        номер страницы
+     * @param cursor      курсор страницы, полученный в предыдущем ответе
      * @param size        количество записей
-     * @return Возвращает список найденных транспортных билетов со всей информацией о них
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
      */
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Список транспортных билетов успешно найден (OK)",
-                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TicketResponseDto.class))),
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TicketPageResponseDto.class))),
             @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
             @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
             @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
@@ -212,30 +206,28 @@ public class TicketController {
             description = "Позволяет просмотреть отсортированный список транспортных билетов по пункту назначения на платформе")
     @GetMapping(value = "/all-destination", produces = MediaType.APPLICATION_JSON_VALUE)
     @SecurityRequirement(name = "JWT")
-    public ResponseEntity<Flux<List<TicketResponseDto>>> getTicketsByDestination(@Valid @RequestBody TicketRequestByDestinationDto destination,
-                                                                                 @Parameter(description = "Номер страницы")
-                                                                                 @RequestParam(required = false, defaultValue = "1")
-                                                                                 @Positive int page,
-                                                                                 @Parameter(description = "Количество записей на странице")
-                                                                                 @RequestParam(required = false, defaultValue = "1")
-                                                                                 @Positive int size) {
-        List<TicketResponseDto> tickets = ticketService.getTicketsByDestination(destination, page, size);
-        log.info(GET_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_CONTROLLER, destination, page, size);
-        return ResponseEntity.ok(Flux.just(tickets));
+    public Mono<ResponseEntity<TicketPageResponseDto>> getTicketsByDestination(@Valid @RequestBody TicketRequestByDestinationDto destination,
+                                                                               @Parameter(description = "Курсор страницы из поля next предыдущего ответа")
+                                                                               @RequestParam(required = false) String cursor,
+                                                                               @Parameter(description = "Количество записей на странице")
+                                                                               @RequestParam(required = false, defaultValue = "1")
+                                                                               @Positive int size) {
+        log.info(GET_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_CONTROLLER, destination, cursor, size);
+        return ticketService.getTicketsByDestination(destination, cursor, size).map(ResponseEntity::ok);
     }
 
     /**
      * Этот метод позволяет просмотреть отсортированный список транспортных билетов по названию компании перевозчика на платформе.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Этот метод поддерживает постраничную выборку по ключу с непрозрачным курсором следующей страницы
      *
      * @param companyName класс-DTO для запроса от пользователя
-     * @param page        номер страницы
+     * @param cursor      курсор страницы, полученный в предыдущем ответе
      * @param size        количество записей
-     * @return Возвращает список найденных транспортных билетов со всей информацией о них
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
      */
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Список транспортных билетов успешно найден (OK)",
-                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TicketResponseDto.class))),
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TicketPageResponseDto.class))),
             @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
             @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
             @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
@@ -246,16 +238,168 @@ public class TicketController {
             description = "Позволяет просмотреть отсортированный список транспортных билетов по названию компании перевозчика на платформе")
     @GetMapping(value = "/all-company-carrier", produces = MediaType.APPLICATION_JSON_VALUE)
     @SecurityRequirement(name = "JWT")
-    public ResponseEntity<Flux<List<TicketResponseDto>>> getTicketsByCompanyNameCarrier(@Valid @RequestBody TicketRequestByCompanyNameCarrierDto companyName,
-                                                                                        @Parameter(description = "Номер страницы")
-                                                                                        @RequestParam(required = false, defaultValue = "1")
-                                                                                        @Positive int page,
-                                                                                        @Parameter(description = "Количество записей на странице")
-                                                                                        @RequestParam(required = false, defaultValue = "1")
-                                                                                        @Positive int size) {
-        List<TicketResponseDto> tickets = ticketService.getTicketsByCompanyNameCarrier(companyName, page, size);
-        log.info(GET_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_CONTROLLER, companyName, page, size);
-        return ResponseEntity.ok(Flux.just(tickets));
+    public Mono<ResponseEntity<TicketPageResponseDto>> getTicketsByCompanyNameCarrier(@Valid @RequestBody TicketRequestByCompanyNameCarrierDto companyName,
+                                                                                      @Parameter(description = "Курсор страницы из поля next предыдущего ответа")
+                                                                                      @RequestParam(required = false) String cursor,
+                                                                                      @Parameter(description = "Количество записей на странице")
+                                                                                      @RequestParam(required = false, defaultValue = "1")
+                                                                                      @Positive int size) {
+        log.info(GET_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_CONTROLLER, companyName, cursor, size);
+        return ticketService.getTicketsByCompanyNameCarrier(companyName, cursor, size).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Этот метод позволяет найти транспортные билеты на платформе по нескольким необязательным условиям:
+     * пункту отправления, пункту назначения, окну отправления, перевозчику и диапазону стоимости.
+     * Этот метод поддерживает постраничную выборку по ключу с непрозрачным курсором следующей страницы
+     *
+     * @param search класс-DTO для запроса от пользователя с условиями поиска
+     * @param cursor курсор страницы, полученный в предыдущем ответе с тем же порядком сортировки
+     * @param size   количество записей
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Список транспортных билетов успешно найден (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TicketPageResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "404", description = "Пользователь не найден (Not Found)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для поиска транспортных билетов по нескольким условиям на платформе",
+            description = "Позволяет найти транспортные билеты по любому сочетанию условий поиска одним запросом с выбранной сортировкой")
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @SecurityRequirement(name = "JWT")
+    public Mono<ResponseEntity<TicketPageResponseDto>> getTicketsByFilters(@Valid @RequestBody TicketSearchRequestDto search,
+                                                                           @Parameter(description = "Курсор страницы из поля next предыдущего ответа")
+                                                                           @RequestParam(required = false) String cursor,
+                                                                           @Parameter(description = "Количество записей на странице")
+                                                                           @RequestParam(required = false, defaultValue = "1")
+                                                                           @Positive int size) {
+        log.info(GET_TICKETS_BY_FILTERS_MESSAGE_LOGGER_CONTROLLER, search, cursor, size);
+        return ticketService.getTicketsByFilters(search, cursor, size).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Этот метод позволяет выгрузить потоком отсортированный список транспортных билетов по дате и времени на платформе.
+     * Билеты ищутся в окне отправления, а без конца окна - точно по дате и времени отправления.
+     * Билеты отдаются в формате NDJSON или Server-Sent Events по мере чтения из базы данных
+     *
+     * @param dateAndTime класс-DTO для запроса от пользователя
+     * @param cursor      курсор страницы, полученный в ответе постраничного поиска
+     * @return Возвращает поток найденных транспортных билетов со всей информацией о них
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Поток транспортных билетов успешно открыт (OK)",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = TicketResponseDto.class)),
+                            @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = TicketResponseDto.class))
+                    }),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для потоковой выгрузки отсортированного списка транспортных билетов по дате и времени на платформе",
+            description = "Позволяет выгрузить потоком отсортированный список транспортных билетов по дате и времени на платформе без ограничения количества записей")
+    @GetMapping(value = "/stream/all-date-time", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @SecurityRequirement(name = "JWT")
+    public Flux<TicketResponseDto> streamTicketsByDateAndTime(@Valid @RequestBody TicketRequestByDateAndTimeDto dateAndTime,
+                                                              @Parameter(description = "Курсор страницы из поля next ответа постраничного поиска")
+                                                              @RequestParam(required = false) String cursor) {
+        log.info(STREAM_TICKETS_BY_DATE_AND_TIME_MESSAGE_LOGGER_CONTROLLER, dateAndTime, cursor);
+        return ticketService.streamTicketsByDateAndTime(dateAndTime, cursor);
+    }
+
+    /**
+     * Этот метод позволяет выгрузить потоком отсортированный список транспортных билетов по пункту отправления на платформе.
+     * Билеты отдаются в формате NDJSON или Server-Sent Events по мере чтения из базы данных
+     *
+     * @param departurePoint класс-DTO для запроса от пользователя
+     * @param cursor         курсор страницы, полученный в ответе постраничного поиска
+     * @return Возвращает поток найденных транспортных билетов со всей информацией о них
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Поток транспортных билетов успешно открыт (OK)",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = TicketResponseDto.class)),
+                            @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = TicketResponseDto.class))
+                    }),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для потоковой выгрузки отсортированного списка транспортных билетов по пункту отправления на платформе",
+            description = "Позволяет выгрузить потоком отсортированный список транспортных билетов по пункту отправления на платформе без ограничения количества записей")
+    @GetMapping(value = "/stream/all-departure-point", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @SecurityRequirement(name = "JWT")
+    public Flux<TicketResponseDto> streamTicketsByDeparturePoint(@Valid @RequestBody TicketRequestByDeparturePointDto departurePoint,
+                                                                 @Parameter(description = "Курсор страницы из поля next ответа постраничного поиска")
+                                                                 @RequestParam(required = false) String cursor) {
+        log.info(STREAM_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_CONTROLLER, departurePoint, cursor);
+        return ticketService.streamTicketsByDeparturePoint(departurePoint, cursor);
+    }
+
+    /**
+     * Этот метод позволяет выгрузить потоком отсортированный список транспортных билетов по пункту назначения на платформе.
+     * Билеты отдаются в формате NDJSON или Server-Sent Events по мере чтения из базы данных
+     *
+     * @param destination класс-DTO для запроса от пользователя
+     * @param cursor      курсор страницы, полученный в ответе постраничного поиска
+     * @return Возвращает поток найденных транспортных билетов со всей информацией о них
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Поток транспортных билетов успешно открыт (OK)",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = TicketResponseDto.class)),
+                            @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = TicketResponseDto.class))
+                    }),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для потоковой выгрузки отсортированного списка транспортных билетов по пункту назначения на платформе",
+            description = "Позволяет выгрузить потоком отсортированный список транспортных билетов по пункту назначения на платформе без ограничения количества записей")
+    @GetMapping(value = "/stream/all-destination", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @SecurityRequirement(name = "JWT")
+    public Flux<TicketResponseDto> streamTicketsByDestination(@Valid @RequestBody TicketRequestByDestinationDto destination,
+                                                              @Parameter(description = "Курсор страницы из поля next ответа постраничного поиска")
+                                                              @RequestParam(required = false) String cursor) {
+        log.info(STREAM_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_CONTROLLER, destination, cursor);
+        return ticketService.streamTicketsByDestination(destination, cursor);
+    }
+
+    /**
+     * Этот метод позволяет выгрузить потоком отсортированный список транспортных билетов по названию компании перевозчика на платформе.
+     * Билеты отдаются в формате NDJSON или Server-Sent Events по мере чтения из базы данных
+     *
+     * @param companyName класс-DTO для запроса от пользователя
+     * @param cursor      курсор страницы, полученный в ответе постраничного поиска
+     * @return Возвращает поток найденных транспортных билетов со всей информацией о них
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Поток транспортных билетов успешно открыт (OK)",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = TicketResponseDto.class)),
+                            @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = TicketResponseDto.class))
+                    }),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для потоковой выгрузки отсортированного списка транспортных билетов по названию компании перевозчика на платформе",
+            description = "Позволяет выгрузить потоком отсортированный список транспортных билетов по названию компании перевозчика на платформе без ограничения количества записей")
+    @GetMapping(value = "/stream/all-company-carrier", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @SecurityRequirement(name = "JWT")
+    public Flux<TicketResponseDto> streamTicketsByCompanyNameCarrier(@Valid @RequestBody TicketRequestByCompanyNameCarrierDto companyName,
+                                                                     @Parameter(description = "Курсор страницы из поля next ответа постраничного поиска")
+                                                                     @RequestParam(required = false) String cursor) {
+        log.info(STREAM_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_CONTROLLER, companyName, cursor);
+        return ticketService.streamTicketsByCompanyNameCarrier(companyName, cursor);
     }
 
     /**
@@ -271,7 +415,8 @@ public class TicketController {
             @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
             @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
             @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
-            @ApiResponse(responseCode = "404", description = "Пользователь не найден (Not Found)"),
+            @ApiResponse(responseCode = "404", description = "Билет или пользователь не найден (Not Found)"),
+            @ApiResponse(responseCode = "409", description = "Билет уже продан (Conflict)"),
             @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
     })
     @Operation(summary = "Метод для покупки транспортного билета зарегистрированному пользователю на платформе",
@@ -281,9 +426,89 @@ public class TicketController {
     public Mono<ResponseEntity<BuyingTicketResponseDto>> buyingTicket(@Parameter(description = "Уникальный идентификатор билета")
                                                                       @PathVariable
                                                                       @Positive Long id, Authentication authentication) {
-        BuyingTicketResponseDto buyingTicketResponseDto = ticketService.buyingTicket(id, authentication);
         log.info(BUYING_TICKET_MESSAGE_LOGGER_CONTROLLER, id);
-        return Mono.just(ResponseEntity.ok(buyingTicketResponseDto));
+        return ticketService.buyingTicket(id, authentication).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Этот метод позволяет забронировать транспортный билет зарегистрированному пользователю на платформе.
+     * Бронь автоматически снимается по истечении времени жизни
+     *
+     * @param id             уникальный идентификатор билета
+     * @param authentication объект аутентификации
+     * @return Возвращает информацию о брони транспортного билета
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Транспортный билет успешно забронирован (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TicketHoldResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "409", description = "Билет уже продан или забронирован другим пользователем (Conflict)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для бронирования транспортного билета зарегистрированному пользователю на платформе",
+            description = "Позволяет забронировать транспортный билет на время оплаты")
+    @PatchMapping(value = "/hold/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @SecurityRequirement(name = "JWT")
+    public Mono<ResponseEntity<TicketHoldResponseDto>> holdTicket(@Parameter(description = "Уникальный идентификатор билета")
+                                                                  @PathVariable
+                                                                  @Positive Long id, Authentication authentication) {
+        log.info(HOLD_TICKET_MESSAGE_LOGGER_CONTROLLER, id);
+        return ticketService.holdTicket(id, authentication).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Этот метод позволяет подтвердить покупку забронированного транспортного билета на платформе
+     *
+     * @param id             уникальный идентификатор билета
+     * @param authentication объект аутентификации
+     * @return Возвращает купленный транспортный билет со всей информацией о нем
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Транспортный билет успешно куплен (OK)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = BuyingTicketResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "409", description = "Бронь истекла или билет уже продан (Conflict)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для подтверждения покупки забронированного транспортного билета на платформе",
+            description = "Позволяет купить транспортный билет, забронированный текущим пользователем")
+    @PatchMapping(value = "/confirm/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @SecurityRequirement(name = "JWT")
+    public Mono<ResponseEntity<BuyingTicketResponseDto>> confirmTicket(@Parameter(description = "Уникальный идентификатор билета")
+                                                                       @PathVariable
+                                                                       @Positive Long id, Authentication authentication) {
+        log.info(CONFIRM_TICKET_MESSAGE_LOGGER_CONTROLLER, id);
+        return ticketService.confirmTicket(id, authentication).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Этот метод позволяет снять бронь с транспортного билета на платформе
+     *
+     * @param id             уникальный идентификатор билета
+     * @param authentication объект аутентификации
+     * @return Возвращает пустой Mono, если метод отработал корректно
+     */
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Бронь транспортного билета успешно снята (OK)"),
+            @ApiResponse(responseCode = "400", description = "Неккоректный запрос (Bad Request)"),
+            @ApiResponse(responseCode = "401", description = "Неаутентифицированный пользователь (Unauthorized)"),
+            @ApiResponse(responseCode = "403", description = "Пользователю запрещен вход на этот ресурс (Forbidden)"),
+            @ApiResponse(responseCode = "409", description = "Бронь истекла или принадлежит другому пользователю (Conflict)"),
+            @ApiResponse(responseCode = "500", description = "Внутренняя ошибка сервера (Internal Server Error)")
+    })
+    @Operation(summary = "Метод для снятия брони с транспортного билета на платформе",
+            description = "Позволяет снять бронь с транспортного билета, забронированного текущим пользователем")
+    @DeleteMapping("/hold/{id}")
+    @SecurityRequirement(name = "JWT")
+    public Mono<ResponseEntity<Void>> releaseTicket(@Parameter(description = "Уникальный идентификатор билета")
+                                                    @PathVariable
+                                                    @Positive Long id, Authentication authentication) {
+        log.info(RELEASE_TICKET_MESSAGE_LOGGER_CONTROLLER, id);
+        return ticketService.releaseTicket(id, authentication).then(Mono.empty());
     }
 
     /**
@@ -315,8 +540,7 @@ public class TicketController {
                                                                                    @Parameter(description = "Количество записей на странице")
                                                                                    @RequestParam(required = false, defaultValue = "1")
                                                                                    @Positive int size) {
-        List<TicketResponseDto> tickets = ticketService.findBuyingTicketsByUserId(authentication, page, size);
         log.info(FIND_BUYING_TICKETS_BY_USER_ID_MESSAGE_LOGGER_CONTROLLER, page, size);
-        return ResponseEntity.ok(Flux.just(tickets));
+        return ResponseEntity.ok(ticketService.findBuyingTicketsByUserId(authentication, page, size).flux());
     }
 }
@@ -0,0 +1,16 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * Класс-DTO для ответа пользователю с подсказкой названия пункта отправления или назначения
+ */
+@Data
+@Schema(description = "Объект подсказки названия пункта для ответа пользователю")
+public class CityCompletionResponseDto {
+    @Schema(description = "Название пункта отправления или назначения")
+    private String city;
+    @Schema(description = "Количество билетов в продаже на маршрутах из пункта и в пункт")
+    private Integer availableTickets;
+}
@@ -0,0 +1,32 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Класс-DTO для ответа пользователю с информацией об одном рейсе поездки
+ */
+@Data
+@Schema(description = "Объект рейса поездки для ответа пользователю")
+public class JourneyLegResponseDto {
+    @Schema(description = "Уникальный идентификатор самого дешевого транспортного билета рейса")
+    private Long ticketId;
+    @Schema(description = "Уникальный идентификатор транспортного маршрута")
+    private Long routeId;
+    @Schema(description = "Пункт отправления рейса")
+    private String departurePoint;
+    @Schema(description = "Пункт назначения рейса")
+    private String destination;
+    @Schema(description = "Название компании перевозчика")
+    private String companyName;
+    @Schema(description = "Дата и время отправления")
+    private LocalDateTime dateTimeDeparture;
+    @Schema(description = "Дата и время прибытия")
+    private LocalDateTime dateTimeArrival;
+    @Schema(description = "Цена самого дешевого билета рейса")
+    private Integer price;
+    @Schema(description = "Количество билетов рейса в продаже")
+    private Integer availableSeats;
+}
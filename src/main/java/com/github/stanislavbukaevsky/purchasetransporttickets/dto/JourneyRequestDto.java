@@ -0,0 +1,26 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * Класс-DTO для запроса от пользователя на поиск поездки с пересадками
+ */
+@Data
+@Schema(description = "Объект поиска поездки с пересадками для запроса от пользователя")
+public class JourneyRequestDto {
+    @NotEmpty(message = "Поле пункта отправления не должно быть пустым!")
+    @Size(min = 2, max = 64, message = "Пункт отправления должен содержать от 2 до 64 символов!")
+    @Schema(description = "Пункт отправления покупателя")
+    private String departurePoint;
+    @NotEmpty(message = "Поле пункта назначения не должно быть пустым!")
+    @Size(min = 2, max = 64, message = "Пункт назначения должен содержать от 2 до 64 символов!")
+    @Schema(description = "Пункт назначения покупателя")
+    private String destination;
+    @NotEmpty(message = "Поле даты и времени отправления не должно быть пустым!")
+    @Size(min = 16, max = 20, message = "Дата и время отправления должно содержать от 16 до 20 символов! Дата и время отправления должны быть в следующим формате: \"yyyy-MM-dd HH:mm\"")
+    @Schema(description = "Дата и время, не раньше которых начинается поездка")
+    private String dateTimeDeparture;
+}
@@ -0,0 +1,27 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Класс-DTO для ответа пользователю с информацией о найденной поездке с пересадками
+ */
+@Data
+@Schema(description = "Объект поездки с пересадками для ответа пользователю")
+public class JourneyResponseDto {
+    @Schema(description = "Рейсы поездки в порядке следования")
+    private List<JourneyLegResponseDto> legs;
+    @Schema(description = "Количество пересадок")
+    private Integer transfers;
+    @Schema(description = "Дата и время отправления первого рейса")
+    private LocalDateTime dateTimeDeparture;
+    @Schema(description = "Дата и время прибытия последнего рейса")
+    private LocalDateTime dateTimeArrival;
+    @Schema(description = "Продолжительность поездки вместе с пересадками")
+    private Long durationInMinutes;
+    @Schema(description = "Суммарная цена самых дешевых билетов всех рейсов")
+    private Integer totalPrice;
+}
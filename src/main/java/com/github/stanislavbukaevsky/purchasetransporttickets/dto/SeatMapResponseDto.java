@@ -0,0 +1,30 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Класс-DTO для ответа пользователю с картой мест отправления (рейса) маршрута
+ */
+@Data
+@Schema(description = "Объект карты мест отправления для ответа пользователю")
+public class SeatMapResponseDto {
+    @Schema(description = "Уникальный идентификатор маршрута")
+    private Long routeId;
+    @Schema(description = "Дата и время отправления")
+    private LocalDateTime dateTimeDeparture;
+    @Schema(description = "Количество мест отправления")
+    private Integer seatCount;
+    @Schema(description = "Количество мест в одном ряду")
+    private Integer seatsPerRow;
+    @Schema(description = "Количество свободных мест")
+    private Integer freeSeatCount;
+    @Schema(description = "Номера свободных мест по возрастанию")
+    private int[] freeSeats;
+    @Schema(description = "Группы соседних свободных мест в одном ряду, от лучшей группы к худшей")
+    private int[][] adjacentSeats;
+    @Schema(description = "Карта мест: \".\" - свободное место, \"h\" - забронированное, \"x\" - проданное, \"_\" - место без билета, \"|\" - граница ряда")
+    private String map;
+}
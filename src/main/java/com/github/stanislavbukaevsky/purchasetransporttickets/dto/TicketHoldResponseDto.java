@@ -0,0 +1,20 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Класс-DTO для ответа пользователю с информацией о брони транспортного билета
+ */
+@Data
+@Schema(description = "Объект брони транспортного билета для ответа пользователю")
+public class TicketHoldResponseDto {
+    @Schema(description = "Уникальный идентификатор транспортного билета")
+    private Long ticketId;
+    @Schema(description = "Логин пользователя, за которым забронирован билет")
+    private String login;
+    @Schema(description = "Дата и время окончания брони")
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,18 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Класс-DTO для ответа пользователю со страницей найденных транспортных билетов
+ */
+@Data
+@Schema(description = "Объект страницы транспортных билетов для ответа пользователю")
+public class TicketPageResponseDto {
+    @Schema(description = "Список транспортных билетов на странице")
+    private List<TicketResponseDto> tickets;
+    @Schema(description = "Курсор следующей страницы. Отсутствует, если страница последняя")
+    private String next;
+}
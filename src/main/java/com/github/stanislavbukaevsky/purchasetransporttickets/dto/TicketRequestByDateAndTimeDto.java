@@ -6,13 +6,18 @@ import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 /**
- * Класс-DTO для запроса от пользователя информации о дате и времени отправления
+ * Класс-DTO для запроса от пользователя информации о дате и времени отправления.
+ * Запрос задает окно отправления от dateTimeRequest до dateTimeTo включительно.
+ * Если конец окна не указан, ищутся билеты с отправлением ровно в dateTimeRequest
  */
 @Data
 @Schema(description = "Объект даты и времени отправления для запроса от пользователя")
 public class TicketRequestByDateAndTimeDto {
     @NotEmpty(message = "Поле даты и времени отправления не должно быть пустым!")
     @Size(min = 16, max = 20, message = "Дата и время отправления должно содержать от 16 до 20 символов! Дата и время отправления должны быть в следующим формате: \"yyyy-MM-dd HH:mm\"")
-    @Schema(description = "Дата и время отправления")
+    @Schema(description = "Дата и время отправления (начало окна отправления)")
     private String dateTimeRequest;
+    @Size(min = 16, max = 20, message = "Конец окна отправления должен содержать от 16 до 20 символов! Дата и время отправления должны быть в следующим формате: \"yyyy-MM-dd HH:mm\"")
+    @Schema(description = "Конец окна отправления включительно. Если не указан, ищутся билеты с отправлением ровно в dateTimeRequest")
+    private String dateTimeTo;
 }
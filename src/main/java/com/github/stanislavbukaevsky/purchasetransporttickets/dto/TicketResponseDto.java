@@ -37,4 +37,6 @@ public class TicketResponseDto {
     private String phoneNumber;
     @Schema(description = "Статус билета")
     private String ticketStatus;
+    @Schema(description = "Количество мест в продаже на это отправление маршрута")
+    private Integer availableSeats;
 }
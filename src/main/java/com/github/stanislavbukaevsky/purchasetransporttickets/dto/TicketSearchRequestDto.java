@@ -0,0 +1,39 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.dto;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketSortOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * Класс-DTO для запроса от пользователя на поиск транспортных билетов по нескольким условиям.
+ * Все условия необязательные, в запрос к базе данных попадают только заполненные
+ */
+@Data
+@Schema(description = "Объект условий поиска транспортных билетов для запроса от пользователя")
+public class TicketSearchRequestDto {
+    @Size(min = 2, max = 64, message = "Пункт отправления должен содержать от 2 до 64 символов!")
+    @Schema(description = "Пункт отправления покупателя")
+    private String departurePoint;
+    @Size(min = 2, max = 64, message = "Пункт назначения должен содержать от 2 до 64 символов!")
+    @Schema(description = "Пункт назначения покупателя")
+    private String destination;
+    @Size(min = 16, max = 20, message = "Начало окна отправления должно содержать от 16 до 20 символов! Дата и время отправления должны быть в следующим формате: \"yyyy-MM-dd HH:mm\"")
+    @Schema(description = "Начало окна отправления включительно")
+    private String dateTimeFrom;
+    @Size(min = 16, max = 20, message = "Конец окна отправления должен содержать от 16 до 20 символов! Дата и время отправления должны быть в следующим формате: \"yyyy-MM-dd HH:mm\"")
+    @Schema(description = "Конец окна отправления включительно")
+    private String dateTimeTo;
+    @Size(min = 2, max = 48, message = "Название компании перевозчика должно содержать от 2 до 48 символов!")
+    @Schema(description = "Название компании перевозчика")
+    private String companyName;
+    @PositiveOrZero(message = "Минимальная стоимость билета не может быть отрицательной!")
+    @Schema(description = "Минимальная стоимость билета включительно")
+    private Integer priceFrom;
+    @PositiveOrZero(message = "Максимальная стоимость билета не может быть отрицательной!")
+    @Schema(description = "Максимальная стоимость билета включительно")
+    private Integer priceTo;
+    @Schema(description = "Порядок сортировки результатов. По умолчанию сначала ранние отправления")
+    private TicketSortOrder sortOrder = TicketSortOrder.DEPARTURE_ASC;
+}
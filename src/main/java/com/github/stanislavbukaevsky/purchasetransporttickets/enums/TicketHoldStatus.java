@@ -0,0 +1,18 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.enums;
+
+/**
+ * Перечисление, для разделения результатов бронирования транспортных билетов
+ */
+public enum TicketHoldStatus {
+    HELD("Билет забронирован"), EXTENDED("Бронь покупателя продлена"), REJECTED("Билет забронирован другим покупателем");
+
+    private final String description;
+
+    TicketHoldStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.enums;
+
+/**
+ * Перечисление, для разделения порядков сортировки результатов поиска транспортных билетов
+ */
+public enum TicketSortOrder {
+    DEPARTURE_ASC("Сначала ранние отправления"), DEPARTURE_DESC("Сначала поздние отправления"),
+    PRICE_ASC("Сначала дешевые"), PRICE_DESC("Сначала дорогие");
+
+    private final String description;
+
+    TicketSortOrder(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.exception;
+
+/**
+ * Класс-исключение, если пользователь передал поврежденный курсор постраничной выборки. <br>
+ * Наследуется от класса {@link RuntimeException}
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.exception;
+
+/**
+ * Класс-исключение, если конец окна отправления раньше его начала. <br>
+ * Наследуется от класса {@link RuntimeException}
+ */
+public class InvalidDepartureWindowException extends RuntimeException {
+    public InvalidDepartureWindowException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.exception;
+
+/**
+ * Класс-исключение, если транспортный билет уже был куплен другим пользователем. <br>
+ * Это ожидаемый исход гонки покупок, поэтому исключение не заполняет стек вызовов. <br>
+ * Наследуется от класса {@link RuntimeException}
+ */
+public class TicketAlreadySoldException extends RuntimeException {
+    public TicketAlreadySoldException(String message) {
+        super(message, null, false, false);
+    }
+}
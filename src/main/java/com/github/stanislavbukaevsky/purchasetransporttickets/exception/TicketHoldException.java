@@ -0,0 +1,12 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.exception;
+
+/**
+ * Класс-исключение, если транспортный билет забронирован другим пользователем или бронь истекла. <br>
+ * Это ожидаемый исход конкуренции за место, поэтому исключение не заполняет стек вызовов. <br>
+ * Наследуется от класса {@link RuntimeException}
+ */
+public class TicketHoldException extends RuntimeException {
+    public TicketHoldException(String message) {
+        super(message, null, false, false);
+    }
+}
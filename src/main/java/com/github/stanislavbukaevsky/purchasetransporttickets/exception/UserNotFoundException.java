@@ -0,0 +1,11 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.exception;
+
+/**
+ * Класс-исключение, если пользователя с таким логином не существует. <br>
+ * Наследуется от класса {@link RuntimeException}
+ */
+public class UserNotFoundException extends RuntimeException {
+    public UserNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -1,9 +1,14 @@
 package com.github.stanislavbukaevsky.purchasetransporttickets.handler;
 
 import com.github.stanislavbukaevsky.purchasetransporttickets.exception.AuthException;
+import com.github.stanislavbukaevsky.purchasetransporttickets.exception.InvalidCursorException;
+import com.github.stanislavbukaevsky.purchasetransporttickets.exception.InvalidDepartureWindowException;
 import com.github.stanislavbukaevsky.purchasetransporttickets.exception.LoginAlreadyExistsException;
 import com.github.stanislavbukaevsky.purchasetransporttickets.exception.MonoNoContentException;
+import com.github.stanislavbukaevsky.purchasetransporttickets.exception.TicketAlreadySoldException;
+import com.github.stanislavbukaevsky.purchasetransporttickets.exception.TicketHoldException;
 import com.github.stanislavbukaevsky.purchasetransporttickets.exception.TicketNotFoundException;
+import com.github.stanislavbukaevsky.purchasetransporttickets.exception.UserNotFoundException;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -22,9 +27,11 @@ import org.springframework.web.bind.support.WebExchangeBindException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.MALFORMED_JWT_EXCEPTION_MESSAGE_SERVICE;
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.REJECTED_EXECUTION_EXCEPTION_MESSAGE_SERVICE;
 
 /**
  * Этот класс для обработки всех исключений приложения на уровне контроллеров
@@ -47,6 +54,34 @@ public class ExceptionApiHandler {
                 .body(new ResponseApiException(HttpStatus.BAD_REQUEST.value(), exception.getMessage(), getDateTime()));
     }
 
+    /**
+     * Этот метод обрабатывает все исключения, возникшие с поврежденным курсором страницы
+     *
+     * @param exception исключение
+     * @return Возвращает сформированное сообщение пользователю об ошибке, возникшей в результате неправильного запроса
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ResponseApiException> invalidCursorException(InvalidCursorException exception) {
+        log.error(exception.getMessage(), exception);
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ResponseApiException(HttpStatus.BAD_REQUEST.value(), exception.getMessage(), getDateTime()));
+    }
+
+    /**
+     * Этот метод обрабатывает все исключения, возникшие с окном отправления в поиске билетов
+     *
+     * @param exception исключение
+     * @return Возвращает сформированное сообщение пользователю об ошибке, возникшей в результате неправильного запроса
+     */
+    @ExceptionHandler(InvalidDepartureWindowException.class)
+    public ResponseEntity<ResponseApiException> invalidDepartureWindowException(InvalidDepartureWindowException exception) {
+        log.error(exception.getMessage(), exception);
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ResponseApiException(HttpStatus.BAD_REQUEST.value(), exception.getMessage(), getDateTime()));
+    }
+
     /**
      * Этот метод обрабатывает все исключения, возникшие с блоком Mono
      *
@@ -219,17 +254,59 @@ public class ExceptionApiHandler {
     }
 
     /**
-     * Этот метод обрабатывает все исключения, возникшие с транспортными билетами
+     * Этот метод обрабатывает исключения, возникшие при обращении к несуществующему транспортному билету
      *
      * @param exception исключение
-     * @return Возвращает сформированное сообщение пользователю об ошибке, возникшей в результате неправильного запроса
+     * @return Возвращает сформированное сообщение пользователю о том, что билет не найден
      */
     @ExceptionHandler(TicketNotFoundException.class)
     public ResponseEntity<ResponseApiException> ticketNotFoundException(TicketNotFoundException exception) {
-        log.error(exception.getMessage(), exception);
+        log.warn(exception.getMessage());
         return ResponseEntity
-                .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(new ResponseApiException(HttpStatus.INTERNAL_SERVER_ERROR.value(), exception.getMessage(), getDateTime()));
+                .status(HttpStatus.NOT_FOUND)
+                .body(new ResponseApiException(HttpStatus.NOT_FOUND.value(), exception.getMessage(), getDateTime()));
+    }
+
+    /**
+     * Этот метод обрабатывает исключения, возникшие при обращении к несуществующему пользователю
+     *
+     * @param exception исключение
+     * @return Возвращает сформированное сообщение пользователю о том, что пользователь не найден
+     */
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ResponseApiException> userNotFoundException(UserNotFoundException exception) {
+        log.warn(exception.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(new ResponseApiException(HttpStatus.NOT_FOUND.value(), exception.getMessage(), getDateTime()));
+    }
+
+    /**
+     * Этот метод обрабатывает исключения, возникшие при покупке уже проданного транспортного билета
+     *
+     * @param exception исключение
+     * @return Возвращает сформированное сообщение пользователю о том, что билет уже продан
+     */
+    @ExceptionHandler(TicketAlreadySoldException.class)
+    public ResponseEntity<ResponseApiException> ticketAlreadySoldException(TicketAlreadySoldException exception) {
+        log.warn(exception.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ResponseApiException(HttpStatus.CONFLICT.value(), exception.getMessage(), getDateTime()));
+    }
+
+    /**
+     * Этот метод обрабатывает исключения, возникшие при работе с бронью транспортного билета
+     *
+     * @param exception исключение
+     * @return Возвращает сформированное сообщение пользователю о том, что бронь недоступна
+     */
+    @ExceptionHandler(TicketHoldException.class)
+    public ResponseEntity<ResponseApiException> ticketHoldException(TicketHoldException exception) {
+        log.warn(exception.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ResponseApiException(HttpStatus.CONFLICT.value(), exception.getMessage(), getDateTime()));
     }
 
     /**
@@ -246,6 +323,20 @@ public class ExceptionApiHandler {
                 .body(new ResponseApiException(HttpStatus.INTERNAL_SERVER_ERROR.value(), exception.getMessage(), getDateTime()));
     }
 
+    /**
+     * Этот метод обрабатывает все исключения, возникшие с переполнением очереди запросов к базе данных
+     *
+     * @param exception исключение
+     * @return Возвращает сформированное сообщение пользователю об ошибке, возникшей в результате перегрузки сервера
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ResponseApiException> rejectedExecutionException(RejectedExecutionException exception) {
+        log.warn(exception.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ResponseApiException(HttpStatus.SERVICE_UNAVAILABLE.value(), REJECTED_EXECUTION_EXCEPTION_MESSAGE_SERVICE, getDateTime()));
+    }
+
     /**
      * Приватный метод, который формирует настоящие дату и время
      *
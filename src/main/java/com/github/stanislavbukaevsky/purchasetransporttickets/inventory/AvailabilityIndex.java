@@ -0,0 +1,333 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.inventory;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.pagination.SeekCursor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Класс индекса билетов в продаже, который хранится в памяти приложения.
+ * Билеты хранятся в массивах примитивов без объектов билетов: основной сегмент строится при полной загрузке,
+ * а добавленные билеты попадают в небольшой сегмент изменений, который перестраивается при каждом добавлении
+ * и сливается с основным сегментом, когда вырастает больше порога. Проданные и удаленные билеты отмечаются
+ * в сегментах без перестроения. Изменения применяются под блокировкой, поиск читает сегменты без блокировки,
+ * а модели билетов создаются только для найденной страницы
+ */
+public class AvailabilityIndex {
+    private static final Comparator<Ticket> BY_DEPARTURE = Comparator.comparing(Ticket::getDateTimeDeparture)
+            .thenComparing(Ticket::getId);
+    private static final Comparator<Ticket> BY_ID = Comparator.comparing(Ticket::getId);
+    private final Object lock = new Object();
+    private final Object reloadLock = new Object();
+    private final int compactionThreshold;
+    private volatile State state = new State(AvailabilitySegment.EMPTY, AvailabilitySegment.EMPTY);
+    private List<UnaryOperator<State>> pendingChanges;
+
+    /**
+     * Этот конструктор создает пустой индекс
+     *
+     * @param compactionThreshold количество билетов сегмента изменений, после которого он сливается с основным сегментом
+     */
+    public AvailabilityIndex(int compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Этот метод добавляет билет в индекс или заменяет его, если билет с тем же отправлением уже есть в индексе
+     *
+     * @param ticket модель билета в продаже с заполненным уникальным идентификатором маршрута
+     */
+    public void putTicket(Ticket ticket) {
+        change(current -> current.put(ticket, compactionThreshold));
+    }
+
+    /**
+     * Этот метод добавляет билеты в индекс или заменяет их одним перестроением сегмента изменений
+     *
+     * @param tickets модели билетов в продаже с заполненным уникальным идентификатором маршрута
+     */
+    public void putTickets(List<Ticket> tickets) {
+        if (!tickets.isEmpty()) {
+            change(current -> current.putAll(tickets, compactionThreshold));
+        }
+    }
+
+    /**
+     * Этот метод удаляет проданный или удаленный билет из индекса
+     *
+     * @param routeId           уникальный идентификатор маршрута
+     * @param dateTimeDeparture дата и время отправления
+     * @param ticketId          уникальный идентификатор билета
+     */
+    public void removeTicket(Long routeId, LocalDateTime dateTimeDeparture, Long ticketId) {
+        long departure = toMicros(dateTimeDeparture);
+        change(current -> current.remove(routeId, departure, ticketId));
+    }
+
+    /**
+     * Этот метод удаляет из индекса все билеты маршрута
+     *
+     * @param routeId уникальный идентификатор маршрута
+     */
+    public void removeRoute(Long routeId) {
+        change(current -> {
+            current.base.removeRoute(routeId);
+            current.delta.removeRoute(routeId);
+            return current;
+        });
+    }
+
+    /**
+     * Этот метод полностью перестраивает индекс. Изменения, примененные во время загрузки билетов,
+     * повторяются на новом индексе, поэтому не теряются
+     *
+     * @param loader загрузка всех билетов в продаже, которая передает каждый билет получателю
+     */
+    public void reload(Consumer<Consumer<Ticket>> loader) {
+        try {
+            rebuild(() -> {
+                AvailabilitySegment.Builder builder = new AvailabilitySegment.Builder(Math.max(16, size()));
+                loader.accept(ticket -> add(builder, ticket));
+                return builder.build();
+            });
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Этот метод записывает снимок индекса в файл, отображенный в память
+     *
+     * @param file       файл снимка
+     * @param replayFrom время по часам базы данных, с которого после чтения снимка нужно повторить изменения билетов
+     * @return Возвращает количество билетов в снимке
+     * @throws IOException если файл снимка не удалось записать
+     */
+    public int writeSnapshot(Path file, LocalDateTime replayFrom) throws IOException {
+        State current = state;
+        return AvailabilitySnapshot.write(file, toMicros(replayFrom), current.base, current.delta);
+    }
+
+    /**
+     * Этот метод полностью перестраивает индекс из снимка. Изменения, примененные во время чтения снимка,
+     * повторяются на новом индексе, а изменения после записи снимка должен повторить вызывающий метод
+     *
+     * @param file            файл снимка
+     * @param replayNotBefore самое раннее время, с которого еще можно повторить изменения билетов
+     * @return Возвращает время по часам базы данных, с которого нужно повторить изменения билетов
+     * @throws IOException если снимка нет, он поврежден, записан другой версией формата или старше replayNotBefore.
+     *                     Индекс в этом случае не изменяется
+     */
+    public LocalDateTime restoreSnapshot(Path file, LocalDateTime replayNotBefore) throws IOException {
+        long[] replayFrom = new long[1];
+        rebuild(() -> {
+            AvailabilitySnapshot snapshot = AvailabilitySnapshot.read(file, toMicros(replayNotBefore));
+            replayFrom[0] = snapshot.replayFrom();
+            return snapshot.builder().build();
+        });
+        return fromMicros(replayFrom[0]);
+    }
+
+    /**
+     * Этот метод возвращает количество билетов в индексе
+     *
+     * @return Возвращает количество билетов в продаже
+     */
+    public int size() {
+        State current = state;
+        return current.base.size() + current.delta.size();
+    }
+
+    /**
+     * Этот метод ищет билеты в окне отправления в порядке даты и времени отправления и идентификатора
+     *
+     * @param departureFrom начало окна отправления
+     * @param departureTo   конец окна отправления включительно
+     * @param cursor        курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size          количество записей
+     * @return Возвращает список найденных билетов с заполненными уникальным идентификатором маршрута и остатком мест
+     */
+    public List<Ticket> findByDateAndTimeDeparture(LocalDateTime departureFrom, LocalDateTime departureTo,
+                                                   SeekCursor cursor, int size) {
+        long afterDeparture = cursor == null ? Long.MIN_VALUE : toMicros(cursor.dateTime());
+        long afterId = cursor == null ? Long.MIN_VALUE : cursor.id();
+        State current = state;
+        List<Ticket> tickets = new ArrayList<>();
+        for (AvailabilitySegment segment : current.segments()) {
+            int[] rows = segment.findByDeparture(toMicros(departureFrom), toMicros(departureTo), afterDeparture, afterId, size);
+            addTickets(current, segment, rows, tickets);
+        }
+        return page(tickets, BY_DEPARTURE, size);
+    }
+
+    /**
+     * Этот метод ищет билеты подходящих маршрутов в порядке идентификатора
+     *
+     * @param routeFilter условие на уникальный идентификатор маршрута, проверяется один раз для каждого маршрута
+     * @param cursor      курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size        количество записей
+     * @return Возвращает список найденных билетов с заполненными уникальным идентификатором маршрута и остатком мест
+     */
+    public List<Ticket> findByRoutes(LongPredicate routeFilter, SeekCursor cursor, int size) {
+        long afterId = cursor == null ? Long.MIN_VALUE : cursor.id();
+        State current = state;
+        List<Ticket> tickets = new ArrayList<>();
+        for (AvailabilitySegment segment : current.segments()) {
+            addTickets(current, segment, segment.findByRoutes(routeFilter, afterId, size), tickets);
+        }
+        return page(tickets, BY_ID, size);
+    }
+
+    /**
+     * Этот метод переводит дату и время в микросекунды от начала эпохи (UTC), с точностью PostgreSQL
+     *
+     * @param dateTime дата и время
+     * @return Возвращает количество микросекунд
+     */
+    static long toMicros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), dateTime);
+    }
+
+    /**
+     * Этот метод переводит микросекунды от начала эпохи (UTC) в дату и время
+     *
+     * @param micros количество микросекунд
+     * @return Возвращает дату и время
+     */
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Приватный метод, который заменяет основной сегмент индекса. Изменения, примененные во время построения сегмента,
+     * повторяются на новом индексе, поэтому не теряются. Если сегмент не построен, индекс не изменяется
+     *
+     * @param loader построение нового основного сегмента
+     * @throws IOException если сегмент не удалось построить
+     */
+    private void rebuild(SegmentLoader loader) throws IOException {
+        synchronized (reloadLock) {
+            synchronized (lock) {
+                pendingChanges = new ArrayList<>();
+            }
+            try {
+                State reloaded = new State(loader.load(), AvailabilitySegment.EMPTY);
+                synchronized (lock) {
+                    for (UnaryOperator<State> pendingChange : pendingChanges) {
+                        reloaded = pendingChange.apply(reloaded);
+                    }
+                    state = reloaded;
+                }
+            } finally {
+                synchronized (lock) {
+                    pendingChanges = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Приватный метод, который применяет изменение к индексу и запоминает его на время перестроения индекса
+     *
+     * @param change изменение индекса
+     */
+    private void change(UnaryOperator<State> change) {
+        synchronized (lock) {
+            state = change.apply(state);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        }
+    }
+
+    private static void add(AvailabilitySegment.Builder builder, Ticket ticket) {
+        builder.add(ticket.getId(), routeId(ticket), toMicros(ticket.getDateTimeDeparture()),
+                toMicros(ticket.getDateTimeTicketIssuance()), ticket.getSeatNumber(), ticket.getPrice());
+    }
+
+    private static long routeId(Ticket ticket) {
+        return ticket.getRouteId() != null ? ticket.getRouteId() : ticket.getRoute().getId();
+    }
+
+    /**
+     * Приватный метод, который создает модели билетов для найденных строк сегмента
+     */
+    private static void addTickets(State current, AvailabilitySegment segment, int[] rows, List<Ticket> tickets) {
+        for (int row : rows) {
+            Ticket ticket = new Ticket();
+            ticket.setId(segment.id(row));
+            ticket.setRouteId(segment.routeId(row));
+            ticket.setDateTimeDeparture(fromMicros(segment.departure(row)));
+            ticket.setSeatNumber(segment.seat(row));
+            ticket.setPrice(segment.price(row));
+            ticket.setDateTimeTicketIssuance(fromMicros(segment.issuance(row)));
+            ticket.setTicketStatus(TicketStatus.AVAILABLE_FOR_SALE);
+            ticket.setAvailableSeats(current.base.countAvailable(ticket.getRouteId(), segment.departure(row))
+                    + current.delta.countAvailable(ticket.getRouteId(), segment.departure(row)));
+            tickets.add(ticket);
+        }
+    }
+
+    private static List<Ticket> page(List<Ticket> tickets, Comparator<Ticket> order, int size) {
+        tickets.sort(order);
+        return tickets.size() > size ? tickets.subList(0, size) : tickets;
+    }
+
+    @FunctionalInterface
+    private interface SegmentLoader {
+        AvailabilitySegment load() throws IOException;
+    }
+
+    /**
+     * Состояние индекса: основной сегмент и сегмент изменений
+     */
+    private record State(AvailabilitySegment base, AvailabilitySegment delta) {
+
+        private AvailabilitySegment[] segments() {
+            return new AvailabilitySegment[]{base, delta};
+        }
+
+        private State put(Ticket ticket, int compactionThreshold) {
+            return putAll(List.of(ticket), compactionThreshold);
+        }
+
+        private State putAll(List<Ticket> tickets, int compactionThreshold) {
+            AvailabilitySegment.Builder builder = new AvailabilitySegment.Builder(delta.size() + tickets.size());
+            for (Ticket ticket : tickets) {
+                remove(routeId(ticket), toMicros(ticket.getDateTimeDeparture()), ticket.getId());
+            }
+            delta.copyTo(builder);
+            for (Ticket ticket : tickets) {
+                add(builder, ticket);
+            }
+            if (builder.size() < compactionThreshold) {
+                return new State(base, builder.build());
+            }
+            base.copyTo(builder);
+            return new State(builder.build(), AvailabilitySegment.EMPTY);
+        }
+
+        private State remove(long routeId, long departure, long ticketId) {
+            for (AvailabilitySegment segment : segments()) {
+                int row = segment.find(routeId, departure, ticketId);
+                if (row >= 0) {
+                    segment.remove(row);
+                }
+            }
+            return this;
+        }
+    }
+}
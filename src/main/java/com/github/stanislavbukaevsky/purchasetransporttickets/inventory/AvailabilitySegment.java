@@ -0,0 +1,499 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.inventory;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongPredicate;
+
+/**
+ * Класс сегмента индекса билетов в продаже. Билеты хранятся колонками в массивах примитивов,
+ * упорядоченных по маршруту, дате и времени отправления и идентификатору билета, поэтому билеты маршрута
+ * и билеты одного отправления лежат подряд. Дата и время хранятся в микросекундах от начала эпохи (UTC),
+ * как в PostgreSQL. Две перестановки строк задают остальные порядки поиска: по дате и времени отправления
+ * и по идентификатору внутри маршрута. Колонки не изменяются после построения, проданные билеты отмечаются
+ * в битовой маске удаленных строк, а количество мест в продаже хранится для каждого отправления.
+ * Маска и счетчики атомарные, поэтому поиск читает сегмент без блокировки
+ */
+final class AvailabilitySegment {
+    static final AvailabilitySegment EMPTY = new Builder(0).build();
+    private final long[] routeKeys;
+    private final int[] routeStarts;
+    private final int[] groupStarts;
+    private final AtomicIntegerArray groupAvailable;
+    private final long[] ids;
+    private final long[] departures;
+    private final long[] issuances;
+    private final int[] seats;
+    private final int[] prices;
+    private final int[] byDeparture;
+    private final int[] byRouteId;
+    private final AtomicLongArray removed;
+    private final AtomicInteger removedRows = new AtomicInteger();
+
+    private AvailabilitySegment(long[] routeKeys, int[] routeStarts, int[] groupStarts, long[] ids, long[] departures,
+                                long[] issuances, int[] seats, int[] prices, int[] byDeparture, int[] byRouteId) {
+        this.routeKeys = routeKeys;
+        this.routeStarts = routeStarts;
+        this.groupStarts = groupStarts;
+        this.ids = ids;
+        this.departures = departures;
+        this.issuances = issuances;
+        this.seats = seats;
+        this.prices = prices;
+        this.byDeparture = byDeparture;
+        this.byRouteId = byRouteId;
+        this.removed = new AtomicLongArray((ids.length + 63) >>> 6);
+        this.groupAvailable = new AtomicIntegerArray(groupStarts.length - 1);
+        for (int group = 0; group < groupStarts.length - 1; group++) {
+            groupAvailable.set(group, groupStarts[group + 1] - groupStarts[group]);
+        }
+    }
+
+    /**
+     * Этот метод возвращает количество билетов в продаже
+     *
+     * @return Возвращает количество строк без удаленных
+     */
+    int size() {
+        return ids.length - removedRows.get();
+    }
+
+    /**
+     * Этот метод ищет строку билета по ключу отправления и идентификатору
+     *
+     * @param routeId   уникальный идентификатор маршрута
+     * @param departure дата и время отправления в микросекундах
+     * @param id        уникальный идентификатор билета
+     * @return Возвращает номер строки или -1, если билета нет в сегменте или он удален
+     */
+    int find(long routeId, long departure, long id) {
+        int route = Arrays.binarySearch(routeKeys, routeId);
+        if (route < 0) {
+            return -1;
+        }
+        int low = routeStarts[route];
+        int high = routeStarts[route + 1] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int compare = departures[middle] != departure ? Long.compare(departures[middle], departure) : Long.compare(ids[middle], id);
+            if (compare < 0) {
+                low = middle + 1;
+            } else if (compare > 0) {
+                high = middle - 1;
+            } else {
+                return isRemoved(middle) ? -1 : middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Этот метод отмечает строку удаленной и уменьшает количество мест в продаже ее отправления
+     *
+     * @param row номер строки
+     * @return Возвращает true, если строка не была удалена раньше
+     */
+    boolean remove(int row) {
+        long mask = 1L << row;
+        long current;
+        do {
+            current = removed.get(row >>> 6);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!removed.compareAndSet(row >>> 6, current, current | mask));
+        removedRows.incrementAndGet();
+        groupAvailable.decrementAndGet(group(row));
+        return true;
+    }
+
+    /**
+     * Этот метод отмечает удаленными все строки маршрута
+     *
+     * @param routeId уникальный идентификатор маршрута
+     */
+    void removeRoute(long routeId) {
+        int route = Arrays.binarySearch(routeKeys, routeId);
+        if (route >= 0) {
+            for (int row = routeStarts[route]; row < routeStarts[route + 1]; row++) {
+                remove(row);
+            }
+        }
+    }
+
+    /**
+     * Этот метод считает билеты в продаже на отправлении
+     *
+     * @param routeId   уникальный идентификатор маршрута
+     * @param departure дата и время отправления в микросекундах
+     * @return Возвращает количество билетов в продаже
+     */
+    int countAvailable(long routeId, long departure) {
+        int route = Arrays.binarySearch(routeKeys, routeId);
+        if (route < 0) {
+            return 0;
+        }
+        int low = routeStarts[route];
+        int high = routeStarts[route + 1];
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (departures[middle] < departure) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low < routeStarts[route + 1] && departures[low] == departure ? groupAvailable.get(group(low)) : 0;
+    }
+
+    /**
+     * Этот метод ищет билеты в продаже в окне отправления в порядке даты и времени отправления и идентификатора
+     *
+     * @param departureFrom начало окна отправления в микросекундах
+     * @param departureTo   конец окна отправления включительно в микросекундах
+     * @param afterDeparture дата и время отправления последнего билета предыдущей страницы или Long.MIN_VALUE
+     * @param afterId       идентификатор последнего билета предыдущей страницы или Long.MIN_VALUE
+     * @param size          наибольшее количество билетов
+     * @return Возвращает номера строк найденных билетов
+     */
+    int[] findByDeparture(long departureFrom, long departureTo, long afterDeparture, long afterId, int size) {
+        long startDeparture = departureFrom;
+        long startId = Long.MIN_VALUE;
+        if (afterDeparture > departureFrom || afterDeparture == departureFrom && afterId > startId) {
+            startDeparture = afterDeparture;
+            startId = afterId;
+        }
+        int low = 0;
+        int high = byDeparture.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int row = byDeparture[middle];
+            if (departures[row] < startDeparture || departures[row] == startDeparture && ids[row] <= startId) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int[] found = new int[Math.min(size, byDeparture.length - low)];
+        int count = 0;
+        for (int index = low; index < byDeparture.length && count < found.length; index++) {
+            int row = byDeparture[index];
+            if (departures[row] > departureTo) {
+                break;
+            }
+            if (!isRemoved(row)) {
+                found[count++] = row;
+            }
+        }
+        return count == found.length ? found : Arrays.copyOf(found, count);
+    }
+
+    /**
+     * Этот метод ищет билеты в продаже на подходящих маршрутах в порядке идентификатора.
+     * Билеты каждого маршрута уже упорядочены по идентификатору, поэтому маршруты сливаются через кучу
+     * по текущему билету маршрута, а условие проверяется один раз для каждого маршрута
+     *
+     * @param routeFilter условие на уникальный идентификатор маршрута
+     * @param afterId     идентификатор последнего билета предыдущей страницы или Long.MIN_VALUE
+     * @param size        наибольшее количество билетов
+     * @return Возвращает номера строк найденных билетов
+     */
+    int[] findByRoutes(LongPredicate routeFilter, long afterId, int size) {
+        int[] positions = new int[routeKeys.length];
+        int[] ends = new int[routeKeys.length];
+        int heapSize = 0;
+        for (int route = 0; route < routeKeys.length; route++) {
+            if (!routeFilter.test(routeKeys[route])) {
+                continue;
+            }
+            int low = routeStarts[route];
+            int high = routeStarts[route + 1];
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (ids[byRouteId[middle]] <= afterId) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            if (low < routeStarts[route + 1]) {
+                positions[heapSize] = low;
+                ends[heapSize] = routeStarts[route + 1];
+                heapSize++;
+            }
+        }
+        for (int index = heapSize / 2 - 1; index >= 0; index--) {
+            siftDown(positions, ends, index, heapSize);
+        }
+
+        int[] found = new int[size];
+        int count = 0;
+        while (heapSize > 0 && count < size) {
+            int row = byRouteId[positions[0]];
+            if (!isRemoved(row)) {
+                found[count++] = row;
+            }
+            if (++positions[0] == ends[0]) {
+                heapSize--;
+                positions[0] = positions[heapSize];
+                ends[0] = ends[heapSize];
+            }
+            siftDown(positions, ends, 0, heapSize);
+        }
+        return count == size ? found : Arrays.copyOf(found, count);
+    }
+
+    long routeId(int row) {
+        int low = 0;
+        int high = routeKeys.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (routeStarts[middle] <= row) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return routeKeys[low];
+    }
+
+    long id(int row) {
+        return ids[row];
+    }
+
+    long departure(int row) {
+        return departures[row];
+    }
+
+    long issuance(int row) {
+        return issuances[row];
+    }
+
+    int seat(int row) {
+        return seats[row];
+    }
+
+    int price(int row) {
+        return prices[row];
+    }
+
+    boolean isRemoved(int row) {
+        return (removed.get(row >>> 6) & 1L << row) != 0;
+    }
+
+    /**
+     * Этот метод возвращает номера строк в продаже в порядке маршрута, даты и времени отправления и идентификатора
+     *
+     * @return Возвращает номера строк без удаленных
+     */
+    int[] liveRows() {
+        int[] rows = new int[ids.length];
+        int count = 0;
+        for (int row = 0; row < ids.length; row++) {
+            if (!isRemoved(row)) {
+                rows[count++] = row;
+            }
+        }
+        return count == rows.length ? rows : Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Этот метод переносит строки в продаже в построитель нового сегмента
+     *
+     * @param builder построитель сегмента
+     */
+    void copyTo(Builder builder) {
+        for (int route = 0; route < routeKeys.length; route++) {
+            for (int row = routeStarts[route]; row < routeStarts[route + 1]; row++) {
+                if (!isRemoved(row)) {
+                    builder.add(ids[row], routeKeys[route], departures[row], issuances[row], seats[row], prices[row]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Приватный метод, который возвращает отправление строки: номер группы строк с одним маршрутом, датой и временем
+     *
+     * @param row номер строки
+     * @return Возвращает номер отправления
+     */
+    private int group(int row) {
+        int low = 0;
+        int high = groupStarts.length - 2;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (groupStarts[middle] <= row) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Приватный метод, который восстанавливает кучу маршрутов по идентификатору текущего билета маршрута
+     */
+    private void siftDown(int[] positions, int[] ends, int index, int heapSize) {
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < heapSize && ids[byRouteId[positions[left]]] < ids[byRouteId[positions[smallest]]]) {
+                smallest = left;
+            }
+            if (right < heapSize && ids[byRouteId[positions[right]]] < ids[byRouteId[positions[smallest]]]) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            int position = positions[index];
+            int end = ends[index];
+            positions[index] = positions[smallest];
+            ends[index] = ends[smallest];
+            positions[smallest] = position;
+            ends[smallest] = end;
+            index = smallest;
+        }
+    }
+
+    /**
+     * Построитель сегмента: билеты добавляются в любом порядке в растущие массивы примитивов
+     * и упорядочиваются один раз при построении
+     */
+    static final class Builder {
+        private long[] ids;
+        private long[] routeIds;
+        private long[] departures;
+        private long[] issuances;
+        private int[] seats;
+        private int[] prices;
+        private int size;
+
+        Builder(int capacity) {
+            ids = new long[capacity];
+            routeIds = new long[capacity];
+            departures = new long[capacity];
+            issuances = new long[capacity];
+            seats = new int[capacity];
+            prices = new int[capacity];
+        }
+
+        void add(long id, long routeId, long departure, long issuance, int seat, int price) {
+            if (size == ids.length) {
+                int capacity = Math.max(16, size + (size >> 1));
+                ids = Arrays.copyOf(ids, capacity);
+                routeIds = Arrays.copyOf(routeIds, capacity);
+                departures = Arrays.copyOf(departures, capacity);
+                issuances = Arrays.copyOf(issuances, capacity);
+                seats = Arrays.copyOf(seats, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+            }
+            ids[size] = id;
+            routeIds[size] = routeId;
+            departures[size] = departure;
+            issuances[size] = issuance;
+            seats[size] = seat;
+            prices[size] = price;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        AvailabilitySegment build() {
+            int[] order = identity(size);
+            sort(order, 0, size, routeIds, departures, ids);
+
+            long[] sortedIds = new long[size];
+            long[] sortedDepartures = new long[size];
+            long[] sortedIssuances = new long[size];
+            int[] sortedSeats = new int[size];
+            int[] sortedPrices = new int[size];
+            long[] routeKeys = new long[size];
+            int[] routeStarts = new int[size + 1];
+            int[] groupStarts = new int[size + 1];
+            int routes = 0;
+            int groups = 0;
+            for (int row = 0; row < size; row++) {
+                int source = order[row];
+                if (row == 0 || routeIds[source] != routeIds[order[row - 1]]) {
+                    routeKeys[routes] = routeIds[source];
+                    routeStarts[routes++] = row;
+                }
+                if (row == 0 || routeIds[source] != routeIds[order[row - 1]] || departures[source] != departures[order[row - 1]]) {
+                    groupStarts[groups++] = row;
+                }
+                sortedIds[row] = ids[source];
+                sortedDepartures[row] = departures[source];
+                sortedIssuances[row] = issuances[source];
+                sortedSeats[row] = seats[source];
+                sortedPrices[row] = prices[source];
+            }
+            routeStarts[routes] = size;
+            groupStarts[groups] = size;
+
+            int[] byDeparture = identity(size);
+            sort(byDeparture, 0, size, sortedDepartures, sortedIds, sortedIds);
+            int[] byRouteId = identity(size);
+            for (int route = 0; route < routes; route++) {
+                sort(byRouteId, routeStarts[route], routeStarts[route + 1], sortedIds, sortedIds, sortedIds);
+            }
+            return new AvailabilitySegment(Arrays.copyOf(routeKeys, routes), Arrays.copyOf(routeStarts, routes + 1),
+                    Arrays.copyOf(groupStarts, groups + 1), sortedIds, sortedDepartures, sortedIssuances,
+                    sortedSeats, sortedPrices, byDeparture, byRouteId);
+        }
+
+        private static int[] identity(int size) {
+            int[] order = new int[size];
+            for (int index = 0; index < size; index++) {
+                order[index] = index;
+            }
+            return order;
+        }
+
+        /**
+         * Сортировка слиянием номеров строк по трем колонкам ключа без упаковки в объекты.
+         * Колонки сравниваются напрямую, без компаратора, поэтому сравнение не требует вызова метода
+         */
+        private static void sort(int[] order, int from, int to, long[] first, long[] second, long[] third) {
+            if (to - from < 2) {
+                return;
+            }
+            int[] buffer = new int[to - from];
+            for (int width = 1; width < to - from; width <<= 1) {
+                for (int left = from; left < to - width; left += width << 1) {
+                    int middle = left + width;
+                    int right = Math.min(middle + width, to);
+                    if (compare(order[middle - 1], order[middle], first, second, third) <= 0) {
+                        continue;
+                    }
+                    int i = left;
+                    int j = middle;
+                    int k = 0;
+                    while (i < middle && j < right) {
+                        buffer[k++] = compare(order[i], order[j], first, second, third) <= 0 ? order[i++] : order[j++];
+                    }
+                    while (i < middle) {
+                        buffer[k++] = order[i++];
+                    }
+                    while (j < right) {
+                        buffer[k++] = order[j++];
+                    }
+                    System.arraycopy(buffer, 0, order, left, k);
+                }
+            }
+        }
+
+        private static int compare(int left, int right, long[] first, long[] second, long[] third) {
+            if (first[left] != first[right]) {
+                return Long.compare(first[left], first[right]);
+            }
+            return second[left] != second[right] ? Long.compare(second[left], second[right]) : Long.compare(third[left], third[right]);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.inventory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.*;
+
+/**
+ * Запись, для снимка индекса билетов в продаже в файле, отображенном в память.
+ * Файл состоит из заголовка и колонок билетов: идентификаторов, маршрутов, дат и времени отправления,
+ * дат и времени выпуска, номеров мест и стоимостей. В заголовке хранятся версия формата, количество билетов,
+ * время, с которого после чтения снимка повторяются изменения из журнала изменений билетов,
+ * и контрольная сумма CRC32C заголовка и колонок. Снимок записывается во временный файл и заменяет
+ * прежний снимок одним переименованием, поэтому прерванная запись не портит прежний снимок
+ *
+ * @param replayFrom время, с которого повторяются изменения, в микросекундах от начала эпохи
+ * @param builder    построитель сегмента с билетами снимка
+ */
+record AvailabilitySnapshot(long replayFrom, AvailabilitySegment.Builder builder) {
+    private static final int MAGIC = 0x41564958;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int CHECKSUM_OFFSET = 24;
+    private static final int ROW_SIZE = 4 * Long.BYTES + 2 * Integer.BYTES;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /**
+     * Этот метод записывает снимок билетов в продаже из сегментов индекса
+     *
+     * @param file       файл снимка
+     * @param replayFrom время, с которого повторяются изменения, в микросекундах от начала эпохи
+     * @param segments   сегменты индекса
+     * @return Возвращает количество записанных билетов
+     * @throws IOException если файл снимка не удалось записать
+     */
+    static int write(Path file, long replayFrom, AvailabilitySegment... segments) throws IOException {
+        int[][] rows = new int[segments.length][];
+        long count = 0;
+        for (int segment = 0; segment < segments.length; segment++) {
+            rows[segment] = segments[segment].liveRows();
+            count += rows[segment].length;
+        }
+        long size = HEADER_SIZE + count * ROW_SIZE;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException(SNAPSHOT_TOO_LARGE_EXCEPTION_MESSAGE_SERVICE + count);
+        }
+
+        Path temporary = file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.position(HEADER_SIZE);
+            for (int segment = 0; segment < segments.length; segment++) {
+                for (int row : rows[segment]) {
+                    buffer.putLong(segments[segment].id(row));
+                }
+            }
+            for (int segment = 0; segment < segments.length; segment++) {
+                for (int row : rows[segment]) {
+                    buffer.putLong(segments[segment].routeId(row));
+                }
+            }
+            for (int segment = 0; segment < segments.length; segment++) {
+                for (int row : rows[segment]) {
+                    buffer.putLong(segments[segment].departure(row));
+                }
+            }
+            for (int segment = 0; segment < segments.length; segment++) {
+                for (int row : rows[segment]) {
+                    buffer.putLong(segments[segment].issuance(row));
+                }
+            }
+            for (int segment = 0; segment < segments.length; segment++) {
+                for (int row : rows[segment]) {
+                    buffer.putInt(segments[segment].seat(row));
+                }
+            }
+            for (int segment = 0; segment < segments.length; segment++) {
+                for (int row : rows[segment]) {
+                    buffer.putInt(segments[segment].price(row));
+                }
+            }
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, FORMAT_VERSION);
+            buffer.putLong(8, replayFrom);
+            buffer.putInt(16, (int) count);
+            buffer.putInt(20, 0);
+            buffer.putLong(CHECKSUM_OFFSET, checksum(buffer));
+            buffer.force();
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return (int) count;
+    }
+
+    /**
+     * Этот метод читает снимок, проверяя версию формата, размер файла и контрольную сумму.
+     * Колонки читаются из отображенного в память файла без промежуточных копий
+     *
+     * @param file             файл снимка
+     * @param replayNotBefore  самое раннее время, с которого еще можно повторить изменения, в микросекундах от начала эпохи
+     * @return Возвращает снимок с построителем сегмента
+     * @throws IOException если снимка нет, он поврежден, записан другой версией формата или устарел
+     */
+    static AvailabilitySnapshot read(Path file, long replayNotBefore) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException(CORRUPT_SNAPSHOT_HEADER_EXCEPTION_MESSAGE_SERVICE + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int rows = buffer.getInt(16);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION || rows < 0
+                    || size != HEADER_SIZE + (long) rows * ROW_SIZE) {
+                throw new IOException(CORRUPT_SNAPSHOT_HEADER_EXCEPTION_MESSAGE_SERVICE + file);
+            }
+            if (buffer.getLong(CHECKSUM_OFFSET) != checksum(buffer)) {
+                throw new IOException(CORRUPT_SNAPSHOT_CHECKSUM_EXCEPTION_MESSAGE_SERVICE + file);
+            }
+            long replayFrom = buffer.getLong(8);
+            if (replayFrom < replayNotBefore) {
+                throw new IOException(STALE_SNAPSHOT_EXCEPTION_MESSAGE_SERVICE + file);
+            }
+
+            AvailabilitySegment.Builder builder = new AvailabilitySegment.Builder(rows);
+            int routeIds = HEADER_SIZE + rows * Long.BYTES;
+            int departures = routeIds + rows * Long.BYTES;
+            int issuances = departures + rows * Long.BYTES;
+            int seats = issuances + rows * Long.BYTES;
+            int prices = seats + rows * Integer.BYTES;
+            for (int row = 0; row < rows; row++) {
+                builder.add(buffer.getLong(HEADER_SIZE + row * Long.BYTES), buffer.getLong(routeIds + row * Long.BYTES),
+                        buffer.getLong(departures + row * Long.BYTES), buffer.getLong(issuances + row * Long.BYTES),
+                        buffer.getInt(seats + row * Integer.BYTES), buffer.getInt(prices + row * Integer.BYTES));
+            }
+            return new AvailabilitySnapshot(replayFrom, builder);
+        }
+    }
+
+    /**
+     * Приватный метод, который считает контрольную сумму заголовка без самой суммы и колонок билетов
+     *
+     * @param buffer содержимое файла снимка
+     * @return Возвращает контрольную сумму CRC32C
+     */
+    private static long checksum(ByteBuffer buffer) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.duplicate().position(0).limit(CHECKSUM_OFFSET));
+        checksum.update(buffer.duplicate().position(HEADER_SIZE).limit(buffer.capacity()));
+        return checksum.getValue();
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.inventory;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.pagination.SeekCursor;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Сервис-интерфейс с методами для поиска билетов в продаже по индексу в памяти приложения без обращения к базе данных.
+ * В этом интерфейсе прописана только сигнатура методов без реализации
+ */
+public interface TicketInventory {
+    /**
+     * Сигнатура метода, который проверяет, включен ли индекс билетов в продаже
+     *
+     * @return Возвращает true, если поиск билетов выполняется по индексу
+     */
+    boolean isEnabled();
+
+    /**
+     * Сигнатура метода поиска билетов, которые есть в продаже, по дате и времени отправления
+     *
+     * @param departureFrom начало окна отправления
+     * @param departureTo   конец окна отправления включительно
+     * @param cursor        курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size          количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    Flux<Ticket> findTicketsByDateAndTimeDeparture(LocalDateTime departureFrom, LocalDateTime departureTo, SeekCursor cursor, int size);
+
+    /**
+     * Сигнатура метода поиска билетов, которые есть в продаже, по пункту отправления маршрута
+     *
+     * @param departurePoint пункт отправления
+     * @param cursor         курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size           количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    Flux<Ticket> findTicketsByDeparturePoint(String departurePoint, SeekCursor cursor, int size);
+
+    /**
+     * Сигнатура метода поиска билетов, которые есть в продаже, по пункту назначения маршрута
+     *
+     * @param destination пункт назначения
+     * @param cursor      курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size        количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    Flux<Ticket> findTicketsByDestination(String destination, SeekCursor cursor, int size);
+
+    /**
+     * Сигнатура метода поиска билетов, которые есть в продаже, по названию компании перевозчика
+     *
+     * @param companyName название компании перевозчика
+     * @param cursor      курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size        количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    Flux<Ticket> findTicketsByCompanyNameCarrier(String companyName, SeekCursor cursor, int size);
+
+    /**
+     * Сигнатура метода для добавления или обновления билета в индексе на всех экземплярах приложения
+     *
+     * @param ticketId уникальный идентификатор билета
+     */
+    void refreshTicket(Long ticketId);
+
+    /**
+     * Сигнатура метода для удаления проданного или удаленного билета из индекса на всех экземплярах приложения
+     *
+     * @param routeId           уникальный идентификатор маршрута
+     * @param dateTimeDeparture дата и время отправления
+     * @param ticketId          уникальный идентификатор билета
+     */
+    void removeTicket(Long routeId, LocalDateTime dateTimeDeparture, Long ticketId);
+
+    /**
+     * Сигнатура метода для удаления всех билетов маршрута из индекса на всех экземплярах приложения
+     *
+     * @param routeId уникальный идентификатор маршрута
+     */
+    void removeRoute(Long routeId);
+
+    /**
+     * Сигнатура метода для восстановления индекса из снимка с повтором изменений билетов, сделанных после записи снимка.
+     * Если снимок нельзя использовать, индекс полностью перестраивается из базы данных
+     */
+    void restore();
+
+    /**
+     * Сигнатура метода для полного перестроения индекса из базы данных
+     */
+    void reload();
+
+    /**
+     * Сигнатура метода для записи снимка индекса в файл и удаления старых изменений из журнала изменений билетов
+     */
+    void writeSnapshot();
+
+    /**
+     * Сигнатура метода для применения изменения индекса по сообщению, полученному из топика Redis.
+     * Сообщения, не относящиеся к индексу, игнорируются
+     *
+     * @param message текстовое сообщение
+     */
+    void apply(String message);
+}
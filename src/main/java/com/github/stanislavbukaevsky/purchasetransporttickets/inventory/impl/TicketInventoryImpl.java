@@ -0,0 +1,333 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.inventory.impl;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.cache.ReferenceDataCache;
+import com.github.stanislavbukaevsky.purchasetransporttickets.inventory.AvailabilityIndex;
+import com.github.stanislavbukaevsky.purchasetransporttickets.inventory.TicketInventory;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.pagination.SeekCursor;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.MessagePublisher;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.TicketRow;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.TicketRepository;
+import com.github.stanislavbukaevsky.purchasetransporttickets.seatmap.DepartureKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
+
+/**
+ * Сервис-класс с бизнес-логикой для поиска билетов в продаже по индексу в памяти приложения.
+ * Индекс восстанавливается при запуске приложения из снимка в файле с повтором изменений из журнала изменений билетов
+ * или строится из базы данных, если снимок нельзя использовать. Затем индекс обновляется поштучно при добавлении,
+ * изменении, покупке и удалении билетов, периодически записывается в снимок и перестраивается полностью.
+ * Изменения рассылаются остальным экземплярам приложения через топик Redis вместе с полями билета,
+ * поэтому экземпляры, получившие сообщение, обновляют индекс без обращения к базе данных.
+ * Пункты и перевозчики маршрутов не хранятся в индексе, а проверяются при поиске по кэшу справочных данных,
+ * поэтому изменение маршрута или перевозчика не требует перестроения индекса.
+ * Реализует интерфейс {@link TicketInventory}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketInventoryImpl implements TicketInventory {
+    private static final String PUT_TICKET_MESSAGE_PREFIX = "availability:put-ticket:";
+    private static final String REMOVE_TICKET_MESSAGE_PREFIX = "availability:remove-ticket:";
+    private static final String REMOVE_ROUTE_MESSAGE_PREFIX = "availability:remove-route:";
+    private static final String SEPARATOR = ":";
+    private static final int COMPACTION_THRESHOLD = 4096;
+    private final AvailabilityIndex availabilityIndex = new AvailabilityIndex(COMPACTION_THRESHOLD);
+    private final ReferenceDataCache referenceDataCache;
+    private final TicketRepository ticketRepository;
+    private final MessagePublisher messagePublisher;
+    private final Scheduler jdbcScheduler;
+    @Value("${availability-index.enabled}")
+    private boolean enabled;
+    @Value("${availability-index.fetch-size}")
+    private Integer fetchSize;
+    @Value("${availability-index.snapshot.file}")
+    private String snapshotFile;
+    @Value("${availability-index.snapshot.replay-overlap-in-seconds}")
+    private Long replayOverlapInSeconds;
+    @Value("${availability-index.snapshot.change-retention-in-hours}")
+    private Long changeRetentionInHours;
+
+    /**
+     * Реализация метода, который проверяет, включен ли индекс билетов в продаже
+     *
+     * @return Возвращает true, если поиск билетов выполняется по индексу
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Реализация метода поиска билетов, которые есть в продаже, по дате и времени отправления
+     *
+     * @param departureFrom начало окна отправления
+     * @param departureTo   конец окна отправления включительно
+     * @param cursor        курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size          количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> findTicketsByDateAndTimeDeparture(LocalDateTime departureFrom, LocalDateTime departureTo, SeekCursor cursor, int size) {
+        return find(() -> availabilityIndex.findByDateAndTimeDeparture(departureFrom, departureTo, cursor, size));
+    }
+
+    /**
+     * Реализация метода поиска билетов, которые есть в продаже, по пункту отправления маршрута.
+     * Пункт отправления ищется по подстроке без учета регистра, как в базе данных
+     *
+     * @param departurePoint пункт отправления
+     * @param cursor         курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size           количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> findTicketsByDeparturePoint(String departurePoint, SeekCursor cursor, int size) {
+        LongPredicate routeFilter = routeMatches(Route::getDeparturePoint, departurePoint);
+        return find(() -> availabilityIndex.findByRoutes(routeFilter, cursor, size));
+    }
+
+    /**
+     * Реализация метода поиска билетов, которые есть в продаже, по пункту назначения маршрута.
+     * Пункт назначения ищется по подстроке без учета регистра, как в базе данных
+     *
+     * @param destination пункт назначения
+     * @param cursor      курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size        количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> findTicketsByDestination(String destination, SeekCursor cursor, int size) {
+        LongPredicate routeFilter = routeMatches(Route::getDestination, destination);
+        return find(() -> availabilityIndex.findByRoutes(routeFilter, cursor, size));
+    }
+
+    /**
+     * Реализация метода поиска билетов, которые есть в продаже, по названию компании перевозчика.
+     * Название компании ищется по подстроке без учета регистра, как в базе данных
+     *
+     * @param companyName название компании перевозчика
+     * @param cursor      курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size        количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> findTicketsByCompanyNameCarrier(String companyName, SeekCursor cursor, int size) {
+        LongPredicate routeFilter = routeMatches(route -> referenceDataCache.findCarrierById(route.getCarrierId()).getCompanyName(), companyName);
+        return find(() -> availabilityIndex.findByRoutes(routeFilter, cursor, size));
+    }
+
+    /**
+     * Реализация метода для добавления или обновления билета в индексе на всех экземплярах приложения.
+     * Билет читается из базы данных один раз и передается остальным экземплярам в сообщении.
+     * Билет, которого больше нет в продаже, удаляется из индекса вызывающим методом по ключу отправления
+     *
+     * @param ticketId уникальный идентификатор билета
+     */
+    @Override
+    public void refreshTicket(Long ticketId) {
+        if (enabled) {
+            ticketRepository.findAvailableTicketById(ticketId).ifPresent(ticket -> {
+                availabilityIndex.putTicket(ticket);
+                messagePublisher.publish(PUT_TICKET_MESSAGE_PREFIX + TicketRow.of(ticket));
+            });
+        }
+    }
+
+    /**
+     * Реализация метода для удаления проданного или удаленного билета из индекса на всех экземплярах приложения
+     *
+     * @param routeId           уникальный идентификатор маршрута
+     * @param dateTimeDeparture дата и время отправления
+     * @param ticketId          уникальный идентификатор билета
+     */
+    @Override
+    public void removeTicket(Long routeId, LocalDateTime dateTimeDeparture, Long ticketId) {
+        if (enabled) {
+            availabilityIndex.removeTicket(routeId, dateTimeDeparture, ticketId);
+            messagePublisher.publish(REMOVE_TICKET_MESSAGE_PREFIX + new DepartureKey(routeId, dateTimeDeparture) + SEPARATOR + ticketId);
+        }
+    }
+
+    /**
+     * Реализация метода для удаления всех билетов маршрута из индекса на всех экземплярах приложения
+     *
+     * @param routeId уникальный идентификатор маршрута
+     */
+    @Override
+    public void removeRoute(Long routeId) {
+        if (enabled) {
+            availabilityIndex.removeRoute(routeId);
+            messagePublisher.publish(REMOVE_ROUTE_MESSAGE_PREFIX + routeId);
+        }
+    }
+
+    /**
+     * Реализация метода для восстановления индекса из снимка с повтором изменений билетов, сделанных после записи снимка.
+     * Этот метод отрабатывает при запуске приложения. Снимок не используется, если его нет, он поврежден
+     * или старше журнала изменений билетов, тогда индекс полностью перестраивается из базы данных
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        if (!enabled) {
+            return;
+        }
+        Path file = Path.of(snapshotFile);
+        LocalDateTime now = ticketRepository.findCurrentDateTime();
+        try {
+            LocalDateTime replayFrom = availabilityIndex.restoreSnapshot(file, now.minusHours(changeRetentionInHours));
+            int replayed = replayChanges(replayFrom);
+            log.info(RESTORE_AVAILABILITY_SNAPSHOT_MESSAGE_LOGGER_SERVICE, file, availabilityIndex.size(), replayed);
+        } catch (IOException exception) {
+            log.warn(IGNORE_AVAILABILITY_SNAPSHOT_MESSAGE_LOGGER_SERVICE, file, exception.getMessage());
+            reload();
+        }
+    }
+
+    /**
+     * Реализация метода для полного перестроения индекса из базы данных.
+     * Этот метод отрабатывает автоматически по расписанию и при запуске приложения без снимка.
+     * Билеты выгружаются из базы данных порциями и сразу переносятся в массивы индекса,
+     * после перестроения индекс записывается в снимок
+     */
+    @Override
+    @Scheduled(cron = "${scheduled.time.from.availability-index}")
+    public void reload() {
+        if (enabled) {
+            LocalDateTime replayFrom = ticketRepository.findCurrentDateTime().minusSeconds(replayOverlapInSeconds);
+            availabilityIndex.reload(consumer -> ticketRepository.streamAvailableTickets(fetchSize, consumer));
+            log.info(RELOAD_AVAILABILITY_INDEX_MESSAGE_LOGGER_SERVICE, availabilityIndex.size());
+            writeSnapshot(replayFrom);
+        }
+    }
+
+    /**
+     * Реализация метода для записи снимка индекса в файл и удаления старых изменений из журнала изменений билетов.
+     * Этот метод отрабатывает автоматически по расписанию. Изменения повторяются с запасом replayOverlapInSeconds
+     * до записи снимка, чтобы не пропустить транзакции, которые записали журнал раньше, а завершились позже
+     */
+    @Override
+    @Scheduled(cron = "${scheduled.time.from.availability-snapshot}")
+    public void writeSnapshot() {
+        if (enabled) {
+            LocalDateTime now = ticketRepository.findCurrentDateTime();
+            writeSnapshot(now.minusSeconds(replayOverlapInSeconds));
+            ticketRepository.deleteTicketChangesBefore(now.minusHours(changeRetentionInHours));
+        }
+    }
+
+    /**
+     * Реализация метода для применения изменения индекса по сообщению, полученному из топика Redis.
+     * Поля билета передаются в сообщении, поэтому база данных не читается.
+     * Сообщения, не относящиеся к индексу, игнорируются
+     *
+     * @param message текстовое сообщение
+     */
+    @Override
+    public void apply(String message) {
+        if (!enabled) {
+            return;
+        }
+        if (message.startsWith(PUT_TICKET_MESSAGE_PREFIX)) {
+            log.info(APPLY_AVAILABILITY_INDEX_MESSAGE_LOGGER_SERVICE, message);
+            availabilityIndex.putTicket(TicketRow.parse(message.substring(PUT_TICKET_MESSAGE_PREFIX.length())).toTicket());
+        } else if (message.startsWith(REMOVE_TICKET_MESSAGE_PREFIX)) {
+            log.info(APPLY_AVAILABILITY_INDEX_MESSAGE_LOGGER_SERVICE, message);
+            String[] values = message.substring(REMOVE_TICKET_MESSAGE_PREFIX.length()).split(SEPARATOR);
+            DepartureKey key = DepartureKey.parse(values[0] + SEPARATOR + values[1]);
+            availabilityIndex.removeTicket(key.routeId(), key.dateTimeDeparture(), Long.valueOf(values[2]));
+        } else if (message.startsWith(REMOVE_ROUTE_MESSAGE_PREFIX)) {
+            log.info(APPLY_AVAILABILITY_INDEX_MESSAGE_LOGGER_SERVICE, message);
+            availabilityIndex.removeRoute(Long.valueOf(message.substring(REMOVE_ROUTE_MESSAGE_PREFIX.length())));
+        }
+    }
+
+    /**
+     * Приватный метод, который записывает снимок индекса в файл. Ошибка записи не останавливает работу индекса,
+     * при следующем запуске индекс будет восстановлен из прежнего снимка или перестроен из базы данных
+     *
+     * @param replayFrom время по часам базы данных, с которого после чтения снимка нужно повторить изменения билетов
+     */
+    private void writeSnapshot(LocalDateTime replayFrom) {
+        Path file = Path.of(snapshotFile);
+        try {
+            int count = availabilityIndex.writeSnapshot(file, replayFrom);
+            log.info(WRITE_AVAILABILITY_SNAPSHOT_MESSAGE_LOGGER_SERVICE, file, count, replayFrom);
+        } catch (IOException exception) {
+            log.error(WRITE_AVAILABILITY_SNAPSHOT_ERROR_MESSAGE_LOGGER_SERVICE, file, exception.getMessage());
+        }
+    }
+
+    /**
+     * Приватный метод, который повторяет на индексе изменения билетов из журнала изменений.
+     * Билет убирается из индекса по ключу отправления до изменения, затем билеты, которые остались в продаже,
+     * загружаются из базы данных одним запросом. Повтор изменения, уже попавшего в снимок, ничего не меняет
+     *
+     * @param replayFrom время по часам базы данных, с которого повторяются изменения
+     * @return Возвращает количество повторенных изменений
+     */
+    private int replayChanges(LocalDateTime replayFrom) {
+        List<Ticket> changes = ticketRepository.findTicketChangesSince(replayFrom);
+        Set<Long> ticketIds = new HashSet<>();
+        for (Ticket change : changes) {
+            availabilityIndex.removeTicket(change.getRouteId(), change.getDateTimeDeparture(), change.getId());
+            ticketIds.add(change.getId());
+        }
+        if (!ticketIds.isEmpty()) {
+            availabilityIndex.putTickets(ticketRepository.findAvailableTicketsByIds(ticketIds));
+        }
+        return changes.size();
+    }
+
+    /**
+     * Приватный метод, который выполняет поиск по индексу и заполняет маршрут и перевозчика найденных билетов
+     * из кэша справочных данных. Промах кэша читает базу данных, поэтому поиск выполняется на планировщике jdbcScheduler
+     *
+     * @param search поиск по индексу
+     * @return Возвращает поток найденных билетов
+     */
+    private Flux<Ticket> find(Callable<List<Ticket>> search) {
+        return Mono.fromCallable(() -> {
+                    List<Ticket> tickets = search.call();
+                    tickets.forEach(ticket -> ticket.setRoute(referenceDataCache.findRouteWithCarrierById(ticket.getRouteId())));
+                    return tickets;
+                })
+                .subscribeOn(jdbcScheduler)
+                .flatMapIterable(tickets -> tickets);
+    }
+
+    /**
+     * Приватный метод, который формирует условие на маршрут: поле маршрута содержит искомую подстроку без учета регистра
+     *
+     * @param field поле маршрута
+     * @param value искомая подстрока
+     * @return Возвращает условие на уникальный идентификатор маршрута
+     */
+    private LongPredicate routeMatches(Function<Route, String> field, String value) {
+        String pattern = value.toLowerCase(Locale.ROOT);
+        return routeId -> field.apply(referenceDataCache.findRouteById(routeId)).toLowerCase(Locale.ROOT).contains(pattern);
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.journey;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Запись, для найденной поездки из одного или нескольких рейсов с пересадками
+ *
+ * @param trips рейсы поездки в порядке следования
+ */
+public record Itinerary(List<Trip> trips) {
+
+    /**
+     * Этот метод возвращает дату и время отправления первого рейса поездки
+     *
+     * @return Возвращает дату и время отправления
+     */
+    public LocalDateTime dateTimeDeparture() {
+        return trips.get(0).dateTimeDeparture();
+    }
+
+    /**
+     * Этот метод возвращает дату и время прибытия последнего рейса поездки
+     *
+     * @return Возвращает дату и время прибытия
+     */
+    public LocalDateTime dateTimeArrival() {
+        return trips.get(trips.size() - 1).dateTimeArrival();
+    }
+}
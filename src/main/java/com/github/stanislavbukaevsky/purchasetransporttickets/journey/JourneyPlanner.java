@@ -0,0 +1,54 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.journey;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.JourneyRequestDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.JourneyResponseDto;
+
+import java.util.List;
+
+/**
+ * Сервис-интерфейс с методами для планирования поездок с пересадками по расписанию в памяти приложения.
+ * В этом интерфейсе прописана только сигнатура методов без реализации
+ */
+public interface JourneyPlanner {
+    /**
+     * Сигнатура метода для поиска поездок с пересадками без обращения к базе данных
+     *
+     * @param journeyRequestDto класс-DTO для запроса от пользователя
+     * @return Возвращает список найденных поездок, упорядоченный по количеству рейсов
+     */
+    List<JourneyResponseDto> findJourneys(JourneyRequestDto journeyRequestDto);
+
+    /**
+     * Сигнатура метода для обновления билета в расписании на всех экземплярах приложения
+     *
+     * @param ticketId уникальный идентификатор билета
+     */
+    void refreshTicket(Long ticketId);
+
+    /**
+     * Сигнатура метода для удаления проданного или удаленного билета из расписания на всех экземплярах приложения
+     *
+     * @param ticketId уникальный идентификатор билета
+     */
+    void removeTicket(Long ticketId);
+
+    /**
+     * Сигнатура метода для обновления рейсов маршрута в расписании на всех экземплярах приложения
+     *
+     * @param routeId уникальный идентификатор маршрута
+     */
+    void refreshRoute(Long routeId);
+
+    /**
+     * Сигнатура метода для полного перестроения расписания из базы данных
+     */
+    void reload();
+
+    /**
+     * Сигнатура метода для применения изменения расписания по сообщению, полученному из топика Redis.
+     * Сообщения, не относящиеся к расписанию, игнорируются
+     *
+     * @param message текстовое сообщение
+     */
+    void apply(String message);
+}
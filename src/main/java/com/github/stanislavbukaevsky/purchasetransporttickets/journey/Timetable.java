@@ -0,0 +1,272 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.journey;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Класс расписания поездок, которое хранится в памяти приложения.
+ * Расписание - это граф, зависящий от времени: пункты являются вершинами, а рейсы - ребрами,
+ * упорядоченными по дате и времени отправления. Поиск поездок выполняется алгоритмом сканирования рейсов
+ * (Connection Scan Algorithm) по раундам: раунд k находит самое раннее прибытие не более чем с k рейсами.
+ * Изменения применяются под блокировкой, поиск читает рейсы без блокировки
+ */
+public class Timetable {
+    private final Object lock = new Object();
+    private final Object reloadLock = new Object();
+    private volatile State state = new State();
+    private List<Consumer<State>> pendingChanges;
+
+    /**
+     * Этот метод добавляет билет в расписание или обновляет его, если билет уже есть в расписании
+     *
+     * @param ticket модель билета в продаже с заполненными маршрутом и перевозчиком
+     */
+    public void putTicket(Ticket ticket) {
+        change(current -> current.put(ticket));
+    }
+
+    /**
+     * Этот метод удаляет билет из расписания. Рейс без билетов в продаже удаляется из расписания
+     *
+     * @param ticketId уникальный идентификатор билета
+     */
+    public void removeTicket(Long ticketId) {
+        change(current -> current.remove(ticketId));
+    }
+
+    /**
+     * Этот метод заменяет все рейсы маршрута в расписании
+     *
+     * @param routeId уникальный идентификатор маршрута
+     * @param tickets билеты маршрута в продаже с заполненными маршрутом и перевозчиком
+     */
+    public void replaceRoute(Long routeId, List<Ticket> tickets) {
+        change(current -> {
+            current.removeRoute(routeId);
+            current.putAll(tickets);
+        });
+    }
+
+    /**
+     * Этот метод полностью перестраивает расписание. Изменения, примененные во время загрузки билетов,
+     * повторяются на новом расписании, поэтому не теряются
+     *
+     * @param loader загрузка всех билетов в продаже с заполненными маршрутом и перевозчиком
+     */
+    public void reload(Supplier<List<Ticket>> loader) {
+        synchronized (reloadLock) {
+            synchronized (lock) {
+                pendingChanges = new ArrayList<>();
+            }
+            try {
+                State reloaded = new State();
+                reloaded.putAll(loader.get());
+                synchronized (lock) {
+                    pendingChanges.forEach(pendingChange -> pendingChange.accept(reloaded));
+                    state = reloaded;
+                }
+            } finally {
+                synchronized (lock) {
+                    pendingChanges = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Этот метод возвращает количество рейсов в расписании
+     *
+     * @return Возвращает количество рейсов
+     */
+    public int size() {
+        return state.edges.size();
+    }
+
+    /**
+     * Этот метод ищет поездки от пункта отправления до пункта назначения.
+     * Для каждого количества рейсов возвращается поездка с самым ранним прибытием,
+     * если она прибывает раньше поездок с меньшим количеством рейсов
+     *
+     * @param departurePoint  пункт отправления
+     * @param destination     пункт назначения
+     * @param departureFrom   дата и время, не раньше которых начинается поездка
+     * @param minimumTransfer минимальное время пересадки между рейсами
+     * @param maximumTrips    наибольшее количество рейсов в поездке
+     * @param horizon         период после начала поездки, в котором рассматриваются рейсы
+     * @return Возвращает список найденных поездок, упорядоченный по количеству рейсов
+     */
+    public List<Itinerary> search(String departurePoint, String destination, LocalDateTime departureFrom,
+                                  Duration minimumTransfer, int maximumTrips, Duration horizon) {
+        String target = Trip.stop(destination);
+        Collection<Edge> edges = state.edges.subMap(
+                new TripKey(departureFrom, Long.MIN_VALUE), true,
+                new TripKey(departureFrom.plus(horizon), Long.MAX_VALUE), true).values();
+
+        Map<String, Label> previous = Map.of(Trip.stop(departurePoint), new Label(departureFrom, null, null));
+        LocalDateTime bestArrival = null;
+        List<Itinerary> itineraries = new ArrayList<>();
+        for (int round = 1; round <= maximumTrips; round++) {
+            Map<String, Label> current = new HashMap<>(previous);
+            for (Edge edge : edges) {
+                LocalDateTime departure = edge.trip().dateTimeDeparture();
+                if (bestArrival != null && !departure.isBefore(bestArrival)) {
+                    break;
+                }
+                Label boarding = previous.get(edge.from());
+                if (boarding == null || departure.isBefore(boarding.readyAt(minimumTransfer))) {
+                    continue;
+                }
+                Label reached = current.get(edge.to());
+                if (reached == null || edge.trip().dateTimeArrival().isBefore(reached.arrival())) {
+                    current.put(edge.to(), new Label(edge.trip().dateTimeArrival(), edge.trip(), boarding));
+                }
+            }
+
+            Label arrived = current.get(target);
+            if (arrived != null && arrived.trip() != null
+                    && (bestArrival == null || arrived.arrival().isBefore(bestArrival))) {
+                bestArrival = arrived.arrival();
+                itineraries.add(arrived.toItinerary());
+            }
+            previous = current;
+        }
+        return itineraries;
+    }
+
+    /**
+     * Приватный метод, который применяет изменение к расписанию и запоминает его на время перестроения расписания
+     *
+     * @param change изменение расписания
+     */
+    private void change(Consumer<State> change) {
+        synchronized (lock) {
+            change.accept(state);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        }
+    }
+
+    /**
+     * Состояние расписания: рейсы, упорядоченные по дате и времени отправления, и рейсы билетов.
+     * Рейсы читаются поиском без блокировки, рейсы билетов используются только при изменениях
+     */
+    private static final class State {
+        private final ConcurrentSkipListMap<TripKey, Edge> edges = new ConcurrentSkipListMap<>();
+        private final Map<Long, TripKey> ticketTrips = new HashMap<>();
+
+        private void put(Ticket ticket) {
+            remove(ticket.getId());
+            TripKey key = TripKey.of(ticket);
+            edges.compute(key, (tripKey, edge) -> edge == null
+                    ? Edge.of(Trip.of(ticket, Map.of(ticket.getId(), ticket.getPrice())))
+                    : edge.with(edge.trip().withTicket(ticket.getId(), ticket.getPrice())));
+            ticketTrips.put(ticket.getId(), key);
+        }
+
+        private void putAll(List<Ticket> tickets) {
+            Map<TripKey, List<Ticket>> trips = new HashMap<>();
+            for (Ticket ticket : tickets) {
+                remove(ticket.getId());
+                trips.computeIfAbsent(TripKey.of(ticket), tripKey -> new ArrayList<>()).add(ticket);
+            }
+            trips.forEach((key, tripTickets) -> {
+                Map<Long, Integer> prices = new HashMap<>();
+                Edge edge = edges.get(key);
+                if (edge != null) {
+                    prices.putAll(edge.trip().ticketPrices());
+                }
+                for (Ticket ticket : tripTickets) {
+                    prices.put(ticket.getId(), ticket.getPrice());
+                    ticketTrips.put(ticket.getId(), key);
+                }
+                edges.put(key, Edge.of(Trip.of(tripTickets.get(0), prices)));
+            });
+        }
+
+        private void remove(Long ticketId) {
+            TripKey key = ticketTrips.remove(ticketId);
+            if (key != null) {
+                edges.computeIfPresent(key, (tripKey, edge) -> {
+                    Trip trip = edge.trip().withoutTicket(ticketId);
+                    return trip == null ? null : edge.with(trip);
+                });
+            }
+        }
+
+        private void removeRoute(Long routeId) {
+            ticketTrips.values().removeIf(key -> key.routeId().equals(routeId));
+            edges.keySet().removeIf(key -> key.routeId().equals(routeId));
+        }
+    }
+
+    /**
+     * Ключ рейса в расписании: дата и время отправления, затем уникальный идентификатор маршрута
+     *
+     * @param dateTimeDeparture дата и время отправления
+     * @param routeId           уникальный идентификатор маршрута
+     */
+    private record TripKey(LocalDateTime dateTimeDeparture, Long routeId) implements Comparable<TripKey> {
+        private static final Comparator<TripKey> ORDER = Comparator.comparing(TripKey::dateTimeDeparture)
+                .thenComparing(TripKey::routeId);
+
+        private static TripKey of(Ticket ticket) {
+            return new TripKey(ticket.getDateTimeDeparture(), ticket.getRoute().getId());
+        }
+
+        @Override
+        public int compareTo(TripKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * Ребро расписания: рейс с заранее вычисленными пунктами отправления и назначения
+     *
+     * @param from пункт отправления
+     * @param to   пункт назначения
+     * @param trip рейс
+     */
+    private record Edge(String from, String to, Trip trip) {
+        private static Edge of(Trip trip) {
+            return new Edge(Trip.stop(trip.departurePoint()), Trip.stop(trip.destination()), trip);
+        }
+
+        private Edge with(Trip trip) {
+            return new Edge(from, to, trip);
+        }
+    }
+
+    /**
+     * Метка пункта в раунде поиска: самое раннее прибытие в пункт и рейс, которым оно достигнуто
+     *
+     * @param arrival  дата и время прибытия в пункт
+     * @param trip     рейс, которым достигнут пункт, или null для пункта отправления
+     * @param previous метка пункта, из которого отправляется рейс
+     */
+    private record Label(LocalDateTime arrival, Trip trip, Label previous) {
+        private LocalDateTime readyAt(Duration minimumTransfer) {
+            return trip == null ? arrival : arrival.plus(minimumTransfer);
+        }
+
+        private Itinerary toItinerary() {
+            LinkedList<Trip> trips = new LinkedList<>();
+            for (Label label = this; label.trip() != null; label = label.previous()) {
+                trips.addFirst(label.trip());
+            }
+            return new Itinerary(List.copyOf(trips));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.journey;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete.CityNames;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Запись, для рейса - одного отправления маршрута, на которое есть билеты в продаже.
+ * Рейс является ребром расписания поездок между пунктом отправления и пунктом назначения маршрута
+ *
+ * @param routeId           уникальный идентификатор маршрута
+ * @param departurePoint    пункт отправления маршрута
+ * @param destination       пункт назначения маршрута
+ * @param companyName       название компании перевозчика
+ * @param dateTimeDeparture дата и время отправления
+ * @param dateTimeArrival   дата и время прибытия
+ * @param ticketPrices      стоимость билетов рейса в продаже по их уникальным идентификаторам
+ */
+public record Trip(Long routeId,
+                   String departurePoint,
+                   String destination,
+                   String companyName,
+                   LocalDateTime dateTimeDeparture,
+                   LocalDateTime dateTimeArrival,
+                   Map<Long, Integer> ticketPrices) {
+
+    /**
+     * Этот метод формирует рейс из билетов одного отправления маршрута
+     *
+     * @param ticket       модель билета с заполненными маршрутом и перевозчиком
+     * @param ticketPrices стоимость билетов рейса по их уникальным идентификаторам
+     * @return Возвращает рейс
+     */
+    static Trip of(Ticket ticket, Map<Long, Integer> ticketPrices) {
+        return new Trip(ticket.getRoute().getId(),
+                ticket.getRoute().getDeparturePoint(),
+                ticket.getRoute().getDestination(),
+                ticket.getRoute().getCarrier().getCompanyName(),
+                ticket.getDateTimeDeparture(),
+                ticket.getDateTimeDeparture().plusMinutes(ticket.getRoute().getDurationInMinutes()),
+                Map.copyOf(ticketPrices));
+    }
+
+    /**
+     * Этот метод формирует пункт расписания из названия пункта отправления или назначения.
+     * Названия сравниваются по ключу {@link CityNames}, то есть без учета регистра и алфавита
+     *
+     * @param name название пункта
+     * @return Возвращает ключ пункта расписания
+     */
+    static String stop(String name) {
+        return CityNames.key(name);
+    }
+
+    /**
+     * Этот метод возвращает копию рейса с добавленным билетом
+     *
+     * @param ticketId уникальный идентификатор билета
+     * @param price    стоимость билета
+     * @return Возвращает рейс с добавленным билетом
+     */
+    Trip withTicket(Long ticketId, Integer price) {
+        Map<Long, Integer> prices = new HashMap<>(ticketPrices);
+        prices.put(ticketId, price);
+        return new Trip(routeId, departurePoint, destination, companyName, dateTimeDeparture, dateTimeArrival, Map.copyOf(prices));
+    }
+
+    /**
+     * Этот метод возвращает копию рейса без билета
+     *
+     * @param ticketId уникальный идентификатор билета
+     * @return Возвращает рейс без билета или null, если в продаже не осталось билетов рейса
+     */
+    Trip withoutTicket(Long ticketId) {
+        Map<Long, Integer> prices = new HashMap<>(ticketPrices);
+        prices.remove(ticketId);
+        return prices.isEmpty() ? null
+                : new Trip(routeId, departurePoint, destination, companyName, dateTimeDeparture, dateTimeArrival, Map.copyOf(prices));
+    }
+
+    /**
+     * Этот метод ищет самый дешевый билет рейса
+     *
+     * @return Возвращает уникальный идентификатор самого дешевого билета рейса
+     */
+    public Long cheapestTicketId() {
+        return ticketPrices.entrySet().stream()
+                .min(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElseThrow();
+    }
+
+    /**
+     * Этот метод возвращает стоимость самого дешевого билета рейса
+     *
+     * @return Возвращает стоимость билета
+     */
+    public Integer price() {
+        return ticketPrices.get(cheapestTicketId());
+    }
+
+    /**
+     * Этот метод возвращает количество билетов рейса в продаже
+     *
+     * @return Возвращает количество свободных мест
+     */
+    public int availableSeats() {
+        return ticketPrices.size();
+    }
+}
@@ -0,0 +1,195 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.journey.impl;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.cache.ReferenceDataCache;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.JourneyLegResponseDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.JourneyRequestDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.JourneyResponseDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.journey.Itinerary;
+import com.github.stanislavbukaevsky.purchasetransporttickets.journey.JourneyPlanner;
+import com.github.stanislavbukaevsky.purchasetransporttickets.journey.Timetable;
+import com.github.stanislavbukaevsky.purchasetransporttickets.journey.Trip;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.MessagePublisher;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.TicketRow;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
+
+/**
+ * Сервис-класс с бизнес-логикой для планирования поездок с пересадками.
+ * Расписание строится из билетов в продаже при запуске приложения, затем обновляется поштучно
+ * при изменении билетов и маршрутов и периодически перестраивается полностью.
+ * Изменения рассылаются остальным экземплярам приложения через топик Redis вместе с полями билета,
+ * а маршрут и перевозчика билета экземпляры, получившие сообщение, берут из кэша справочных данных.
+ * Реализует интерфейс {@link JourneyPlanner}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JourneyPlannerImpl implements JourneyPlanner {
+    private static final String PUT_TICKET_MESSAGE_PREFIX = "journey:put-ticket:";
+    private static final String REMOVE_TICKET_MESSAGE_PREFIX = "journey:remove-ticket:";
+    private static final String REFRESH_ROUTE_MESSAGE_PREFIX = "journey:refresh-route:";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private final Timetable timetable = new Timetable();
+    private final ReferenceDataCache referenceDataCache;
+    private final TicketRepository ticketRepository;
+    private final MessagePublisher messagePublisher;
+    @Value("${journey.minimum-transfer-time-in-minutes}")
+    private Long minimumTransferTimeInMinutes;
+    @Value("${journey.maximum-trips}")
+    private Integer maximumTrips;
+    @Value("${journey.search-horizon-in-hours}")
+    private Long searchHorizonInHours;
+
+    /**
+     * Реализация метода для поиска поездок с пересадками без обращения к базе данных
+     *
+     * @param journeyRequestDto класс-DTO для запроса от пользователя
+     * @return Возвращает список найденных поездок, упорядоченный по количеству рейсов
+     */
+    @Override
+    public List<JourneyResponseDto> findJourneys(JourneyRequestDto journeyRequestDto) {
+        log.info(FIND_JOURNEYS_MESSAGE_LOGGER_SERVICE, journeyRequestDto);
+        return timetable.search(journeyRequestDto.getDeparturePoint(), journeyRequestDto.getDestination(),
+                        LocalDateTime.parse(journeyRequestDto.getDateTimeDeparture(), DATE_TIME_FORMATTER),
+                        Duration.ofMinutes(minimumTransferTimeInMinutes), maximumTrips, Duration.ofHours(searchHorizonInHours))
+                .stream()
+                .map(this::formingJourneyResponseDto)
+                .toList();
+    }
+
+    /**
+     * Реализация метода для обновления билета в расписании на всех экземплярах приложения.
+     * Билет читается из базы данных один раз и передается остальным экземплярам в сообщении.
+     * Билет, которого больше нет в продаже, удаляется из расписания
+     *
+     * @param ticketId уникальный идентификатор билета
+     */
+    @Override
+    public void refreshTicket(Long ticketId) {
+        ticketRepository.findAvailableTicketById(ticketId).ifPresentOrElse(ticket -> {
+            timetable.putTicket(ticket);
+            messagePublisher.publish(PUT_TICKET_MESSAGE_PREFIX + TicketRow.of(ticket));
+        }, () -> removeTicket(ticketId));
+    }
+
+    /**
+     * Реализация метода для удаления проданного или удаленного билета из расписания на всех экземплярах приложения
+     *
+     * @param ticketId уникальный идентификатор билета
+     */
+    @Override
+    public void removeTicket(Long ticketId) {
+        timetable.removeTicket(ticketId);
+        messagePublisher.publish(REMOVE_TICKET_MESSAGE_PREFIX + ticketId);
+    }
+
+    /**
+     * Реализация метода для обновления рейсов маршрута в расписании на всех экземплярах приложения
+     *
+     * @param routeId уникальный идентификатор маршрута
+     */
+    @Override
+    public void refreshRoute(Long routeId) {
+        loadRoute(routeId);
+        messagePublisher.publish(REFRESH_ROUTE_MESSAGE_PREFIX + routeId);
+    }
+
+    /**
+     * Реализация метода для полного перестроения расписания из базы данных.
+     * Этот метод отрабатывает при запуске приложения и затем автоматически по расписанию.
+     * Рейсы, которые уже отправились, в новое расписание не попадают
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${scheduled.time.from.journey-timetable}")
+    public void reload() {
+        timetable.reload(() -> ticketRepository.findAvailableTicketsDepartingAfter(LocalDateTime.now()));
+        log.info(RELOAD_TIMETABLE_MESSAGE_LOGGER_SERVICE, timetable.size());
+    }
+
+    /**
+     * Реализация метода для применения изменения расписания по сообщению, полученному из топика Redis.
+     * Поля билета передаются в сообщении, поэтому база данных читается только при обновлении рейсов маршрута.
+     * Сообщения, не относящиеся к расписанию, игнорируются
+     *
+     * @param message текстовое сообщение
+     */
+    @Override
+    public void apply(String message) {
+        if (message.startsWith(PUT_TICKET_MESSAGE_PREFIX)) {
+            log.info(APPLY_TIMETABLE_MESSAGE_LOGGER_SERVICE, message);
+            Ticket ticket = TicketRow.parse(message.substring(PUT_TICKET_MESSAGE_PREFIX.length())).toTicket();
+            ticket.setRoute(referenceDataCache.findRouteWithCarrierById(ticket.getRouteId()));
+            timetable.putTicket(ticket);
+        } else if (message.startsWith(REMOVE_TICKET_MESSAGE_PREFIX)) {
+            log.info(APPLY_TIMETABLE_MESSAGE_LOGGER_SERVICE, message);
+            timetable.removeTicket(Long.valueOf(message.substring(REMOVE_TICKET_MESSAGE_PREFIX.length())));
+        } else if (message.startsWith(REFRESH_ROUTE_MESSAGE_PREFIX)) {
+            log.info(APPLY_TIMETABLE_MESSAGE_LOGGER_SERVICE, message);
+            loadRoute(Long.valueOf(message.substring(REFRESH_ROUTE_MESSAGE_PREFIX.length())));
+        }
+    }
+
+    /**
+     * Приватный метод, который загружает рейсы маршрута из базы данных в расписание
+     *
+     * @param routeId уникальный идентификатор маршрута
+     */
+    private void loadRoute(Long routeId) {
+        timetable.replaceRoute(routeId, ticketRepository.findAvailableTicketsByRouteIdDepartingAfter(routeId, LocalDateTime.now()));
+    }
+
+    /**
+     * Приватный метод для генерации ответа с информацией о найденной поездке
+     *
+     * @param itinerary найденная поездка
+     * @return Возвращает сгенерированный ответ с информацией о поездке и ее рейсах через DTO-класс
+     */
+    private JourneyResponseDto formingJourneyResponseDto(Itinerary itinerary) {
+        List<JourneyLegResponseDto> legs = itinerary.trips().stream()
+                .map(this::formingJourneyLegResponseDto)
+                .toList();
+        JourneyResponseDto journeyResponseDto = new JourneyResponseDto();
+        journeyResponseDto.setLegs(legs);
+        journeyResponseDto.setTransfers(legs.size() - 1);
+        journeyResponseDto.setDateTimeDeparture(itinerary.dateTimeDeparture());
+        journeyResponseDto.setDateTimeArrival(itinerary.dateTimeArrival());
+        journeyResponseDto.setDurationInMinutes(Duration.between(itinerary.dateTimeDeparture(), itinerary.dateTimeArrival()).toMinutes());
+        journeyResponseDto.setTotalPrice(legs.stream().mapToInt(JourneyLegResponseDto::getPrice).sum());
+        return journeyResponseDto;
+    }
+
+    /**
+     * Приватный метод для генерации ответа с информацией об одном рейсе поездки
+     *
+     * @param trip рейс поездки
+     * @return Возвращает сгенерированный ответ с информацией о рейсе через DTO-класс
+     */
+    private JourneyLegResponseDto formingJourneyLegResponseDto(Trip trip) {
+        JourneyLegResponseDto journeyLegResponseDto = new JourneyLegResponseDto();
+        journeyLegResponseDto.setTicketId(trip.cheapestTicketId());
+        journeyLegResponseDto.setRouteId(trip.routeId());
+        journeyLegResponseDto.setDeparturePoint(trip.departurePoint());
+        journeyLegResponseDto.setDestination(trip.destination());
+        journeyLegResponseDto.setCompanyName(trip.companyName());
+        journeyLegResponseDto.setDateTimeDeparture(trip.dateTimeDeparture());
+        journeyLegResponseDto.setDateTimeArrival(trip.dateTimeArrival());
+        journeyLegResponseDto.setPrice(trip.price());
+        journeyLegResponseDto.setAvailableSeats(trip.availableSeats());
+        return journeyLegResponseDto;
+    }
+}
@@ -21,6 +21,8 @@ public interface TicketMapper {
      * @return Возвращает сформированную модель с информацией о билете
      */
     @Mapping(ignore = true, target = "dateTimeDeparture")
+    @Mapping(ignore = true, target = "availableSeats")
+    @Mapping(ignore = true, target = "version")
     Ticket toTicketModel(TicketRequestDto ticketRequestDto);
 
     /**
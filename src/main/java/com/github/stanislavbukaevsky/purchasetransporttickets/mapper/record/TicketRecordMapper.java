@@ -23,7 +23,8 @@ public class TicketRecordMapper implements RecordUnmapper<Ticket, TicketsRecord>
     private final DSLContext dsl;
 
     /**
-     * Этот метод преобразует модель билета в сущность
+     * Этот метод преобразует модель билета в сущность билета в продаже без покупателя.
+     * Версия билета не переносится из модели: ее задает и увеличивает база данных
      *
      * @param ticket модель билета
      * @return Возвращает сформированную сущность билета
@@ -37,26 +38,9 @@ public class TicketRecordMapper implements RecordUnmapper<Ticket, TicketsRecord>
         ticketsRecord.setSeatNumber(ticket.getSeatNumber());
         ticketsRecord.setPrice(ticket.getPrice());
         ticketsRecord.setDateTimeTicketIssuance(ticket.getDateTimeTicketIssuance());
+        ticketsRecord.setUserId(null);
         ticketsRecord.setTicketStatus(TicketStatus.AVAILABLE_FOR_SALE.name());
-        return ticketsRecord;
-    }
-
-    /**
-     * Этот метод преобразует модель билета в сущность с дополнительными полями.
-     * Служит для покупки билета пользователем
-     *
-     * @param ticket модель билета
-     * @return Возвращает сформированную сущность билета
-     */
-    public @NotNull TicketsRecord unmapBuying(Ticket ticket) {
-        TicketsRecord ticketsRecord = dsl.newRecord(Tickets.TICKETS, ticket);
-        ticketsRecord.setRouteId(ticket.getRouteId());
-        ticketsRecord.setDateTimeDeparture(ticket.getDateTimeDeparture());
-        ticketsRecord.setSeatNumber(ticket.getSeatNumber());
-        ticketsRecord.setPrice(ticket.getPrice());
-        ticketsRecord.setDateTimeTicketIssuance(ticket.getDateTimeTicketIssuance());
-        ticketsRecord.setUserId(ticket.getUserId());
-        ticketsRecord.setTicketStatus(TicketStatus.NOT_ON_SALE.name());
+        ticketsRecord.changed(Tickets.TICKETS.VERSION, false);
         return ticketsRecord;
     }
 }
@@ -21,4 +21,6 @@ public class Ticket implements Serializable {
     private User user;
     private Long userId;
     private TicketStatus ticketStatus;
+    private Integer availableSeats;
+    private Long version;
 }
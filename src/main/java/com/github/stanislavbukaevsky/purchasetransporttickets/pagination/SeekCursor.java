@@ -0,0 +1,78 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.pagination;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.exception.InvalidCursorException;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.INVALID_CURSOR_EXCEPTION_MESSAGE_SERVICE;
+
+/**
+ * Запись, для курсора постраничной выборки по ключу (seek-пагинации).
+ * Курсор хранит ключ сортировки последней записи страницы, поэтому следующая страница
+ * выбирается по индексу без пропуска предыдущих строк. Пользователю курсор передается в виде непрозрачной строки
+ *
+ * @param dateTime дата и время отправления последнего билета страницы
+ * @param id       уникальный идентификатор последней записи страницы
+ * @param price    стоимость последнего билета страницы для сортировки по стоимости
+ */
+public record SeekCursor(LocalDateTime dateTime, Long id, Integer price) {
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Этот конструктор создает курсор для сортировки по дате и времени отправления или по идентификатору
+     *
+     * @param dateTime дата и время отправления последнего билета страницы
+     * @param id       уникальный идентификатор последней записи страницы
+     */
+    public SeekCursor(LocalDateTime dateTime, Long id) {
+        this(dateTime, id, null);
+    }
+
+    /**
+     * Этот метод формирует курсор, указывающий на переданный билет
+     *
+     * @param ticket модель последнего билета страницы
+     * @return Возвращает курсор следующей страницы
+     */
+    public static SeekCursor of(Ticket ticket) {
+        return new SeekCursor(ticket.getDateTimeDeparture(), ticket.getId(), ticket.getPrice());
+    }
+
+    /**
+     * Этот метод преобразует непрозрачную строку курсора, полученную от пользователя, в курсор
+     *
+     * @param cursor строка курсора
+     * @return Возвращает курсор или null, если строка курсора пустая
+     * @throws InvalidCursorException если строка курсора повреждена
+     */
+    public static SeekCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(Pattern.quote(SEPARATOR), -1);
+            return new SeekCursor(values[0].isEmpty() ? null : LocalDateTime.parse(values[0]),
+                    Long.valueOf(values[1]),
+                    values.length < 3 || values[2].isEmpty() ? null : Integer.valueOf(values[2]));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException exception) {
+            throw new InvalidCursorException(INVALID_CURSOR_EXCEPTION_MESSAGE_SERVICE + cursor);
+        }
+    }
+
+    /**
+     * Этот метод преобразует курсор в непрозрачную строку для ответа пользователю
+     *
+     * @return Возвращает строку курсора
+     */
+    public String encode() {
+        String value = (dateTime == null ? "" : dateTime.toString()) + SEPARATOR + id
+                + SEPARATOR + (price == null ? "" : price.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.redis;
+
+import java.util.UUID;
+
+/**
+ * Запись, для идентификатора экземпляра приложения, которым помечаются сообщения топика Redis.
+ * Экземпляр, отправивший сообщение, уже применил изменение у себя, поэтому свои сообщения он пропускает
+ *
+ * @param value случайный идентификатор экземпляра
+ */
+public record InstanceId(String value) {
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Этот метод создает новый случайный идентификатор экземпляра
+     *
+     * @return Возвращает идентификатор экземпляра
+     */
+    public static InstanceId random() {
+        return new InstanceId(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Этот метод помечает сообщение идентификатором этого экземпляра
+     *
+     * @param text текстовое сообщение
+     * @return Возвращает сообщение с идентификатором экземпляра перед текстом
+     */
+    public String tag(String text) {
+        return value + SEPARATOR + text;
+    }
+
+    /**
+     * Этот метод снимает с сообщения идентификатор экземпляра, который его отправил.
+     * Сообщение без идентификатора возвращается без изменений
+     *
+     * @param message сообщение из топика
+     * @return Возвращает текст сообщения или null, если сообщение отправлено этим экземпляром
+     */
+    public String untag(String message) {
+        int index = message.indexOf(SEPARATOR);
+        if (index < 0) {
+            return message;
+        }
+        return value.equals(message.substring(0, index)) ? null : message.substring(index + SEPARATOR.length());
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.redis;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Запись, для полей билета в продаже, которые передаются в сообщениях топика Redis.
+ * Экземпляры приложения, получившие сообщение, обновляют расписание и индекс билетов без обращения к базе данных,
+ * а маршрут и перевозчика билета берут из кэша справочных данных
+ *
+ * @param id                     уникальный идентификатор билета
+ * @param routeId                уникальный идентификатор маршрута
+ * @param dateTimeDeparture      дата и время отправления
+ * @param dateTimeTicketIssuance дата и время выпуска билета
+ * @param seatNumber             номер места
+ * @param price                  стоимость билета
+ */
+public record TicketRow(Long id,
+                        Long routeId,
+                        LocalDateTime dateTimeDeparture,
+                        LocalDateTime dateTimeTicketIssuance,
+                        Integer seatNumber,
+                        Integer price) {
+    private static final String SEPARATOR = ":";
+    private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
+    /**
+     * Этот метод формирует строку из модели билета
+     *
+     * @param ticket модель билета с заполненным маршрутом или его уникальным идентификатором
+     * @return Возвращает строку билета
+     */
+    public static TicketRow of(Ticket ticket) {
+        Long routeId = ticket.getRouteId() != null ? ticket.getRouteId() : ticket.getRoute().getId();
+        return new TicketRow(ticket.getId(), routeId, ticket.getDateTimeDeparture(), ticket.getDateTimeTicketIssuance(),
+                ticket.getSeatNumber(), ticket.getPrice());
+    }
+
+    /**
+     * Этот метод восстанавливает строку билета из текстовой записи {@link #toString()}
+     *
+     * @param value текстовая запись строки
+     * @return Возвращает строку билета
+     */
+    public static TicketRow parse(String value) {
+        String[] values = value.split(SEPARATOR);
+        return new TicketRow(Long.valueOf(values[0]), Long.valueOf(values[1]),
+                EPOCH.plus(Long.parseLong(values[2]), ChronoUnit.MICROS),
+                EPOCH.plus(Long.parseLong(values[3]), ChronoUnit.MICROS),
+                Integer.valueOf(values[4]), Integer.valueOf(values[5]));
+    }
+
+    /**
+     * Этот метод формирует модель билета в продаже из строки
+     *
+     * @return Возвращает модель билета с заполненным уникальным идентификатором маршрута без самого маршрута
+     */
+    public Ticket toTicket() {
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setRouteId(routeId);
+        ticket.setDateTimeDeparture(dateTimeDeparture);
+        ticket.setDateTimeTicketIssuance(dateTimeTicketIssuance);
+        ticket.setSeatNumber(seatNumber);
+        ticket.setPrice(price);
+        ticket.setTicketStatus(TicketStatus.AVAILABLE_FOR_SALE);
+        return ticket;
+    }
+
+    /**
+     * Этот метод формирует текстовую запись строки для сообщений топика Redis: поля билета, разделенные двоеточием.
+     * Даты записываются в микросекундах от начала эпохи, с точностью PostgreSQL
+     *
+     * @return Возвращает текстовую запись строки
+     */
+    @Override
+    public String toString() {
+        return id + SEPARATOR + routeId + SEPARATOR + ChronoUnit.MICROS.between(EPOCH, dateTimeDeparture)
+                + SEPARATOR + ChronoUnit.MICROS.between(EPOCH, dateTimeTicketIssuance)
+                + SEPARATOR + seatNumber + SEPARATOR + price;
+    }
+}
@@ -1,24 +1,26 @@
 package com.github.stanislavbukaevsky.purchasetransporttickets.redis.impl;
 
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.InstanceId;
 import com.github.stanislavbukaevsky.purchasetransporttickets.redis.MessagePublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.stereotype.Service;
 
 import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.PUBLISH_MESSAGE_LOGGER_SERVICE;
 
 /**
  * Сервис-класс с бизнес-логикой для публикации сообщений в топик Redis.
+ * Экземпляр создается в {@link com.github.stanislavbukaevsky.purchasetransporttickets.configuration.RedisConfiguration}.
+ * Сообщения помечаются идентификатором экземпляра приложения, чтобы он не применял свои изменения повторно.
  * Реализует интерфейс {@link MessagePublisher}
  */
 @Slf4j
-@Service
 @RequiredArgsConstructor
 public class MessagePublisherImpl implements MessagePublisher {
     private final RedisTemplate<String, Object> redisTemplate;
     private final ChannelTopic channelTopic;
+    private final InstanceId instanceId;
 
     /**
      * Реализация метода для отправки в топик нового сообщения
@@ -28,6 +30,6 @@ public class MessagePublisherImpl implements MessagePublisher {
     @Override
     public void publish(String message) {
         log.info(PUBLISH_MESSAGE_LOGGER_SERVICE, message);
-        redisTemplate.convertAndSend(channelTopic.getTopic(), message);
+        redisTemplate.convertAndSend(channelTopic.getTopic(), instanceId.tag(message));
     }
 }
@@ -1,33 +1,61 @@
 package com.github.stanislavbukaevsky.purchasetransporttickets.redis.impl;
 
+import com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete.CityAutocomplete;
+import com.github.stanislavbukaevsky.purchasetransporttickets.cache.ReferenceDataCache;
+import com.github.stanislavbukaevsky.purchasetransporttickets.inventory.TicketInventory;
+import com.github.stanislavbukaevsky.purchasetransporttickets.journey.JourneyPlanner;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.InstanceId;
+import com.github.stanislavbukaevsky.purchasetransporttickets.seatmap.SeatAllocator;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.ON_MESSAGE_LISTENER_MESSAGE_LOGGER_SERVICE;
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.SKIP_OWN_MESSAGE_LOGGER_SERVICE;
 
 /**
  * Сервис-класс с бизнес-логикой для получения сообщений из топика Redis.
+ * Сообщения о сбросе справочных данных передаются в локальный кэш, об изменении расписания - планировщику поездок,
+ * о перестроении словаря подсказок - сервису подсказок названий пунктов, об изменении карт мест - сервису выбора мест,
+ * а об изменении билетов в продаже - индексу билетов в продаже.
+ * Свои сообщения экземпляр приложения пропускает: изменения из них он применил до публикации.
  * Реализует интерфейс {@link MessageListener}
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class MessageSubscriberImpl implements MessageListener {
-    public static List<String> messages = new ArrayList<String>();
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ReferenceDataCache referenceDataCache;
+    private final JourneyPlanner journeyPlanner;
+    private final CityAutocomplete cityAutocomplete;
+    private final SeatAllocator seatAllocator;
+    private final TicketInventory ticketInventory;
+    private final InstanceId instanceId;
 
     /**
-     * Реализация метода для получения нового сообщения из топика
+     * Реализация метода для получения нового сообщения из топика.
+     * Тело сообщения раскодируется тем же сериализатором, которым его записал {@link MessagePublisherImpl}
      *
      * @param message объект сообщения
      * @param pattern массив байт
      */
     @Override
     public void onMessage(Message message, byte[] pattern) {
-        log.info(ON_MESSAGE_LISTENER_MESSAGE_LOGGER_SERVICE + new String(message.getBody()));
-        messages.add(message.toString());
+        String tagged = String.valueOf(redisTemplate.getValueSerializer().deserialize(message.getBody()));
+        String text = instanceId.untag(tagged);
+        if (text == null) {
+            log.debug(SKIP_OWN_MESSAGE_LOGGER_SERVICE, tagged);
+            return;
+        }
+        log.info(ON_MESSAGE_LISTENER_MESSAGE_LOGGER_SERVICE, text);
+        referenceDataCache.evict(text);
+        journeyPlanner.apply(text);
+        cityAutocomplete.apply(text);
+        seatAllocator.apply(text);
+        ticketInventory.apply(text);
     }
 }
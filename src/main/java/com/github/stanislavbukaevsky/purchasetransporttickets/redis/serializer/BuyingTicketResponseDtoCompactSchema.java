@@ -0,0 +1,73 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.redis.serializer;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.BuyingTicketResponseDto;
+
+/**
+ * Класс схемы компактного формата для ответа с информацией о купленном транспортном билете.
+ * Используется для купленных билетов в кэше Spring
+ */
+final class BuyingTicketResponseDtoCompactSchema implements CompactSchema<BuyingTicketResponseDto> {
+    static final int ID = 18;
+
+    @Override
+    public int id() {
+        return ID;
+    }
+
+    @Override
+    public Class<BuyingTicketResponseDto> type() {
+        return BuyingTicketResponseDto.class;
+    }
+
+    @Override
+    public void write(CompactWriter writer, BuyingTicketResponseDto dto) {
+        writer.writeVarLong(CompactWriter.presence(dto.getId(), dto.getRouteId(), dto.getDeparturePoint(),
+                dto.getDestination(), dto.getDurationInMinutes(), dto.getDateTimeDeparture(),
+                dto.getDateTimeTicketIssuance(), dto.getSeatNumber(), dto.getPrice(), dto.getCarrierId(),
+                dto.getCompanyName(), dto.getPhoneNumber(), dto.getTicketStatus(), dto.getLogin(),
+                dto.getFirstName(), dto.getMiddleName(), dto.getLastName(), dto.getRole()));
+        writer.writeLong(dto.getId());
+        writer.writeLong(dto.getRouteId());
+        writer.writeString(dto.getDeparturePoint());
+        writer.writeString(dto.getDestination());
+        writer.writeInt(dto.getDurationInMinutes());
+        writer.writeDateTime(dto.getDateTimeDeparture());
+        writer.writeDateTime(dto.getDateTimeTicketIssuance());
+        writer.writeInt(dto.getSeatNumber());
+        writer.writeInt(dto.getPrice());
+        writer.writeLong(dto.getCarrierId());
+        writer.writeString(dto.getCompanyName());
+        writer.writeString(dto.getPhoneNumber());
+        writer.writeString(dto.getTicketStatus());
+        writer.writeString(dto.getLogin());
+        writer.writeString(dto.getFirstName());
+        writer.writeString(dto.getMiddleName());
+        writer.writeString(dto.getLastName());
+        writer.writeString(dto.getRole());
+    }
+
+    @Override
+    public BuyingTicketResponseDto read(CompactReader reader) {
+        long mask = reader.readVarLong();
+        BuyingTicketResponseDto dto = new BuyingTicketResponseDto();
+        dto.setId(reader.readLong(mask, 0));
+        dto.setRouteId(reader.readLong(mask, 1));
+        dto.setDeparturePoint(reader.readString(mask, 2));
+        dto.setDestination(reader.readString(mask, 3));
+        dto.setDurationInMinutes(reader.readInt(mask, 4));
+        dto.setDateTimeDeparture(reader.readDateTime(mask, 5));
+        dto.setDateTimeTicketIssuance(reader.readDateTime(mask, 6));
+        dto.setSeatNumber(reader.readInt(mask, 7));
+        dto.setPrice(reader.readInt(mask, 8));
+        dto.setCarrierId(reader.readLong(mask, 9));
+        dto.setCompanyName(reader.readString(mask, 10));
+        dto.setPhoneNumber(reader.readString(mask, 11));
+        dto.setTicketStatus(reader.readString(mask, 12));
+        dto.setLogin(reader.readString(mask, 13));
+        dto.setFirstName(reader.readString(mask, 14));
+        dto.setMiddleName(reader.readString(mask, 15));
+        dto.setLastName(reader.readString(mask, 16));
+        dto.setRole(reader.readString(mask, 17));
+        return dto;
+    }
+}
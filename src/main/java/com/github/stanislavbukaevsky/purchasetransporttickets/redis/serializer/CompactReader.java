@@ -0,0 +1,108 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.redis.serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * Класс чтения значений, записанных {@link CompactWriter}.
+ * Методы чтения полей объекта принимают маску заполненных полей и номер поля и возвращают null для пустого поля
+ */
+final class CompactReader {
+    private final byte[] buffer;
+    private int position;
+
+    /**
+     * Этот конструктор создает чтение из массива байт, начиная с указанной позиции
+     *
+     * @param buffer   массив байт
+     * @param position позиция первого байта
+     */
+    CompactReader(byte[] buffer, int position) {
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    int readByte() {
+        return buffer[position++] & 0xFF;
+    }
+
+    byte[] readBytes() {
+        int length = readLength();
+        byte[] bytes = new byte[length];
+        System.arraycopy(buffer, position, bytes, 0, length);
+        position += length;
+        return bytes;
+    }
+
+    long readVarLong() {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte current = buffer[position++];
+            value |= (long) (current & 0x7F) << shift;
+            if (current >= 0) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Этот метод читает длину строки, массива байт или списка. Каждый байт или элемент занимает хотя бы один байт,
+     * поэтому длина больше числа оставшихся байт означает поврежденное значение
+     *
+     * @return Возвращает длину
+     * @throws IndexOutOfBoundsException если длина отрицательна или больше числа оставшихся байт
+     */
+    int readLength() {
+        long length = readVarLong();
+        return Objects.checkIndex((int) length == length ? (int) length : -1, buffer.length - position + 1);
+    }
+
+    long readZigZag() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Этот метод читает поле типа Long
+     *
+     * @param mask  маска заполненных полей объекта
+     * @param field номер поля в схеме
+     * @return Возвращает значение поля или null, если поле пустое
+     */
+    Long readLong(long mask, int field) {
+        return isPresent(mask, field) ? readZigZag() : null;
+    }
+
+    Integer readInt(long mask, int field) {
+        return isPresent(mask, field) ? (int) readZigZag() : null;
+    }
+
+    String readString(long mask, int field) {
+        return isPresent(mask, field) ? readString() : null;
+    }
+
+    String readString() {
+        int length = readLength();
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    LocalDateTime readDateTime(long mask, int field) {
+        if (!isPresent(mask, field)) {
+            return null;
+        }
+        long epochSecond = readZigZag();
+        return LocalDateTime.ofEpochSecond(epochSecond, (int) readVarLong(), ZoneOffset.UTC);
+    }
+
+    int position() {
+        return position;
+    }
+
+    private static boolean isPresent(long mask, int field) {
+        return (mask & 1L << field) != 0;
+    }
+}
@@ -0,0 +1,224 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.redis.serializer;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.*;
+
+/**
+ * Класс сериализатора значений Redis в компактном двоичном формате.
+ * Первый байт значения - формат: несжатое значение или значение, сжатое LZ4. Значения длиннее порога сжатия
+ * сжимаются, если сжатие уменьшает размер. Затем записывается тег типа и само значение: строки, числа и списки
+ * записываются напрямую, модели и DTO - по схемам {@link CompactSchema} без имен классов и полей.
+ * Значения остальных типов записываются сериализацией JDK внутри компактного формата.
+ * Значения, записанные сериализацией JDK до перехода на компактный формат, по-прежнему читаются,
+ * а значения неизвестного формата или схемы читаются как null, поэтому для кэша это промах, а не ошибка
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+    private static final byte PLAIN = 1;
+    private static final byte COMPRESSED = 2;
+    private static final byte JDK_STREAM_MAGIC = (byte) 0xAC;
+    private static final int NULL_TAG = 0;
+    private static final int STRING_TAG = 1;
+    private static final int LONG_TAG = 2;
+    private static final int LIST_TAG = 3;
+    private static final int JDK_TAG = 4;
+    private static final int INITIAL_CAPACITY = 128;
+    private static final int MAX_COMPRESSION_RATIO = 255;
+    private static final Object UNKNOWN = new Object();
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+    private final Map<Class<?>, CompactSchema<?>> schemasByType = new HashMap<>();
+    private final Map<Integer, CompactSchema<?>> schemasById = new HashMap<>();
+    private final JdkSerializationRedisSerializer jdkSerializer = new JdkSerializationRedisSerializer();
+    private final int compressionThreshold;
+
+    /**
+     * Этот конструктор создает сериализатор со схемами билета и ответов с информацией о билетах
+     *
+     * @param compressionThreshold размер значения в байтах, начиная с которого значение сжимается, или 0 без сжатия
+     */
+    public CompactRedisSerializer(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+        register(new TicketCompactSchema());
+        register(new TicketResponseDtoCompactSchema());
+        register(new BuyingTicketResponseDtoCompactSchema());
+    }
+
+    /**
+     * Этот метод записывает значение в компактном формате
+     *
+     * @param value значение
+     * @return Возвращает массив байт значения
+     * @throws SerializationException если значение не удалось записать
+     */
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        CompactWriter writer = new CompactWriter(INITIAL_CAPACITY);
+        writer.writeByte(PLAIN);
+        writeValue(writer, value);
+        if (compressionThreshold > 0 && writer.size() > compressionThreshold) {
+            byte[] compressed = compress(writer);
+            if (compressed.length < writer.size()) {
+                return compressed;
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Этот метод читает значение, записанное в компактном формате или сериализацией JDK
+     *
+     * @param bytes массив байт значения
+     * @return Возвращает прочитанное значение или null, если формат или схема значения неизвестны
+     * @throws SerializationException если значение повреждено
+     */
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            Object value = switch (bytes[0]) {
+                case PLAIN -> readValue(new CompactReader(bytes, 1));
+                case COMPRESSED -> readValue(new CompactReader(decompress(bytes), 0));
+                case JDK_STREAM_MAGIC -> jdkSerializer.deserialize(bytes);
+                default -> null;
+            };
+            return value == UNKNOWN ? null : value;
+        } catch (RuntimeException exception) {
+            throw new SerializationException(CORRUPT_REDIS_VALUE_EXCEPTION_MESSAGE_SERVICE, exception);
+        }
+    }
+
+    /**
+     * Приватный метод, который регистрирует схему компактного формата
+     *
+     * @param schema схема
+     */
+    private void register(CompactSchema<?> schema) {
+        schemasByType.put(schema.type(), schema);
+        schemasById.put(schema.id(), schema);
+    }
+
+    /**
+     * Приватный метод, который записывает тег типа и значение
+     *
+     * @param writer запись компактного формата
+     * @param value  значение
+     */
+    @SuppressWarnings("unchecked")
+    private void writeValue(CompactWriter writer, Object value) {
+        if (value == null) {
+            writer.writeVarLong(NULL_TAG);
+        } else if (value instanceof String string) {
+            writer.writeVarLong(STRING_TAG);
+            writer.writeString(string);
+        } else if (value instanceof Long number) {
+            writer.writeVarLong(LONG_TAG);
+            writer.writeZigZag(number);
+        } else if (value instanceof List<?> list) {
+            writer.writeVarLong(LIST_TAG);
+            writer.writeVarLong(list.size());
+            for (Object element : list) {
+                writeValue(writer, element);
+            }
+        } else {
+            CompactSchema<Object> schema = (CompactSchema<Object>) schemasByType.get(value.getClass());
+            if (schema == null) {
+                writer.writeVarLong(JDK_TAG);
+                writer.writeBytes(jdkSerializer.serialize(value));
+            } else {
+                writer.writeVarLong(schema.id());
+                schema.write(writer, value);
+            }
+        }
+    }
+
+    /**
+     * Приватный метод, который читает тег типа и значение.
+     * Длина значения неизвестной схемы тоже неизвестна, поэтому дальше значение не читается:
+     * список с таким элементом целиком считается значением неизвестной схемы, а пустые элементы списка сохраняются
+     *
+     * @param reader чтение компактного формата
+     * @return Возвращает прочитанное значение или UNKNOWN, если схема значения неизвестна
+     */
+    private Object readValue(CompactReader reader) {
+        int tag = (int) reader.readVarLong();
+        switch (tag) {
+            case NULL_TAG:
+                return null;
+            case STRING_TAG:
+                return reader.readString();
+            case LONG_TAG:
+                return reader.readZigZag();
+            case LIST_TAG:
+                int size = reader.readLength();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    Object element = readValue(reader);
+                    if (element == UNKNOWN) {
+                        return UNKNOWN;
+                    }
+                    list.add(element);
+                }
+                return list;
+            case JDK_TAG:
+                return jdkSerializer.deserialize(reader.readBytes());
+            default:
+                CompactSchema<?> schema = schemasById.get(tag);
+                return schema == null ? UNKNOWN : schema.read(reader);
+        }
+    }
+
+    /**
+     * Приватный метод, который сжимает записанное значение без байта формата
+     *
+     * @param writer запись компактного формата со значением
+     * @return Возвращает сжатое значение с байтом формата и размером несжатого значения
+     */
+    private static byte[] compress(CompactWriter writer) {
+        int length = writer.size() - 1;
+        CompactWriter compressed = new CompactWriter(COMPRESSOR.maxCompressedLength(length) + 6);
+        compressed.writeByte(COMPRESSED);
+        compressed.writeVarLong(length);
+        int offset = compressed.size();
+        byte[] target = compressed.buffer();
+        int compressedLength = COMPRESSOR.compress(writer.buffer(), 1, length, target, offset, target.length - offset);
+        return Arrays.copyOf(target, offset + compressedLength);
+    }
+
+    /**
+     * Приватный метод, который распаковывает сжатое значение.
+     * Размер несжатого значения проверяется до выделения памяти: LZ4 не сжимает больше чем в 255 раз,
+     * поэтому поврежденный размер приводит к ошибке чтения, а не к выделению огромного массива.
+     * Распаковка не выходит за границы сжатого значения, поэтому поврежденное или обрезанное значение
+     * тоже приводит к ошибке чтения
+     *
+     * @param bytes сжатое значение с байтом формата
+     * @return Возвращает несжатое значение без байта формата
+     */
+    private static byte[] decompress(byte[] bytes) {
+        CompactReader reader = new CompactReader(bytes, 1);
+        int length = (int) reader.readVarLong();
+        Objects.checkIndex(length, (bytes.length - reader.position()) * MAX_COMPRESSION_RATIO + 1);
+        byte[] result = new byte[length];
+        int decompressedLength = DECOMPRESSOR.decompress(bytes, reader.position(), bytes.length - reader.position(), result, 0);
+        Objects.checkFromIndexSize(0, length, decompressedLength);
+        return result;
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.redis.serializer;
+
+/**
+ * Интерфейс схемы компактного двоичного формата для одного типа значений.
+ * Схема записывает поля в фиксированном порядке без имен полей и классов, поэтому порядок и состав полей
+ * нельзя менять без смены идентификатора схемы. Значения со старым идентификатором после смены
+ * не читаются и для кэша считаются промахом
+ *
+ * @param <T> тип значений схемы
+ */
+interface CompactSchema<T> {
+    /**
+     * Сигнатура метода, который возвращает идентификатор схемы, записываемый перед каждым значением
+     *
+     * @return Возвращает идентификатор схемы
+     */
+    int id();
+
+    /**
+     * Сигнатура метода, который возвращает тип значений схемы
+     *
+     * @return Возвращает класс значений схемы
+     */
+    Class<T> type();
+
+    /**
+     * Сигнатура метода записи значения
+     *
+     * @param writer запись компактного формата
+     * @param value  значение
+     */
+    void write(CompactWriter writer, T value);
+
+    /**
+     * Сигнатура метода чтения значения
+     *
+     * @param reader чтение компактного формата
+     * @return Возвращает прочитанное значение
+     */
+    T read(CompactReader reader);
+}
@@ -0,0 +1,121 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.redis.serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Класс записи значений в компактном двоичном формате.
+ * Целые числа записываются переменной длиной (7 бит в байте), знаковые - с зигзаг-кодированием,
+ * поэтому небольшие идентификаторы, номера мест и стоимости занимают один-три байта.
+ * Поля объекта записываются по схеме без имен: сначала маска заполненных полей, затем только заполненные поля
+ */
+final class CompactWriter {
+    private byte[] buffer;
+    private int size;
+
+    /**
+     * Этот конструктор создает запись с буфером начальной емкости
+     *
+     * @param capacity начальная емкость буфера в байтах
+     */
+    CompactWriter(int capacity) {
+        this.buffer = new byte[capacity];
+    }
+
+    /**
+     * Этот метод формирует маску заполненных полей объекта: бит поля установлен, если значение поля не null
+     *
+     * @param values значения полей в порядке схемы, не больше 64
+     * @return Возвращает маску заполненных полей
+     */
+    static long presence(Object... values) {
+        long mask = 0;
+        for (int field = 0; field < values.length; field++) {
+            if (values[field] != null) {
+                mask |= 1L << field;
+            }
+        }
+        return mask;
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    void writeBytes(byte[] bytes) {
+        writeVarLong(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    void writeZigZag(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Этот метод записывает поле типа Long. Пустое поле не записывается, оно отмечено в маске заполненных полей
+     *
+     * @param value значение поля
+     */
+    void writeLong(Long value) {
+        if (value != null) {
+            writeZigZag(value);
+        }
+    }
+
+    void writeInt(Integer value) {
+        if (value != null) {
+            writeZigZag(value);
+        }
+    }
+
+    void writeString(String value) {
+        if (value != null) {
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Этот метод записывает дату и время секундами от начала эпохи и наносекундами.
+     * Наносекунды времени из базы данных и запросов пользователей обычно равны нулю и занимают один байт
+     *
+     * @param value значение поля
+     */
+    void writeDateTime(LocalDateTime value) {
+        if (value != null) {
+            writeZigZag(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarLong(value.getNano());
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private void ensureCapacity(int length) {
+        if (size + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + length));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.redis.serializer;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+
+/**
+ * Класс схемы компактного формата для модели билета.
+ * В кэш записывается только проекция билета: поля самого билета и уникальные идентификаторы маршрута и покупателя.
+ * Маршрут, перевозчик и покупатель вместе с хэшем его пароля в кэш не попадают,
+ * при чтении их берут из кэша справочных данных или базы данных. Статус записывается порядковым номером,
+ * поэтому изменение порядка значений {@link TicketStatus} требует нового идентификатора схемы.
+ * Версия билета записывается вместе с ним, поэтому записи кэша билетов можно сравнивать по версии
+ */
+final class TicketCompactSchema implements CompactSchema<Ticket> {
+    static final int ID = 19;
+    private static final TicketStatus[] STATUSES = TicketStatus.values();
+
+    @Override
+    public int id() {
+        return ID;
+    }
+
+    @Override
+    public Class<Ticket> type() {
+        return Ticket.class;
+    }
+
+    @Override
+    public void write(CompactWriter writer, Ticket ticket) {
+        Long routeId = ticket.getRouteId() != null || ticket.getRoute() == null ? ticket.getRouteId() : ticket.getRoute().getId();
+        Long userId = ticket.getUserId() != null || ticket.getUser() == null ? ticket.getUserId() : ticket.getUser().getId();
+        Integer status = ticket.getTicketStatus() == null ? null : ticket.getTicketStatus().ordinal();
+        writer.writeVarLong(CompactWriter.presence(ticket.getId(), routeId, ticket.getDateTimeDeparture(),
+                ticket.getSeatNumber(), ticket.getPrice(), ticket.getDateTimeTicketIssuance(), userId, status,
+                ticket.getAvailableSeats(), ticket.getVersion()));
+        writer.writeLong(ticket.getId());
+        writer.writeLong(routeId);
+        writer.writeDateTime(ticket.getDateTimeDeparture());
+        writer.writeInt(ticket.getSeatNumber());
+        writer.writeInt(ticket.getPrice());
+        writer.writeDateTime(ticket.getDateTimeTicketIssuance());
+        writer.writeLong(userId);
+        writer.writeInt(status);
+        writer.writeInt(ticket.getAvailableSeats());
+        writer.writeLong(ticket.getVersion());
+    }
+
+    @Override
+    public Ticket read(CompactReader reader) {
+        long mask = reader.readVarLong();
+        Ticket ticket = new Ticket();
+        ticket.setId(reader.readLong(mask, 0));
+        ticket.setRouteId(reader.readLong(mask, 1));
+        ticket.setDateTimeDeparture(reader.readDateTime(mask, 2));
+        ticket.setSeatNumber(reader.readInt(mask, 3));
+        ticket.setPrice(reader.readInt(mask, 4));
+        ticket.setDateTimeTicketIssuance(reader.readDateTime(mask, 5));
+        ticket.setUserId(reader.readLong(mask, 6));
+        Integer status = reader.readInt(mask, 7);
+        ticket.setTicketStatus(status == null ? null : STATUSES[status]);
+        ticket.setAvailableSeats(reader.readInt(mask, 8));
+        ticket.setVersion(reader.readLong(mask, 9));
+        return ticket;
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.redis.serializer;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.TicketResponseDto;
+
+/**
+ * Класс схемы компактного формата для ответа с информацией о транспортном билете.
+ * Используется для страниц купленных билетов в кэше Spring
+ */
+final class TicketResponseDtoCompactSchema implements CompactSchema<TicketResponseDto> {
+    static final int ID = 17;
+
+    @Override
+    public int id() {
+        return ID;
+    }
+
+    @Override
+    public Class<TicketResponseDto> type() {
+        return TicketResponseDto.class;
+    }
+
+    @Override
+    public void write(CompactWriter writer, TicketResponseDto dto) {
+        writer.writeVarLong(CompactWriter.presence(dto.getId(), dto.getRouteId(), dto.getDeparturePoint(),
+                dto.getDestination(), dto.getDurationInMinutes(), dto.getDateTimeDeparture(),
+                dto.getDateTimeTicketIssuance(), dto.getSeatNumber(), dto.getPrice(), dto.getCarrierId(),
+                dto.getCompanyName(), dto.getPhoneNumber(), dto.getTicketStatus(), dto.getAvailableSeats()));
+        writer.writeLong(dto.getId());
+        writer.writeLong(dto.getRouteId());
+        writer.writeString(dto.getDeparturePoint());
+        writer.writeString(dto.getDestination());
+        writer.writeInt(dto.getDurationInMinutes());
+        writer.writeDateTime(dto.getDateTimeDeparture());
+        writer.writeDateTime(dto.getDateTimeTicketIssuance());
+        writer.writeInt(dto.getSeatNumber());
+        writer.writeInt(dto.getPrice());
+        writer.writeLong(dto.getCarrierId());
+        writer.writeString(dto.getCompanyName());
+        writer.writeString(dto.getPhoneNumber());
+        writer.writeString(dto.getTicketStatus());
+        writer.writeInt(dto.getAvailableSeats());
+    }
+
+    @Override
+    public TicketResponseDto read(CompactReader reader) {
+        long mask = reader.readVarLong();
+        TicketResponseDto dto = new TicketResponseDto();
+        dto.setId(reader.readLong(mask, 0));
+        dto.setRouteId(reader.readLong(mask, 1));
+        dto.setDeparturePoint(reader.readString(mask, 2));
+        dto.setDestination(reader.readString(mask, 3));
+        dto.setDurationInMinutes(reader.readInt(mask, 4));
+        dto.setDateTimeDeparture(reader.readDateTime(mask, 5));
+        dto.setDateTimeTicketIssuance(reader.readDateTime(mask, 6));
+        dto.setSeatNumber(reader.readInt(mask, 7));
+        dto.setPrice(reader.readInt(mask, 8));
+        dto.setCarrierId(reader.readLong(mask, 9));
+        dto.setCompanyName(reader.readString(mask, 10));
+        dto.setPhoneNumber(reader.readString(mask, 11));
+        dto.setTicketStatus(reader.readString(mask, 12));
+        dto.setAvailableSeats(reader.readInt(mask, 13));
+        return dto;
+    }
+}
@@ -79,11 +79,10 @@ public class CarrierRepository {
      * @return Возвращает модель найденного перевозчика
      */
     public Carrier findCarrierByCompanyName(String companyName) {
-        String like = "%" + companyName + "%";
         log.info(FIND_CARRIER_BY_COMPANY_NAME_MESSAGE_LOGGER_REPOSITORY, companyName);
         return dsl.select()
                 .from(Carriers.CARRIERS)
-                .where(Carriers.CARRIERS.COMPANY_NAME.likeIgnoreCase(like))
+                .where(Carriers.CARRIERS.COMPANY_NAME.likeIgnoreCase(SearchPattern.contains(companyName), SearchPattern.ESCAPE))
                 .fetchOptional()
                 .orElseThrow(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_FIND_MESSAGE_REPOSITORY + companyName))
                 .into(Carrier.class);
@@ -0,0 +1,84 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Departures;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+
+import java.time.LocalDateTime;
+
+/**
+ * Вспомогательный класс для изменения счетчиков мест отправления (рейса) маршрута.
+ * Методы вызываются внутри транзакции, в которой изменяется сам билет, поэтому счетчики всегда
+ * совпадают с билетами. Каждое изменение - одна строка отправления, независимо от количества мест
+ */
+final class DepartureCounter {
+
+    private DepartureCounter() {
+    }
+
+    /**
+     * Этот метод добавляет отправлению новое место в продаже.
+     * Отправление создается, если у маршрута еще нет билетов на эти дату и время
+     *
+     * @param dsl               контекст jOOQ транзакции
+     * @param routeId           уникальный идентификатор маршрута
+     * @param dateTimeDeparture дата и время отправления
+     */
+    static void addSeat(DSLContext dsl, Long routeId, LocalDateTime dateTimeDeparture) {
+        dsl.insertInto(Departures.DEPARTURES)
+                .set(Departures.DEPARTURES.ROUTE_ID, routeId)
+                .set(Departures.DEPARTURES.DATE_TIME_DEPARTURE, dateTimeDeparture)
+                .set(Departures.DEPARTURES.CAPACITY, 1)
+                .set(Departures.DEPARTURES.AVAILABLE_SEATS, 1)
+                .onConflict(Departures.DEPARTURES.ROUTE_ID, Departures.DEPARTURES.DATE_TIME_DEPARTURE)
+                .doUpdate()
+                .set(Departures.DEPARTURES.CAPACITY, Departures.DEPARTURES.CAPACITY.plus(1))
+                .set(Departures.DEPARTURES.AVAILABLE_SEATS, Departures.DEPARTURES.AVAILABLE_SEATS.plus(1))
+                .execute();
+    }
+
+    /**
+     * Этот метод убирает место у отправления. Отправление без мест удаляется
+     *
+     * @param dsl               контекст jOOQ транзакции
+     * @param routeId           уникальный идентификатор маршрута
+     * @param dateTimeDeparture дата и время отправления
+     * @param available         true, если убранное место было в продаже
+     */
+    static void removeSeat(DSLContext dsl, Long routeId, LocalDateTime dateTimeDeparture, boolean available) {
+        dsl.update(Departures.DEPARTURES)
+                .set(Departures.DEPARTURES.CAPACITY, Departures.DEPARTURES.CAPACITY.minus(1))
+                .set(Departures.DEPARTURES.AVAILABLE_SEATS, Departures.DEPARTURES.AVAILABLE_SEATS.minus(available ? 1 : 0))
+                .where(departure(routeId, dateTimeDeparture))
+                .execute();
+        dsl.deleteFrom(Departures.DEPARTURES)
+                .where(departure(routeId, dateTimeDeparture), Departures.DEPARTURES.CAPACITY.le(0))
+                .execute();
+    }
+
+    /**
+     * Этот метод снимает с продажи одно место отправления после покупки билета
+     *
+     * @param dsl               контекст jOOQ транзакции
+     * @param routeId           уникальный идентификатор маршрута
+     * @param dateTimeDeparture дата и время отправления
+     */
+    static void sellSeat(DSLContext dsl, Long routeId, LocalDateTime dateTimeDeparture) {
+        dsl.update(Departures.DEPARTURES)
+                .set(Departures.DEPARTURES.AVAILABLE_SEATS, Departures.DEPARTURES.AVAILABLE_SEATS.minus(1))
+                .where(departure(routeId, dateTimeDeparture))
+                .execute();
+    }
+
+    /**
+     * Приватный метод, который формирует условие на отправление по его ключу
+     *
+     * @param routeId           уникальный идентификатор маршрута
+     * @param dateTimeDeparture дата и время отправления
+     * @return Возвращает условие запроса
+     */
+    private static Condition departure(Long routeId, LocalDateTime dateTimeDeparture) {
+        return Departures.DEPARTURES.ROUTE_ID.eq(routeId)
+                .and(Departures.DEPARTURES.DATE_TIME_DEPARTURE.eq(dateTimeDeparture));
+    }
+}
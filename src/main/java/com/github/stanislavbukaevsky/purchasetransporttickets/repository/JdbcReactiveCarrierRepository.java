@@ -0,0 +1,81 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Carrier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Класс-репозиторий для работы с перевозчиками через JDBC.
+ * Блокирующие запросы {@link CarrierRepository} выполняются на планировщике jdbcScheduler.
+ * Реализует интерфейс {@link ReactiveCarrierRepository}
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "persistence.backend", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcReactiveCarrierRepository implements ReactiveCarrierRepository {
+    private final CarrierRepository carrierRepository;
+    private final Scheduler jdbcScheduler;
+
+    /**
+     * Реализация метода сохранения информации о перевозчике в базу данных
+     *
+     * @param carrier модель перевозчика
+     * @return Возвращает модель сохраненного перевозчика
+     */
+    @Override
+    public Mono<Carrier> save(Carrier carrier) {
+        return Mono.fromCallable(() -> carrierRepository.save(carrier))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    /**
+     * Реализация метода изменения информации о перевозчике в базе данных
+     *
+     * @param carrier модель перевозчика
+     * @return Возвращает модель измененного перевозчика
+     */
+    @Override
+    public Mono<Carrier> update(Carrier carrier) {
+        return Mono.fromCallable(() -> carrierRepository.update(carrier))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    /**
+     * Реализация метода поиска перевозчика по его уникальному идентификатору
+     *
+     * @param id уникальный идентификатор перевозчика
+     * @return Возвращает модель найденного перевозчика
+     */
+    @Override
+    public Mono<Carrier> findCarrierById(Long id) {
+        return Mono.fromCallable(() -> carrierRepository.findCarrierById(id))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    /**
+     * Реализация метода поиска перевозчика по названию компании
+     *
+     * @param companyName компания перевозчика
+     * @return Возвращает модель найденного перевозчика
+     */
+    @Override
+    public Mono<Carrier> findCarrierByCompanyName(String companyName) {
+        return Mono.fromCallable(() -> carrierRepository.findCarrierByCompanyName(companyName))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    /**
+     * Реализация метода удаления перевозчика по его уникальному идентификатору
+     *
+     * @param id уникальный идентификатор перевозчика
+     * @return Возвращает пустой Mono после удаления
+     */
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return Mono.<Void>fromRunnable(() -> carrierRepository.deleteById(id))
+                .subscribeOn(jdbcScheduler);
+    }
+}
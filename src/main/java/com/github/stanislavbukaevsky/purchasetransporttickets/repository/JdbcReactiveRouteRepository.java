@@ -0,0 +1,69 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Класс-репозиторий для работы с маршрутами через JDBC.
+ * Блокирующие запросы {@link RouteRepository} выполняются на планировщике jdbcScheduler.
+ * Реализует интерфейс {@link ReactiveRouteRepository}
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "persistence.backend", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcReactiveRouteRepository implements ReactiveRouteRepository {
+    private final RouteRepository routeRepository;
+    private final Scheduler jdbcScheduler;
+
+    /**
+     * Реализация метода сохранения информации о маршруте в базу данных
+     *
+     * @param route модель маршрута
+     * @return Возвращает модель сохраненного маршрута
+     */
+    @Override
+    public Mono<Route> save(Route route) {
+        return Mono.fromCallable(() -> routeRepository.save(route))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    /**
+     * Реализация метода изменения информации о маршруте в базе данных
+     *
+     * @param route модель маршрута
+     * @return Возвращает модель измененного маршрута
+     */
+    @Override
+    public Mono<Route> update(Route route) {
+        return Mono.fromCallable(() -> routeRepository.update(route))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    /**
+     * Реализация метода поиска маршрута по его уникальному идентификатору
+     *
+     * @param id уникальный идентификатор маршрута
+     * @return Возвращает модель найденного маршрута
+     */
+    @Override
+    public Mono<Route> findRouteById(Long id) {
+        return Mono.fromCallable(() -> routeRepository.findRouteById(id))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    /**
+     * Реализация метода удаления маршрута по его уникальному идентификатору
+     *
+     * @param id уникальный идентификатор маршрута
+     * @return Возвращает пустой Mono после удаления
+     */
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return Mono.<Void>fromRunnable(() -> routeRepository.deleteById(id))
+                .subscribeOn(jdbcScheduler);
+    }
+}
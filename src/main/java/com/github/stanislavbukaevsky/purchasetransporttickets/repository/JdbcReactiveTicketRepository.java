@@ -0,0 +1,224 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.pagination.SeekCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
+
+/**
+ * Класс-репозиторий для поиска билетов через JDBC.
+ * Блокирующие запросы {@link TicketRepository} выполняются на планировщике jdbcScheduler.
+ * Реализует интерфейс {@link ReactiveTicketRepository}
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "persistence.backend", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcReactiveTicketRepository implements ReactiveTicketRepository {
+    private final TicketRepository ticketRepository;
+    private final DataSource dataSource;
+    private final Scheduler jdbcScheduler;
+    @Value("${ticket.stream.fetch-size}")
+    private Integer streamFetchSize;
+
+    /**
+     * Реализация метода поиска билетов, которые есть в продаже, по дате и времени отправления
+     *
+     * @param departureFrom начало окна отправления
+     * @param departureTo   конец окна отправления включительно
+     * @param cursor        курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size          количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> findTicketsByDateAndTimeDeparture(LocalDateTime departureFrom, LocalDateTime departureTo, SeekCursor cursor, int size) {
+        return fetch(() -> ticketRepository.findTicketsByDateAndTimeDeparture(departureFrom, departureTo, cursor, size));
+    }
+
+    /**
+     * Реализация метода поиска билетов, которые есть в продаже, по пункту отправления маршрута
+     *
+     * @param departurePoint пункт отправления
+     * @param cursor         курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size           количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> findTicketsByDeparturePoint(String departurePoint, SeekCursor cursor, int size) {
+        return fetch(() -> ticketRepository.findTicketsByDeparturePoint(departurePoint, cursor, size));
+    }
+
+    /**
+     * Реализация метода поиска билетов, которые есть в продаже, по пункту назначения маршрута
+     *
+     * @param destination пункт назначения
+     * @param cursor      курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size        количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> findTicketsByDestination(String destination, SeekCursor cursor, int size) {
+        return fetch(() -> ticketRepository.findTicketsByDestination(destination, cursor, size));
+    }
+
+    /**
+     * Реализация метода поиска билетов, которые есть в продаже, по названию компании перевозчика
+     *
+     * @param companyName название компании перевозчика
+     * @param cursor      курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size        количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> findTicketsByCompanyNameCarrier(String companyName, SeekCursor cursor, int size) {
+        return fetch(() -> ticketRepository.findTicketsByCompanyNameCarrier(companyName, cursor, size));
+    }
+
+    /**
+     * Реализация метода поиска билетов, которые есть в продаже, по нескольким условиям поиска
+     *
+     * @param criteria условия поиска и порядок сортировки
+     * @param cursor   курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size     количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> findTicketsByCriteria(TicketSearchCriteria criteria, SeekCursor cursor, int size) {
+        return fetch(() -> ticketRepository.findTicketsByCriteria(criteria, cursor, size));
+    }
+
+    /**
+     * Реализация метода потоковой выгрузки всех билетов, которые есть в продаже, по дате и времени отправления
+     *
+     * @param departureFrom начало окна отправления
+     * @param departureTo   конец окна отправления включительно
+     * @param cursor        курсор последней уже полученной записи или null для выгрузки с начала
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> streamTicketsByDateAndTimeDeparture(LocalDateTime departureFrom, LocalDateTime departureTo, SeekCursor cursor) {
+        log.info(FIND_TICKETS_BY_DATE_AND_TIME_DEPARTURE_MESSAGE_LOGGER_REPOSITORY, departureFrom, departureTo);
+        return stream(dsl -> TicketRepository.selectTicketsByDateAndTimeDeparture(dsl, departureFrom, departureTo, cursor));
+    }
+
+    /**
+     * Реализация метода потоковой выгрузки всех билетов, которые есть в продаже, по пункту отправления маршрута
+     *
+     * @param departurePoint пункт отправления
+     * @param cursor         курсор последней уже полученной записи или null для выгрузки с начала
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> streamTicketsByDeparturePoint(String departurePoint, SeekCursor cursor) {
+        log.info(FIND_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_REPOSITORY, departurePoint);
+        return stream(dsl -> TicketRepository.selectTicketsByDeparturePoint(dsl, departurePoint, cursor));
+    }
+
+    /**
+     * Реализация метода потоковой выгрузки всех билетов, которые есть в продаже, по пункту назначения маршрута
+     *
+     * @param destination пункт назначения
+     * @param cursor      курсор последней уже полученной записи или null для выгрузки с начала
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> streamTicketsByDestination(String destination, SeekCursor cursor) {
+        log.info(FIND_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_REPOSITORY, destination);
+        return stream(dsl -> TicketRepository.selectTicketsByDestination(dsl, destination, cursor));
+    }
+
+    /**
+     * Реализация метода потоковой выгрузки всех билетов, которые есть в продаже, по названию компании перевозчика
+     *
+     * @param companyName название компании перевозчика
+     * @param cursor      курсор последней уже полученной записи или null для выгрузки с начала
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> streamTicketsByCompanyNameCarrier(String companyName, SeekCursor cursor) {
+        log.info(FIND_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_REPOSITORY, companyName);
+        return stream(dsl -> TicketRepository.selectTicketsByCompanyNameCarrier(dsl, companyName, cursor));
+    }
+
+    /**
+     * Приватный метод, который выполняет блокирующий запрос на планировщике jdbcScheduler
+     *
+     * @param query блокирующий запрос к базе данных
+     * @return Возвращает поток найденных билетов
+     */
+    private Flux<Ticket> fetch(Callable<List<Ticket>> query) {
+        return Mono.fromCallable(query)
+                .subscribeOn(jdbcScheduler)
+                .flatMapIterable(tickets -> tickets);
+    }
+
+    /**
+     * Приватный метод, который выполняет запрос через ленивый курсор jOOQ на отдельном соединении.
+     * Драйвер PostgreSQL читает строки порциями только при выключенном автокоммите,
+     * поэтому в памяти одновременно находится не больше одной порции, а чтение следующей порции
+     * выполняется на планировщике jdbcScheduler только по запросу подписчика
+     *
+     * @param query запрос, построенный на контексте jOOQ потокового соединения
+     * @return Возвращает поток найденных билетов
+     */
+    private Flux<Ticket> stream(Function<DSLContext, ResultQuery<Record>> query) {
+        return Flux.using(this::openStreamConnection,
+                        connection -> Flux.using(
+                                () -> query.apply(DSL.using(connection, SQLDialect.POSTGRES))
+                                        .fetchSize(streamFetchSize)
+                                        .fetchLazy(),
+                                cursor -> Flux.fromIterable(cursor).map(TicketRepository::formingTicket),
+                                Cursor::close),
+                        this::closeStreamConnection)
+                .subscribeOn(jdbcScheduler);
+    }
+
+    /**
+     * Приватный метод, который открывает соединение только для чтения без автокоммита для потоковой выгрузки
+     *
+     * @return Возвращает соединение с базой данных
+     * @throws SQLException если соединение не удалось получить или настроить
+     */
+    private Connection openStreamConnection() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+        connection.setReadOnly(true);
+        log.info(STREAM_TICKETS_MESSAGE_LOGGER_REPOSITORY, streamFetchSize);
+        return connection;
+    }
+
+    /**
+     * Приватный метод, который завершает транзакцию потоковой выгрузки и возвращает соединение в пул
+     *
+     * @param connection соединение с базой данных
+     */
+    private void closeStreamConnection(Connection connection) {
+        try (connection) {
+            connection.rollback();
+        } catch (SQLException exception) {
+            log.warn(CLOSE_STREAM_TICKETS_MESSAGE_LOGGER_REPOSITORY, exception);
+        }
+    }
+}
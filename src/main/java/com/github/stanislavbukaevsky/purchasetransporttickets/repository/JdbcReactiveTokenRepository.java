@@ -0,0 +1,57 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Token;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Класс-репозиторий для работы с токенами через JDBC.
+ * Блокирующие запросы {@link TokenRepository} выполняются на планировщике jdbcScheduler.
+ * Реализует интерфейс {@link ReactiveTokenRepository}
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "persistence.backend", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcReactiveTokenRepository implements ReactiveTokenRepository {
+    private final TokenRepository tokenRepository;
+    private final Scheduler jdbcScheduler;
+
+    /**
+     * Реализация метода изменения информации о токене в базе данных
+     *
+     * @param token модель токена
+     * @return Возвращает модель измененного токена
+     */
+    @Override
+    public Mono<Token> update(Token token) {
+        return Mono.fromCallable(() -> tokenRepository.update(token))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    /**
+     * Реализация метода поиска токена по уникальному идентификатору пользователя
+     *
+     * @param id уникальный идентификатор пользователя
+     * @return Возвращает модель найденного токена
+     */
+    @Override
+    public Mono<Token> findTokenByUserId(Long id) {
+        return Mono.fromCallable(() -> tokenRepository.findTokenByUserId(id))
+                .subscribeOn(jdbcScheduler);
+    }
+
+    /**
+     * Реализация метода проверки присутствия токена по уникальному идентификатору пользователя
+     *
+     * @param id уникальный идентификатор пользователя
+     * @return Возвращает true, если токен пользователя присутствует в базе данных
+     */
+    @Override
+    public Mono<Boolean> existsTokenByUserId(Long id) {
+        return Mono.fromCallable(() -> tokenRepository.existsTokenByUserId(id))
+                .subscribeOn(jdbcScheduler);
+    }
+}
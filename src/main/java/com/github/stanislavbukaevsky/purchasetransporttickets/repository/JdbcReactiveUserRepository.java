@@ -0,0 +1,33 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Класс-репозиторий для поиска пользователей через JDBC.
+ * Блокирующие запросы {@link UserRepository} выполняются на планировщике jdbcScheduler.
+ * Реализует интерфейс {@link ReactiveUserRepository}
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "persistence.backend", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcReactiveUserRepository implements ReactiveUserRepository {
+    private final UserRepository userRepository;
+    private final Scheduler jdbcScheduler;
+
+    /**
+     * Реализация метода поиска пользователя по его уникальному логину
+     *
+     * @param login уникальный логин пользователя
+     * @return Возвращает модель найденного пользователя
+     */
+    @Override
+    public Mono<User> findUserByLogin(String login) {
+        return Mono.fromCallable(() -> userRepository.findUserByLogin(login))
+                .subscribeOn(jdbcScheduler);
+    }
+}
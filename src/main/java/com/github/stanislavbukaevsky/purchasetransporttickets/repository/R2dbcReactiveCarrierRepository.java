@@ -0,0 +1,112 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.configuration.R2dbcDslContext;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Carriers;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.CarrierRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Carrier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.exception.DataAccessException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.DATA_ACCESS_EXCEPTION_FIND_MESSAGE_REPOSITORY;
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY;
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
+
+/**
+ * Класс-репозиторий для неблокирующей работы с перевозчиками через R2DBC.
+ * Выполняет те же запросы jOOQ, что и {@link CarrierRepository}, без выделения потока на запрос.
+ * Реализует интерфейс {@link ReactiveCarrierRepository}
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "persistence.backend", havingValue = "r2dbc")
+public class R2dbcReactiveCarrierRepository implements ReactiveCarrierRepository {
+    private final R2dbcDslContext r2dbcDslContext;
+    private final CarrierRecordMapper carrierRecordMapper;
+
+    /**
+     * Реализация метода сохранения информации о перевозчике в базу данных
+     *
+     * @param carrier модель перевозчика
+     * @return Возвращает модель сохраненного перевозчика
+     */
+    @Override
+    public Mono<Carrier> save(Carrier carrier) {
+        log.info(SAVE_CARRIER_MESSAGE_LOGGER_REPOSITORY, carrier);
+        return Mono.from(r2dbcDslContext.dsl()
+                        .insertInto(Carriers.CARRIERS)
+                        .set(carrierRecordMapper.unmap(carrier))
+                        .returning())
+                .map(result -> result.into(Carrier.class))
+                .switchIfEmpty(Mono.error(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY + carrier)));
+    }
+
+    /**
+     * Реализация метода изменения информации о перевозчике в базе данных
+     *
+     * @param carrier модель перевозчика
+     * @return Возвращает модель измененного перевозчика
+     */
+    @Override
+    public Mono<Carrier> update(Carrier carrier) {
+        log.info(UPDATE_CARRIER_MESSAGE_LOGGER_REPOSITORY, carrier);
+        return Mono.from(r2dbcDslContext.dsl()
+                        .update(Carriers.CARRIERS)
+                        .set(carrierRecordMapper.unmap(carrier))
+                        .where(Carriers.CARRIERS.ID.eq(carrier.getId()))
+                        .returning())
+                .map(result -> result.into(Carrier.class))
+                .switchIfEmpty(Mono.error(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY + carrier)));
+    }
+
+    /**
+     * Реализация метода поиска перевозчика по его уникальному идентификатору
+     *
+     * @param id уникальный идентификатор перевозчика
+     * @return Возвращает модель найденного перевозчика
+     */
+    @Override
+    public Mono<Carrier> findCarrierById(Long id) {
+        log.info(FIND_CARRIER_BY_ID_MESSAGE_LOGGER_REPOSITORY, id);
+        return Mono.from(r2dbcDslContext.dsl()
+                        .selectFrom(Carriers.CARRIERS)
+                        .where(Carriers.CARRIERS.ID.eq(id)))
+                .map(carrier -> carrier.into(Carrier.class))
+                .switchIfEmpty(Mono.error(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_FIND_MESSAGE_REPOSITORY + id)));
+    }
+
+    /**
+     * Реализация метода поиска перевозчика по названию компании
+     *
+     * @param companyName компания перевозчика
+     * @return Возвращает модель найденного перевозчика
+     */
+    @Override
+    public Mono<Carrier> findCarrierByCompanyName(String companyName) {
+        log.info(FIND_CARRIER_BY_COMPANY_NAME_MESSAGE_LOGGER_REPOSITORY, companyName);
+        return Mono.from(r2dbcDslContext.dsl()
+                        .selectFrom(Carriers.CARRIERS)
+                        .where(Carriers.CARRIERS.COMPANY_NAME.likeIgnoreCase(SearchPattern.contains(companyName), SearchPattern.ESCAPE)))
+                .map(carrier -> carrier.into(Carrier.class))
+                .switchIfEmpty(Mono.error(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_FIND_MESSAGE_REPOSITORY + companyName)));
+    }
+
+    /**
+     * Реализация метода удаления перевозчика по его уникальному идентификатору
+     *
+     * @param id уникальный идентификатор перевозчика
+     * @return Возвращает пустой Mono после удаления
+     */
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        log.info(DELETE_CARRIER_BY_ID_MESSAGE_LOGGER_REPOSITORY, id);
+        return Mono.from(r2dbcDslContext.dsl()
+                        .deleteFrom(Carriers.CARRIERS)
+                        .where(Carriers.CARRIERS.ID.eq(id)))
+                .then();
+    }
+}
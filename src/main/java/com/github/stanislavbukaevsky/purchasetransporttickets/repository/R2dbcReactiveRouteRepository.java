@@ -0,0 +1,96 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.configuration.R2dbcDslContext;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Routes;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.RouteRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.exception.DataAccessException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.DATA_ACCESS_EXCEPTION_FIND_MESSAGE_REPOSITORY;
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY;
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
+
+/**
+ * Класс-репозиторий для неблокирующей работы с маршрутами через R2DBC.
+ * Выполняет те же запросы jOOQ, что и {@link RouteRepository}, без выделения потока на запрос.
+ * Реализует интерфейс {@link ReactiveRouteRepository}
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "persistence.backend", havingValue = "r2dbc")
+public class R2dbcReactiveRouteRepository implements ReactiveRouteRepository {
+    private final R2dbcDslContext r2dbcDslContext;
+    private final RouteRecordMapper routeRecordMapper;
+
+    /**
+     * Реализация метода сохранения информации о маршруте в базу данных
+     *
+     * @param route модель маршрута
+     * @return Возвращает модель сохраненного маршрута
+     */
+    @Override
+    public Mono<Route> save(Route route) {
+        log.info(SAVE_ROUTE_MESSAGE_LOGGER_REPOSITORY, route);
+        return Mono.from(r2dbcDslContext.dsl()
+                        .insertInto(Routes.ROUTES)
+                        .set(routeRecordMapper.unmap(route))
+                        .returning())
+                .map(result -> result.into(Route.class))
+                .switchIfEmpty(Mono.error(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY + route)));
+    }
+
+    /**
+     * Реализация метода изменения информации о маршруте в базе данных
+     *
+     * @param route модель маршрута
+     * @return Возвращает модель измененного маршрута
+     */
+    @Override
+    public Mono<Route> update(Route route) {
+        log.info(UPDATE_ROUTE_MESSAGE_LOGGER_REPOSITORY, route);
+        return Mono.from(r2dbcDslContext.dsl()
+                        .update(Routes.ROUTES)
+                        .set(routeRecordMapper.unmap(route))
+                        .where(Routes.ROUTES.ID.eq(route.getId()))
+                        .returning())
+                .map(result -> result.into(Route.class))
+                .switchIfEmpty(Mono.error(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY + route)));
+    }
+
+    /**
+     * Реализация метода поиска маршрута по его уникальному идентификатору
+     *
+     * @param id уникальный идентификатор маршрута
+     * @return Возвращает модель найденного маршрута
+     */
+    @Override
+    public Mono<Route> findRouteById(Long id) {
+        log.info(FIND_ROUTE_BY_ID_MESSAGE_LOGGER_REPOSITORY, id);
+        return Mono.from(r2dbcDslContext.dsl()
+                        .selectFrom(Routes.ROUTES)
+                        .where(Routes.ROUTES.ID.eq(id)))
+                .map(route -> route.into(Route.class))
+                .switchIfEmpty(Mono.error(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_FIND_MESSAGE_REPOSITORY + id)));
+    }
+
+    /**
+     * Реализация метода удаления маршрута по его уникальному идентификатору
+     *
+     * @param id уникальный идентификатор маршрута
+     * @return Возвращает пустой Mono после удаления
+     */
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        log.info(DELETE_ROUTE_BY_ID_MESSAGE_LOGGER_REPOSITORY, id);
+        return Mono.from(r2dbcDslContext.dsl()
+                        .deleteFrom(Routes.ROUTES)
+                        .where(Routes.ROUTES.ID.eq(id)))
+                .then();
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.configuration.R2dbcDslContext;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.pagination.SeekCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
+
+/**
+ * Класс-репозиторий для неблокирующего поиска билетов через R2DBC.
+ * Выполняет те же запросы jOOQ, что и {@link TicketRepository}, без выделения потока на запрос.
+ * Реализует интерфейс {@link ReactiveTicketRepository}
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "persistence.backend", havingValue = "r2dbc")
+public class R2dbcReactiveTicketRepository implements ReactiveTicketRepository {
+    private final R2dbcDslContext r2dbcDslContext;
+
+    /**
+     * Реализация метода поиска билетов, которые есть в продаже, по дате и времени отправления
+     *
+     * @param departureFrom начало окна отправления
+     * @param departureTo   конец окна отправления включительно
+     * @param cursor        курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size          количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> findTicketsByDateAndTimeDeparture(LocalDateTime departureFrom, LocalDateTime departureTo, SeekCursor cursor, int size) {
+        log.info(FIND_TICKETS_BY_DATE_AND_TIME_DEPARTURE_MESSAGE_LOGGER_REPOSITORY, departureFrom, departureTo);
+        return Flux.from(TicketRepository.selectTicketsByDateAndTimeDeparture(r2dbcDslContext.dsl(), departureFrom, departureTo, cursor).limit(size))
+                .map(TicketRepository::formingTicket);
+    }
+
+    /**
+     * Реализация метода поиска билетов, которые есть в продаже, по пункту отправления маршрута
+     *
+     * @param departurePoint пункт отправления
+     * @param cursor         курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size           количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> findTicketsByDeparturePoint(String departurePoint, SeekCursor cursor, int size) {
+        log.info(FIND_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_REPOSITORY, departurePoint);
+        return Flux.from(TicketRepository.selectTicketsByDeparturePoint(r2dbcDslContext.dsl(), departurePoint, cursor).limit(size))
+                .map(TicketRepository::formingTicket);
+    }
+
+    /**
+     * Реализация метода поиска билетов, которые есть в продаже, по пункту назначения маршрута
+     *
+     * @param destination пункт назначения
+     * @param cursor      курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size        количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> findTicketsByDestination(String destination, SeekCursor cursor, int size) {
+        log.info(FIND_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_REPOSITORY, destination);
+        return Flux.from(TicketRepository.selectTicketsByDestination(r2dbcDslContext.dsl(), destination, cursor).limit(size))
+                .map(TicketRepository::formingTicket);
+    }
+
+    /**
+     * Реализация метода поиска билетов, которые есть в продаже, по названию компании перевозчика
+     *
+     * @param companyName название компании перевозчика
+     * @param cursor      курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size        количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> findTicketsByCompanyNameCarrier(String companyName, SeekCursor cursor, int size) {
+        log.info(FIND_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_REPOSITORY, companyName);
+        return Flux.from(TicketRepository.selectTicketsByCompanyNameCarrier(r2dbcDslContext.dsl(), companyName, cursor).limit(size))
+                .map(TicketRepository::formingTicket);
+    }
+
+    /**
+     * Реализация метода поиска билетов, которые есть в продаже, по нескольким условиям поиска
+     *
+     * @param criteria условия поиска и порядок сортировки
+     * @param cursor   курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size     количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> findTicketsByCriteria(TicketSearchCriteria criteria, SeekCursor cursor, int size) {
+        log.info(FIND_TICKETS_BY_CRITERIA_MESSAGE_LOGGER_REPOSITORY, criteria);
+        return Flux.from(TicketRepository.selectTicketsByCriteria(r2dbcDslContext.dsl(), criteria, cursor).limit(size))
+                .map(TicketRepository::formingTicket);
+    }
+
+    /**
+     * Реализация метода потоковой выгрузки всех билетов, которые есть в продаже, по дате и времени отправления.
+     * Строки читаются драйвером R2DBC по мере запросов подписчика
+     *
+     * @param departureFrom начало окна отправления
+     * @param departureTo   конец окна отправления включительно
+     * @param cursor        курсор последней уже полученной записи или null для выгрузки с начала
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> streamTicketsByDateAndTimeDeparture(LocalDateTime departureFrom, LocalDateTime departureTo, SeekCursor cursor) {
+        log.info(FIND_TICKETS_BY_DATE_AND_TIME_DEPARTURE_MESSAGE_LOGGER_REPOSITORY, departureFrom, departureTo);
+        return Flux.from(TicketRepository.selectTicketsByDateAndTimeDeparture(r2dbcDslContext.dsl(), departureFrom, departureTo, cursor))
+                .map(TicketRepository::formingTicket);
+    }
+
+    /**
+     * Реализация метода потоковой выгрузки всех билетов, которые есть в продаже, по пункту отправления маршрута.
+     * Строки читаются драйвером R2DBC по мере запросов подписчика
+     *
+     * @param departurePoint пункт отправления
+     * @param cursor         курсор последней уже полученной записи или null для выгрузки с начала
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> streamTicketsByDeparturePoint(String departurePoint, SeekCursor cursor) {
+        log.info(FIND_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_REPOSITORY, departurePoint);
+        return Flux.from(TicketRepository.selectTicketsByDeparturePoint(r2dbcDslContext.dsl(), departurePoint, cursor))
+                .map(TicketRepository::formingTicket);
+    }
+
+    /**
+     * Реализация метода потоковой выгрузки всех билетов, которые есть в продаже, по пункту назначения маршрута.
+     * Строки читаются драйвером R2DBC по мере запросов подписчика
+     *
+     * @param destination пункт назначения
+     * @param cursor      курсор последней уже полученной записи или null для выгрузки с начала
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> streamTicketsByDestination(String destination, SeekCursor cursor) {
+        log.info(FIND_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_REPOSITORY, destination);
+        return Flux.from(TicketRepository.selectTicketsByDestination(r2dbcDslContext.dsl(), destination, cursor))
+                .map(TicketRepository::formingTicket);
+    }
+
+    /**
+     * Реализация метода потоковой выгрузки всех билетов, которые есть в продаже, по названию компании перевозчика.
+     * Строки читаются драйвером R2DBC по мере запросов подписчика
+     *
+     * @param companyName название компании перевозчика
+     * @param cursor      курсор последней уже полученной записи или null для выгрузки с начала
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    @Override
+    public Flux<Ticket> streamTicketsByCompanyNameCarrier(String companyName, SeekCursor cursor) {
+        log.info(FIND_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_REPOSITORY, companyName);
+        return Flux.from(TicketRepository.selectTicketsByCompanyNameCarrier(r2dbcDslContext.dsl(), companyName, cursor))
+                .map(TicketRepository::formingTicket);
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.configuration.R2dbcDslContext;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Tokens;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.TokenRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Token;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Record1;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.DATA_ACCESS_EXCEPTION_FIND_MESSAGE_REPOSITORY;
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY;
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
+
+/**
+ * Класс-репозиторий для неблокирующей работы с токенами через R2DBC.
+ * Выполняет те же запросы jOOQ, что и {@link TokenRepository}, без выделения потока на запрос.
+ * Реализует интерфейс {@link ReactiveTokenRepository}
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "persistence.backend", havingValue = "r2dbc")
+public class R2dbcReactiveTokenRepository implements ReactiveTokenRepository {
+    private final R2dbcDslContext r2dbcDslContext;
+    private final TokenRecordMapper tokenRecordMapper;
+
+    /**
+     * Реализация метода изменения информации о токене в базе данных
+     *
+     * @param token модель токена
+     * @return Возвращает модель измененного токена
+     */
+    @Override
+    public Mono<Token> update(Token token) {
+        log.info(UPDATE_TOKEN_MESSAGE_LOGGER_REPOSITORY, token);
+        return Mono.from(r2dbcDslContext.dsl()
+                        .update(Tokens.TOKENS)
+                        .set(tokenRecordMapper.unmapUpdateToken(token))
+                        .where(Tokens.TOKENS.USER_ID.eq(token.getUserId()))
+                        .returning())
+                .map(result -> result.into(Token.class))
+                .switchIfEmpty(Mono.error(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY + token)));
+    }
+
+    /**
+     * Реализация метода поиска токена по уникальному идентификатору пользователя
+     *
+     * @param id уникальный идентификатор пользователя
+     * @return Возвращает модель найденного токена
+     */
+    @Override
+    public Mono<Token> findTokenByUserId(Long id) {
+        log.info(FIND_TOKEN_BY_USER_ID_MESSAGE_LOGGER_REPOSITORY, id);
+        return Mono.from(r2dbcDslContext.dsl()
+                        .selectFrom(Tokens.TOKENS)
+                        .where(Tokens.TOKENS.USER_ID.eq(id)))
+                .map(token -> token.into(Token.class))
+                .switchIfEmpty(Mono.error(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_FIND_MESSAGE_REPOSITORY + id)));
+    }
+
+    /**
+     * Реализация метода проверки присутствия токена по уникальному идентификатору пользователя
+     *
+     * @param id уникальный идентификатор пользователя
+     * @return Возвращает true, если токен пользователя присутствует в базе данных
+     */
+    @Override
+    public Mono<Boolean> existsTokenByUserId(Long id) {
+        log.info(EXISTS_TOKEN_BY_USER_ID_MESSAGE_LOGGER_REPOSITORY, id);
+        return Mono.from(r2dbcDslContext.dsl()
+                        .select(DSL.field(DSL.exists(DSL.selectOne()
+                                .from(Tokens.TOKENS)
+                                .where(Tokens.TOKENS.USER_ID.eq(id))))))
+                .map(Record1::value1);
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.configuration.R2dbcDslContext;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Users;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.exception.DataAccessException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.DATA_ACCESS_EXCEPTION_FIND_MESSAGE_REPOSITORY;
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.FIND_USER_BY_LOGIN_MESSAGE_LOGGER_REPOSITORY;
+
+/**
+ * Класс-репозиторий для неблокирующего поиска пользователей через R2DBC.
+ * Реализует интерфейс {@link ReactiveUserRepository}
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "persistence.backend", havingValue = "r2dbc")
+public class R2dbcReactiveUserRepository implements ReactiveUserRepository {
+    private final R2dbcDslContext r2dbcDslContext;
+
+    /**
+     * Реализация метода поиска пользователя по его уникальному логину
+     *
+     * @param login уникальный логин пользователя
+     * @return Возвращает модель найденного пользователя
+     */
+    @Override
+    public Mono<User> findUserByLogin(String login) {
+        log.info(FIND_USER_BY_LOGIN_MESSAGE_LOGGER_REPOSITORY, login);
+        return Mono.from(r2dbcDslContext.dsl()
+                        .selectFrom(Users.USERS)
+                        .where(Users.USERS.LOGIN.eq(login)))
+                .map(user -> user.into(User.class))
+                .switchIfEmpty(Mono.error(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_FIND_MESSAGE_REPOSITORY + login)));
+    }
+}
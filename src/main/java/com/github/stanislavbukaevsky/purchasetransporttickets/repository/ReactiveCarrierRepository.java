@@ -0,0 +1,51 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Carrier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Интерфейс-репозиторий с неблокирующими методами для работы с перевозчиками в базе данных.
+ * Реализация выбирается свойством persistence.backend: jdbc или r2dbc.
+ * В этом интерфейсе прописана только сигнатура методов без реализации
+ */
+public interface ReactiveCarrierRepository {
+    /**
+     * Сигнатура метода сохранения информации о перевозчике в базу данных
+     *
+     * @param carrier модель перевозчика
+     * @return Возвращает модель сохраненного перевозчика
+     */
+    Mono<Carrier> save(Carrier carrier);
+
+    /**
+     * Сигнатура метода изменения информации о перевозчике в базе данных
+     *
+     * @param carrier модель перевозчика
+     * @return Возвращает модель измененного перевозчика
+     */
+    Mono<Carrier> update(Carrier carrier);
+
+    /**
+     * Сигнатура метода поиска перевозчика по его уникальному идентификатору
+     *
+     * @param id уникальный идентификатор перевозчика
+     * @return Возвращает модель найденного перевозчика
+     */
+    Mono<Carrier> findCarrierById(Long id);
+
+    /**
+     * Сигнатура метода поиска перевозчика по названию компании
+     *
+     * @param companyName компания перевозчика
+     * @return Возвращает модель найденного перевозчика
+     */
+    Mono<Carrier> findCarrierByCompanyName(String companyName);
+
+    /**
+     * Сигнатура метода удаления перевозчика по его уникальному идентификатору
+     *
+     * @param id уникальный идентификатор перевозчика
+     * @return Возвращает пустой Mono после удаления
+     */
+    Mono<Void> deleteById(Long id);
+}
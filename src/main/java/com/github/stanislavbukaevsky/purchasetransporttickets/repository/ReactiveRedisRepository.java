@@ -0,0 +1,120 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
+
+/**
+ * Класс-репозиторий с неблокирующими обращениями к хранилищу Redis для обработки запросов пользователей.
+ * Команды отправляются через общее соединение Lettuce и не занимают потоки цикла событий Netty
+ * и планировщика jdbcScheduler, пока хранилище отвечает. Билеты и история покупок читаются по ключам,
+ * которые записывает {@link RedisRepository}: значение билета в хэше кэша билетов читается как массив байт
+ * и раскодируется сериализатором значений Redis, а отметка об удалении читается как отсутствующий билет
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ReactiveRedisRepository {
+    private static final RedisSerializationContext<String, String> TICKET_CACHE_CONTEXT = RedisSerializationContext
+            .<String, String>newSerializationContext(RedisSerializer.string())
+            .hashValue(RedisSerializer.byteArray())
+            .build();
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private final RedisSerializer<Object> redisValueSerializer;
+
+    /**
+     * Этот метод за одно обращение к хранилищу Redis находит забронированные билеты среди переданных.
+     * Если хранилище не ответило за время ожидания команды или недоступно, билеты считаются незабронированными:
+     * бронь все равно проверяется при покупке, а поиск не завершается ошибкой из-за задержек Redis
+     *
+     * @param ticketIds уникальные идентификаторы билетов
+     * @return Возвращает множество идентификаторов забронированных билетов
+     */
+    public Mono<Set<Long>> findHeldTicketIds(List<Long> ticketIds) {
+        if (ticketIds.isEmpty()) {
+            return Mono.just(Collections.emptySet());
+        }
+        log.info(REDIS_FIND_HELD_TICKETS_MESSAGE_LOGGER_REPOSITORY, ticketIds.size());
+        return reactiveStringRedisTemplate.opsForValue()
+                .multiGet(ticketIds.stream().map(TicketHoldRedisRepository::key).toList())
+                .map(holders -> {
+                    Set<Long> result = new HashSet<>();
+                    for (int i = 0; i < ticketIds.size(); i++) {
+                        if (holders.get(i) != null) {
+                            result.add(ticketIds.get(i));
+                        }
+                    }
+                    return result;
+                })
+                .defaultIfEmpty(Collections.emptySet())
+                .onErrorResume(exception -> {
+                    log.warn(REDIS_FIND_HELD_TICKETS_ERROR_MESSAGE_LOGGER_REPOSITORY, ticketIds.size(), exception.getMessage());
+                    return Mono.just(Collections.emptySet());
+                });
+    }
+
+    /**
+     * Этот метод ищет билет в кэше билетов хранилища Redis
+     *
+     * @param id уникальный идентификатор билета
+     * @return Возвращает модель билета без маршрута и покупателя или пустой Mono, если билета нет в хранилище или он удален
+     */
+    public Mono<Ticket> findById(Long id) {
+        log.info(REDIS_FIND_BY_ID_MESSAGE_LOGGER_REPOSITORY, id);
+        return readTicket(id);
+    }
+
+    /**
+     * Этот метод ищет страницу истории покупок пользователя за два обращения к хранилищу Redis:
+     * первое одновременно читает отметку о заполненной истории и идентификаторы билетов страницы,
+     * второе читает поля всех билетов страницы. Стоимость не зависит от количества билетов на платформе
+     *
+     * @param userId уникальный идентификатор покупателя
+     * @param offset номер первой записи страницы
+     * @param size   количество записей
+     * @return Возвращает купленные билеты страницы без маршрута и перевозчика
+     * или пустой Mono, если история не заполнена или заполнена не полностью
+     */
+    public Mono<List<Ticket>> findPurchases(Long userId, long offset, int size) {
+        log.info(REDIS_FIND_PURCHASES_MESSAGE_LOGGER_REPOSITORY, userId, offset, size);
+        ReactiveHashOperations<String, String, String> purchases = reactiveStringRedisTemplate.opsForHash();
+        return Mono.zip(reactiveStringRedisTemplate.opsForValue().get(RedisRepository.loadedKey(userId)).defaultIfEmpty(""),
+                        reactiveStringRedisTemplate.opsForZSet()
+                                .range(RedisRepository.purchasesKey(userId), Range.closed(offset, offset + size - 1))
+                                .collectList())
+                .filter(page -> RedisRepository.LOADED.equals(page.getT1()))
+                .flatMap(page -> Flux.fromIterable(page.getT2())
+                        .flatMapSequential(ticketId -> purchases.multiGet(
+                                RedisRepository.ticketKey(userId, Long.valueOf(ticketId)), RedisRepository.PURCHASE_FIELDS))
+                        .collectList())
+                .filter(hashes -> hashes.stream().allMatch(values -> values.get(0) != null))
+                .map(hashes -> hashes.stream().map(RedisRepository::fromHash).toList());
+    }
+
+    /**
+     * Приватный метод для чтения значения билета из хэша кэша билетов
+     *
+     * @param id уникальный идентификатор билета
+     * @return Возвращает модель билета или пустой Mono, если билета нет в хранилище или он удален
+     */
+    private Mono<Ticket> readTicket(Long id) {
+        return reactiveStringRedisTemplate.<String, String, byte[]>opsForHash(TICKET_CACHE_CONTEXT)
+                .get(RedisRepository.cacheKey(id), RedisRepository.VALUE_FIELD)
+                .mapNotNull(value -> (Ticket) redisValueSerializer.deserialize(value));
+    }
+}
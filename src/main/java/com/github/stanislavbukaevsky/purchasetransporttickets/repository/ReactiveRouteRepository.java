@@ -0,0 +1,43 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
+import reactor.core.publisher.Mono;
+
+/**
+ * Интерфейс-репозиторий с неблокирующими методами для работы с маршрутами в базе данных.
+ * Реализация выбирается свойством persistence.backend: jdbc или r2dbc.
+ * В этом интерфейсе прописана только сигнатура методов без реализации
+ */
+public interface ReactiveRouteRepository {
+    /**
+     * Сигнатура метода сохранения информации о маршруте в базу данных
+     *
+     * @param route модель маршрута
+     * @return Возвращает модель сохраненного маршрута
+     */
+    Mono<Route> save(Route route);
+
+    /**
+     * Сигнатура метода изменения информации о маршруте в базе данных
+     *
+     * @param route модель маршрута
+     * @return Возвращает модель измененного маршрута
+     */
+    Mono<Route> update(Route route);
+
+    /**
+     * Сигнатура метода поиска маршрута по его уникальному идентификатору
+     *
+     * @param id уникальный идентификатор маршрута
+     * @return Возвращает модель найденного маршрута
+     */
+    Mono<Route> findRouteById(Long id);
+
+    /**
+     * Сигнатура метода удаления маршрута по его уникальному идентификатору
+     *
+     * @param id уникальный идентификатор маршрута
+     * @return Возвращает пустой Mono после удаления
+     */
+    Mono<Void> deleteById(Long id);
+}
@@ -0,0 +1,106 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.pagination.SeekCursor;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Интерфейс-репозиторий с неблокирующими методами поиска билетов в базе данных.
+ * Реализация выбирается свойством persistence.backend: jdbc или r2dbc.
+ * В этом интерфейсе прописана только сигнатура методов без реализации
+ */
+public interface ReactiveTicketRepository {
+    /**
+     * Сигнатура метода поиска билетов, которые есть в продаже, по дате и времени отправления
+     *
+     * @param departureFrom начало окна отправления
+     * @param departureTo   конец окна отправления включительно
+     * @param cursor        курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size          количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    Flux<Ticket> findTicketsByDateAndTimeDeparture(LocalDateTime departureFrom, LocalDateTime departureTo, SeekCursor cursor, int size);
+
+    /**
+     * Сигнатура метода поиска билетов, которые есть в продаже, по пункту отправления маршрута
+     *
+     * @param departurePoint пункт отправления
+     * @param cursor         курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size           количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    Flux<Ticket> findTicketsByDeparturePoint(String departurePoint, SeekCursor cursor, int size);
+
+    /**
+     * Сигнатура метода поиска билетов, которые есть в продаже, по пункту назначения маршрута
+     *
+     * @param destination пункт назначения
+     * @param cursor      курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size        количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    Flux<Ticket> findTicketsByDestination(String destination, SeekCursor cursor, int size);
+
+    /**
+     * Сигнатура метода поиска билетов, которые есть в продаже, по названию компании перевозчика
+     *
+     * @param companyName название компании перевозчика
+     * @param cursor      курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size        количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    Flux<Ticket> findTicketsByCompanyNameCarrier(String companyName, SeekCursor cursor, int size);
+
+    /**
+     * Сигнатура метода поиска билетов, которые есть в продаже, по нескольким условиям поиска
+     *
+     * @param criteria условия поиска и порядок сортировки
+     * @param cursor   курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size     количество записей
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    Flux<Ticket> findTicketsByCriteria(TicketSearchCriteria criteria, SeekCursor cursor, int size);
+
+    /**
+     * Сигнатура метода потоковой выгрузки всех билетов, которые есть в продаже, по дате и времени отправления.
+     * Билеты выдаются по мере чтения строк из базы данных с учетом запросов подписчика
+     *
+     * @param departureFrom начало окна отправления
+     * @param departureTo   конец окна отправления включительно
+     * @param cursor        курсор последней уже полученной записи или null для выгрузки с начала
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    Flux<Ticket> streamTicketsByDateAndTimeDeparture(LocalDateTime departureFrom, LocalDateTime departureTo, SeekCursor cursor);
+
+    /**
+     * Сигнатура метода потоковой выгрузки всех билетов, которые есть в продаже, по пункту отправления маршрута.
+     * Билеты выдаются по мере чтения строк из базы данных с учетом запросов подписчика
+     *
+     * @param departurePoint пункт отправления
+     * @param cursor         курсор последней уже полученной записи или null для выгрузки с начала
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    Flux<Ticket> streamTicketsByDeparturePoint(String departurePoint, SeekCursor cursor);
+
+    /**
+     * Сигнатура метода потоковой выгрузки всех билетов, которые есть в продаже, по пункту назначения маршрута.
+     * Билеты выдаются по мере чтения строк из базы данных с учетом запросов подписчика
+     *
+     * @param destination пункт назначения
+     * @param cursor      курсор последней уже полученной записи или null для выгрузки с начала
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    Flux<Ticket> streamTicketsByDestination(String destination, SeekCursor cursor);
+
+    /**
+     * Сигнатура метода потоковой выгрузки всех билетов, которые есть в продаже, по названию компании перевозчика.
+     * Билеты выдаются по мере чтения строк из базы данных с учетом запросов подписчика
+     *
+     * @param companyName название компании перевозчика
+     * @param cursor      курсор последней уже полученной записи или null для выгрузки с начала
+     * @return Возвращает поток найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    Flux<Ticket> streamTicketsByCompanyNameCarrier(String companyName, SeekCursor cursor);
+}
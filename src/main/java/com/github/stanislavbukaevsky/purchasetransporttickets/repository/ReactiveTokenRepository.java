@@ -0,0 +1,35 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Token;
+import reactor.core.publisher.Mono;
+
+/**
+ * Интерфейс-репозиторий с неблокирующими методами для работы с токенами в базе данных.
+ * Реализация выбирается свойством persistence.backend: jdbc или r2dbc.
+ * В этом интерфейсе прописана только сигнатура методов без реализации
+ */
+public interface ReactiveTokenRepository {
+    /**
+     * Сигнатура метода изменения информации о токене в базе данных
+     *
+     * @param token модель токена
+     * @return Возвращает модель измененного токена
+     */
+    Mono<Token> update(Token token);
+
+    /**
+     * Сигнатура метода поиска токена по уникальному идентификатору пользователя
+     *
+     * @param id уникальный идентификатор пользователя
+     * @return Возвращает модель найденного токена
+     */
+    Mono<Token> findTokenByUserId(Long id);
+
+    /**
+     * Сигнатура метода проверки присутствия токена по уникальному идентификатору пользователя
+     *
+     * @param id уникальный идентификатор пользователя
+     * @return Возвращает true, если токен пользователя присутствует в базе данных
+     */
+    Mono<Boolean> existsTokenByUserId(Long id);
+}
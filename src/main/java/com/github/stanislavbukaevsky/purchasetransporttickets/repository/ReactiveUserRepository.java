@@ -0,0 +1,19 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.User;
+import reactor.core.publisher.Mono;
+
+/**
+ * Интерфейс-репозиторий с неблокирующими методами поиска пользователей в базе данных.
+ * Реализация выбирается свойством persistence.backend: jdbc или r2dbc.
+ * В этом интерфейсе прописана только сигнатура методов без реализации
+ */
+public interface ReactiveUserRepository {
+    /**
+     * Сигнатура метода поиска пользователя по его уникальному логину
+     *
+     * @param login уникальный логин пользователя
+     * @return Возвращает модель найденного пользователя
+     */
+    Mono<User> findUserByLogin(String login);
+}
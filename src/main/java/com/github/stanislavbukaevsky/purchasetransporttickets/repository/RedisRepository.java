@@ -1,54 +1,361 @@
 package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
 
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
 import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
 import jakarta.annotation.Resource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.HashOperations;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
 
 /**
- * Класс-репозиторий, для связи с хранилищем Redis и вытягиванием из него информации о билетах
+ * Класс-репозиторий, для связи с хранилищем Redis и вытягиванием из него информации о билетах.
+ * Каждый билет хранится в кэше билетов отдельным хэшем с версией билета из базы данных и значением билета.
+ * Запись выполняется Lua-скриптом сравнения версий: значение перезаписывается, только если версия новее,
+ * поэтому запоздавшая запись старой версии не затирает более новую. Удаленный билет остается в кэше
+ * отметкой об удалении с максимальной версией до истечения времени жизни записи.
+ * История покупок хранится отдельно для каждого пользователя: отсортированное множество идентификаторов
+ * купленных билетов и хэш с полями каждого купленного билета. Ключи истории покупок одного пользователя
+ * содержат одинаковый хэш-тег, поэтому попадают в один слот кластера Redis. Купленные билеты записываются
+ * тем же способом сравнения версий, что и кэш билетов, и живут столько же.
+ * Пакетные методы разбивают билеты на порции по batchSize: порция записывается одним конвейером
+ * команд, поэтому тысячи билетов обходятся несколькими обращениями к хранилищу Redis.
+ * Билеты и история покупок читаются неблокирующим репозиторием {@link ReactiveRedisRepository} по тем же ключам
  */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class RedisRepository {
-    private static final String KEY = "Ticket";
+    private static final String TICKET_KEY_PREFIX = "ticket:";
+    static final String VALUE_FIELD = "value";
+    private static final byte[] DELETED = new byte[0];
+    private static final long DELETED_VERSION = Long.MAX_VALUE;
+    private static final String PURCHASES_KEY_PREFIX = "purchases:{";
+    private static final String PURCHASES_KEY_SUFFIX = "}";
+    private static final String LOADED_KEY_SUFFIX = ":loaded";
+    private static final String TICKET_KEY_SUFFIX = ":ticket:";
+    static final String LOADED = "1";
+    static final List<String> PURCHASE_FIELDS = List.of("id", "routeId", "dateTimeDeparture", "seatNumber", "price",
+            "dateTimeTicketIssuance", "userId", "ticketStatus", "version");
+    private static final RedisScript<Long> SAVE_TICKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/save-ticket.lua"), Long.class);
+    private static final byte[] SAVE_TICKET_SCRIPT_BODY =
+            SAVE_TICKET_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+    private static final RedisScript<Long> SAVE_PURCHASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/save-purchase.lua"), Long.class);
+    private static final String SAVE_PURCHASE_SCRIPT_BODY = SAVE_PURCHASE_SCRIPT.getScriptAsString();
     @Resource(name = "redisTemplate")
-    private HashOperations<String, Long, Ticket> hashOperations;
+    private RedisTemplate<String, Object> redisTemplate;
+    @Resource
+    private StringRedisTemplate stringRedisTemplate;
+    @Resource
+    private RedisSerializer<Object> redisValueSerializer;
+    @Value("${redis.batch-size}")
+    private Integer batchSize;
+    @Value("${redis.ticket-cache.time-to-live-in-seconds}")
+    private Long ticketTimeToLiveInSeconds;
 
     /**
-     * Этот метод сохраняет информацию о билете в харанилище Redis
+     * Этот метод сохраняет информацию о билете в харанилище Redis, если в хранилище нет более новой версии билета
      *
-     * @param ticket модель билета
+     * @param ticket модель билета с версией из базы данных
      */
     public void save(Ticket ticket) {
         log.info(REDIS_SAVE_MESSAGE_LOGGER_REPOSITORY, ticket);
-        hashOperations.putIfAbsent(KEY, ticket.getId(), ticket);
+        redisTemplate.execute(SAVE_TICKET_SCRIPT, RedisSerializer.byteArray(),
+                new GenericToStringSerializer<>(Long.class), List.of(cacheKey(ticket.getId())),
+                (Object[]) saveTicketArguments(ticket.getVersion(), redisValueSerializer.serialize(ticket)));
     }
 
     /**
-     * Этот метод удаляет информацию о билете из хранилища Redis
+     * Этот метод удаляет информацию о билете из хранилища Redis. Вместо билета записывается отметка об удалении
+     * с максимальной версией, поэтому запоздавшая запись билета не возвращает его в кэш
      *
      * @param id уникальный идентификатор билета
      */
     public void delete(Long id) {
         log.info(REDIS_DELETE_MESSAGE_LOGGER_REPOSITORY, id);
-        hashOperations.delete(KEY, id);
+        redisTemplate.execute(SAVE_TICKET_SCRIPT, RedisSerializer.byteArray(),
+                new GenericToStringSerializer<>(Long.class), List.of(cacheKey(id)),
+                (Object[]) saveTicketArguments(DELETED_VERSION, DELETED));
+    }
+
+    /**
+     * Этот метод сохраняет информацию о билетах в хранилище Redis, если в хранилище нет более новых версий билетов.
+     * Каждая порция билетов записывается одним конвейером команд, поэтому число обращений к хранилищу равно числу порций
+     *
+     * @param tickets модели билетов с версиями из базы данных
+     */
+    public void saveAll(List<Ticket> tickets) {
+        log.info(REDIS_SAVE_ALL_MESSAGE_LOGGER_REPOSITORY, tickets.size());
+        for (List<Ticket> batch : batches(tickets)) {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Ticket ticket : batch) {
+                    saveTicket(connection, ticket.getId(), ticket.getVersion(), redisValueSerializer.serialize(ticket));
+                }
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Этот метод атомарно сохраняет купленный билет в истории покупок пользователя Lua-скриптом сравнения версий.
+     * Билет перезаписывается, только если в истории нет более новой версии билета или отметки о его удалении
+     *
+     * @param userId уникальный идентификатор покупателя
+     * @param ticket модель купленного билета с версией из базы данных
+     */
+    public void savePurchase(Long userId, Ticket ticket) {
+        log.info(REDIS_SAVE_PURCHASE_MESSAGE_LOGGER_REPOSITORY, userId, ticket.getId());
+        stringRedisTemplate.execute(SAVE_PURCHASE_SCRIPT, List.of(purchasesKey(userId), ticketKey(userId, ticket.getId())),
+                (Object[]) savePurchaseArguments(ticket.getId(), ticket.getVersion(), toHash(userId, ticket)));
+    }
+
+    /**
+     * Этот метод заполняет историю покупок пользователя билетами из базы данных одним конвейером команд на порцию билетов.
+     * Билеты записываются тем же Lua-скриптом сравнения версий, поэтому прочитанная до покупки или изменения билета
+     * версия не затирает более новую запись и не возвращает в историю билет, который у пользователя уже забрали.
+     * Отметка о заполненной истории записывается последней, поэтому до ее записи история читается из базы данных.
+     * Все ключи истории живут столько же, сколько записи кэша билетов
+     *
+     * @param userId  уникальный идентификатор покупателя
+     * @param tickets все купленные билеты пользователя с версиями из базы данных
+     */
+    public void savePurchases(Long userId, List<Ticket> tickets) {
+        log.info(REDIS_SAVE_PURCHASES_MESSAGE_LOGGER_REPOSITORY, userId, tickets.size());
+        String purchasesKey = purchasesKey(userId);
+        for (List<Ticket> batch : batches(tickets)) {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Ticket ticket : batch) {
+                    savePurchase(stringConnection, purchasesKey, ticketKey(userId, ticket.getId()),
+                            savePurchaseArguments(ticket.getId(), ticket.getVersion(), toHash(userId, ticket)));
+                }
+                return null;
+            });
+        }
+        stringRedisTemplate.opsForValue().set(loadedKey(userId), LOADED, Duration.ofSeconds(ticketTimeToLiveInSeconds));
+    }
+
+    /**
+     * Этот метод удаляет билет из истории покупок бывшего покупателя, когда билет у него забрали.
+     * Вместо билета записывается отметка об удалении с версией билета, поэтому заполнение истории, прочитавшее билет
+     * из базы данных до изменения, не возвращает его в историю, а новая покупка того же билета записывается
+     *
+     * @param userId уникальный идентификатор бывшего покупателя
+     * @param ticket модель билета с версией из базы данных после изменения
+     */
+    public void removePurchase(Long userId, Ticket ticket) {
+        log.info(REDIS_DELETE_PURCHASE_MESSAGE_LOGGER_REPOSITORY, userId, ticket.getId());
+        savePurchaseTombstone(userId, ticket.getId(), ticket.getVersion());
+    }
+
+    /**
+     * Этот метод удаляет удаленный билет из истории покупок пользователя. Вместо билета записывается
+     * отметка об удалении с максимальной версией, поэтому запоздавшее заполнение истории не возвращает билет
+     *
+     * @param userId   уникальный идентификатор покупателя
+     * @param ticketId уникальный идентификатор билета
+     */
+    public void deletePurchase(Long userId, Long ticketId) {
+        log.info(REDIS_DELETE_PURCHASE_MESSAGE_LOGGER_REPOSITORY, userId, ticketId);
+        savePurchaseTombstone(userId, ticketId, DELETED_VERSION);
+    }
+
+    /**
+     * Приватный метод для записи отметки об удалении билета из истории покупок Lua-скриптом сравнения версий
+     *
+     * @param userId   уникальный идентификатор покупателя
+     * @param ticketId уникальный идентификатор билета
+     * @param version  версия отметки об удалении
+     */
+    private void savePurchaseTombstone(Long userId, Long ticketId, Long version) {
+        stringRedisTemplate.execute(SAVE_PURCHASE_SCRIPT, List.of(purchasesKey(userId), ticketKey(userId, ticketId)),
+                (Object[]) savePurchaseArguments(ticketId, version, Map.of()));
+    }
+
+    /**
+     * Приватный метод для записи билета Lua-скриптом сравнения версий через соединение с хранилищем Redis.
+     * Используется в конвейере команд, поэтому скрипт отправляется целиком, а не по контрольной сумме
+     *
+     * @param connection соединение с хранилищем Redis
+     * @param id         уникальный идентификатор билета
+     * @param version    версия билета
+     * @param value      значение билета или отметка об удалении
+     */
+    private void saveTicket(RedisConnection connection, Long id, long version, byte[] value) {
+        byte[][] keysAndArguments = new byte[4][];
+        keysAndArguments[0] = cacheKey(id).getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(saveTicketArguments(version, value), 0, keysAndArguments, 1, 3);
+        connection.scriptingCommands().eval(SAVE_TICKET_SCRIPT_BODY, ReturnType.INTEGER, 1, keysAndArguments);
+    }
+
+    /**
+     * Приватный метод для формирования аргументов Lua-скрипта сравнения версий: версии, значения и времени жизни записи
+     *
+     * @param version версия билета
+     * @param value   значение билета или отметка об удалении
+     * @return Возвращает аргументы скрипта
+     */
+    private byte[][] saveTicketArguments(long version, byte[] value) {
+        return new byte[][]{
+                String.valueOf(version).getBytes(StandardCharsets.UTF_8),
+                value,
+                String.valueOf(ticketTimeToLiveInSeconds * 1000).getBytes(StandardCharsets.UTF_8)};
+    }
+
+    /**
+     * Приватный метод для записи купленного билета Lua-скриптом сравнения версий через соединение с хранилищем Redis.
+     * Используется в конвейере команд, поэтому скрипт отправляется целиком, а не по контрольной сумме
+     *
+     * @param connection   соединение с хранилищем Redis
+     * @param purchasesKey ключ истории покупок пользователя
+     * @param ticketKey    ключ хэша купленного билета
+     * @param arguments    аргументы скрипта
+     */
+    private void savePurchase(StringRedisConnection connection, String purchasesKey, String ticketKey, String[] arguments) {
+        String[] keysAndArguments = new String[arguments.length + 2];
+        keysAndArguments[0] = purchasesKey;
+        keysAndArguments[1] = ticketKey;
+        System.arraycopy(arguments, 0, keysAndArguments, 2, arguments.length);
+        connection.eval(SAVE_PURCHASE_SCRIPT_BODY, ReturnType.INTEGER, 2, keysAndArguments);
+    }
+
+    /**
+     * Приватный метод для формирования аргументов Lua-скрипта истории покупок: идентификатора и версии билета,
+     * времени жизни записей и полей хэша купленного билета
+     *
+     * @param ticketId уникальный идентификатор билета
+     * @param version  версия билета
+     * @param hash     поля хэша купленного билета или пустой словарь для отметки об удалении
+     * @return Возвращает аргументы скрипта
+     */
+    private String[] savePurchaseArguments(Long ticketId, Long version, Map<String, String> hash) {
+        List<String> arguments = new ArrayList<>(3 + 2 * hash.size());
+        arguments.add(String.valueOf(ticketId));
+        arguments.add(String.valueOf(version));
+        arguments.add(String.valueOf(ticketTimeToLiveInSeconds * 1000));
+        hash.forEach((field, value) -> {
+            arguments.add(field);
+            arguments.add(value);
+        });
+        return arguments.toArray(String[]::new);
+    }
+
+    /**
+     * Приватный метод для разбиения списка на порции по batchSize элементов без копирования
+     *
+     * @param values список
+     * @param <T>    тип элементов списка
+     * @return Возвращает список порций
+     */
+    private <T> List<List<T>> batches(List<T> values) {
+        List<List<T>> batches = new ArrayList<>((values.size() + batchSize - 1) / batchSize);
+        for (int from = 0; from < values.size(); from += batchSize) {
+            batches.add(values.subList(from, Math.min(from + batchSize, values.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * Приватный метод для формирования полей хэша купленного билета
+     *
+     * @param userId уникальный идентификатор покупателя
+     * @param ticket модель билета
+     * @return Возвращает поля хэша в порядке PURCHASE_FIELDS
+     */
+    private Map<String, String> toHash(Long userId, Ticket ticket) {
+        Map<String, String> hash = new LinkedHashMap<>();
+        hash.put(PURCHASE_FIELDS.get(0), String.valueOf(ticket.getId()));
+        hash.put(PURCHASE_FIELDS.get(1), String.valueOf(ticket.getRouteId()));
+        hash.put(PURCHASE_FIELDS.get(2), ticket.getDateTimeDeparture().toString());
+        hash.put(PURCHASE_FIELDS.get(3), String.valueOf(ticket.getSeatNumber()));
+        hash.put(PURCHASE_FIELDS.get(4), String.valueOf(ticket.getPrice()));
+        hash.put(PURCHASE_FIELDS.get(5), ticket.getDateTimeTicketIssuance().toString());
+        hash.put(PURCHASE_FIELDS.get(6), String.valueOf(userId));
+        hash.put(PURCHASE_FIELDS.get(7), ticket.getTicketStatus().name());
+        hash.put(PURCHASE_FIELDS.get(8), String.valueOf(ticket.getVersion()));
+        return hash;
+    }
+
+    /**
+     * Этот метод формирует модель купленного билета из полей хэша
+     *
+     * @param values значения полей хэша в порядке PURCHASE_FIELDS
+     * @return Возвращает модель билета с заполненным уникальным идентификатором маршрута
+     */
+    static Ticket fromHash(List<String> values) {
+        Ticket ticket = new Ticket();
+        ticket.setId(Long.valueOf(values.get(0)));
+        ticket.setRouteId(Long.valueOf(values.get(1)));
+        ticket.setDateTimeDeparture(LocalDateTime.parse(values.get(2)));
+        ticket.setSeatNumber(Integer.valueOf(values.get(3)));
+        ticket.setPrice(Integer.valueOf(values.get(4)));
+        ticket.setDateTimeTicketIssuance(LocalDateTime.parse(values.get(5)));
+        ticket.setUserId(Long.valueOf(values.get(6)));
+        ticket.setTicketStatus(TicketStatus.valueOf(values.get(7)));
+        ticket.setVersion(Long.valueOf(values.get(8)));
+        return ticket;
+    }
+
+    /**
+     * Этот метод формирует ключ хэша билета в кэше билетов
+     *
+     * @param id уникальный идентификатор билета
+     * @return Возвращает ключ хэша билета
+     */
+    static String cacheKey(Long id) {
+        return TICKET_KEY_PREFIX + id;
+    }
+
+    /**
+     * Этот метод формирует ключ отсортированного множества купленных билетов пользователя
+     *
+     * @param userId уникальный идентификатор покупателя
+     * @return Возвращает ключ истории покупок в хранилище Redis
+     */
+    static String purchasesKey(Long userId) {
+        return PURCHASES_KEY_PREFIX + userId + PURCHASES_KEY_SUFFIX;
+    }
+
+    /**
+     * Этот метод формирует ключ отметки о заполненной истории покупок пользователя
+     *
+     * @param userId уникальный идентификатор покупателя
+     * @return Возвращает ключ отметки в хранилище Redis
+     */
+    static String loadedKey(Long userId) {
+        return purchasesKey(userId) + LOADED_KEY_SUFFIX;
     }
 
     /**
-     * Этот метод ищет билеты в хранилище Redis
+     * Этот метод формирует ключ хэша купленного билета
      *
-     * @return Возвращает найденные билеты в хранилище
+     * @param userId   уникальный идентификатор покупателя
+     * @param ticketId уникальный идентификатор билета
+     * @return Возвращает ключ хэша купленного билета в хранилище Redis
      */
-    public Map<Long, Ticket> findAllTickets() {
-        log.info(REDIS_FIND_ALL_TICKETS_MESSAGE_LOGGER_REPOSITORY);
-        return hashOperations.entries(KEY);
+    static String ticketKey(Long userId, Long ticketId) {
+        return purchasesKey(userId) + TICKET_KEY_SUFFIX + ticketId;
     }
 }
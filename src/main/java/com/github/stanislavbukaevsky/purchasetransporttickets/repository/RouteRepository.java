@@ -1,16 +1,23 @@
 package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
 
 import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Routes;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Tickets;
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
 import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.RouteRecordMapper;
 import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record3;
 import org.jooq.exception.DataAccessException;
-import org.springframework.data.domain.Pageable;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.DATA_ACCESS_EXCEPTION_FIND_MESSAGE_REPOSITORY;
 import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY;
@@ -106,61 +113,26 @@ public class RouteRepository {
     }
 
     /**
-     * Этот метод ищет список маршрутов из базы данных по пункту отправления.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Этот метод считает билеты в продаже для каждого пункта отправления и пункта назначения маршрутов одним запросом.
+     * Пункты маршрутов без билетов в продаже тоже попадают в результат с нулевым количеством
      *
-     * @param departurePoint пункт отправления
-     * @param pageable       объект пагинации
-     * @return Возвращает список найденных маршрутов
+     * @return Возвращает количество билетов в продаже по названию пункта в написании из базы данных
      */
-    public List<Route> findRoutesByDeparturePoint(String departurePoint, Pageable pageable) {
-        String like = "%" + departurePoint + "%";
-        log.info(FIND_ROUTES_BY_DEPARTURE_POINT_MESSAGE_LOGGER_REPOSITORY, departurePoint);
-        return dsl.select()
-                .from(Routes.ROUTES)
-                .where(Routes.ROUTES.DEPARTURE_POINT.likeIgnoreCase(like))
-                .orderBy(Routes.ROUTES.ID.asc())
-                .offset(pageable.getPageNumber())
-                .limit(pageable.getPageSize())
-                .fetchInto(Route.class);
-    }
-
-    /**
-     * Этот метод ищет список маршрутов из базы данных по пункту назначения.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
-     *
-     * @param destination пункт назначения
-     * @param pageable    объект пагинации
-     * @return Возвращает список найденных маршрутов
-     */
-    public List<Route> findRoutesByDestination(String destination, Pageable pageable) {
-        String like = "%" + destination + "%";
-        log.info(FIND_ROUTES_BY_DESTINATION_MESSAGE_LOGGER_REPOSITORY, destination);
-        return dsl.select()
-                .from(Routes.ROUTES)
-                .where(Routes.ROUTES.DESTINATION.likeIgnoreCase(like))
-                .orderBy(Routes.ROUTES.ID.asc())
-                .offset(pageable.getPageNumber())
-                .limit(pageable.getPageSize())
-                .fetchInto(Route.class);
-    }
-
-    /**
-     * Этот метод ищет список маршрутов из базы данных по названию компании перевозчика.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
-     *
-     * @param carrierId уникальный идентификатор названия компании перевозчика
-     * @param pageable  объект пагинации
-     * @return Возвращает список найденных маршрутов
-     */
-    public List<Route> findRoutesByCompanyNameCarrier(Long carrierId, Pageable pageable) {
-        log.info(FIND_ROUTES_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_REPOSITORY, carrierId);
-        return dsl.select()
+    public Map<String, Integer> countAvailableTicketsByCity() {
+        log.info(COUNT_AVAILABLE_TICKETS_BY_CITY_MESSAGE_LOGGER_REPOSITORY);
+        Field<Integer> availableTickets = DSL.count(Tickets.TICKETS.ID);
+        List<Record3<String, String, Integer>> routes = dsl.select(Routes.ROUTES.DEPARTURE_POINT, Routes.ROUTES.DESTINATION, availableTickets)
                 .from(Routes.ROUTES)
-                .where(Routes.ROUTES.CARRIER_ID.eq(carrierId))
-                .orderBy(Routes.ROUTES.ID.asc())
-                .offset(pageable.getPageNumber())
-                .limit(pageable.getPageSize())
-                .fetchInto(Route.class);
+                .leftJoin(Tickets.TICKETS)
+                .on(Tickets.TICKETS.ROUTE_ID.eq(Routes.ROUTES.ID),
+                        Tickets.TICKETS.TICKET_STATUS.eq(TicketStatus.AVAILABLE_FOR_SALE.name()))
+                .groupBy(Routes.ROUTES.ID)
+                .fetch();
+        Map<String, Integer> cities = new HashMap<>();
+        for (Record3<String, String, Integer> route : routes) {
+            cities.merge(route.value1(), route.value3(), Integer::sum);
+            cities.merge(route.value2(), route.value3(), Integer::sum);
+        }
+        return cities;
     }
 }
@@ -0,0 +1,35 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+/**
+ * Вспомогательный класс для построения шаблонов поиска по подстроке.
+ * Шаблон вида ILIKE '%строка%' обслуживается триграммными GIN индексами (pg_trgm) на колонках
+ * пунктов отправления, пунктов назначения и названий компаний перевозчиков
+ */
+final class SearchPattern {
+    /**
+     * Символ экранирования для шаблонов LIKE
+     */
+    static final char ESCAPE = '!';
+
+    private SearchPattern() {
+    }
+
+    /**
+     * Этот метод формирует шаблон поиска по подстроке.
+     * Символы шаблона LIKE во входной строке экранируются, поэтому ищутся буквально
+     *
+     * @param value искомая подстрока
+     * @return Возвращает шаблон для поиска по подстроке
+     */
+    static String contains(String value) {
+        StringBuilder pattern = new StringBuilder(value.length() + 2).append('%');
+        for (int i = 0; i < value.length(); i++) {
+            char symbol = value.charAt(i);
+            if (symbol == ESCAPE || symbol == '%' || symbol == '_') {
+                pattern.append(ESCAPE);
+            }
+            pattern.append(symbol);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.exception.InvalidCursorException;
+import com.github.stanislavbukaevsky.purchasetransporttickets.pagination.SeekCursor;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Row2;
+import org.jooq.impl.DSL;
+
+import java.util.function.Function;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.INVALID_CURSOR_EXCEPTION_MESSAGE_SERVICE;
+
+/**
+ * Вспомогательный класс для построения условий постраничной выборки по ключу (seek-пагинации).
+ * Условие добавляется в WHERE запроса, а не через SEEK jOOQ, поэтому запрос без курсора и с курсором
+ * остается одного типа и может быть как ограничен количеством записей, так и выгружен потоком целиком.
+ * Сравнение строк (ключ, идентификатор) &gt; (значение, идентификатор) обслуживается составным индексом
+ */
+final class SeekCondition {
+    private SeekCondition() {
+    }
+
+    /**
+     * Этот метод формирует условие выборки записей после курсора по возрастанию идентификатора
+     *
+     * @param id     поле идентификатора записи
+     * @param cursor курсор последней записи предыдущей страницы или null для первой страницы
+     * @return Возвращает условие выборки записей после курсора или пустое условие для первой страницы
+     */
+    static Condition after(Field<Long> id, SeekCursor cursor) {
+        return cursor == null ? DSL.noCondition() : id.gt(cursor.id());
+    }
+
+    /**
+     * Этот метод формирует условие выборки записей после курсора по ключу сортировки и идентификатору
+     *
+     * @param field      поле ключа сортировки
+     * @param id         поле идентификатора записи
+     * @param descending true, если записи упорядочены по убыванию
+     * @param cursor     курсор последней записи предыдущей страницы или null для первой страницы
+     * @param key        ключ сортировки из курсора
+     * @param <T>        тип ключа сортировки
+     * @return Возвращает условие выборки записей после курсора или пустое условие для первой страницы
+     * @throws InvalidCursorException если в курсоре нет ключа сортировки
+     */
+    static <T> Condition after(Field<T> field, Field<Long> id, boolean descending, SeekCursor cursor,
+                               Function<SeekCursor, T> key) {
+        if (cursor == null) {
+            return DSL.noCondition();
+        }
+        T value = key.apply(cursor);
+        if (value == null) {
+            throw new InvalidCursorException(INVALID_CURSOR_EXCEPTION_MESSAGE_SERVICE + cursor.encode());
+        }
+        Row2<T, Long> row = DSL.row(field, id);
+        return descending ? row.lt(value, cursor.id()) : row.gt(value, cursor.id());
+    }
+}
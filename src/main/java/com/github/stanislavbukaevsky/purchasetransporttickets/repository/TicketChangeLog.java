@@ -0,0 +1,34 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.TicketChanges;
+import org.jooq.DSLContext;
+
+import java.time.LocalDateTime;
+
+/**
+ * Вспомогательный класс для записи журнала изменений билетов.
+ * Методы вызываются внутри транзакции, в которой изменяется сам билет, поэтому журнал всегда
+ * содержит изменение, если оно сохранено. Журнал читается при восстановлении индекса билетов в продаже из снимка
+ */
+final class TicketChangeLog {
+
+    private TicketChangeLog() {
+    }
+
+    /**
+     * Этот метод записывает изменение билета. Записывается ключ отправления билета до изменения,
+     * чтобы билет можно было убрать из снимка индекса, даже если он перенесен на другое отправление или удален
+     *
+     * @param dsl               контекст jOOQ транзакции
+     * @param ticketId          уникальный идентификатор билета
+     * @param routeId           уникальный идентификатор маршрута до изменения
+     * @param dateTimeDeparture дата и время отправления до изменения
+     */
+    static void record(DSLContext dsl, Long ticketId, Long routeId, LocalDateTime dateTimeDeparture) {
+        dsl.insertInto(TicketChanges.TICKET_CHANGES)
+                .set(TicketChanges.TICKET_CHANGES.TICKET_ID, ticketId)
+                .set(TicketChanges.TICKET_CHANGES.ROUTE_ID, routeId)
+                .set(TicketChanges.TICKET_CHANGES.DATE_TIME_DEPARTURE, dateTimeDeparture)
+                .execute();
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketHoldStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
+
+/**
+ * Класс-репозиторий, для связи с хранилищем Redis и управления бронью транспортных билетов.
+ * Бронь хранится только в Redis с ограниченным временем жизни и не блокирует строки таблицы билетов
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TicketHoldRedisRepository {
+    private static final String KEY_PREFIX = "ticket-hold:";
+    private static final RedisScript<Long> HOLD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/hold-ticket.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release-ticket-hold.lua"), Long.class);
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * Этот метод атомарно бронирует билет за покупателем на заданное время.
+     * Повторная бронь тем же покупателем продлевает время жизни брони, но никогда его не сокращает
+     *
+     * @param ticketId   уникальный идентификатор билета
+     * @param login      логин покупателя
+     * @param timeToLive время жизни брони
+     * @return Возвращает результат бронирования: новая бронь, продленная бронь этого покупателя
+     * или отказ, если билет забронирован другим покупателем
+     */
+    public TicketHoldStatus hold(Long ticketId, String login, Duration timeToLive) {
+        log.info(REDIS_HOLD_TICKET_MESSAGE_LOGGER_REPOSITORY, ticketId, login);
+        Long result = stringRedisTemplate.execute(HOLD_SCRIPT, List.of(key(ticketId)),
+                login, String.valueOf(timeToLive.toMillis()));
+        if (Long.valueOf(1L).equals(result)) {
+            return TicketHoldStatus.HELD;
+        }
+        return Long.valueOf(2L).equals(result) ? TicketHoldStatus.EXTENDED : TicketHoldStatus.REJECTED;
+    }
+
+    /**
+     * Этот метод снимает бронь с билета, если она принадлежит этому покупателю
+     *
+     * @param ticketId уникальный идентификатор билета
+     * @param login    логин покупателя
+     * @return Возвращает true, если бронь была снята
+     */
+    public boolean release(Long ticketId, String login) {
+        log.info(REDIS_RELEASE_TICKET_HOLD_MESSAGE_LOGGER_REPOSITORY, ticketId, login);
+        Long result = stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key(ticketId)), login);
+        return Long.valueOf(1L).equals(result);
+    }
+
+    /**
+     * Этот метод формирует ключ брони билета. Используется также неблокирующим репозиторием {@link ReactiveRedisRepository}
+     *
+     * @param ticketId уникальный идентификатор билета
+     * @return Возвращает ключ брони билета в хранилище Redis
+     */
+    static String key(Long ticketId) {
+        return KEY_PREFIX + ticketId;
+    }
+}
@@ -1,21 +1,50 @@
 package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
 
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Carriers;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Departures;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Routes;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.TicketChanges;
 import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Tickets;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Users;
 import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
+import com.github.stanislavbukaevsky.purchasetransporttickets.exception.InvalidCursorException;
+import com.github.stanislavbukaevsky.purchasetransporttickets.exception.TicketNotFoundException;
+import com.github.stanislavbukaevsky.purchasetransporttickets.exception.UserNotFoundException;
 import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.TicketRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Carrier;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
 import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.User;
+import com.github.stanislavbukaevsky.purchasetransporttickets.pagination.SeekCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jooq.Condition;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record2;
+import org.jooq.Record3;
+import org.jooq.Record6;
+import org.jooq.SelectConditionStep;
+import org.jooq.SelectLimitStep;
 import org.jooq.exception.DataAccessException;
-import org.springframework.data.domain.Pageable;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.DATA_ACCESS_EXCEPTION_FIND_MESSAGE_REPOSITORY;
 import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY;
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.TICKET_NOT_FOUND_BY_ID_EXCEPTION_MESSAGE_REPOSITORY;
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.USER_NOT_FOUND_EXCEPTION_MESSAGE_REPOSITORY;
 import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
 
 /**
@@ -25,57 +54,134 @@ import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.Lo
 @Repository
 @RequiredArgsConstructor
 public class TicketRepository {
+    private static final List<Field<?>> TICKET_WITH_ROUTE_FIELDS = Stream.of(
+                    Tickets.TICKETS.fields(),
+                    Routes.ROUTES.fields(),
+                    Carriers.CARRIERS.fields())
+            .flatMap(Arrays::stream)
+            .toList();
+    private static final List<Field<?>> AVAILABLE_TICKET_FIELDS = Stream.concat(
+                    TICKET_WITH_ROUTE_FIELDS.stream(),
+                    Stream.of(Departures.DEPARTURES.AVAILABLE_SEATS))
+            .toList();
+    private static final List<Field<?>> BUYING_TICKET_FIELDS = Stream.of(
+                    Tickets.TICKETS.fields(),
+                    Routes.ROUTES.fields(),
+                    Carriers.CARRIERS.fields(),
+                    new Field<?>[]{Users.USERS.ID, Users.USERS.LOGIN, Users.USERS.FIRST_NAME,
+                            Users.USERS.MIDDLE_NAME, Users.USERS.LAST_NAME, Users.USERS.ROLE})
+            .flatMap(Arrays::stream)
+            .toList();
     private final DSLContext dsl;
     private final TicketRecordMapper ticketRecordMapper;
 
     /**
-     * Этот метод сохраняет информацию о билете в базу данных
+     * Этот метод сохраняет информацию о билете в базу данных.
+     * В той же транзакции билет добавляется местом в продаже к своему отправлению и записывается в журнал изменений
      *
      * @param ticket модель билета
      * @return Возвращает модель билета
      */
     public Ticket save(Ticket ticket) {
         log.info(SAVE_TICKET_MESSAGE_LOGGER_REPOSITORY, ticket);
-        return dsl.insertInto(Tickets.TICKETS)
-                .set(ticketRecordMapper.unmap(ticket))
-                .returning()
-                .fetchOptional()
-                .orElseThrow(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY + ticket))
-                .into(Ticket.class);
+        return dsl.transactionResult(configuration -> {
+            Ticket result = configuration.dsl().insertInto(Tickets.TICKETS)
+                    .set(ticketRecordMapper.unmap(ticket))
+                    .returning()
+                    .fetchOptional()
+                    .orElseThrow(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY + ticket))
+                    .into(Ticket.class);
+            DepartureCounter.addSeat(configuration.dsl(), result.getRouteId(), result.getDateTimeDeparture());
+            TicketChangeLog.record(configuration.dsl(), result.getId(), result.getRouteId(), result.getDateTimeDeparture());
+            return result;
+        });
     }
 
     /**
-     * Этот метод изменяет и сохраняет информацию о билете в базе данных
+     * Этот метод изменяет и сохраняет информацию о билете в базе данных.
+     * Измененный билет снова поступает в продажу, поэтому в той же транзакции место убирается
+     * у прежнего отправления билета и добавляется местом в продаже к новому, а прежнее отправление
+     * записывается в журнал изменений. Версия билета увеличивается
      *
      * @param ticket модель билета
      * @return Возвращает модель билета
      */
     public Ticket update(Ticket ticket) {
         log.info(UPDATE_TICKET_MESSAGE_LOGGER_REPOSITORY, ticket);
-        return dsl.update(Tickets.TICKETS)
-                .set(ticketRecordMapper.unmap(ticket))
-                .where(Tickets.TICKETS.ID.eq(ticket.getId()))
-                .returning()
-                .fetchOptional()
-                .orElseThrow(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY + ticket))
-                .into(Ticket.class);
+        return dsl.transactionResult(configuration -> {
+            DSLContext transaction = configuration.dsl();
+            Record3<Long, LocalDateTime, String> previous = transaction
+                    .select(Tickets.TICKETS.ROUTE_ID, Tickets.TICKETS.DATE_TIME_DEPARTURE, Tickets.TICKETS.TICKET_STATUS)
+                    .from(Tickets.TICKETS)
+                    .where(Tickets.TICKETS.ID.eq(ticket.getId()))
+                    .forUpdate()
+                    .fetchOptional()
+                    .orElseThrow(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY + ticket));
+            Ticket result = transaction.update(Tickets.TICKETS)
+                    .set(ticketRecordMapper.unmap(ticket))
+                    .set(Tickets.TICKETS.VERSION, Tickets.TICKETS.VERSION.plus(1))
+                    .where(Tickets.TICKETS.ID.eq(ticket.getId()))
+                    .returning()
+                    .fetchOptional()
+                    .orElseThrow(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY + ticket))
+                    .into(Ticket.class);
+            DepartureCounter.removeSeat(transaction, previous.value1(), previous.value2(),
+                    TicketStatus.AVAILABLE_FOR_SALE.name().equals(previous.value3()));
+            DepartureCounter.addSeat(transaction, result.getRouteId(), result.getDateTimeDeparture());
+            TicketChangeLog.record(transaction, result.getId(), previous.value1(), previous.value2());
+            return result;
+        });
     }
 
     /**
-     * Этот метод изменяет и сохраняет информацию о билете в базе данных
+     * Этот метод покупает билет одним условным запросом к базе данных.
+     * Статус билета меняется только если билет еще есть в продаже, поэтому из двух одновременных покупок
+     * одного и того же билета успешной будет только одна. Вместе с билетом запрос возвращает информацию
+     * о маршруте, перевозчике и покупателе. В той же транзакции место снимается с продажи у отправления билета,
+     * а покупка записывается в журнал изменений. Версия билета увеличивается.
+     * Если запрос не изменил ни одной строки, вторым запросом проверяется, существуют ли билет и покупатель,
+     * чтобы отличить несуществующий билет или пользователя от проигранной гонки покупок
      *
-     * @param ticket модель билета
-     * @return Возвращает модель билета
+     * @param id    уникальный идентификатор билета
+     * @param login уникальный логин покупателя
+     * @return Возвращает модель купленного билета или пустой Optional, если билет уже продан
+     * @throws TicketNotFoundException если билета с таким идентификатором не существует
+     * @throws UserNotFoundException   если пользователя с таким логином не существует
      */
-    public Ticket updateStatusTicket(Ticket ticket) {
-        log.info(UPDATE_TICKET_MESSAGE_LOGGER_REPOSITORY, ticket);
-        return dsl.update(Tickets.TICKETS)
-                .set(ticketRecordMapper.unmapBuying(ticket))
-                .where(Tickets.TICKETS.ID.eq(ticket.getId()))
-                .returning()
-                .fetchOptional()
-                .orElseThrow(() -> new DataAccessException(DATA_ACCESS_EXCEPTION_MESSAGE_REPOSITORY + ticket))
-                .into(Ticket.class);
+    public Optional<Ticket> buyingTicket(Long id, String login) {
+        log.info(BUYING_TICKET_MESSAGE_LOGGER_REPOSITORY, id, login);
+        return dsl.transactionResult(configuration -> {
+            Optional<Ticket> result = configuration.dsl().update(Tickets.TICKETS)
+                    .set(Tickets.TICKETS.USER_ID, Users.USERS.ID)
+                    .set(Tickets.TICKETS.TICKET_STATUS, TicketStatus.NOT_ON_SALE.name())
+                    .set(Tickets.TICKETS.VERSION, Tickets.TICKETS.VERSION.plus(1))
+                    .from(Routes.ROUTES, Carriers.CARRIERS, Users.USERS)
+                    .where(Tickets.TICKETS.ID.eq(id),
+                            Tickets.TICKETS.TICKET_STATUS.eq(TicketStatus.AVAILABLE_FOR_SALE.name()),
+                            Routes.ROUTES.ID.eq(Tickets.TICKETS.ROUTE_ID),
+                            Carriers.CARRIERS.ID.eq(Routes.ROUTES.CARRIER_ID),
+                            Users.USERS.LOGIN.eq(login))
+                    .returningResult(BUYING_TICKET_FIELDS)
+                    .fetchOptional()
+                    .map(this::formingBuyingTicket);
+            if (result.isEmpty()) {
+                Record2<Boolean, Boolean> exists = configuration.dsl().select(
+                                DSL.field(DSL.exists(DSL.selectOne().from(Tickets.TICKETS).where(Tickets.TICKETS.ID.eq(id)))),
+                                DSL.field(DSL.exists(DSL.selectOne().from(Users.USERS).where(Users.USERS.LOGIN.eq(login)))))
+                        .fetchSingle();
+                if (!exists.value1()) {
+                    throw new TicketNotFoundException(TICKET_NOT_FOUND_BY_ID_EXCEPTION_MESSAGE_REPOSITORY + id);
+                }
+                if (!exists.value2()) {
+                    throw new UserNotFoundException(USER_NOT_FOUND_EXCEPTION_MESSAGE_REPOSITORY + login);
+                }
+                return result;
+            }
+            Ticket ticket = result.get();
+            DepartureCounter.sellSeat(configuration.dsl(), ticket.getRouteId(), ticket.getDateTimeDeparture());
+            TicketChangeLog.record(configuration.dsl(), ticket.getId(), ticket.getRouteId(), ticket.getDateTimeDeparture());
+            return result;
+        });
     }
 
     /**
@@ -95,74 +201,466 @@ public class TicketRepository {
     }
 
     /**
-     * Этот метод удаляет билет из базы данных по его уникальному идентификатору
+     * Этот метод удаляет билет из базы данных по его уникальному идентификатору.
+     * В той же транзакции место удаленного билета убирается у его отправления, а удаление записывается в журнал изменений
      *
      * @param id уникальный идентификатор билета
      */
     public void deleteById(Long id) {
         log.info(DELETE_TICKET_BY_ID_MESSAGE_LOGGER_REPOSITORY, id);
-        dsl.deleteFrom(Tickets.TICKETS)
+        dsl.transaction(configuration -> configuration.dsl().deleteFrom(Tickets.TICKETS)
                 .where(Tickets.TICKETS.ID.eq(id))
-                .execute();
+                .returningResult(Tickets.TICKETS.ROUTE_ID, Tickets.TICKETS.DATE_TIME_DEPARTURE, Tickets.TICKETS.TICKET_STATUS)
+                .fetchOptional()
+                .ifPresent(deleted -> {
+                    DepartureCounter.removeSeat(configuration.dsl(), deleted.value1(), deleted.value2(),
+                            TicketStatus.AVAILABLE_FOR_SALE.name().equals(deleted.value3()));
+                    TicketChangeLog.record(configuration.dsl(), id, deleted.value1(), deleted.value2());
+                }));
     }
 
     /**
-     * Этот метод ищет список билетов из базы данных по дате и времени отправления.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Этот метод ищет список билетов, которые есть в продаже, из базы данных по дате и времени отправления.
+     * Билеты выбираются одним запросом вместе с маршрутом и перевозчиком.
+     * Этот метод поддерживает постраничную выборку по ключу (дата и время отправления, идентификатор)
      *
-     * @param dateTimeDeparture дата и время отправления
-     * @param pageable          объект пагинации
-     * @return Возвращает список найденных билетов
+     * @param departureFrom начало окна отправления
+     * @param departureTo   конец окна отправления включительно
+     * @param cursor        курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size          количество записей
+     * @return Возвращает список найденных билетов с заполненными маршрутом и перевозчиком
      */
-    public List<Ticket> findTicketsByDateAndTimeDeparture(LocalDateTime dateTimeDeparture, Pageable pageable) {
-        log.info(FIND_TICKETS_BY_DATE_AND_TIME_DEPARTURE_MESSAGE_LOGGER_REPOSITORY, dateTimeDeparture);
-        return dsl.select()
-                .from(Tickets.TICKETS)
-                .where(Tickets.TICKETS.DATE_TIME_DEPARTURE.eq(dateTimeDeparture),
-                        Tickets.TICKETS.TICKET_STATUS.eq(TicketStatus.AVAILABLE_FOR_SALE.name()))
-                .orderBy(Tickets.TICKETS.DATE_TIME_TICKET_ISSUANCE.asc())
-                .offset(pageable.getPageNumber())
-                .limit(pageable.getPageSize())
-                .fetchInto(Ticket.class);
+    public List<Ticket> findTicketsByDateAndTimeDeparture(LocalDateTime departureFrom, LocalDateTime departureTo, SeekCursor cursor, int size) {
+        log.info(FIND_TICKETS_BY_DATE_AND_TIME_DEPARTURE_MESSAGE_LOGGER_REPOSITORY, departureFrom, departureTo);
+        return selectTicketsByDateAndTimeDeparture(dsl, departureFrom, departureTo, cursor)
+                .limit(size)
+                .fetch(TicketRepository::formingTicket);
     }
 
     /**
-     * Этот метод ищет список билетов из базы данных по уникальному идентификатору маршрута.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Этот метод ищет список билетов, которые есть в продаже, из базы данных по пункту отправления маршрута.
+     * Билеты выбираются одним запросом вместе с маршрутом и перевозчиком.
+     * Этот метод поддерживает постраничную выборку по ключу (идентификатор билета)
      *
-     * @param routeId  уникальный идентификатор маршрута
-     * @param pageable объект пагинации
-     * @return Возвращает список найденных билетов
+     * @param departurePoint пункт отправления
+     * @param cursor         курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size           количество записей
+     * @return Возвращает список найденных билетов с заполненными маршрутом и перевозчиком
      */
-    public List<Ticket> findTicketsByRouteId(Long routeId, Pageable pageable) {
-        log.info(FIND_TICKETS_BY_ROUTE_ID_MESSAGE_LOGGER_REPOSITORY, routeId);
-        return dsl.select()
+    public List<Ticket> findTicketsByDeparturePoint(String departurePoint, SeekCursor cursor, int size) {
+        log.info(FIND_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_REPOSITORY, departurePoint);
+        return selectTicketsByDeparturePoint(dsl, departurePoint, cursor)
+                .limit(size)
+                .fetch(TicketRepository::formingTicket);
+    }
+
+    /**
+     * Этот метод ищет список билетов, которые есть в продаже, из базы данных по пункту назначения маршрута.
+     * Билеты выбираются одним запросом вместе с маршрутом и перевозчиком.
+     * Этот метод поддерживает постраничную выборку по ключу (идентификатор билета)
+     *
+     * @param destination пункт назначения
+     * @param cursor      курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size        количество записей
+     * @return Возвращает список найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    public List<Ticket> findTicketsByDestination(String destination, SeekCursor cursor, int size) {
+        log.info(FIND_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_REPOSITORY, destination);
+        return selectTicketsByDestination(dsl, destination, cursor)
+                .limit(size)
+                .fetch(TicketRepository::formingTicket);
+    }
+
+    /**
+     * Этот метод ищет список билетов, которые есть в продаже, из базы данных по названию компании перевозчика.
+     * Билеты выбираются одним запросом вместе с маршрутом и перевозчиком.
+     * Этот метод поддерживает постраничную выборку по ключу (идентификатор билета)
+     *
+     * @param companyName название компании перевозчика
+     * @param cursor      курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size        количество записей
+     * @return Возвращает список найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    public List<Ticket> findTicketsByCompanyNameCarrier(String companyName, SeekCursor cursor, int size) {
+        log.info(FIND_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_REPOSITORY, companyName);
+        return selectTicketsByCompanyNameCarrier(dsl, companyName, cursor)
+                .limit(size)
+                .fetch(TicketRepository::formingTicket);
+    }
+
+    /**
+     * Этот метод ищет список билетов, которые есть в продаже, из базы данных по нескольким условиям поиска.
+     * Билеты выбираются одним запросом вместе с маршрутом и перевозчиком.
+     * Этот метод поддерживает постраничную выборку по ключу сортировки, заданной в условиях поиска
+     *
+     * @param criteria условия поиска и порядок сортировки
+     * @param cursor   курсор последней записи предыдущей страницы или null для первой страницы
+     * @param size     количество записей
+     * @return Возвращает список найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    public List<Ticket> findTicketsByCriteria(TicketSearchCriteria criteria, SeekCursor cursor, int size) {
+        log.info(FIND_TICKETS_BY_CRITERIA_MESSAGE_LOGGER_REPOSITORY, criteria);
+        return selectTicketsByCriteria(dsl, criteria, cursor)
+                .limit(size)
+                .fetch(TicketRepository::formingTicket);
+    }
+
+    /**
+     * Этот метод ищет все билеты отправления (рейса) маршрута, проданные и в продаже, для построения карты мест.
+     * Выбираются только идентификатор, номер места и статус билета, которые читаются из индекса отправления
+     *
+     * @param routeId           уникальный идентификатор маршрута
+     * @param dateTimeDeparture дата и время отправления
+     * @return Возвращает список билетов отправления с заполненными идентификатором, номером места и статусом
+     */
+    public List<Ticket> findTicketsByDeparture(Long routeId, LocalDateTime dateTimeDeparture) {
+        log.info(FIND_TICKETS_BY_DEPARTURE_MESSAGE_LOGGER_REPOSITORY, routeId, dateTimeDeparture);
+        return dsl.select(Tickets.TICKETS.ID, Tickets.TICKETS.SEAT_NUMBER, Tickets.TICKETS.TICKET_STATUS)
                 .from(Tickets.TICKETS)
                 .where(Tickets.TICKETS.ROUTE_ID.eq(routeId),
-                        Tickets.TICKETS.TICKET_STATUS.eq(TicketStatus.AVAILABLE_FOR_SALE.name()))
-                .orderBy(Tickets.TICKETS.ID.asc())
-                .offset(pageable.getPageNumber())
-                .limit(pageable.getPageSize())
+                        Tickets.TICKETS.DATE_TIME_DEPARTURE.eq(dateTimeDeparture))
                 .fetchInto(Ticket.class);
     }
 
     /**
-     * Этот метод ищет список билетов из базы данных по уникальному идентификатору пользователя.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Этот метод ищет все билеты пользователя из базы данных без маршрута и перевозчика.
+     * Используется для заполнения истории покупок пользователя в хранилище Redis
      *
-     * @param userId   уникальный идентификатор пользователя
-     * @param pageable объект пагинации
-     * @return Возвращает список найденных билетов
+     * @param userId уникальный идентификатор пользователя
+     * @return Возвращает список найденных билетов в порядке уникального идентификатора
      */
-    public List<Ticket> findTicketsByUserId(Long userId, Pageable pageable) {
+    public List<Ticket> findTicketsByUserId(Long userId) {
         log.info(FIND_TICKETS_BY_USER_ID_MESSAGE_LOGGER_REPOSITORY, userId);
-        return dsl.select()
-                .from(Tickets.TICKETS)
+        return dsl.selectFrom(Tickets.TICKETS)
                 .where(Tickets.TICKETS.USER_ID.eq(userId))
                 .orderBy(Tickets.TICKETS.ID.asc())
-                .offset(pageable.getPageNumber())
-                .limit(pageable.getPageSize())
                 .fetchInto(Ticket.class);
     }
-}
 
+    /**
+     * Этот метод ищет все билеты, которые есть в продаже, с отправлением не раньше указанного времени.
+     * Билеты выбираются одним запросом вместе с маршрутом и перевозчиком для построения расписания поездок
+     *
+     * @param dateTimeDeparture дата и время, не раньше которых отправляются билеты
+     * @return Возвращает список найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    public List<Ticket> findAvailableTicketsDepartingAfter(LocalDateTime dateTimeDeparture) {
+        log.info(FIND_AVAILABLE_TICKETS_DEPARTING_AFTER_MESSAGE_LOGGER_REPOSITORY, dateTimeDeparture);
+        return selectAvailableTicketsWithRoute(dsl)
+                .and(Tickets.TICKETS.DATE_TIME_DEPARTURE.ge(dateTimeDeparture))
+                .fetch(TicketRepository::formingTicket);
+    }
+
+    /**
+     * Этот метод ищет билеты маршрута, которые есть в продаже, с отправлением не раньше указанного времени.
+     * Билеты выбираются одним запросом вместе с маршрутом и перевозчиком для обновления расписания поездок
+     *
+     * @param routeId           уникальный идентификатор маршрута
+     * @param dateTimeDeparture дата и время, не раньше которых отправляются билеты
+     * @return Возвращает список найденных билетов с заполненными маршрутом и перевозчиком
+     */
+    public List<Ticket> findAvailableTicketsByRouteIdDepartingAfter(Long routeId, LocalDateTime dateTimeDeparture) {
+        log.info(FIND_TICKETS_BY_ROUTE_ID_MESSAGE_LOGGER_REPOSITORY, routeId);
+        return selectAvailableTicketsWithRoute(dsl)
+                .and(Tickets.TICKETS.ROUTE_ID.eq(routeId))
+                .and(Tickets.TICKETS.DATE_TIME_DEPARTURE.ge(dateTimeDeparture))
+                .fetch(TicketRepository::formingTicket);
+    }
+
+    /**
+     * Этот метод ищет билет, который есть в продаже, по его уникальному идентификатору.
+     * Билет выбирается одним запросом вместе с маршрутом и перевозчиком
+     *
+     * @param id уникальный идентификатор билета
+     * @return Возвращает Optional с найденным билетом или пустой Optional, если билета нет в продаже
+     */
+    public Optional<Ticket> findAvailableTicketById(Long id) {
+        log.info(FIND_TICKET_BY_ID_MESSAGE_LOGGER_REPOSITORY, id);
+        return selectAvailableTicketsWithRoute(dsl)
+                .and(Tickets.TICKETS.ID.eq(id))
+                .fetchOptional(TicketRepository::formingTicket);
+    }
+
+    /**
+     * Этот метод выгружает все билеты, которые есть в продаже, для построения индекса билетов в продаже.
+     * Выбираются только поля билета без маршрута и перевозчика. Запрос выполняется через ленивый курсор в транзакции,
+     * поэтому драйвер PostgreSQL читает строки порциями, и в памяти одновременно находится не больше одной порции
+     *
+     * @param fetchSize размер выборки за одно обращение к базе данных
+     * @param consumer  получатель, которому передается каждый билет
+     */
+    public void streamAvailableTickets(int fetchSize, Consumer<Ticket> consumer) {
+        log.info(STREAM_AVAILABLE_TICKETS_MESSAGE_LOGGER_REPOSITORY, fetchSize);
+        dsl.transaction(configuration -> {
+            try (Cursor<Record6<Long, Long, LocalDateTime, Integer, Integer, LocalDateTime>> cursor = configuration.dsl()
+                    .select(Tickets.TICKETS.ID, Tickets.TICKETS.ROUTE_ID, Tickets.TICKETS.DATE_TIME_DEPARTURE,
+                            Tickets.TICKETS.SEAT_NUMBER, Tickets.TICKETS.PRICE, Tickets.TICKETS.DATE_TIME_TICKET_ISSUANCE)
+                    .from(Tickets.TICKETS)
+                    .where(Tickets.TICKETS.TICKET_STATUS.eq(TicketStatus.AVAILABLE_FOR_SALE.name()))
+                    .fetchSize(fetchSize)
+                    .fetchLazy()) {
+                cursor.forEach(record -> consumer.accept(formingAvailableTicket(record)));
+            }
+        });
+    }
+
+    /**
+     * Этот метод ищет билеты в продаже по списку уникальных идентификаторов.
+     * Выбираются только поля билета без маршрута и перевозчика, как при выгрузке для индекса билетов в продаже.
+     * Идентификаторы передаются одним параметром-массивом, поэтому их количество не ограничено числом параметров запроса
+     *
+     * @param ids уникальные идентификаторы билетов
+     * @return Возвращает список найденных билетов в продаже с заполненным уникальным идентификатором маршрута
+     */
+    public List<Ticket> findAvailableTicketsByIds(Collection<Long> ids) {
+        log.info(FIND_AVAILABLE_TICKETS_BY_IDS_MESSAGE_LOGGER_REPOSITORY, ids.size());
+        return dsl.select(Tickets.TICKETS.ID, Tickets.TICKETS.ROUTE_ID, Tickets.TICKETS.DATE_TIME_DEPARTURE,
+                        Tickets.TICKETS.SEAT_NUMBER, Tickets.TICKETS.PRICE, Tickets.TICKETS.DATE_TIME_TICKET_ISSUANCE)
+                .from(Tickets.TICKETS)
+                .where(Tickets.TICKETS.ID.eq(DSL.any(ids.toArray(Long[]::new))),
+                        Tickets.TICKETS.TICKET_STATUS.eq(TicketStatus.AVAILABLE_FOR_SALE.name()))
+                .fetch(TicketRepository::formingAvailableTicket);
+    }
+
+    /**
+     * Этот метод ищет изменения билетов в журнале изменений, начиная с указанного времени.
+     * Для каждого изменения возвращается билет с ключом отправления до изменения
+     *
+     * @param changedFrom дата и время по часам базы данных, не раньше которых сделаны изменения
+     * @return Возвращает список измененных билетов с заполненными идентификатором, маршрутом и отправлением
+     */
+    public List<Ticket> findTicketChangesSince(LocalDateTime changedFrom) {
+        log.info(FIND_TICKET_CHANGES_MESSAGE_LOGGER_REPOSITORY, changedFrom);
+        return dsl.selectDistinct(TicketChanges.TICKET_CHANGES.TICKET_ID, TicketChanges.TICKET_CHANGES.ROUTE_ID,
+                        TicketChanges.TICKET_CHANGES.DATE_TIME_DEPARTURE)
+                .from(TicketChanges.TICKET_CHANGES)
+                .where(TicketChanges.TICKET_CHANGES.CHANGED_AT.ge(changedFrom))
+                .fetch(record -> {
+                    Ticket ticket = new Ticket();
+                    ticket.setId(record.value1());
+                    ticket.setRouteId(record.value2());
+                    ticket.setDateTimeDeparture(record.value3());
+                    return ticket;
+                });
+    }
+
+    /**
+     * Этот метод удаляет из журнала изменений билетов изменения, сделанные раньше указанного времени
+     *
+     * @param changedBefore дата и время по часам базы данных, раньше которых удаляются изменения
+     * @return Возвращает количество удаленных изменений
+     */
+    public int deleteTicketChangesBefore(LocalDateTime changedBefore) {
+        log.info(DELETE_TICKET_CHANGES_MESSAGE_LOGGER_REPOSITORY, changedBefore);
+        return dsl.deleteFrom(TicketChanges.TICKET_CHANGES)
+                .where(TicketChanges.TICKET_CHANGES.CHANGED_AT.lt(changedBefore))
+                .execute();
+    }
+
+    /**
+     * Этот метод возвращает текущие дату и время по часам базы данных.
+     * Журнал изменений билетов записывается по тем же часам, поэтому время снимка индекса
+     * не зависит от расхождения часов экземпляров приложения и базы данных
+     *
+     * @return Возвращает текущие дату и время базы данных
+     */
+    public LocalDateTime findCurrentDateTime() {
+        return dsl.select(DSL.currentLocalDateTime()).fetchSingle().value1();
+    }
+
+    /**
+     * Этот метод строит запрос списка билетов, которые есть в продаже, по дате и времени отправления.
+     * Запрос не привязан к способу выполнения и выполняется как через JDBC, так и через R2DBC.
+     * Количество записей ограничивает вызывающий метод, потоковая выгрузка выполняет запрос без ограничения
+     *
+     * @param dsl           контекст jOOQ, через который будет выполнен запрос
+     * @param departureFrom начало окна отправления
+     * @param departureTo   конец окна отправления включительно
+     * @param cursor        курсор последней записи предыдущей страницы или null для первой страницы
+     * @return Возвращает запрос билетов вместе с маршрутом и перевозчиком, начиная с записи после курсора
+     */
+    static SelectLimitStep<Record> selectTicketsByDateAndTimeDeparture(DSLContext dsl, LocalDateTime departureFrom, LocalDateTime departureTo, SeekCursor cursor) {
+        return selectAvailableTicketsWithRoute(dsl)
+                .and(Tickets.TICKETS.DATE_TIME_DEPARTURE.between(departureFrom, departureTo))
+                .and(SeekCondition.after(Tickets.TICKETS.DATE_TIME_DEPARTURE, Tickets.TICKETS.ID, false, cursor, SeekCursor::dateTime))
+                .orderBy(Tickets.TICKETS.DATE_TIME_DEPARTURE.asc(), Tickets.TICKETS.ID.asc());
+    }
+
+    /**
+     * Этот метод строит запрос списка билетов, которые есть в продаже, по пункту отправления маршрута.
+     * Запрос не привязан к способу выполнения и выполняется как через JDBC, так и через R2DBC.
+     * Количество записей ограничивает вызывающий метод, потоковая выгрузка выполняет запрос без ограничения
+     *
+     * @param dsl            контекст jOOQ, через который будет выполнен запрос
+     * @param departurePoint пункт отправления
+     * @param cursor         курсор последней записи предыдущей страницы или null для первой страницы
+     * @return Возвращает запрос билетов вместе с маршрутом и перевозчиком, начиная с записи после курсора
+     */
+    static SelectLimitStep<Record> selectTicketsByDeparturePoint(DSLContext dsl, String departurePoint, SeekCursor cursor) {
+        return selectAvailableTicketsWithRoute(dsl)
+                .and(Routes.ROUTES.DEPARTURE_POINT.likeIgnoreCase(SearchPattern.contains(departurePoint), SearchPattern.ESCAPE))
+                .and(SeekCondition.after(Tickets.TICKETS.ID, cursor))
+                .orderBy(Tickets.TICKETS.ID.asc());
+    }
+
+    /**
+     * Этот метод строит запрос списка билетов, которые есть в продаже, по пункту назначения маршрута.
+     * Запрос не привязан к способу выполнения и выполняется как через JDBC, так и через R2DBC.
+     * Количество записей ограничивает вызывающий метод, потоковая выгрузка выполняет запрос без ограничения
+     *
+     * @param dsl         контекст jOOQ, через который будет выполнен запрос
+     * @param destination пункт назначения
+     * @param cursor      курсор последней записи предыдущей страницы или null для первой страницы
+     * @return Возвращает запрос билетов вместе с маршрутом и перевозчиком, начиная с записи после курсора
+     */
+    static SelectLimitStep<Record> selectTicketsByDestination(DSLContext dsl, String destination, SeekCursor cursor) {
+        return selectAvailableTicketsWithRoute(dsl)
+                .and(Routes.ROUTES.DESTINATION.likeIgnoreCase(SearchPattern.contains(destination), SearchPattern.ESCAPE))
+                .and(SeekCondition.after(Tickets.TICKETS.ID, cursor))
+                .orderBy(Tickets.TICKETS.ID.asc());
+    }
+
+    /**
+     * Этот метод строит запрос списка билетов, которые есть в продаже, по названию компании перевозчика.
+     * Запрос не привязан к способу выполнения и выполняется как через JDBC, так и через R2DBC.
+     * Количество записей ограничивает вызывающий метод, потоковая выгрузка выполняет запрос без ограничения
+     *
+     * @param dsl         контекст jOOQ, через который будет выполнен запрос
+     * @param companyName название компании перевозчика
+     * @param cursor      курсор последней записи предыдущей страницы или null для первой страницы
+     * @return Возвращает запрос билетов вместе с маршрутом и перевозчиком, начиная с записи после курсора
+     */
+    static SelectLimitStep<Record> selectTicketsByCompanyNameCarrier(DSLContext dsl, String companyName, SeekCursor cursor) {
+        return selectAvailableTicketsWithRoute(dsl)
+                .and(Carriers.CARRIERS.COMPANY_NAME.likeIgnoreCase(SearchPattern.contains(companyName), SearchPattern.ESCAPE))
+                .and(SeekCondition.after(Tickets.TICKETS.ID, cursor))
+                .orderBy(Tickets.TICKETS.ID.asc());
+    }
+
+    /**
+     * Этот метод строит запрос списка билетов, которые есть в продаже, по нескольким условиям поиска.
+     * В запрос попадают только заполненные условия, а сортировка всегда заканчивается идентификатором билета,
+     * поэтому ключ постраничной выборки однозначный.
+     * Запрос не привязан к способу выполнения и выполняется как через JDBC, так и через R2DBC
+     *
+     * @param dsl      контекст jOOQ, через который будет выполнен запрос
+     * @param criteria условия поиска и порядок сортировки
+     * @param cursor   курсор последней записи предыдущей страницы или null для первой страницы
+     * @return Возвращает запрос билетов вместе с маршрутом и перевозчиком, начиная с записи после курсора
+     * @throws InvalidCursorException если в курсоре нет ключа выбранной сортировки
+     */
+    static SelectLimitStep<Record> selectTicketsByCriteria(DSLContext dsl, TicketSearchCriteria criteria, SeekCursor cursor) {
+        SelectConditionStep<Record> select = selectAvailableTicketsWithRoute(dsl).and(DSL.and(searchConditions(criteria)));
+        return switch (criteria.sortOrder()) {
+            case DEPARTURE_ASC -> select.and(SeekCondition.after(Tickets.TICKETS.DATE_TIME_DEPARTURE, Tickets.TICKETS.ID, false, cursor, SeekCursor::dateTime))
+                    .orderBy(Tickets.TICKETS.DATE_TIME_DEPARTURE.asc(), Tickets.TICKETS.ID.asc());
+            case DEPARTURE_DESC -> select.and(SeekCondition.after(Tickets.TICKETS.DATE_TIME_DEPARTURE, Tickets.TICKETS.ID, true, cursor, SeekCursor::dateTime))
+                    .orderBy(Tickets.TICKETS.DATE_TIME_DEPARTURE.desc(), Tickets.TICKETS.ID.desc());
+            case PRICE_ASC -> select.and(SeekCondition.after(Tickets.TICKETS.PRICE, Tickets.TICKETS.ID, false, cursor, SeekCursor::price))
+                    .orderBy(Tickets.TICKETS.PRICE.asc(), Tickets.TICKETS.ID.asc());
+            case PRICE_DESC -> select.and(SeekCondition.after(Tickets.TICKETS.PRICE, Tickets.TICKETS.ID, true, cursor, SeekCursor::price))
+                    .orderBy(Tickets.TICKETS.PRICE.desc(), Tickets.TICKETS.ID.desc());
+        };
+    }
+
+    /**
+     * Приватный метод, который формирует условия запроса из заполненных условий поиска.
+     * Окно отправления и диапазон стоимости задаются открытыми с одной стороны, если указана только одна граница,
+     * поэтому условие остается диапазоном по индексу. Текстовые условия ищутся по подстроке через триграммные индексы
+     *
+     * @param criteria условия поиска
+     * @return Возвращает список условий запроса
+     */
+    private static List<Condition> searchConditions(TicketSearchCriteria criteria) {
+        List<Condition> conditions = new ArrayList<>();
+        if (criteria.departurePoint() != null) {
+            conditions.add(Routes.ROUTES.DEPARTURE_POINT.likeIgnoreCase(SearchPattern.contains(criteria.departurePoint()), SearchPattern.ESCAPE));
+        }
+        if (criteria.destination() != null) {
+            conditions.add(Routes.ROUTES.DESTINATION.likeIgnoreCase(SearchPattern.contains(criteria.destination()), SearchPattern.ESCAPE));
+        }
+        if (criteria.companyName() != null) {
+            conditions.add(Carriers.CARRIERS.COMPANY_NAME.likeIgnoreCase(SearchPattern.contains(criteria.companyName()), SearchPattern.ESCAPE));
+        }
+        if (criteria.departureFrom() != null) {
+            conditions.add(Tickets.TICKETS.DATE_TIME_DEPARTURE.ge(criteria.departureFrom()));
+        }
+        if (criteria.departureTo() != null) {
+            conditions.add(Tickets.TICKETS.DATE_TIME_DEPARTURE.le(criteria.departureTo()));
+        }
+        if (criteria.priceFrom() != null) {
+            conditions.add(Tickets.TICKETS.PRICE.ge(criteria.priceFrom()));
+        }
+        if (criteria.priceTo() != null) {
+            conditions.add(Tickets.TICKETS.PRICE.le(criteria.priceTo()));
+        }
+        return conditions;
+    }
+
+    /**
+     * Приватный метод, который начинает запрос билетов, которые есть в продаже,
+     * соединенных с маршрутом, перевозчиком и отправлением. Остаток мест отправления читается
+     * одной строкой по уникальному ключу (маршрут, дата и время отправления), без подсчета билетов
+     *
+     * @param dsl контекст jOOQ, через который будет выполнен запрос
+     * @return Возвращает запрос с условием на статус билета, к которому можно добавить другие условия
+     */
+    private static SelectConditionStep<Record> selectAvailableTicketsWithRoute(DSLContext dsl) {
+        return dsl.select(AVAILABLE_TICKET_FIELDS)
+                .from(Tickets.TICKETS)
+                .join(Routes.ROUTES).on(Routes.ROUTES.ID.eq(Tickets.TICKETS.ROUTE_ID))
+                .join(Carriers.CARRIERS).on(Carriers.CARRIERS.ID.eq(Routes.ROUTES.CARRIER_ID))
+                .leftJoin(Departures.DEPARTURES).on(Departures.DEPARTURES.ROUTE_ID.eq(Tickets.TICKETS.ROUTE_ID),
+                        Departures.DEPARTURES.DATE_TIME_DEPARTURE.eq(Tickets.TICKETS.DATE_TIME_DEPARTURE))
+                .where(Tickets.TICKETS.TICKET_STATUS.eq(TicketStatus.AVAILABLE_FOR_SALE.name()));
+    }
+
+    /**
+     * Этот метод формирует модель билета из строки результата запроса с маршрутом и перевозчиком.
+     * Если в запросе есть остаток мест отправления, он тоже переносится в модель билета
+     *
+     * @param record строка результата запроса с полями билета, маршрута и перевозчика
+     * @return Возвращает модель билета с заполненными маршрутом и перевозчиком
+     */
+    static Ticket formingTicket(Record record) {
+        Ticket ticket = record.into(Tickets.TICKETS).into(Ticket.class);
+        Route route = record.into(Routes.ROUTES).into(Route.class);
+        route.setCarrier(record.into(Carriers.CARRIERS).into(Carrier.class));
+        ticket.setRoute(route);
+        if (record.field(Departures.DEPARTURES.AVAILABLE_SEATS) != null) {
+            ticket.setAvailableSeats(record.get(Departures.DEPARTURES.AVAILABLE_SEATS));
+        }
+        return ticket;
+    }
+
+    /**
+     * Приватный метод для формирования модели билета в продаже из строки выгрузки без маршрута и перевозчика.
+     * Поля переносятся напрямую, без отражения, потому что выгрузка проходит по всем билетам в продаже
+     *
+     * @param record строка результата запроса с идентификатором, маршрутом, отправлением, местом, стоимостью и датой выпуска
+     * @return Возвращает модель билета в продаже с заполненным уникальным идентификатором маршрута
+     */
+    private static Ticket formingAvailableTicket(Record6<Long, Long, LocalDateTime, Integer, Integer, LocalDateTime> record) {
+        Ticket ticket = new Ticket();
+        ticket.setId(record.value1());
+        ticket.setRouteId(record.value2());
+        ticket.setDateTimeDeparture(record.value3());
+        ticket.setSeatNumber(record.value4());
+        ticket.setPrice(record.value5());
+        ticket.setDateTimeTicketIssuance(record.value6());
+        ticket.setTicketStatus(TicketStatus.AVAILABLE_FOR_SALE);
+        return ticket;
+    }
+
+    /**
+     * Приватный метод для формирования модели купленного билета из строки результата запроса покупки
+     *
+     * @param record строка результата запроса с полями билета, маршрута, перевозчика и покупателя
+     * @return Возвращает модель билета с заполненными маршрутом, перевозчиком и покупателем
+     */
+    private Ticket formingBuyingTicket(Record record) {
+        Ticket ticket = formingTicket(record);
+        ticket.setUser(record.into(Users.USERS).into(User.class));
+        return ticket;
+    }
+}
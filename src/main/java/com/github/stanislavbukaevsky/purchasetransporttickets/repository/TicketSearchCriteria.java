@@ -0,0 +1,28 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketSortOrder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Запись, для условий поиска билетов, которые есть в продаже.
+ * Незаполненные (null) условия не добавляются в запрос к базе данных
+ *
+ * @param departurePoint пункт отправления маршрута
+ * @param destination    пункт назначения маршрута
+ * @param departureFrom  начало окна отправления включительно
+ * @param departureTo    конец окна отправления включительно
+ * @param companyName    название компании перевозчика
+ * @param priceFrom      минимальная стоимость билета включительно
+ * @param priceTo        максимальная стоимость билета включительно
+ * @param sortOrder      порядок сортировки результатов
+ */
+public record TicketSearchCriteria(String departurePoint,
+                                   String destination,
+                                   LocalDateTime departureFrom,
+                                   LocalDateTime departureTo,
+                                   String companyName,
+                                   Integer priceFrom,
+                                   Integer priceTo,
+                                   TicketSortOrder sortOrder) {
+}
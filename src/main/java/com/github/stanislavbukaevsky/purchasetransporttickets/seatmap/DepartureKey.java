@@ -0,0 +1,37 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.seatmap;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Запись, для ключа отправления (рейса) маршрута, по которому хранится карта мест
+ *
+ * @param routeId           уникальный идентификатор маршрута
+ * @param dateTimeDeparture дата и время отправления
+ */
+public record DepartureKey(Long routeId, LocalDateTime dateTimeDeparture) {
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Этот метод восстанавливает ключ отправления из текстовой записи {@link #toString()}
+     *
+     * @param value текстовая запись ключа
+     * @return Возвращает ключ отправления
+     */
+    public static DepartureKey parse(String value) {
+        String[] values = value.split(SEPARATOR);
+        return new DepartureKey(Long.valueOf(values[0]),
+                LocalDateTime.ofEpochSecond(Long.parseLong(values[1]), 0, ZoneOffset.UTC));
+    }
+
+    /**
+     * Этот метод формирует текстовую запись ключа для сообщений топика Redis: идентификатор маршрута
+     * и секунды даты и времени отправления, разделенные двоеточием
+     *
+     * @return Возвращает текстовую запись ключа
+     */
+    @Override
+    public String toString() {
+        return routeId + SEPARATOR + dateTimeDeparture.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.seatmap;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.SeatMapResponseDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Сервис-интерфейс с методами для выбора мест по картам мест отправлений в памяти приложения.
+ * В этом интерфейсе прописана только сигнатура методов без реализации
+ */
+public interface SeatAllocator {
+    /**
+     * Сигнатура метода для поиска свободных мест и групп соседних свободных мест отправления.
+     * Карта мест строится из базы данных только при первом обращении к отправлению
+     *
+     * @param routeId           уникальный идентификатор маршрута
+     * @param dateTimeDeparture дата и время отправления в формате "yyyy-MM-dd HH:mm"
+     * @param adjacentSeats     количество соседних мест в группе
+     * @param limit             наибольшее количество групп
+     * @return Возвращает карту мест отправления со свободными местами и лучшими группами соседних мест
+     */
+    Mono<SeatMapResponseDto> findSeatMap(Long routeId, String dateTimeDeparture, int adjacentSeats, int limit);
+
+    /**
+     * Сигнатура метода для снятия места проданного билета с продажи на всех экземплярах приложения
+     *
+     * @param ticket проданный билет
+     */
+    void sellSeat(Ticket ticket);
+
+    /**
+     * Сигнатура метода для бронирования места билета на всех экземплярах приложения
+     *
+     * @param ticket     забронированный билет
+     * @param timeToLive время жизни брони
+     */
+    void holdSeat(Ticket ticket, Duration timeToLive);
+
+    /**
+     * Сигнатура метода для снятия брони с места билета на всех экземплярах приложения
+     *
+     * @param ticket билет, с которого снята бронь
+     */
+    void releaseSeat(Ticket ticket);
+
+    /**
+     * Сигнатура метода для сброса карты мест отправления на всех экземплярах приложения.
+     * Карта будет заново построена из базы данных при следующем обращении
+     *
+     * @param routeId           уникальный идентификатор маршрута
+     * @param dateTimeDeparture дата и время отправления
+     */
+    void evict(Long routeId, LocalDateTime dateTimeDeparture);
+
+    /**
+     * Сигнатура метода для применения изменения карты мест по сообщению, полученному из топика Redis.
+     * Сообщения, не относящиеся к картам мест, игнорируются
+     *
+     * @param message текстовое сообщение
+     */
+    void apply(String message);
+}
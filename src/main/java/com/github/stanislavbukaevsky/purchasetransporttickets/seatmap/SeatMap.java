@@ -0,0 +1,300 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.seatmap;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+
+import java.util.List;
+
+/**
+ * Класс карты мест одного отправления (рейса) маршрута.
+ * Места в продаже и забронированные места хранятся битовыми масками по 64 места в одном числе long,
+ * поэтому карта поезда на 500 мест - это несколько массивов по восемь чисел, а свободные места и группы
+ * соседних мест находятся по словам маски без обхода билетов. Для каждого места хранится идентификатор
+ * его билета, а время окончания брони - только после первой брони на отправлении.
+ * Соседними считаются места с последовательными номерами в одном ряду. Если у нескольких билетов отправления
+ * один номер места, в карту попадает билет в продаже. Методы карты синхронизированы на самой карте
+ */
+public final class SeatMap {
+    private static final char FREE_SEAT = '.';
+    private static final char HELD_SEAT = 'h';
+    private static final char SOLD_SEAT = 'x';
+    private static final char MISSING_SEAT = '_';
+    private static final char ROW_SEPARATOR = '|';
+    private final int seatsPerRow;
+    private final long[] ticketIds;
+    private final long[] available;
+    private final long[] held;
+    private long[] heldUntil;
+
+    private SeatMap(int seatCount, int seatsPerRow) {
+        this.seatsPerRow = seatsPerRow;
+        this.ticketIds = new long[seatCount];
+        this.available = new long[(seatCount + 63) >>> 6];
+        this.held = new long[available.length];
+    }
+
+    /**
+     * Этот метод строит карту мест из всех билетов отправления, проданных и в продаже.
+     * Количество мест карты равно наибольшему номеру места среди билетов
+     *
+     * @param tickets     билеты отправления с заполненными идентификатором, номером места и статусом
+     * @param seatsPerRow количество мест в одном ряду
+     * @return Возвращает карту мест отправления без броней
+     */
+    public static SeatMap build(List<Ticket> tickets, int seatsPerRow) {
+        int seatCount = 0;
+        for (Ticket ticket : tickets) {
+            if (ticket.getSeatNumber() != null) {
+                seatCount = Math.max(seatCount, ticket.getSeatNumber());
+            }
+        }
+        SeatMap seatMap = new SeatMap(seatCount, seatsPerRow);
+        for (Ticket ticket : tickets) {
+            Integer seatNumber = ticket.getSeatNumber();
+            if (seatNumber == null || seatNumber < 1) {
+                continue;
+            }
+            int seat = seatNumber - 1;
+            boolean onSale = TicketStatus.AVAILABLE_FOR_SALE.equals(ticket.getTicketStatus());
+            if (onSale || !seatMap.isAvailable(seat)) {
+                seatMap.ticketIds[seat] = ticket.getId();
+                if (onSale) {
+                    seatMap.available[seat >>> 6] |= 1L << seat;
+                }
+            }
+        }
+        return seatMap;
+    }
+
+    /**
+     * Этот метод возвращает количество мест карты
+     *
+     * @return Возвращает количество мест
+     */
+    public int seatCount() {
+        return ticketIds.length;
+    }
+
+    /**
+     * Этот метод возвращает количество мест в одном ряду
+     *
+     * @return Возвращает количество мест в ряду
+     */
+    public int seatsPerRow() {
+        return seatsPerRow;
+    }
+
+    /**
+     * Этот метод снимает место с продажи после покупки его билета. Бронь места тоже снимается
+     *
+     * @param seatNumber номер места
+     * @param ticketId   уникальный идентификатор проданного билета
+     * @return Возвращает true, если место этого билета есть в карте
+     */
+    public synchronized boolean sell(int seatNumber, long ticketId) {
+        if (!hasTicket(seatNumber, ticketId)) {
+            return false;
+        }
+        int seat = seatNumber - 1;
+        available[seat >>> 6] &= ~(1L << seat);
+        held[seat >>> 6] &= ~(1L << seat);
+        return true;
+    }
+
+    /**
+     * Этот метод бронирует место до указанного времени. Место с истекшей бронью снова считается свободным
+     *
+     * @param seatNumber номер места
+     * @param ticketId   уникальный идентификатор забронированного билета
+     * @param until      время окончания брони в миллисекундах от начала эпохи
+     * @return Возвращает true, если место этого билета есть в карте
+     */
+    public synchronized boolean hold(int seatNumber, long ticketId, long until) {
+        if (!hasTicket(seatNumber, ticketId)) {
+            return false;
+        }
+        int seat = seatNumber - 1;
+        if (heldUntil == null) {
+            heldUntil = new long[ticketIds.length];
+        }
+        heldUntil[seat] = until;
+        held[seat >>> 6] |= 1L << seat;
+        return true;
+    }
+
+    /**
+     * Этот метод снимает бронь с места
+     *
+     * @param seatNumber номер места
+     * @param ticketId   уникальный идентификатор билета, с которого снята бронь
+     * @return Возвращает true, если место этого билета есть в карте
+     */
+    public synchronized boolean release(int seatNumber, long ticketId) {
+        if (!hasTicket(seatNumber, ticketId)) {
+            return false;
+        }
+        int seat = seatNumber - 1;
+        held[seat >>> 6] &= ~(1L << seat);
+        return true;
+    }
+
+    /**
+     * Этот метод считает свободные места: места в продаже без действующей брони
+     *
+     * @param now текущее время в миллисекундах от начала эпохи
+     * @return Возвращает количество свободных мест
+     */
+    public synchronized int countFreeSeats(long now) {
+        expireHolds(now);
+        return countFreeSeats();
+    }
+
+    /**
+     * Этот метод ищет свободные места
+     *
+     * @param now текущее время в миллисекундах от начала эпохи
+     * @return Возвращает номера свободных мест по возрастанию
+     */
+    public synchronized int[] findFreeSeats(long now) {
+        expireHolds(now);
+        int[] seats = new int[countFreeSeats()];
+        int index = 0;
+        for (int word = 0; word < available.length; word++) {
+            for (long bits = free(word); bits != 0; bits &= bits - 1) {
+                seats[index++] = (word << 6) + Long.numberOfTrailingZeros(bits) + 1;
+            }
+        }
+        return seats;
+    }
+
+    /**
+     * Этот метод ищет группы соседних свободных мест в одном ряду.
+     * Лучшая группа - та, что занимает самый короткий подходящий промежуток свободных мест: так крупные промежутки
+     * остаются для больших групп. Из каждого промежутка предлагается одна группа, от его начала
+     *
+     * @param count количество мест в группе
+     * @param limit наибольшее количество групп
+     * @param now   текущее время в миллисекундах от начала эпохи
+     * @return Возвращает номера мест групп, от лучшей группы к худшей
+     */
+    public synchronized int[][] findAdjacentSeats(int count, int limit, long now) {
+        if (count < 1 || count > seatsPerRow || limit < 1) {
+            return new int[0][];
+        }
+        expireHolds(now);
+        int[] starts = new int[limit];
+        int[] lengths = new int[limit];
+        int found = 0;
+        for (int rowStart = 0; rowStart < ticketIds.length; rowStart += seatsPerRow) {
+            int rowEnd = Math.min(rowStart + seatsPerRow, ticketIds.length);
+            int seat = nextSeat(rowStart, rowEnd, true);
+            while (seat < rowEnd) {
+                int end = nextSeat(seat, rowEnd, false);
+                int length = end - seat;
+                if (length >= count && (found < limit || length < lengths[found - 1])) {
+                    int index = Math.min(found, limit - 1);
+                    while (index > 0 && lengths[index - 1] > length) {
+                        starts[index] = starts[index - 1];
+                        lengths[index] = lengths[index - 1];
+                        index--;
+                    }
+                    starts[index] = seat;
+                    lengths[index] = length;
+                    found = Math.min(found + 1, limit);
+                }
+                seat = nextSeat(end, rowEnd, true);
+            }
+        }
+        int[][] groups = new int[found][count];
+        for (int group = 0; group < found; group++) {
+            for (int i = 0; i < count; i++) {
+                groups[group][i] = starts[group] + i + 1;
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Этот метод формирует компактную запись карты: один символ на место и разделитель между рядами.
+     * Свободное место - ".", забронированное - "h", проданное - "x", место без билета - "_"
+     *
+     * @param now текущее время в миллисекундах от начала эпохи
+     * @return Возвращает запись карты мест
+     */
+    public synchronized String render(long now) {
+        expireHolds(now);
+        StringBuilder map = new StringBuilder(ticketIds.length + ticketIds.length / seatsPerRow);
+        for (int seat = 0; seat < ticketIds.length; seat++) {
+            if (seat > 0 && seat % seatsPerRow == 0) {
+                map.append(ROW_SEPARATOR);
+            }
+            if (ticketIds[seat] == 0) {
+                map.append(MISSING_SEAT);
+            } else if (!isAvailable(seat)) {
+                map.append(SOLD_SEAT);
+            } else {
+                map.append((held[seat >>> 6] & 1L << seat) != 0 ? HELD_SEAT : FREE_SEAT);
+            }
+        }
+        return map.toString();
+    }
+
+    /**
+     * Приватный метод, который снимает брони, время которых истекло. Обходятся только забронированные места
+     *
+     * @param now текущее время в миллисекундах от начала эпохи
+     */
+    private void expireHolds(long now) {
+        for (int word = 0; word < held.length; word++) {
+            for (long bits = held[word]; bits != 0; bits &= bits - 1) {
+                int seat = (word << 6) + Long.numberOfTrailingZeros(bits);
+                if (heldUntil[seat] <= now) {
+                    held[word] &= ~(1L << seat);
+                }
+            }
+        }
+    }
+
+    private int countFreeSeats() {
+        int count = 0;
+        for (int word = 0; word < available.length; word++) {
+            count += Long.bitCount(free(word));
+        }
+        return count;
+    }
+
+    /**
+     * Приватный метод, который ищет первое место в промежутке, свободное или занятое
+     *
+     * @param from первый индекс места промежутка
+     * @param to   индекс места после конца промежутка
+     * @param free true, если ищется свободное место, false - занятое
+     * @return Возвращает индекс найденного места или конец промежутка, если такого места нет
+     */
+    private int nextSeat(int from, int to, boolean free) {
+        if (from >= to) {
+            return to;
+        }
+        int word = from >>> 6;
+        long bits = (free ? free(word) : ~free(word)) & -1L << from;
+        while (bits == 0) {
+            if (++word << 6 >= to) {
+                return to;
+            }
+            bits = free ? free(word) : ~free(word);
+        }
+        return Math.min((word << 6) + Long.numberOfTrailingZeros(bits), to);
+    }
+
+    private long free(int word) {
+        return available[word] & ~held[word];
+    }
+
+    private boolean isAvailable(int seat) {
+        return (available[seat >>> 6] & 1L << seat) != 0;
+    }
+
+    private boolean hasTicket(int seatNumber, long ticketId) {
+        return seatNumber >= 1 && seatNumber <= ticketIds.length && ticketIds[seatNumber - 1] == ticketId;
+    }
+}
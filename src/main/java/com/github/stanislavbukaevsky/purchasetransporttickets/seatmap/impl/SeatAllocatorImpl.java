@@ -0,0 +1,201 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.seatmap.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.SeatMapResponseDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.MessagePublisher;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.TicketRepository;
+import com.github.stanislavbukaevsky.purchasetransporttickets.seatmap.DepartureKey;
+import com.github.stanislavbukaevsky.purchasetransporttickets.seatmap.SeatAllocator;
+import com.github.stanislavbukaevsky.purchasetransporttickets.seatmap.SeatMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
+
+/**
+ * Сервис-класс с бизнес-логикой для выбора мест по картам мест отправлений.
+ * Карта отправления строится из билетов при первом обращении и хранится в локальном кэше,
+ * покупка, бронь и снятие брони меняют карту на месте и рассылаются остальным экземплярам приложения через топик Redis.
+ * Изменение карты ждет построения той же карты, которое уже началось, поэтому построенная карта не теряет изменения.
+ * После добавления, изменения и удаления билетов карта отправления сбрасывается и строится заново.
+ * Реализует интерфейс {@link SeatAllocator}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatAllocatorImpl implements SeatAllocator {
+    private static final String SELL_SEAT_MESSAGE_PREFIX = "seat-map:sell:";
+    private static final String HOLD_SEAT_MESSAGE_PREFIX = "seat-map:hold:";
+    private static final String RELEASE_SEAT_MESSAGE_PREFIX = "seat-map:release:";
+    private static final String EVICT_MESSAGE_PREFIX = "seat-map:evict:";
+    private static final String SEPARATOR = ":";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private final Cache<DepartureKey, SeatMap> seatMapCache;
+    private final TicketRepository ticketRepository;
+    private final MessagePublisher messagePublisher;
+    private final Scheduler jdbcScheduler;
+    @Value("${seat-map.seats-per-row}")
+    private Integer seatsPerRow;
+
+    /**
+     * Реализация метода для поиска свободных мест и групп соседних свободных мест отправления.
+     * Карта мест строится из базы данных только при первом обращении к отправлению
+     *
+     * @param routeId           уникальный идентификатор маршрута
+     * @param dateTimeDeparture дата и время отправления в формате "yyyy-MM-dd HH:mm"
+     * @param adjacentSeats     количество соседних мест в группе
+     * @param limit             наибольшее количество групп
+     * @return Возвращает карту мест отправления со свободными местами и лучшими группами соседних мест
+     */
+    @Override
+    public Mono<SeatMapResponseDto> findSeatMap(Long routeId, String dateTimeDeparture, int adjacentSeats, int limit) {
+        return Mono.fromCallable(() -> {
+            log.debug(FIND_SEAT_MAP_MESSAGE_LOGGER_SERVICE, routeId, dateTimeDeparture, adjacentSeats);
+            DepartureKey key = new DepartureKey(routeId, LocalDateTime.parse(dateTimeDeparture, DATE_TIME_FORMATTER));
+            SeatMap seatMap = seatMapCache.get(key, this::loadSeatMap);
+            long now = System.currentTimeMillis();
+
+            SeatMapResponseDto seatMapResponseDto = new SeatMapResponseDto();
+            seatMapResponseDto.setRouteId(key.routeId());
+            seatMapResponseDto.setDateTimeDeparture(key.dateTimeDeparture());
+            seatMapResponseDto.setSeatCount(seatMap.seatCount());
+            seatMapResponseDto.setSeatsPerRow(seatMap.seatsPerRow());
+            seatMapResponseDto.setFreeSeats(seatMap.findFreeSeats(now));
+            seatMapResponseDto.setFreeSeatCount(seatMapResponseDto.getFreeSeats().length);
+            seatMapResponseDto.setAdjacentSeats(seatMap.findAdjacentSeats(adjacentSeats, limit, now));
+            seatMapResponseDto.setMap(seatMap.render(now));
+            return seatMapResponseDto;
+        }).subscribeOn(jdbcScheduler);
+    }
+
+    /**
+     * Реализация метода для снятия места проданного билета с продажи на всех экземплярах приложения
+     *
+     * @param ticket проданный билет
+     */
+    @Override
+    public void sellSeat(Ticket ticket) {
+        DepartureKey key = key(ticket);
+        update(key, seatMap -> seatMap.sell(ticket.getSeatNumber(), ticket.getId()));
+        messagePublisher.publish(SELL_SEAT_MESSAGE_PREFIX + key + SEPARATOR + ticket.getSeatNumber() + SEPARATOR + ticket.getId());
+    }
+
+    /**
+     * Реализация метода для бронирования места билета на всех экземплярах приложения.
+     * Время окончания брони передается остальным экземплярам, поэтому бронь истекает на всех экземплярах одновременно
+     *
+     * @param ticket     забронированный билет
+     * @param timeToLive время жизни брони
+     */
+    @Override
+    public void holdSeat(Ticket ticket, Duration timeToLive) {
+        DepartureKey key = key(ticket);
+        long until = System.currentTimeMillis() + timeToLive.toMillis();
+        update(key, seatMap -> seatMap.hold(ticket.getSeatNumber(), ticket.getId(), until));
+        messagePublisher.publish(HOLD_SEAT_MESSAGE_PREFIX + key + SEPARATOR + ticket.getSeatNumber() + SEPARATOR
+                + ticket.getId() + SEPARATOR + until);
+    }
+
+    /**
+     * Реализация метода для снятия брони с места билета на всех экземплярах приложения
+     *
+     * @param ticket билет, с которого снята бронь
+     */
+    @Override
+    public void releaseSeat(Ticket ticket) {
+        DepartureKey key = key(ticket);
+        update(key, seatMap -> seatMap.release(ticket.getSeatNumber(), ticket.getId()));
+        messagePublisher.publish(RELEASE_SEAT_MESSAGE_PREFIX + key + SEPARATOR + ticket.getSeatNumber() + SEPARATOR + ticket.getId());
+    }
+
+    /**
+     * Реализация метода для сброса карты мест отправления на всех экземплярах приложения.
+     * Карта будет заново построена из базы данных при следующем обращении
+     *
+     * @param routeId           уникальный идентификатор маршрута
+     * @param dateTimeDeparture дата и время отправления
+     */
+    @Override
+    public void evict(Long routeId, LocalDateTime dateTimeDeparture) {
+        DepartureKey key = new DepartureKey(routeId, dateTimeDeparture);
+        seatMapCache.invalidate(key);
+        messagePublisher.publish(EVICT_MESSAGE_PREFIX + key);
+    }
+
+    /**
+     * Реализация метода для применения изменения карты мест по сообщению, полученному из топика Redis.
+     * Сообщения, не относящиеся к картам мест, игнорируются
+     *
+     * @param message текстовое сообщение
+     */
+    @Override
+    public void apply(String message) {
+        if (message.startsWith(SELL_SEAT_MESSAGE_PREFIX)) {
+            log.info(APPLY_SEAT_MAP_MESSAGE_LOGGER_SERVICE, message);
+            String[] values = message.substring(SELL_SEAT_MESSAGE_PREFIX.length()).split(SEPARATOR);
+            update(DepartureKey.parse(values[0] + SEPARATOR + values[1]),
+                    seatMap -> seatMap.sell(Integer.parseInt(values[2]), Long.parseLong(values[3])));
+        } else if (message.startsWith(HOLD_SEAT_MESSAGE_PREFIX)) {
+            log.info(APPLY_SEAT_MAP_MESSAGE_LOGGER_SERVICE, message);
+            String[] values = message.substring(HOLD_SEAT_MESSAGE_PREFIX.length()).split(SEPARATOR);
+            update(DepartureKey.parse(values[0] + SEPARATOR + values[1]),
+                    seatMap -> seatMap.hold(Integer.parseInt(values[2]), Long.parseLong(values[3]), Long.parseLong(values[4])));
+        } else if (message.startsWith(RELEASE_SEAT_MESSAGE_PREFIX)) {
+            log.info(APPLY_SEAT_MAP_MESSAGE_LOGGER_SERVICE, message);
+            String[] values = message.substring(RELEASE_SEAT_MESSAGE_PREFIX.length()).split(SEPARATOR);
+            update(DepartureKey.parse(values[0] + SEPARATOR + values[1]),
+                    seatMap -> seatMap.release(Integer.parseInt(values[2]), Long.parseLong(values[3])));
+        } else if (message.startsWith(EVICT_MESSAGE_PREFIX)) {
+            log.info(APPLY_SEAT_MAP_MESSAGE_LOGGER_SERVICE, message);
+            seatMapCache.invalidate(DepartureKey.parse(message.substring(EVICT_MESSAGE_PREFIX.length())));
+        }
+    }
+
+    /**
+     * Приватный метод, который строит карту мест отправления из всех его билетов в базе данных
+     *
+     * @param key ключ отправления
+     * @return Возвращает построенную карту мест
+     */
+    private SeatMap loadSeatMap(DepartureKey key) {
+        SeatMap seatMap = SeatMap.build(ticketRepository.findTicketsByDeparture(key.routeId(), key.dateTimeDeparture()), seatsPerRow);
+        log.info(LOAD_SEAT_MAP_MESSAGE_LOGGER_SERVICE, key.routeId(), key.dateTimeDeparture(), seatMap.seatCount());
+        return seatMap;
+    }
+
+    /**
+     * Приватный метод, который изменяет карту мест отправления, если она есть в кэше.
+     * Изменение выполняется внутри вычисления кэша, поэтому ждет окончания построения карты, которое уже началось:
+     * построенная карта прочитала базу данных до этого изменения или уже содержит его.
+     * Карты, которой нет в кэше, изменение не касается: при построении она прочитает билеты из базы данных
+     *
+     * @param key    ключ отправления
+     * @param change изменение карты
+     */
+    private void update(DepartureKey key, Consumer<SeatMap> change) {
+        seatMapCache.asMap().computeIfPresent(key, (departure, seatMap) -> {
+            change.accept(seatMap);
+            return seatMap;
+        });
+    }
+
+    /**
+     * Приватный метод, который формирует ключ отправления билета
+     *
+     * @param ticket билет
+     * @return Возвращает ключ отправления
+     */
+    private DepartureKey key(Ticket ticket) {
+        return new DepartureKey(ticket.getRouteId(), ticket.getDateTimeDeparture());
+    }
+}
@@ -4,6 +4,7 @@ import com.github.stanislavbukaevsky.purchasetransporttickets.dto.CarrierRequest
 import com.github.stanislavbukaevsky.purchasetransporttickets.dto.CarrierResponseDto;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
+import reactor.core.publisher.Mono;
 
 /**
  * Сервис-интерфейс с методами для перевозчика в приложении.
@@ -17,7 +18,7 @@ public interface CarrierService {
      * @param carrierRequestDto объект DTO с запросом от пользователя
      * @return Возвращает DTO с информацией о добавленном перевозчике
      */
-    CarrierResponseDto addCarrier(@Valid CarrierRequestDto carrierRequestDto);
+    Mono<CarrierResponseDto> addCarrier(@Valid CarrierRequestDto carrierRequestDto);
 
     /**
      * Сигнатура метода для изменения информации о перевозчике в приложении.
@@ -27,13 +28,14 @@ public interface CarrierService {
      * @param id                уникальный идентификатор перевозчика
      * @return Возвращает DTO с информацией об измененном перевозчике
      */
-    CarrierResponseDto updateCarrier(@Valid CarrierRequestDto carrierRequestDto, @Positive Long id);
+    Mono<CarrierResponseDto> updateCarrier(@Valid CarrierRequestDto carrierRequestDto, @Positive Long id);
 
     /**
      * Сигнатура метода для удаления перевозчика из базы данных.
      * Этот метод доступен только для пользователей с ролью Администратор
      *
      * @param id уникальный идентификатор перевозчика
+     * @return Возвращает пустой Mono, если метод отработал корректно
      */
-    void deleteCarrier(@Positive Long id);
+    Mono<Void> deleteCarrier(@Positive Long id);
 }
@@ -5,6 +5,7 @@ import com.github.stanislavbukaevsky.purchasetransporttickets.dto.RouteResponseD
 import com.github.stanislavbukaevsky.purchasetransporttickets.dto.RouteUpdateRequestDto;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
+import reactor.core.publisher.Mono;
 
 /**
  * Сервис-интерфейс с методами для маршрута в приложении.
@@ -19,7 +20,7 @@ public interface RouteService {
      * @param id              уникальный идентификатор перевозчика
      * @return Возвращает DTO с информацией о добавленном маршруте
      */
-    RouteResponseDto addRoute(@Valid RouteRequestDto routeRequestDto, @Positive Long id);
+    Mono<RouteResponseDto> addRoute(@Valid RouteRequestDto routeRequestDto, @Positive Long id);
 
     /**
      * Сигнатура метода для изменения информации о маршруте в приложении.
@@ -29,13 +30,14 @@ public interface RouteService {
      * @param id                    уникальный идентификатор маршрута
      * @return Возвращает DTO с информацией об измененном маршруте
      */
-    RouteResponseDto updateRoute(@Valid RouteUpdateRequestDto routeUpdateRequestDto, @Positive Long id);
+    Mono<RouteResponseDto> updateRoute(@Valid RouteUpdateRequestDto routeUpdateRequestDto, @Positive Long id);
 
     /**
      * Сигнатура метода для удаления маршрута из базы данных.
      * Этот метод доступен только для пользователей с ролью Администратор
      *
      * @param id уникальный идентификатор маршрута
+     * @return Возвращает пустой Mono, если метод отработал корректно
      */
-    void deleteRoute(@Positive Long id);
+    Mono<Void> deleteRoute(@Positive Long id);
 }
@@ -4,6 +4,8 @@ import com.github.stanislavbukaevsky.purchasetransporttickets.dto.*;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import org.springframework.security.core.Authentication;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -20,7 +22,7 @@ public interface TicketService {
      * @param ticketRequestDto объект DTO с запросом от пользователя
      * @return Возвращает DTO с информацией о добавленном билете
      */
-    TicketResponseDto addTicket(@Valid TicketRequestDto ticketRequestDto);
+    Mono<TicketResponseDto> addTicket(@Valid TicketRequestDto ticketRequestDto);
 
     /**
      * Сигнатура метода для изменения информации о билете в приложении.
@@ -31,7 +33,7 @@ public interface TicketService {
      * @param id               уникальный идентификатор билета
      * @return Возвращает DTO с информацией об измененном билете
      */
-    TicketResponseDto updateTicket(@Valid TicketRequestDto ticketRequestDto, @Positive Long id);
+    Mono<TicketResponseDto> updateTicket(@Valid TicketRequestDto ticketRequestDto, @Positive Long id);
 
     /**
      * Сигнатура метода для удаления билета из базы данных.
@@ -39,56 +41,113 @@ public interface TicketService {
      * Этот метод доступен только для пользователей с ролью Администратор
      *
      * @param id уникальный идентификатор билета
+     * @return Возвращает пустой Mono, если метод отработал корректно
      */
-    void deleteTicket(@Positive Long id);
+    Mono<Void> deleteTicket(@Positive Long id);
 
     /**
      * Сигнатура метода для просмотра отсортированного списока транспортных билетов по дате и времени на платформе.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Билеты ищутся в окне отправления, а без конца окна - точно по дате и времени отправления.
+     * Этот метод поддерживает постраничную выборку по ключу с непрозрачным курсором следующей страницы
      *
      * @param dateAndTime класс-DTO для запроса от пользователя
-     * @param page        номер страницы
+     * @param cursor      курсор страницы, полученный в предыдущем ответе
      * @param size        количество записей
-     * @return Возвращает список найденных транспортных билетов со всей информацией о них
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
      */
-    List<TicketResponseDto> getTicketsByDateAndTime(@Valid TicketRequestByDateAndTimeDto dateAndTime,
-                                                    @Positive int page, @Positive int size);
+    Mono<TicketPageResponseDto> getTicketsByDateAndTime(@Valid TicketRequestByDateAndTimeDto dateAndTime,
+                                                        String cursor, @Positive int size);
 
     /**
      * Сигнатура метода для просмотра отсортированного списока транспортных билетов по пункту отправления на платформе.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Этот метод поддерживает постраничную выборку по ключу с непрозрачным курсором следующей страницы
      *
      * @param departurePoint класс-DTO для запроса от пользователя
-     * @param page           номер страницы
+     * @param cursor         курсор страницы, полученный в предыдущем ответе
      * @param size           количество записей
-     * @return Возвращает список найденных транспортных билетов со всей информацией о них
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
      */
-    List<TicketResponseDto> getTicketsByDeparturePoint(@Valid TicketRequestByDeparturePointDto departurePoint,
-                                                       @Positive int page, @Positive int size);
+    Mono<TicketPageResponseDto> getTicketsByDeparturePoint(@Valid TicketRequestByDeparturePointDto departurePoint,
+                                                           String cursor, @Positive int size);
 
     /**
      * Сигнатура метода для просмотра отсортированного списока транспортных билетов по пункту назначения на платформе.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Этот метод поддерживает постраничную выборку по ключу с непрозрачным курсором следующей страницы
      *
      * @param destination класс-DTO для запроса от пользователя
-     * @param page        номер страницы
+     * @param cursor      курсор страницы, полученный в предыдущем ответе
      * @param size        количество записей
-     * @return Возвращает список найденных транспортных билетов со всей информацией о них
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
      */
-    List<TicketResponseDto> getTicketsByDestination(@Valid TicketRequestByDestinationDto destination,
-                                                    @Positive int page, @Positive int size);
+    Mono<TicketPageResponseDto> getTicketsByDestination(@Valid TicketRequestByDestinationDto destination,
+                                                        String cursor, @Positive int size);
 
     /**
      * Сигнатура метода для просмотра отсортированного списока транспортных билетов по названию компании перевозчика на платформе.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Этот метод поддерживает постраничную выборку по ключу с непрозрачным курсором следующей страницы
      *
      * @param companyName класс-DTO для запроса от пользователя
-     * @param page        номер страницы
+     * @param cursor      курсор страницы, полученный в предыдущем ответе
      * @param size        количество записей
-     * @return Возвращает список найденных транспортных билетов со всей информацией о них
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
      */
-    List<TicketResponseDto> getTicketsByCompanyNameCarrier(@Valid TicketRequestByCompanyNameCarrierDto companyName,
-                                                           @Positive int page, @Positive int size);
+    Mono<TicketPageResponseDto> getTicketsByCompanyNameCarrier(@Valid TicketRequestByCompanyNameCarrierDto companyName,
+                                                               String cursor, @Positive int size);
+
+    /**
+     * Сигнатура метода для поиска транспортных билетов на платформе по нескольким необязательным условиям.
+     * Все заполненные условия объединяются в один запрос, результат отсортирован в выбранном порядке.
+     * Этот метод поддерживает постраничную выборку по ключу с непрозрачным курсором следующей страницы
+     *
+     * @param search класс-DTO для запроса от пользователя с условиями поиска
+     * @param cursor курсор страницы, полученный в предыдущем ответе с тем же порядком сортировки
+     * @param size   количество записей
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
+     */
+    Mono<TicketPageResponseDto> getTicketsByFilters(@Valid TicketSearchRequestDto search,
+                                                    String cursor, @Positive int size);
+
+    /**
+     * Сигнатура метода для потоковой выгрузки отсортированного списка транспортных билетов по дате и времени на платформе.
+     * Билеты ищутся в окне отправления, а без конца окна - точно по дате и времени отправления.
+     * Билеты отдаются клиенту по мере чтения из базы данных без ограничения количества записей
+     *
+     * @param dateAndTime класс-DTO для запроса от пользователя
+     * @param cursor      курсор страницы, полученный в ответе постраничного поиска, или null для выгрузки с начала
+     * @return Возвращает поток найденных транспортных билетов со всей информацией о них
+     */
+    Flux<TicketResponseDto> streamTicketsByDateAndTime(@Valid TicketRequestByDateAndTimeDto dateAndTime, String cursor);
+
+    /**
+     * Сигнатура метода для потоковой выгрузки отсортированного списка транспортных билетов по пункту отправления на платформе.
+     * Билеты отдаются клиенту по мере чтения из базы данных без ограничения количества записей
+     *
+     * @param departurePoint класс-DTO для запроса от пользователя
+     * @param cursor         курсор страницы, полученный в ответе постраничного поиска, или null для выгрузки с начала
+     * @return Возвращает поток найденных транспортных билетов со всей информацией о них
+     */
+    Flux<TicketResponseDto> streamTicketsByDeparturePoint(@Valid TicketRequestByDeparturePointDto departurePoint, String cursor);
+
+    /**
+     * Сигнатура метода для потоковой выгрузки отсортированного списка транспортных билетов по пункту назначения на платформе.
+     * Билеты отдаются клиенту по мере чтения из базы данных без ограничения количества записей
+     *
+     * @param destination класс-DTO для запроса от пользователя
+     * @param cursor      курсор страницы, полученный в ответе постраничного поиска, или null для выгрузки с начала
+     * @return Возвращает поток найденных транспортных билетов со всей информацией о них
+     */
+    Flux<TicketResponseDto> streamTicketsByDestination(@Valid TicketRequestByDestinationDto destination, String cursor);
+
+    /**
+     * Сигнатура метода для потоковой выгрузки отсортированного списка транспортных билетов по названию компании перевозчика на платформе.
+     * Билеты отдаются клиенту по мере чтения из базы данных без ограничения количества записей
+     *
+     * @param companyName класс-DTO для запроса от пользователя
+     * @param cursor      курсор страницы, полученный в ответе постраничного поиска, или null для выгрузки с начала
+     * @return Возвращает поток найденных транспортных билетов со всей информацией о них
+     */
+    Flux<TicketResponseDto> streamTicketsByCompanyNameCarrier(@Valid TicketRequestByCompanyNameCarrierDto companyName, String cursor);
+
 
     /**
      * Сигнатура метода для покупки транспортного билета зарегистрированному пользователю на платформе.
@@ -99,7 +158,35 @@ public interface TicketService {
      * @param authentication объект аутентификации
      * @return Возвращает купленный транспортный билет со всей информацией о нем
      */
-    BuyingTicketResponseDto buyingTicket(Long id, Authentication authentication);
+    Mono<BuyingTicketResponseDto> buyingTicket(Long id, Authentication authentication);
+
+    /**
+     * Сигнатура метода для бронирования транспортного билета зарегистрированному пользователю на платформе.
+     * Бронь хранится в Redis и автоматически снимается по истечении времени жизни
+     *
+     * @param id             уникальный идентификатор билета
+     * @param authentication объект аутентификации
+     * @return Возвращает информацию о брони транспортного билета
+     */
+    Mono<TicketHoldResponseDto> holdTicket(Long id, Authentication authentication);
+
+    /**
+     * Сигнатура метода для подтверждения покупки забронированного транспортного билета на платформе
+     *
+     * @param id             уникальный идентификатор билета
+     * @param authentication объект аутентификации
+     * @return Возвращает купленный транспортный билет со всей информацией о нем
+     */
+    Mono<BuyingTicketResponseDto> confirmTicket(Long id, Authentication authentication);
+
+    /**
+     * Сигнатура метода для снятия брони с транспортного билета на платформе
+     *
+     * @param id             уникальный идентификатор билета
+     * @param authentication объект аутентификации
+     * @return Возвращает пустой Mono, если метод отработал корректно
+     */
+    Mono<Void> releaseTicket(Long id, Authentication authentication);
 
     /**
      * Сигнатура метода для просмотра отсортированного списока купленных транспортных билетов пользователем на платформе.
@@ -111,5 +198,5 @@ public interface TicketService {
      * @param size           количество записей
      * @return Возвращает список найденных транспортных билетов со всей информацией о них
      */
-    List<TicketResponseDto> findBuyingTicketsByUserId(Authentication authentication, @Positive int page, @Positive int size);
+    Mono<List<TicketResponseDto>> findBuyingTicketsByUserId(Authentication authentication, @Positive int page, @Positive int size);
 }
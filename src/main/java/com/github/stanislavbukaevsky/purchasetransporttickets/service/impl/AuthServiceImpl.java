@@ -10,9 +10,8 @@ import com.github.stanislavbukaevsky.purchasetransporttickets.exception.LoginAlr
 import com.github.stanislavbukaevsky.purchasetransporttickets.exception.MonoNoContentException;
 import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.TokenMapper;
 import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.UserMapper;
-import com.github.stanislavbukaevsky.purchasetransporttickets.model.Token;
 import com.github.stanislavbukaevsky.purchasetransporttickets.model.User;
-import com.github.stanislavbukaevsky.purchasetransporttickets.repository.TokenRepository;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.ReactiveTokenRepository;
 import com.github.stanislavbukaevsky.purchasetransporttickets.repository.UserRepository;
 import com.github.stanislavbukaevsky.purchasetransporttickets.service.AuthService;
 import com.github.stanislavbukaevsky.purchasetransporttickets.service.TokenService;
@@ -24,6 +23,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -34,6 +34,8 @@ import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.Lo
 
 /**
  * Сервис-класс с бизнес-логикой для регистрации и аутентификации пользователей в приложении.
+ * Токены при аутентификации проверяются и обновляются через {@link ReactiveTokenRepository},
+ * реализация которого выбирается свойством persistence.backend.
  * Реализует интерфейс {@link AuthService}
  */
 @Slf4j
@@ -42,12 +44,13 @@ import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.Lo
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
-    private final TokenRepository tokenRepository;
+    private final ReactiveTokenRepository reactiveTokenRepository;
     private final UserMapper userMapper;
     private final TokenMapper tokenMapper;
     private final TokenService tokenService;
     private final TokenDetailsService tokenDetailsService;
     private final PasswordEncoder passwordEncoder;
+    private final Scheduler jdbcScheduler;
 
     /**
      * Реализация метода регистрации новых пользователей на платформе
@@ -57,14 +60,13 @@ public class AuthServiceImpl implements AuthService {
      */
     @Override
     public Mono<RegistrationResponseDto> registration(@Valid RegistrationRequestDto registrationRequestDto) {
-        Boolean existsUser = userRepository.existsUserByLogin(registrationRequestDto.getLogin());
-        if (existsUser) {
-            throw new LoginAlreadyExistsException(REGISTRATION_MESSAGE_EXCEPTION_SERVICE);
-        }
-
-        return Mono.just(userMapper.toUserModel(registrationRequestDto))
-                .flatMap(user -> {
-                    User result = userRepository.save(user);
+        return Mono.fromCallable(() -> userRepository.existsUserByLogin(registrationRequestDto.getLogin()))
+                .subscribeOn(jdbcScheduler)
+                .flatMap(existsUser -> {
+                    if (existsUser) {
+                        return Mono.error(new LoginAlreadyExistsException(REGISTRATION_MESSAGE_EXCEPTION_SERVICE));
+                    }
+                    User result = userRepository.save(userMapper.toUserModel(registrationRequestDto));
                     log.info(REGISTRATION_MESSAGE_LOGGER_SERVICE, result.getLogin());
                     return Mono.just(userMapper.toRegistrationResponseDto(result));
                 }).switchIfEmpty(Mono.error(new MonoNoContentException(MONO_NO_CONTENT_EXCEPTION_MESSAGE_SERVICE)));
@@ -78,23 +80,25 @@ public class AuthServiceImpl implements AuthService {
      */
     @Override
     public Mono<InfoAuthenticationUserDto> authentication(@Valid AuthenticationRequestDto authenticationRequestDto) {
-        return Mono.just(userRepository.findUserByLogin(authenticationRequestDto.getLogin()))
+        return Mono.fromCallable(() -> userRepository.findUserByLogin(authenticationRequestDto.getLogin()))
+                .subscribeOn(jdbcScheduler)
                 .flatMap(user -> {
                     if (passwordEncoder.matches(authenticationRequestDto.getPassword(), user.getPassword())) {
                         log.info(AUTHENTICATION_MESSAGE_LOGGER_SERVICE, authenticationRequestDto.getLogin());
-                        return Mono.just(generatingInfoAuthenticationUserDto(user));
+                        return generatingInfoAuthenticationUserDto(user);
                     }
                     return Mono.error(new AuthException(AUTH_EXCEPTION_AUTHENTICATION_MESSAGE_SERVICE));
                 });
     }
 
     /**
-     * Приватный метод для генерации ответа с личной информацией об аутентифицированном пользователе
+     * Приватный метод для генерации ответа с личной информацией об аутентифицированном пользователе.
+     * Токены пользователя обновляются, если они уже есть в базе данных, иначе добавляются на планировщике jdbcScheduler
      *
      * @param user модель пользователя
      * @return Возвращает сгенерированный ответ с полной информацией о пользователе через DTO-класс
      */
-    private InfoAuthenticationUserDto generatingInfoAuthenticationUserDto(User user) {
+    private Mono<InfoAuthenticationUserDto> generatingInfoAuthenticationUserDto(User user) {
         final Long id = user.getId();
         final String login = user.getLogin();
         final String password = user.getPassword();
@@ -110,30 +114,36 @@ public class AuthServiceImpl implements AuthService {
         final LocalDateTime expiresAtRefresh = LocalDateTime.ofInstant(
                         tokenDetailsService.getRefreshExpiration().toInstant(), ZoneId.systemDefault())
                 .truncatedTo(ChronoUnit.MINUTES);
-        Boolean existsToken = tokenRepository.existsTokenByUserId(id);
-
-        if (existsToken) {
-            Token token = tokenRepository.findTokenByUserId(id);
-            token.setAccessToken(accessToken);
-            token.setExpiresAtAccess(expiresAtAccess);
-            token.setRefreshToken(refreshToken);
-            token.setExpiresAtRefresh(expiresAtRefresh);
-            tokenRepository.update(token);
-        } else {
-            tokenService.addToken(id, accessToken, refreshToken, user, expiresAtAccess, expiresAtRefresh);
-        }
-
-        log.info(GENERATING_INFO_AUTHENTICATION_USER_DTO_MESSAGE_LOGGER_SERVICE, login);
-        return tokenMapper.toInfoAuthenticationUserDto(id,
-                login,
-                password,
-                firstName,
-                middleName,
-                lastName,
-                role,
-                accessToken,
-                refreshToken,
-                expiresAtAccess,
-                expiresAtRefresh);
+        return reactiveTokenRepository.existsTokenByUserId(id)
+                .flatMap(existsToken -> {
+                    if (existsToken) {
+                        return reactiveTokenRepository.findTokenByUserId(id)
+                                .flatMap(token -> {
+                                    token.setAccessToken(accessToken);
+                                    token.setExpiresAtAccess(expiresAtAccess);
+                                    token.setRefreshToken(refreshToken);
+                                    token.setExpiresAtRefresh(expiresAtRefresh);
+                                    return reactiveTokenRepository.update(token);
+                                })
+                                .then();
+                    }
+                    return Mono.<Void>fromRunnable(() -> tokenService.addToken(id, accessToken, refreshToken, user,
+                                    expiresAtAccess, expiresAtRefresh))
+                            .subscribeOn(jdbcScheduler);
+                })
+                .then(Mono.fromCallable(() -> {
+                    log.info(GENERATING_INFO_AUTHENTICATION_USER_DTO_MESSAGE_LOGGER_SERVICE, login);
+                    return tokenMapper.toInfoAuthenticationUserDto(id,
+                            login,
+                            password,
+                            firstName,
+                            middleName,
+                            lastName,
+                            role,
+                            accessToken,
+                            refreshToken,
+                            expiresAtAccess,
+                            expiresAtRefresh);
+                }));
     }
 }
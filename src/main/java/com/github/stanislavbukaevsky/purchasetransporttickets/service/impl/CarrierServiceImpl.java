@@ -1,10 +1,10 @@
 package com.github.stanislavbukaevsky.purchasetransporttickets.service.impl;
 
+import com.github.stanislavbukaevsky.purchasetransporttickets.cache.ReferenceDataCache;
 import com.github.stanislavbukaevsky.purchasetransporttickets.dto.CarrierRequestDto;
 import com.github.stanislavbukaevsky.purchasetransporttickets.dto.CarrierResponseDto;
 import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.CarrierMapper;
-import com.github.stanislavbukaevsky.purchasetransporttickets.model.Carrier;
-import com.github.stanislavbukaevsky.purchasetransporttickets.repository.CarrierRepository;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.ReactiveCarrierRepository;
 import com.github.stanislavbukaevsky.purchasetransporttickets.service.CarrierService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
@@ -12,11 +12,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
 
 /**
  * Сервис-класс с бизнес-логикой для перевозчика в приложении.
+ * Обращения к базе данных выполняются через {@link ReactiveCarrierRepository}, реализация которого выбирается
+ * свойством persistence.backend, а сброс кэша с публикацией в Redis - на планировщике jdbcScheduler.
  * Реализует интерфейс {@link CarrierService}
  */
 @Slf4j
@@ -24,8 +28,10 @@ import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.Lo
 @Validated
 @RequiredArgsConstructor
 public class CarrierServiceImpl implements CarrierService {
-    private final CarrierRepository carrierRepository;
+    private final ReactiveCarrierRepository reactiveCarrierRepository;
     private final CarrierMapper carrierMapper;
+    private final ReferenceDataCache referenceDataCache;
+    private final Scheduler jdbcScheduler;
 
     /**
      * Реализация метода для добавления новых перевозчиков в приложении.
@@ -35,16 +41,18 @@ public class CarrierServiceImpl implements CarrierService {
      * @return Возвращает DTO с информацией о добавленном перевозчике
      */
     @Override
-    public CarrierResponseDto addCarrier(@Valid CarrierRequestDto carrierRequestDto) {
-        Carrier carrier = carrierMapper.toCarrierModel(carrierRequestDto);
-
-        Carrier result = carrierRepository.save(carrier);
-        log.info(ADD_CARRIER_MESSAGE_LOGGER_SERVICE, carrierRequestDto);
-        return carrierMapper.toCarrierResponseDto(result);
+    public Mono<CarrierResponseDto> addCarrier(@Valid CarrierRequestDto carrierRequestDto) {
+        return Mono.fromCallable(() -> carrierMapper.toCarrierModel(carrierRequestDto))
+                .flatMap(reactiveCarrierRepository::save)
+                .map(result -> {
+                    log.info(ADD_CARRIER_MESSAGE_LOGGER_SERVICE, carrierRequestDto);
+                    return carrierMapper.toCarrierResponseDto(result);
+                });
     }
 
     /**
      * Реализация метода для изменения информации о перевозчике в приложении.
+     * Метод также сбрасывает перевозчика из локального кэша справочных данных на всех экземплярах приложения.
      * Этот метод доступен только для пользователей с ролью Администратор
      *
      * @param carrierRequestDto объект DTO с запросом от пользователя
@@ -52,26 +60,38 @@ public class CarrierServiceImpl implements CarrierService {
      * @return Возвращает DTO с информацией об измененном перевозчике
      */
     @Override
-    public CarrierResponseDto updateCarrier(@Valid CarrierRequestDto carrierRequestDto, @Positive Long id) {
-        Carrier carrier = carrierRepository.findCarrierById(id);
-        carrier.setCompanyName(carrierRequestDto.getCompanyName());
-        carrier.setPhoneNumber(carrierRequestDto.getPhoneNumber());
-
-        Carrier result = carrierRepository.update(carrier);
-        log.info(UPDATE_CARRIER_MESSAGE_LOGGER_SERVICE, carrierRequestDto, id);
-        return carrierMapper.toCarrierResponseDto(result);
+    public Mono<CarrierResponseDto> updateCarrier(@Valid CarrierRequestDto carrierRequestDto, @Positive Long id) {
+        return reactiveCarrierRepository.findCarrierById(id)
+                .flatMap(carrier -> {
+                    carrier.setCompanyName(carrierRequestDto.getCompanyName());
+                    carrier.setPhoneNumber(carrierRequestDto.getPhoneNumber());
+                    return reactiveCarrierRepository.update(carrier);
+                })
+                .publishOn(jdbcScheduler)
+                .map(result -> {
+                    referenceDataCache.invalidateCarrier(id);
+                    log.info(UPDATE_CARRIER_MESSAGE_LOGGER_SERVICE, carrierRequestDto, id);
+                    return carrierMapper.toCarrierResponseDto(result);
+                });
     }
 
     /**
      * Реализация метода для удаления перевозчика из базы данных.
+     * Метод также сбрасывает перевозчика из локального кэша справочных данных на всех экземплярах приложения.
      * Этот метод доступен только для пользователей с ролью Администратор
      *
      * @param id уникальный идентификатор перевозчика
+     * @return Возвращает пустой Mono, если метод отработал корректно
      */
     @Override
-    public void deleteCarrier(@Positive Long id) {
-        Carrier carrier = carrierRepository.findCarrierById(id);
-        carrierRepository.deleteById(carrier.getId());
-        log.info(DELETE_CARRIER_MESSAGE_LOGGER_SERVICE, id);
+    public Mono<Void> deleteCarrier(@Positive Long id) {
+        return reactiveCarrierRepository.findCarrierById(id)
+                .flatMap(carrier -> reactiveCarrierRepository.deleteById(carrier.getId()).thenReturn(carrier))
+                .publishOn(jdbcScheduler)
+                .doOnNext(carrier -> {
+                    referenceDataCache.invalidateCarrier(carrier.getId());
+                    log.info(DELETE_CARRIER_MESSAGE_LOGGER_SERVICE, id);
+                })
+                .then();
     }
 }
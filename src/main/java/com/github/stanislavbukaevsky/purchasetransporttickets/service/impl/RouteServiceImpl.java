@@ -1,13 +1,17 @@
 package com.github.stanislavbukaevsky.purchasetransporttickets.service.impl;
 
+import com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete.CityAutocomplete;
+import com.github.stanislavbukaevsky.purchasetransporttickets.cache.ReferenceDataCache;
 import com.github.stanislavbukaevsky.purchasetransporttickets.dto.RouteRequestDto;
 import com.github.stanislavbukaevsky.purchasetransporttickets.dto.RouteResponseDto;
 import com.github.stanislavbukaevsky.purchasetransporttickets.dto.RouteUpdateRequestDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.inventory.TicketInventory;
+import com.github.stanislavbukaevsky.purchasetransporttickets.journey.JourneyPlanner;
 import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.RouteMapper;
 import com.github.stanislavbukaevsky.purchasetransporttickets.model.Carrier;
 import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
-import com.github.stanislavbukaevsky.purchasetransporttickets.repository.CarrierRepository;
-import com.github.stanislavbukaevsky.purchasetransporttickets.repository.RouteRepository;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.ReactiveCarrierRepository;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.ReactiveRouteRepository;
 import com.github.stanislavbukaevsky.purchasetransporttickets.service.RouteService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
@@ -15,11 +19,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
 
 /**
  * Сервис-класс с бизнес-логикой для маршрута в приложении.
+ * Обращения к базе данных выполняются через {@link ReactiveRouteRepository} и {@link ReactiveCarrierRepository},
+ * реализации которых выбираются свойством persistence.backend. Обновление кэша, расписания, индекса билетов
+ * и словаря подсказок остается блокирующим и выполняется на планировщике jdbcScheduler.
  * Реализует интерфейс {@link RouteService}
  */
 @Slf4j
@@ -27,12 +36,18 @@ import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.Lo
 @Validated
 @RequiredArgsConstructor
 public class RouteServiceImpl implements RouteService {
-    private final CarrierRepository carrierRepository;
-    private final RouteRepository routeRepository;
+    private final ReactiveCarrierRepository reactiveCarrierRepository;
+    private final ReactiveRouteRepository reactiveRouteRepository;
     private final RouteMapper routeMapper;
+    private final ReferenceDataCache referenceDataCache;
+    private final JourneyPlanner journeyPlanner;
+    private final CityAutocomplete cityAutocomplete;
+    private final TicketInventory ticketInventory;
+    private final Scheduler jdbcScheduler;
 
     /**
      * Реализация метода для добавления новых маршрутов в приложении.
+     * Метод также перестраивает словарь подсказок названий пунктов на всех экземплярах приложения.
      * Этот метод доступен только для пользователей с ролью Администратор
      *
      * @param routeRequestDto объект DTO с запросом от пользователя
@@ -40,22 +55,25 @@ public class RouteServiceImpl implements RouteService {
      * @return Возвращает DTO с информацией о добавленном маршруте
      */
     @Override
-    public RouteResponseDto addRoute(@Valid RouteRequestDto routeRequestDto, @Positive Long id) {
-        Carrier carrier = carrierRepository.findCarrierById(id);
-        Route route = routeMapper.toRouteModel(routeRequestDto);
-        route.setCarrier(carrier);
-        Route result = routeRepository.save(route);
-
-        RouteResponseDto routeResponseDto = routeMapper.toRouteResponseDto(result);
-        routeResponseDto.setCarrierId(carrier.getId());
-        routeResponseDto.setCompanyName(carrier.getCompanyName());
-        routeResponseDto.setPhoneNumber(carrier.getPhoneNumber());
-        log.info(ADD_ROUTE_MESSAGE_LOGGER_SERVICE, routeRequestDto, id);
-        return routeResponseDto;
+    public Mono<RouteResponseDto> addRoute(@Valid RouteRequestDto routeRequestDto, @Positive Long id) {
+        return reactiveCarrierRepository.findCarrierById(id)
+                .flatMap(carrier -> {
+                    Route route = routeMapper.toRouteModel(routeRequestDto);
+                    route.setCarrier(carrier);
+                    return reactiveRouteRepository.save(route)
+                            .publishOn(jdbcScheduler)
+                            .map(result -> {
+                                cityAutocomplete.refresh();
+                                log.info(ADD_ROUTE_MESSAGE_LOGGER_SERVICE, routeRequestDto, id);
+                                return formingRouteResponseDto(result, carrier);
+                            });
+                });
     }
 
     /**
      * Реализация метода для изменения информации о маршруте в приложении.
+     * Метод также сбрасывает маршрут из локального кэша справочных данных, обновляет его рейсы в расписании поездок
+     * и перестраивает словарь подсказок названий пунктов на всех экземплярах приложения.
      * Этот метод доступен только для пользователей с ролью Администратор
      *
      * @param routeUpdateRequestDto объект DTO с запросом от пользователя
@@ -63,33 +81,63 @@ public class RouteServiceImpl implements RouteService {
      * @return Возвращает DTO с информацией об измененном маршруте
      */
     @Override
-    public RouteResponseDto updateRoute(@Valid RouteUpdateRequestDto routeUpdateRequestDto, @Positive Long id) {
-        Carrier carrier = carrierRepository.findCarrierByCompanyName(routeUpdateRequestDto.getCompanyNameCarrier());
-        Route route = routeRepository.findRouteById(id);
-        route.setDeparturePoint(routeUpdateRequestDto.getDeparturePoint());
-        route.setDestination(routeUpdateRequestDto.getDestination());
-        route.setCarrier(carrier);
-        route.setDurationInMinutes(routeUpdateRequestDto.getDurationInMinutes());
-        Route result = routeRepository.update(route);
-
-        RouteResponseDto routeResponseDto = routeMapper.toRouteResponseDto(result);
-        routeResponseDto.setCarrierId(carrier.getId());
-        routeResponseDto.setCompanyName(carrier.getCompanyName());
-        routeResponseDto.setPhoneNumber(carrier.getPhoneNumber());
-        log.info(UPDATE_ROUTE_MESSAGE_LOGGER_SERVICE, routeUpdateRequestDto, id);
-        return routeResponseDto;
+    public Mono<RouteResponseDto> updateRoute(@Valid RouteUpdateRequestDto routeUpdateRequestDto, @Positive Long id) {
+        return reactiveCarrierRepository.findCarrierByCompanyName(routeUpdateRequestDto.getCompanyNameCarrier())
+                .flatMap(carrier -> reactiveRouteRepository.findRouteById(id)
+                        .flatMap(route -> {
+                            route.setDeparturePoint(routeUpdateRequestDto.getDeparturePoint());
+                            route.setDestination(routeUpdateRequestDto.getDestination());
+                            route.setCarrier(carrier);
+                            route.setDurationInMinutes(routeUpdateRequestDto.getDurationInMinutes());
+                            return reactiveRouteRepository.update(route);
+                        })
+                        .publishOn(jdbcScheduler)
+                        .map(result -> {
+                            referenceDataCache.invalidateRoute(id);
+                            journeyPlanner.refreshRoute(id);
+                            cityAutocomplete.refresh();
+                            log.info(UPDATE_ROUTE_MESSAGE_LOGGER_SERVICE, routeUpdateRequestDto, id);
+                            return formingRouteResponseDto(result, carrier);
+                        }));
     }
 
     /**
      * Реализация метода для удаления маршрута из базы данных.
+     * Метод также сбрасывает маршрут из локального кэша справочных данных, обновляет его рейсы в расписании поездок,
+     * удаляет его билеты из индекса билетов в продаже и перестраивает словарь подсказок названий пунктов
+     * на всех экземплярах приложения.
      * Этот метод доступен только для пользователей с ролью Администратор
      *
      * @param id уникальный идентификатор маршрута
+     * @return Возвращает пустой Mono, если метод отработал корректно
      */
     @Override
-    public void deleteRoute(@Positive Long id) {
-        Route route = routeRepository.findRouteById(id);
-        routeRepository.deleteById(route.getId());
-        log.info(DELETE_ROUTE_MESSAGE_LOGGER_SERVICE, id);
+    public Mono<Void> deleteRoute(@Positive Long id) {
+        return reactiveRouteRepository.findRouteById(id)
+                .flatMap(route -> reactiveRouteRepository.deleteById(route.getId()).thenReturn(route))
+                .publishOn(jdbcScheduler)
+                .doOnNext(route -> {
+                    referenceDataCache.invalidateRoute(route.getId());
+                    journeyPlanner.refreshRoute(route.getId());
+                    ticketInventory.removeRoute(route.getId());
+                    cityAutocomplete.refresh();
+                    log.info(DELETE_ROUTE_MESSAGE_LOGGER_SERVICE, id);
+                })
+                .then();
+    }
+
+    /**
+     * Приватный метод для формирования ответа с информацией о маршруте и его перевозчике
+     *
+     * @param route   модель маршрута
+     * @param carrier модель перевозчика маршрута
+     * @return Возвращает DTO с информацией о маршруте
+     */
+    private RouteResponseDto formingRouteResponseDto(Route route, Carrier carrier) {
+        RouteResponseDto routeResponseDto = routeMapper.toRouteResponseDto(route);
+        routeResponseDto.setCarrierId(carrier.getId());
+        routeResponseDto.setCompanyName(carrier.getCompanyName());
+        routeResponseDto.setPhoneNumber(carrier.getPhoneNumber());
+        return routeResponseDto;
     }
 }
@@ -1,40 +1,58 @@
 package com.github.stanislavbukaevsky.purchasetransporttickets.service.impl;
 
+import com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete.CityAutocomplete;
+import com.github.stanislavbukaevsky.purchasetransporttickets.cache.ReferenceDataCache;
 import com.github.stanislavbukaevsky.purchasetransporttickets.dto.*;
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketHoldStatus;
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketSortOrder;
 import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
-import com.github.stanislavbukaevsky.purchasetransporttickets.exception.TicketNotFoundException;
+import com.github.stanislavbukaevsky.purchasetransporttickets.exception.InvalidDepartureWindowException;
+import com.github.stanislavbukaevsky.purchasetransporttickets.exception.TicketAlreadySoldException;
+import com.github.stanislavbukaevsky.purchasetransporttickets.exception.TicketHoldException;
+import com.github.stanislavbukaevsky.purchasetransporttickets.inventory.TicketInventory;
+import com.github.stanislavbukaevsky.purchasetransporttickets.journey.JourneyPlanner;
 import com.github.stanislavbukaevsky.purchasetransporttickets.kafka.KafkaSenderService;
 import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.TicketMapper;
 import com.github.stanislavbukaevsky.purchasetransporttickets.model.Carrier;
 import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
 import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
 import com.github.stanislavbukaevsky.purchasetransporttickets.model.User;
+import com.github.stanislavbukaevsky.purchasetransporttickets.pagination.SeekCursor;
 import com.github.stanislavbukaevsky.purchasetransporttickets.repository.*;
+import com.github.stanislavbukaevsky.purchasetransporttickets.seatmap.SeatAllocator;
 import com.github.stanislavbukaevsky.purchasetransporttickets.security.CustomPrincipal;
 import com.github.stanislavbukaevsky.purchasetransporttickets.service.TicketService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.*;
 import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.LoggerTextMessageConstant.*;
 
 /**
  * Сервис-класс с бизнес-логикой для билета в приложении.
+ * Обращения к базе данных, Redis и кэшу выполняются на планировщике jdbcScheduler, кроме проверки брони
+ * билетов в результатах поиска и чтения кэша билетов и истории покупок: они выполняются неблокирующим
+ * репозиторием {@link ReactiveRedisRepository}.
+ * Маршруты и перевозчики берутся из локального кэша справочных данных {@link ReferenceDataCache}.
+ * Если индекс билетов в продаже {@link TicketInventory} включен, постраничный поиск по дате и времени, пунктам
+ * и перевозчику выполняется по индексу без обращения к базе данных, остальные поиски - через базу данных.
  * Реализует интерфейс {@link TicketService}
  */
 @Slf4j
@@ -42,13 +60,26 @@ import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.Lo
 @Validated
 @RequiredArgsConstructor
 public class TicketServiceImpl implements TicketService {
-    private final CarrierRepository carrierRepository;
-    private final RouteRepository routeRepository;
+    private static final int STREAM_HOLD_CHECK_BATCH_SIZE = 64;
+    private static final int HELD_TICKETS_REFILLS = 2;
+    private final ReferenceDataCache referenceDataCache;
+    private final JourneyPlanner journeyPlanner;
+    private final CityAutocomplete cityAutocomplete;
+    private final SeatAllocator seatAllocator;
+    private final TicketInventory ticketInventory;
     private final TicketRepository ticketRepository;
+    private final ReactiveTicketRepository reactiveTicketRepository;
     private final UserRepository userRepository;
     private final RedisRepository redisRepository;
+    private final TicketHoldRedisRepository ticketHoldRedisRepository;
+    private final ReactiveRedisRepository reactiveRedisRepository;
     private final KafkaSenderService kafkaSenderService;
     private final TicketMapper ticketMapper;
+    private final Scheduler jdbcScheduler;
+    @Value("${ticket.hold.time-to-live-in-seconds}")
+    private Long holdTimeToLiveInSeconds;
+    @Value("${ticket.hold.purchase-time-to-live-in-seconds}")
+    private Long purchaseHoldTimeToLiveInSeconds;
 
     /**
      * Реализация метода для добавления новых билетов в приложении.
@@ -59,22 +90,28 @@ public class TicketServiceImpl implements TicketService {
      * @return Возвращает DTO с информацией о добавленном билете
      */
     @Override
-    public TicketResponseDto addTicket(@Valid TicketRequestDto ticketRequestDto) {
-        Route route = routeRepository.findCustomRouteById(ticketRequestDto.getRouteId());
-        Carrier carrier = carrierRepository.findCarrierById(route.getCarrierId());
-        Ticket ticket = ticketMapper.toTicketModel(ticketRequestDto);
-        ticket.setRoute(route);
-        ticket.setDateTimeDeparture(parseDateAndTime(ticketRequestDto.getDateTimeDeparture()));
-        ticket.setDateTimeTicketIssuance(LocalDateTime.now());
+    public Mono<TicketResponseDto> addTicket(@Valid TicketRequestDto ticketRequestDto) {
+        return Mono.fromCallable(() -> {
+            Route route = referenceDataCache.findRouteById(ticketRequestDto.getRouteId());
+            Carrier carrier = referenceDataCache.findCarrierById(route.getCarrierId());
+            Ticket ticket = ticketMapper.toTicketModel(ticketRequestDto);
+            ticket.setRoute(route);
+            ticket.setDateTimeDeparture(parseDateAndTime(ticketRequestDto.getDateTimeDeparture()));
+            ticket.setDateTimeTicketIssuance(LocalDateTime.now());
 
-        Ticket result = ticketRepository.save(ticket);
-        redisRepository.save(result);
-        log.info(ADD_TICKET_MESSAGE_LOGGER_SERVICE, ticketRequestDto);
-        return formingTicketResponseDto(route, carrier, result);
+            Ticket result = ticketRepository.save(ticket);
+            redisRepository.save(result);
+            journeyPlanner.refreshTicket(result.getId());
+            seatAllocator.evict(route.getId(), result.getDateTimeDeparture());
+            ticketInventory.refreshTicket(result.getId());
+            log.info(ADD_TICKET_MESSAGE_LOGGER_SERVICE, ticketRequestDto);
+            return formingTicketResponseDto(route, carrier, result);
+        }).subscribeOn(jdbcScheduler);
     }
 
     /**
      * Реализация метода для изменения информации о билете в приложении.
+     * Измененный билет возвращается в продажу, поэтому удаляется из истории покупок прежнего покупателя.
      * Метод также изменяет информацию в хранилище Redis.
      * Этот метод доступен только для пользователей с ролью Администратор
      *
@@ -83,18 +120,31 @@ public class TicketServiceImpl implements TicketService {
      * @return Возвращает DTO с информацией об измененном билете
      */
     @Override
-    public TicketResponseDto updateTicket(@Valid TicketRequestDto ticketRequestDto, @Positive Long id) {
-        Ticket ticket = ticketRepository.findTicketById(id);
-        Route route = routeRepository.findCustomRouteById(ticketRequestDto.getRouteId());
-        Carrier carrier = carrierRepository.findCarrierById(route.getCarrierId());
-        ticket.setRoute(route);
-        ticket.setDateTimeDeparture(parseDateAndTime(ticketRequestDto.getDateTimeDeparture()));
-        ticket.setDateTimeTicketIssuance(LocalDateTime.now());
+    public Mono<TicketResponseDto> updateTicket(@Valid TicketRequestDto ticketRequestDto, @Positive Long id) {
+        return Mono.fromCallable(() -> {
+            Ticket ticket = ticketRepository.findTicketById(id);
+            Long previousUserId = ticket.getUserId();
+            Long previousRouteId = ticket.getRouteId();
+            LocalDateTime previousDateTimeDeparture = ticket.getDateTimeDeparture();
+            Route route = referenceDataCache.findRouteById(ticketRequestDto.getRouteId());
+            Carrier carrier = referenceDataCache.findCarrierById(route.getCarrierId());
+            ticket.setRoute(route);
+            ticket.setDateTimeDeparture(parseDateAndTime(ticketRequestDto.getDateTimeDeparture()));
+            ticket.setDateTimeTicketIssuance(LocalDateTime.now());
 
-        Ticket result = ticketRepository.update(ticket);
-        redisRepository.save(result);
-        log.info(UPDATE_TICKET_MESSAGE_LOGGER_SERVICE, ticketRequestDto, id);
-        return formingTicketResponseDto(route, carrier, result);
+            Ticket result = ticketRepository.update(ticket);
+            redisRepository.save(result);
+            if (previousUserId != null) {
+                redisRepository.removePurchase(previousUserId, result);
+            }
+            journeyPlanner.refreshTicket(result.getId());
+            seatAllocator.evict(previousRouteId, previousDateTimeDeparture);
+            seatAllocator.evict(route.getId(), result.getDateTimeDeparture());
+            ticketInventory.removeTicket(previousRouteId, previousDateTimeDeparture, result.getId());
+            ticketInventory.refreshTicket(result.getId());
+            log.info(UPDATE_TICKET_MESSAGE_LOGGER_SERVICE, ticketRequestDto, id);
+            return formingTicketResponseDto(route, carrier, result);
+        }).subscribeOn(jdbcScheduler);
     }
 
     /**
@@ -103,144 +153,305 @@ public class TicketServiceImpl implements TicketService {
      * Этот метод доступен только для пользователей с ролью Администратор
      *
      * @param id уникальный идентификатор билета
+     * @return Возвращает пустой Mono, если метод отработал корректно
      */
     @Override
-    public void deleteTicket(@Positive Long id) {
-        Ticket ticket = ticketRepository.findTicketById(id);
-        redisRepository.delete(ticket.getId());
-        ticketRepository.deleteById(ticket.getId());
-        log.info(DELETE_TICKET_MESSAGE_LOGGER_SERVICE, id);
+    public Mono<Void> deleteTicket(@Positive Long id) {
+        return Mono.<Void>fromRunnable(() -> {
+            Ticket ticket = ticketRepository.findTicketById(id);
+            redisRepository.delete(ticket.getId());
+            if (ticket.getUserId() != null) {
+                redisRepository.deletePurchase(ticket.getUserId(), ticket.getId());
+            }
+            ticketRepository.deleteById(ticket.getId());
+            journeyPlanner.removeTicket(ticket.getId());
+            seatAllocator.evict(ticket.getRouteId(), ticket.getDateTimeDeparture());
+            ticketInventory.removeTicket(ticket.getRouteId(), ticket.getDateTimeDeparture(), ticket.getId());
+            log.info(DELETE_TICKET_MESSAGE_LOGGER_SERVICE, id);
+        }).subscribeOn(jdbcScheduler);
     }
 
     /**
      * Реализация метода для просмотра отсортированного списока транспортных билетов по дате и времени на платформе.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Билеты ищутся в окне отправления, а без конца окна - точно по дате и времени отправления.
+     * Этот метод поддерживает постраничную выборку по ключу с непрозрачным курсором следующей страницы
      *
      * @param dateAndTime класс-DTO для запроса от пользователя
-     * @param page        номер страницы
+     * @param cursor      курсор страницы, полученный в предыдущем ответе
      * @param size        количество записей
-     * @return Возвращает список найденных транспортных билетов со всей информацией о них
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
      */
     @Override
-    public List<TicketResponseDto> getTicketsByDateAndTime(@Valid TicketRequestByDateAndTimeDto dateAndTime,
-                                                           @Positive int page, @Positive int size) {
-        LocalDateTime dateTimeDeparture = parseDateAndTime(dateAndTime.getDateTimeRequest());
-        Pageable pageable = PageRequest.of(page - 1, size);
-        List<Ticket> tickets = ticketRepository.findTicketsByDateAndTimeDeparture(dateTimeDeparture, pageable);
-        List<TicketResponseDto> result = new ArrayList<>();
-
-        if (!tickets.isEmpty()) {
-            for (Ticket ticket : tickets) {
-                if (ticket.getTicketStatus().equals(TicketStatus.AVAILABLE_FOR_SALE)) {
-                    Route route = routeRepository.findCustomRouteById(ticket.getRouteId());
-                    Carrier carrier = carrierRepository.findCarrierById(route.getCarrierId());
-                    TicketResponseDto ticketResponseDto = formingTicketResponseDto(route, carrier, ticket);
-                    result.add(ticketResponseDto);
-                }
-            }
-            log.info(GET_TICKETS_BY_DATE_AND_TIME_MESSAGE_LOGGER_SERVICE, dateAndTime, page, size);
-            return result;
-        }
-        throw new NullPointerException(NULL_POINTER_EXCEPTION_MESSAGE_SERVICE);
+    public Mono<TicketPageResponseDto> getTicketsByDateAndTime(@Valid TicketRequestByDateAndTimeDto dateAndTime,
+                                                               String cursor, @Positive int size) {
+        log.info(GET_TICKETS_BY_DATE_AND_TIME_MESSAGE_LOGGER_SERVICE, dateAndTime, cursor, size);
+        return searchTickets(cursor, size, seekCursor -> {
+            LocalDateTime departureFrom = parseDateAndTime(dateAndTime.getDateTimeRequest());
+            LocalDateTime departureTo = parseDepartureWindowEnd(dateAndTime, departureFrom);
+            return ticketInventory.isEnabled()
+                    ? ticketInventory.findTicketsByDateAndTimeDeparture(departureFrom, departureTo, seekCursor, size)
+                    : reactiveTicketRepository.findTicketsByDateAndTimeDeparture(departureFrom, departureTo, seekCursor, size);
+        });
     }
 
     /**
      * Реализация метода для просмотра отсортированного списока транспортных билетов по пункту отправления на платформе.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Пункт отправления сначала приводится к названию из словаря пунктов, поэтому находится латиницей и с опечатками.
+     * Этот метод поддерживает постраничную выборку по ключу с непрозрачным курсором следующей страницы
      *
      * @param departurePoint класс-DTO для запроса от пользователя
-     * @param page           номер страницы
+     * @param cursor         курсор страницы, полученный в предыдущем ответе
      * @param size           количество записей
-     * @return Возвращает список найденных транспортных билетов со всей информацией о них
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
      */
     @Override
-    public List<TicketResponseDto> getTicketsByDeparturePoint(@Valid TicketRequestByDeparturePointDto departurePoint,
-                                                              @Positive int page, @Positive int size) {
-        Pageable pageable = PageRequest.of(page - 1, size);
-        List<Route> routes = routeRepository.findRoutesByDeparturePoint(departurePoint.getDeparturePoint(), pageable);
-        log.info(GET_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_SERVICE, departurePoint, page, size);
-        return formingTicketsResponseDto(routes, pageable);
+    public Mono<TicketPageResponseDto> getTicketsByDeparturePoint(@Valid TicketRequestByDeparturePointDto departurePoint,
+                                                                  String cursor, @Positive int size) {
+        log.info(GET_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_SERVICE, departurePoint, cursor, size);
+        return searchTickets(cursor, size, seekCursor -> {
+            String resolved = cityAutocomplete.resolve(departurePoint.getDeparturePoint());
+            return ticketInventory.isEnabled()
+                    ? ticketInventory.findTicketsByDeparturePoint(resolved, seekCursor, size)
+                    : reactiveTicketRepository.findTicketsByDeparturePoint(resolved, seekCursor, size);
+        });
     }
 
     /**
      * Реализация метода для просмотра отсортированного списока транспортных билетов по пункту назначения на платформе.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Пункт назначения сначала приводится к названию из словаря пунктов, поэтому находится латиницей и с опечатками.
+     * Этот метод поддерживает постраничную выборку по ключу с непрозрачным курсором следующей страницы
      *
      * @param destination класс-DTO для запроса от пользователя
-     * @param page        номер страницы
+     * @param cursor      курсор страницы, полученный в предыдущем ответе
      * @param size        количество записей
-     * @return Возвращает список найденных транспортных билетов со всей информацией о них
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
      */
     @Override
-    public List<TicketResponseDto> getTicketsByDestination(@Valid TicketRequestByDestinationDto destination,
-                                                           @Positive int page, @Positive int size) {
-        Pageable pageable = PageRequest.of(page - 1, size);
-        List<Route> routes = routeRepository.findRoutesByDestination(destination.getDestination(), pageable);
-        log.info(GET_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_SERVICE, destination, page, size);
-        return formingTicketsResponseDto(routes, pageable);
+    public Mono<TicketPageResponseDto> getTicketsByDestination(@Valid TicketRequestByDestinationDto destination,
+                                                               String cursor, @Positive int size) {
+        log.info(GET_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_SERVICE, destination, cursor, size);
+        return searchTickets(cursor, size, seekCursor -> {
+            String resolved = cityAutocomplete.resolve(destination.getDestination());
+            return ticketInventory.isEnabled()
+                    ? ticketInventory.findTicketsByDestination(resolved, seekCursor, size)
+                    : reactiveTicketRepository.findTicketsByDestination(resolved, seekCursor, size);
+        });
     }
 
     /**
      * Реализация метода для просмотра отсортированного списока транспортных билетов по названию компании перевозчика на платформе.
-     * Этот метод поддерживает пагинацию с фильрацией количества записей
+     * Этот метод поддерживает постраничную выборку по ключу с непрозрачным курсором следующей страницы
      *
      * @param companyName класс-DTO для запроса от пользователя
-     * @param page        номер страницы
+     * @param cursor      курсор страницы, полученный в предыдущем ответе
      * @param size        количество записей
-     * @return Возвращает список найденных транспортных билетов со всей информацией о них
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
      */
     @Override
-    public List<TicketResponseDto> getTicketsByCompanyNameCarrier(@Valid TicketRequestByCompanyNameCarrierDto companyName,
-                                                                  @Positive int page, @Positive int size) {
-        Pageable pageable = PageRequest.of(page - 1, size);
-        Carrier carrier = carrierRepository.findCarrierByCompanyName(companyName.getCompanyName());
-        List<Route> routes = routeRepository.findRoutesByCompanyNameCarrier(carrier.getId(), pageable);
-        List<TicketResponseDto> result = new ArrayList<>();
-        if (!routes.isEmpty()) {
-            for (Route route : routes) {
-                List<Ticket> tickets = ticketRepository.findTicketsByRouteId(route.getId(), pageable);
-                for (Ticket ticket : tickets) {
-                    if (ticket.getTicketStatus().equals(TicketStatus.AVAILABLE_FOR_SALE)) {
-                        TicketResponseDto ticketResponseDto = formingTicketResponseDto(route, carrier, ticket);
-                        result.add(ticketResponseDto);
-                    }
-                }
-            }
-            log.info(GET_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_SERVICE, companyName, page, size);
-            return result;
-        }
-        throw new NullPointerException(NULL_POINTER_EXCEPTION_MESSAGE_SERVICE);
+    public Mono<TicketPageResponseDto> getTicketsByCompanyNameCarrier(@Valid TicketRequestByCompanyNameCarrierDto companyName,
+                                                                      String cursor, @Positive int size) {
+        log.info(GET_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_SERVICE, companyName, cursor, size);
+        return searchTickets(cursor, size, seekCursor -> ticketInventory.isEnabled()
+                ? ticketInventory.findTicketsByCompanyNameCarrier(companyName.getCompanyName(), seekCursor, size)
+                : reactiveTicketRepository.findTicketsByCompanyNameCarrier(companyName.getCompanyName(), seekCursor, size));
+    }
+
+    /**
+     * Реализация метода для поиска транспортных билетов на платформе по нескольким необязательным условиям.
+     * Все заполненные условия объединяются в один запрос, результат отсортирован в выбранном порядке.
+     * Этот метод поддерживает постраничную выборку по ключу с непрозрачным курсором следующей страницы
+     *
+     * @param search класс-DTO для запроса от пользователя с условиями поиска
+     * @param cursor курсор страницы, полученный в предыдущем ответе с тем же порядком сортировки
+     * @param size   количество записей
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
+     */
+    @Override
+    public Mono<TicketPageResponseDto> getTicketsByFilters(@Valid TicketSearchRequestDto search,
+                                                           String cursor, @Positive int size) {
+        log.info(GET_TICKETS_BY_FILTERS_MESSAGE_LOGGER_SERVICE, search, cursor, size);
+        return searchTickets(cursor, size, seekCursor -> reactiveTicketRepository.findTicketsByCriteria(
+                formingTicketSearchCriteria(search), seekCursor, size));
+    }
+
+    /**
+     * Реализация метода для потоковой выгрузки отсортированного списка транспортных билетов по дате и времени на платформе.
+     * Билеты ищутся в окне отправления, а без конца окна - точно по дате и времени отправления.
+     * Билеты отдаются клиенту по мере чтения из базы данных без ограничения количества записей
+     *
+     * @param dateAndTime класс-DTO для запроса от пользователя
+     * @param cursor      курсор страницы, полученный в ответе постраничного поиска, или null для выгрузки с начала
+     * @return Возвращает поток найденных транспортных билетов со всей информацией о них
+     */
+    @Override
+    public Flux<TicketResponseDto> streamTicketsByDateAndTime(@Valid TicketRequestByDateAndTimeDto dateAndTime, String cursor) {
+        log.info(STREAM_TICKETS_BY_DATE_AND_TIME_MESSAGE_LOGGER_SERVICE, dateAndTime, cursor);
+        return streamTickets(cursor, seekCursor -> {
+            LocalDateTime departureFrom = parseDateAndTime(dateAndTime.getDateTimeRequest());
+            return reactiveTicketRepository.streamTicketsByDateAndTimeDeparture(
+                    departureFrom, parseDepartureWindowEnd(dateAndTime, departureFrom), seekCursor);
+        });
+    }
+
+    /**
+     * Реализация метода для потоковой выгрузки отсортированного списка транспортных билетов по пункту отправления на платформе.
+     * Пункт отправления сначала приводится к названию из словаря пунктов, поэтому находится латиницей и с опечатками.
+     * Билеты отдаются клиенту по мере чтения из базы данных без ограничения количества записей
+     *
+     * @param departurePoint класс-DTO для запроса от пользователя
+     * @param cursor         курсор страницы, полученный в ответе постраничного поиска, или null для выгрузки с начала
+     * @return Возвращает поток найденных транспортных билетов со всей информацией о них
+     */
+    @Override
+    public Flux<TicketResponseDto> streamTicketsByDeparturePoint(@Valid TicketRequestByDeparturePointDto departurePoint, String cursor) {
+        log.info(STREAM_TICKETS_BY_DEPARTURE_POINT_MESSAGE_LOGGER_SERVICE, departurePoint, cursor);
+        return streamTickets(cursor, seekCursor -> reactiveTicketRepository.streamTicketsByDeparturePoint(
+                cityAutocomplete.resolve(departurePoint.getDeparturePoint()), seekCursor));
+    }
+
+    /**
+     * Реализация метода для потоковой выгрузки отсортированного списка транспортных билетов по пункту назначения на платформе.
+     * Пункт назначения сначала приводится к названию из словаря пунктов, поэтому находится латиницей и с опечатками.
+     * Билеты отдаются клиенту по мере чтения из базы данных без ограничения количества записей
+     *
+     * @param destination класс-DTO для запроса от пользователя
+     * @param cursor      курсор страницы, полученный в ответе постраничного поиска, или null для выгрузки с начала
+     * @return Возвращает поток найденных транспортных билетов со всей информацией о них
+     */
+    @Override
+    public Flux<TicketResponseDto> streamTicketsByDestination(@Valid TicketRequestByDestinationDto destination, String cursor) {
+        log.info(STREAM_TICKETS_BY_DESTINATION_MESSAGE_LOGGER_SERVICE, destination, cursor);
+        return streamTickets(cursor, seekCursor -> reactiveTicketRepository.streamTicketsByDestination(
+                cityAutocomplete.resolve(destination.getDestination()), seekCursor));
+    }
+
+    /**
+     * Реализация метода для потоковой выгрузки отсортированного списка транспортных билетов по названию компании перевозчика на платформе.
+     * Билеты отдаются клиенту по мере чтения из базы данных без ограничения количества записей
+     *
+     * @param companyName класс-DTO для запроса от пользователя
+     * @param cursor      курсор страницы, полученный в ответе постраничного поиска, или null для выгрузки с начала
+     * @return Возвращает поток найденных транспортных билетов со всей информацией о них
+     */
+    @Override
+    public Flux<TicketResponseDto> streamTicketsByCompanyNameCarrier(@Valid TicketRequestByCompanyNameCarrierDto companyName, String cursor) {
+        log.info(STREAM_TICKETS_BY_COMPANY_NAME_CARRIER_MESSAGE_LOGGER_SERVICE, companyName, cursor);
+        return streamTickets(cursor, seekCursor -> reactiveTicketRepository.streamTicketsByCompanyNameCarrier(
+                companyName.getCompanyName(), seekCursor));
     }
 
     /**
      * Реализация метода для покупки транспортного билета зарегистрированному пользователю на платформе.
      * Этот метод отправляет данные о купленном билете в хранилище Redis.
-     * Метод также отправляет данные о купленном билете в топик Kafka
+     * Метод также отправляет данные о купленном билете в топик Kafka.
+     * Билет, забронированный другим пользователем, купить нельзя: перед покупкой билет атомарно бронируется
+     * за покупателем на короткое время, поэтому между проверкой брони и покупкой ее не может поставить другой пользователь.
+     * После покупки бронь снимается. Если покупка не удалась, снимается только бронь, поставленная этим вызовом
      *
      * @param id             уникальный идентификатор билета
      * @param authentication объект аутентификации
      * @return Возвращает купленный транспортный билет со всей информацией о нем
      */
     @Override
-    @Caching(put = @CachePut(key = "#id", value = "buying-tickets"))
-    public BuyingTicketResponseDto buyingTicket(Long id, Authentication authentication) {
-        Ticket ticket = ticketRepository.findTicketById(id);
-        Route route = routeRepository.findRouteById(ticket.getRouteId());
-        Carrier carrier = carrierRepository.findCarrierById(route.getCarrierId());
-        CustomPrincipal principal = (CustomPrincipal) authentication.getPrincipal();
-        User user = userRepository.findUserByLogin(principal.getLogin());
+    public Mono<BuyingTicketResponseDto> buyingTicket(Long id, Authentication authentication) {
+        return Mono.fromCallable(() -> {
+            CustomPrincipal principal = (CustomPrincipal) authentication.getPrincipal();
+            TicketHoldStatus holdStatus = ticketHoldRedisRepository.hold(id, principal.getLogin(),
+                    Duration.ofSeconds(purchaseHoldTimeToLiveInSeconds));
+            if (holdStatus == TicketHoldStatus.REJECTED) {
+                throw new TicketHoldException(TICKET_HOLD_EXCEPTION_MESSAGE_SERVICE);
+            }
 
-        if (ticket.getTicketStatus().equals(TicketStatus.AVAILABLE_FOR_SALE)) {
-            ticket.setUser(user);
-            ticket.setUserId(user.getId());
-            Ticket result = ticketRepository.updateStatusTicket(ticket);
-            redisRepository.save(result);
-            BuyingTicketResponseDto buyingTicketResponseDto = formingBuyingTicketResponseDto(route, carrier, result, user);
-            kafkaSenderService.send(buyingTicketResponseDto);
+            BuyingTicketResponseDto buyingTicketResponseDto = purchaseHeldTicket(id, principal.getLogin(), holdStatus);
             log.info(BUYING_TICKET_MESSAGE_LOGGER_SERVICE, id);
             return buyingTicketResponseDto;
-        }
-        throw new TicketNotFoundException(TICKET_NOT_FOUND_EXCEPTION_MESSAGE_SERVICE);
+        }).subscribeOn(jdbcScheduler);
+    }
+
+    /**
+     * Реализация метода для бронирования транспортного билета зарегистрированному пользователю на платформе.
+     * Бронь хранится в Redis и автоматически снимается по истечении времени жизни,
+     * поэтому строки таблицы билетов не блокируются. Место билета на карте мест бронируется на то же время
+     *
+     * @param id             уникальный идентификатор билета
+     * @param authentication объект аутентификации
+     * @return Возвращает информацию о брони транспортного билета
+     */
+    @Override
+    public Mono<TicketHoldResponseDto> holdTicket(Long id, Authentication authentication) {
+        return findTicketById(id).publishOn(jdbcScheduler).map(ticket -> {
+            CustomPrincipal principal = (CustomPrincipal) authentication.getPrincipal();
+            if (!ticket.getTicketStatus().equals(TicketStatus.AVAILABLE_FOR_SALE)) {
+                throw new TicketAlreadySoldException(TICKET_NOT_AVAILABLE_FOR_HOLD_EXCEPTION_MESSAGE_SERVICE);
+            }
+
+            Duration timeToLive = Duration.ofSeconds(holdTimeToLiveInSeconds);
+            if (ticketHoldRedisRepository.hold(id, principal.getLogin(), timeToLive) == TicketHoldStatus.REJECTED) {
+                throw new TicketHoldException(TICKET_HOLD_EXCEPTION_MESSAGE_SERVICE);
+            }
+            seatAllocator.holdSeat(ticket, timeToLive);
+
+            TicketHoldResponseDto ticketHoldResponseDto = new TicketHoldResponseDto();
+            ticketHoldResponseDto.setTicketId(id);
+            ticketHoldResponseDto.setLogin(principal.getLogin());
+            ticketHoldResponseDto.setExpiresAt(LocalDateTime.now().plus(timeToLive));
+            log.info(HOLD_TICKET_MESSAGE_LOGGER_SERVICE, id);
+            return ticketHoldResponseDto;
+        });
+    }
+
+    /**
+     * Реализация метода для подтверждения покупки забронированного транспортного билета на платформе.
+     * Покупка возможна только пока бронь принадлежит текущему пользователю. Бронь проверяется и продлевается
+     * на время покупки одним атомарным обращением к Redis, поэтому не может истечь между проверкой и покупкой
+     *
+     * @param id             уникальный идентификатор билета
+     * @param authentication объект аутентификации
+     * @return Возвращает купленный транспортный билет со всей информацией о нем
+     */
+    @Override
+    public Mono<BuyingTicketResponseDto> confirmTicket(Long id, Authentication authentication) {
+        return Mono.fromCallable(() -> {
+            CustomPrincipal principal = (CustomPrincipal) authentication.getPrincipal();
+            TicketHoldStatus holdStatus = ticketHoldRedisRepository.hold(id, principal.getLogin(),
+                    Duration.ofSeconds(purchaseHoldTimeToLiveInSeconds));
+            if (holdStatus != TicketHoldStatus.EXTENDED) {
+                if (holdStatus == TicketHoldStatus.HELD) {
+                    ticketHoldRedisRepository.release(id, principal.getLogin());
+                }
+                throw new TicketHoldException(TICKET_HOLD_NOT_FOUND_EXCEPTION_MESSAGE_SERVICE);
+            }
+
+            BuyingTicketResponseDto buyingTicketResponseDto = purchaseHeldTicket(id, principal.getLogin(), holdStatus);
+            log.info(CONFIRM_TICKET_MESSAGE_LOGGER_SERVICE, id);
+            return buyingTicketResponseDto;
+        }).subscribeOn(jdbcScheduler);
+    }
+
+    /**
+     * Реализация метода для снятия брони с транспортного билета на платформе.
+     * Снять бронь может только пользователь, за которым она закреплена. Место билета на карте мест снова становится свободным
+     *
+     * @param id             уникальный идентификатор билета
+     * @param authentication объект аутентификации
+     * @return Возвращает пустой Mono, если метод отработал корректно
+     */
+    @Override
+    public Mono<Void> releaseTicket(Long id, Authentication authentication) {
+        return Mono.<Void>fromRunnable(() -> {
+                    CustomPrincipal principal = (CustomPrincipal) authentication.getPrincipal();
+                    if (!ticketHoldRedisRepository.release(id, principal.getLogin())) {
+                        throw new TicketHoldException(TICKET_HOLD_NOT_FOUND_EXCEPTION_MESSAGE_SERVICE);
+                    }
+                })
+                .subscribeOn(jdbcScheduler)
+                .then(findTicketById(id))
+                .publishOn(jdbcScheduler)
+                .doOnNext(ticket -> {
+                    seatAllocator.releaseSeat(ticket);
+                    log.info(RELEASE_TICKET_MESSAGE_LOGGER_SERVICE, id);
+                })
+                .then();
     }
 
     /**
@@ -254,34 +465,71 @@ public class TicketServiceImpl implements TicketService {
      * @return Возвращает список найденных транспортных билетов со всей информацией о них
      */
     @Override
-    @Cacheable("buying-tickets")
-    public List<TicketResponseDto> findBuyingTicketsByUserId(Authentication authentication, @Positive int page, @Positive int size) {
-        Pageable pageable = PageRequest.of(page - 1, size);
+    public Mono<List<TicketResponseDto>> findBuyingTicketsByUserId(Authentication authentication, @Positive int page, @Positive int size) {
         CustomPrincipal principal = (CustomPrincipal) authentication.getPrincipal();
-        User user = userRepository.findUserByLogin(principal.getLogin());
-        List<Ticket> tickets = ticketRepository.findTicketsByUserId(user.getId(), pageable);
-        List<Ticket> redisTickets = redisRepository.findAllTickets().values().stream().toList();
-        List<TicketResponseDto> result = new ArrayList<>();
+        long offset = PageRequest.of(page - 1, size).getOffset();
+        return Mono.fromCallable(() -> userRepository.findUserByLogin(principal.getLogin()))
+                .subscribeOn(jdbcScheduler)
+                .flatMap(user -> reactiveRedisRepository.findPurchases(user.getId(), offset, size)
+                        .switchIfEmpty(Mono.fromCallable(() -> loadPurchases(user.getId(), offset, size))
+                                .subscribeOn(jdbcScheduler)))
+                .publishOn(jdbcScheduler)
+                .map(tickets -> formingBuyingTicketsResponseDto(tickets, page, size));
+    }
 
-        if (redisTickets.size() != tickets.size()) {
-            for (Ticket ticket : tickets) {
-                if (!redisTickets.contains(ticket)) {
+    /**
+     * Приватный метод для поиска билета через кэш билетов в хранилище Redis.
+     * Кэш читается неблокирующим репозиторием, а только при промахе билет читается из базы данных на планировщике
+     * jdbcScheduler и записывается в кэш со своей версией. Если за это время билет изменили или купили,
+     * в кэше уже более новая версия и прочитанная версия ее не затирает
+     *
+     * @param id уникальный идентификатор билета
+     * @return Возвращает модель найденного билета без маршрута и покупателя
+     */
+    private Mono<Ticket> findTicketById(Long id) {
+        return reactiveRedisRepository.findById(id)
+                .switchIfEmpty(Mono.fromCallable(() -> {
+                    log.info(TICKET_CACHE_MISS_MESSAGE_LOGGER_SERVICE, id);
+                    Ticket ticket = ticketRepository.findTicketById(id);
                     redisRepository.save(ticket);
-                }
-                Route route = routeRepository.findRouteById(ticket.getRouteId());
-                Carrier carrier = carrierRepository.findCarrierById(route.getCarrierId());
-                TicketResponseDto ticketResponseDto = formingTicketResponseDto(route, carrier, ticket);
-                result.add(ticketResponseDto);
-            }
-        } else {
-            for (Ticket ticket : redisTickets) {
-                if (ticket.getTicketStatus().equals(TicketStatus.NOT_ON_SALE)) {
-                    Route route = routeRepository.findRouteById(ticket.getRouteId());
-                    Carrier carrier = carrierRepository.findCarrierById(route.getCarrierId());
-                    TicketResponseDto ticketResponseDto = formingTicketResponseDto(route, carrier, ticket);
-                    result.add(ticketResponseDto);
-                }
-            }
+                    return ticket;
+                }).subscribeOn(jdbcScheduler));
+    }
+
+    /**
+     * Приватный метод для заполнения истории покупок пользователя, которая еще не заполнена в хранилище Redis.
+     * Все билеты пользователя читаются из базы данных одним запросом и пакетно сохраняются в историю
+     * и в хранилище Redis, а страница берется из прочитанного списка
+     *
+     * @param userId уникальный идентификатор покупателя
+     * @param offset номер первой записи страницы
+     * @param size   количество записей
+     * @return Возвращает купленные билеты страницы без маршрута и перевозчика
+     */
+    private List<Ticket> loadPurchases(Long userId, long offset, int size) {
+        List<Ticket> purchases = ticketRepository.findTicketsByUserId(userId);
+        redisRepository.savePurchases(userId, purchases);
+        redisRepository.saveAll(purchases);
+        int from = (int) Math.min(offset, purchases.size());
+        return purchases.subList(from, Math.min(from + size, purchases.size()));
+    }
+
+    /**
+     * Приватный метод для сборки списка купленных транспортных билетов пользователя.
+     * Маршрут и перевозчик берутся из кэша справочных данных
+     *
+     * @param tickets купленные билеты страницы без маршрута и перевозчика
+     * @param page    номер страницы
+     * @param size    количество записей
+     * @return Возвращает список найденных транспортных билетов со всей информацией о них
+     */
+    private List<TicketResponseDto> formingBuyingTicketsResponseDto(List<Ticket> tickets, int page, int size) {
+        List<TicketResponseDto> result = new ArrayList<>();
+
+        for (Ticket ticket : tickets) {
+            Route route = referenceDataCache.findRouteById(ticket.getRouteId());
+            Carrier carrier = referenceDataCache.findCarrierById(route.getCarrierId());
+            result.add(formingTicketResponseDto(route, carrier, ticket));
         }
 
         log.info(FIND_BUYING_TICKETS_BY_USER_ID_MESSAGE_LOGGER_SERVICE, page, size);
@@ -289,26 +537,217 @@ public class TicketServiceImpl implements TicketService {
     }
 
     /**
-     * Приватный метод для преобразования даты и времени в строковом виде к формату LocalDateTime
+     * Приватный метод для покупки транспортного билета, забронированного за покупателем.
+     * После покупки бронь снимается. Если покупка не удалась, бронь снимается, только если ее поставил
+     * вызывающий метод, а бронь, поставленная покупателем заранее, остается до истечения времени жизни
+     *
+     * @param id         уникальный идентификатор билета
+     * @param login      логин покупателя
+     * @param holdStatus результат бронирования билета перед покупкой
+     * @return Возвращает купленный транспортный билет со всей информацией о нем
+     */
+    private BuyingTicketResponseDto purchaseHeldTicket(Long id, String login, TicketHoldStatus holdStatus) {
+        BuyingTicketResponseDto buyingTicketResponseDto;
+        try {
+            buyingTicketResponseDto = purchaseTicket(id, login);
+        } catch (RuntimeException exception) {
+            if (holdStatus == TicketHoldStatus.HELD) {
+                ticketHoldRedisRepository.release(id, login);
+            }
+            throw exception;
+        }
+        afterPurchase(id, () -> ticketHoldRedisRepository.release(id, login));
+        return buyingTicketResponseDto;
+    }
+
+    /**
+     * Приватный метод для покупки транспортного билета одним условным запросом к базе данных.
+     * Метод отправляет данные о купленном билете в хранилище Redis, в топик Kafka,
+     * а также удаляет билет из расписания поездок и индекса билетов в продаже и снимает его место с продажи на карте мест.
+     * Эти действия выполняются после того, как покупка сохранена в базе данных, поэтому их ошибки только записываются
+     * в лог, а покупатель получает купленный билет
+     *
+     * @param id    уникальный идентификатор билета
+     * @param login логин покупателя
+     * @return Возвращает купленный транспортный билет со всей информацией о нем
+     */
+    private BuyingTicketResponseDto purchaseTicket(Long id, String login) {
+        Ticket result = ticketRepository.buyingTicket(id, login)
+                .orElseThrow(() -> new TicketAlreadySoldException(TICKET_NOT_FOUND_EXCEPTION_MESSAGE_SERVICE));
+        Route route = result.getRoute();
+        BuyingTicketResponseDto buyingTicketResponseDto =
+                formingBuyingTicketResponseDto(route, route.getCarrier(), result, result.getUser());
+
+        afterPurchase(id, () -> redisRepository.save(result));
+        afterPurchase(id, () -> redisRepository.savePurchase(result.getUser().getId(), result));
+        afterPurchase(id, () -> journeyPlanner.removeTicket(id));
+        afterPurchase(id, () -> seatAllocator.sellSeat(result));
+        afterPurchase(id, () -> ticketInventory.removeTicket(result.getRouteId(), result.getDateTimeDeparture(), id));
+        afterPurchase(id, () -> kafkaSenderService.send(buyingTicketResponseDto));
+        return buyingTicketResponseDto;
+    }
+
+    /**
+     * Приватный метод для выполнения действия после сохранения покупки в базе данных.
+     * Ошибка действия записывается в лог и не прерывает остальные действия: отменить покупку уже нельзя
+     *
+     * @param id     уникальный идентификатор купленного билета
+     * @param action действие после покупки
+     */
+    private void afterPurchase(Long id, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException exception) {
+            log.error(AFTER_PURCHASE_ERROR_MESSAGE_LOGGER_SERVICE, id, exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Приватный метод для выполнения поиска страницы транспортных билетов через неблокирующий репозиторий.
+     * Бронь проверяется неблокирующим обращением к Redis, поэтому поиск по индексу билетов в продаже
+     * не переходит на планировщик jdbcScheduler
+     *
+     * @param cursor курсор страницы, полученный в предыдущем ответе
+     * @param size   количество записей
+     * @param search поиск билетов по раскодированному курсору страницы
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
+     */
+    private Mono<TicketPageResponseDto> searchTickets(String cursor, int size, Function<SeekCursor, Flux<Ticket>> search) {
+        return Mono.defer(() -> fillTicketPage(search, SeekCursor.decode(cursor), size, new ArrayList<>(), HELD_TICKETS_REFILLS));
+    }
+
+    /**
+     * Приватный метод для заполнения страницы незабронированными транспортными билетами.
+     * Забронированные билеты исключаются до ограничения страницы: если после исключения билетов не хватает,
+     * следующая порция выбирается с последнего выбранного билета, но не больше заданного количества раз.
+     * Курсор следующей страницы указывает на последний билет страницы, поэтому билеты после него,
+     * в том числе забронированные, проверяются заново при запросе следующей страницы
+     *
+     * @param search  поиск билетов по курсору
+     * @param cursor  курсор порции или null для первой страницы
+     * @param size    количество записей на странице
+     * @param page    незабронированные билеты, найденные в предыдущих порциях
+     * @param refills оставшееся количество дополнительных порций
+     * @return Возвращает страницу найденных транспортных билетов со всей информацией о них и курсор следующей страницы
+     */
+    private Mono<TicketPageResponseDto> fillTicketPage(Function<SeekCursor, Flux<Ticket>> search, SeekCursor cursor,
+                                                       int size, List<Ticket> page, int refills) {
+        return search.apply(cursor)
+                .collectList()
+                .flatMap(tickets -> {
+                    if (tickets.isEmpty() && cursor == null) {
+                        throw new NullPointerException(NULL_POINTER_EXCEPTION_MESSAGE_SERVICE);
+                    }
+                    return excludeHeldTickets(tickets).flatMap(availableTickets -> {
+                        page.addAll(availableTickets);
+                        if (tickets.size() < size) {
+                            return Mono.just(formingTicketPageResponseDto(page, null, size));
+                        }
+                        SeekCursor next = SeekCursor.of(tickets.get(tickets.size() - 1));
+                        if (page.size() >= size || refills == 0) {
+                            return Mono.just(formingTicketPageResponseDto(page, next, size));
+                        }
+                        return fillTicketPage(search, next, size, page, refills - 1);
+                    });
+                });
+    }
+
+    /**
+     * Приватный метод для выполнения потоковой выгрузки транспортных билетов через неблокирующий репозиторий.
+     * Билеты проверяются на бронь в Redis порциями, чтобы не обращаться к хранилищу на каждую запись.
+     * Следующая порция запрашивается у базы данных только после отправки предыдущей клиенту
+     *
+     * @param cursor курсор страницы, полученный в ответе постраничного поиска
+     * @param stream выгрузка билетов по раскодированному курсору страницы
+     * @return Возвращает поток найденных транспортных билетов со всей информацией о них
+     */
+    private Flux<TicketResponseDto> streamTickets(String cursor, Function<SeekCursor, Flux<Ticket>> stream) {
+        return Flux.defer(() -> stream.apply(SeekCursor.decode(cursor)))
+                .buffer(STREAM_HOLD_CHECK_BATCH_SIZE)
+                .concatMap(this::excludeHeldTickets, 1)
+                .flatMapIterable(tickets -> tickets)
+                .map(ticket -> formingTicketResponseDto(ticket.getRoute(), ticket.getRoute().getCarrier(), ticket));
+    }
+
+    /**
+     * Приватный метод для исключения забронированных билетов из результатов поиска.
+     * Проверка брони выполняется одним неблокирующим обращением к хранилищу Redis
+     *
+     * @param tickets список найденных транспортных билетов
+     * @return Возвращает список транспортных билетов без забронированных
+     */
+    private Mono<List<Ticket>> excludeHeldTickets(List<Ticket> tickets) {
+        return reactiveRedisRepository.findHeldTicketIds(tickets.stream().map(Ticket::getId).toList())
+                .map(heldTicketIds -> heldTicketIds.isEmpty()
+                        ? tickets
+                        : tickets.stream()
+                        .filter(ticket -> !heldTicketIds.contains(ticket.getId()))
+                        .toList());
+    }
+
+    /**
+     * Метод для преобразования даты и времени в строковом виде к формату LocalDateTime.
+     * Доступен в пакете для замеров производительности JMH
      *
      * @param dateTimeDeparture строка даты и времени
      * @return Возвращает LocalDateTime с установленной датой и временем
      */
-    private LocalDateTime parseDateAndTime(String dateTimeDeparture) {
+    LocalDateTime parseDateAndTime(String dateTimeDeparture) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
         log.info(PARSE_DATE_AND_TIME_MESSAGE_LOGGER_SERVICE, dateTimeDeparture);
         return LocalDateTime.parse(dateTimeDeparture, formatter);
     }
 
     /**
-     * Приватный метод для генерации ответа с информацией о транспортном билете
+     * Приватный метод для формирования условий поиска билетов из запроса пользователя.
+     * Пункты отправления и назначения приводятся к названиям из словаря пунктов
+     *
+     * @param search класс-DTO для запроса от пользователя с условиями поиска
+     * @return Возвращает условия поиска билетов
+     * @throws InvalidDepartureWindowException если конец окна отправления раньше его начала
+     */
+    private TicketSearchCriteria formingTicketSearchCriteria(TicketSearchRequestDto search) {
+        LocalDateTime departureFrom = search.getDateTimeFrom() == null ? null : parseDateAndTime(search.getDateTimeFrom());
+        LocalDateTime departureTo = search.getDateTimeTo() == null ? null : parseDateAndTime(search.getDateTimeTo());
+        if (departureFrom != null && departureTo != null && departureTo.isBefore(departureFrom)) {
+            throw new InvalidDepartureWindowException(INVALID_DEPARTURE_WINDOW_EXCEPTION_MESSAGE_SERVICE + departureFrom + " - " + departureTo);
+        }
+        return new TicketSearchCriteria(cityAutocomplete.resolve(search.getDeparturePoint()),
+                cityAutocomplete.resolve(search.getDestination()), departureFrom, departureTo,
+                search.getCompanyName(), search.getPriceFrom(), search.getPriceTo(),
+                search.getSortOrder() == null ? TicketSortOrder.DEPARTURE_ASC : search.getSortOrder());
+    }
+
+    /**
+     * Приватный метод для определения конца окна отправления из запроса пользователя.
+     * Если конец окна не указан, окно состоит из одной даты и времени отправления
+     *
+     * @param dateAndTime   класс-DTO для запроса от пользователя
+     * @param departureFrom начало окна отправления
+     * @return Возвращает конец окна отправления включительно
+     * @throws InvalidDepartureWindowException если конец окна отправления раньше его начала
+     */
+    private LocalDateTime parseDepartureWindowEnd(TicketRequestByDateAndTimeDto dateAndTime, LocalDateTime departureFrom) {
+        if (dateAndTime.getDateTimeTo() == null) {
+            return departureFrom;
+        }
+        LocalDateTime departureTo = parseDateAndTime(dateAndTime.getDateTimeTo());
+        if (departureTo.isBefore(departureFrom)) {
+            throw new InvalidDepartureWindowException(INVALID_DEPARTURE_WINDOW_EXCEPTION_MESSAGE_SERVICE + departureFrom + " - " + departureTo);
+        }
+        return departureTo;
+    }
+
+    /**
+     * Метод для генерации ответа с информацией о транспортном билете.
+     * Доступен в пакете для замеров производительности JMH
      *
      * @param route   модель маршрута
      * @param carrier модель перевозчика
      * @param ticket  модель билета
      * @return Возвращает сгенерированный ответ с полной информацией о транспортном билете через DTO-класс
      */
-    private TicketResponseDto formingTicketResponseDto(Route route, Carrier carrier, Ticket ticket) {
+    TicketResponseDto formingTicketResponseDto(Route route, Carrier carrier, Ticket ticket) {
         TicketResponseDto ticketResponseDto = ticketMapper.toTicketResponseDto(ticket);
         ticketResponseDto.setRouteId(route.getId());
         ticketResponseDto.setDeparturePoint(route.getDeparturePoint());
@@ -351,29 +790,42 @@ public class TicketServiceImpl implements TicketService {
     }
 
     /**
-     * Приватный метод для генерации списка ответов с информацией о транспортном билете
+     * Приватный метод для генерации списка ответов с информацией о транспортном билете.
+     * Маршрут и перевозчик уже заполнены в моделях билетов, поэтому дополнительных запросов к базе данных нет
      *
-     * @param routes   список маршрутов
-     * @param pageable объект пагинации
+     * @param tickets список билетов с заполненными маршрутом и перевозчиком
      * @return Возвращает список сгенерированных ответов с полной информацией о транспортных билетах через DTO-класс
      */
-    private List<TicketResponseDto> formingTicketsResponseDto(List<Route> routes, Pageable pageable) {
-        List<TicketResponseDto> result = new ArrayList<>();
-        if (!routes.isEmpty()) {
-
-            for (Route route : routes) {
-                List<Ticket> tickets = ticketRepository.findTicketsByRouteId(route.getId(), pageable);
-                for (Ticket ticket : tickets) {
-                    if (ticket.getTicketStatus().equals(TicketStatus.AVAILABLE_FOR_SALE)) {
-                        Carrier carrier = carrierRepository.findCarrierById(route.getCarrierId());
-                        TicketResponseDto ticketResponseDto = formingTicketResponseDto(route, carrier, ticket);
-                        result.add(ticketResponseDto);
-                    }
-                }
-            }
-            log.info(FORMING_TICKETS_RESPONSE_DTO_MESSAGE_LOGGER_SERVICE);
-            return result;
+    private List<TicketResponseDto> formingTicketsResponseDto(List<Ticket> tickets) {
+        List<TicketResponseDto> result = new ArrayList<>(tickets.size());
+        for (Ticket ticket : tickets) {
+            Route route = ticket.getRoute();
+            result.add(formingTicketResponseDto(route, route.getCarrier(), ticket));
+        }
+        log.info(FORMING_TICKETS_RESPONSE_DTO_MESSAGE_LOGGER_SERVICE);
+        return result;
+    }
+
+    /**
+     * Приватный метод для генерации страницы ответов с информацией о транспортных билетах.
+     * Если незабронированных билетов найдено больше, чем помещается на страницу, лишние отбрасываются,
+     * а курсор следующей страницы указывает на последний билет страницы.
+     * Курсора нет, если билеты в базе данных закончились
+     *
+     * @param tickets незабронированные билеты с заполненными маршрутом и перевозчиком
+     * @param next    курсор после последнего выбранного из базы данных билета или null, если билеты закончились
+     * @param size    количество записей на странице
+     * @return Возвращает страницу сгенерированных ответов с курсором следующей страницы
+     */
+    private TicketPageResponseDto formingTicketPageResponseDto(List<Ticket> tickets, SeekCursor next, int size) {
+        List<Ticket> page = tickets.size() > size ? tickets.subList(0, size) : tickets;
+        TicketPageResponseDto ticketPageResponseDto = new TicketPageResponseDto();
+        ticketPageResponseDto.setTickets(formingTicketsResponseDto(page));
+        if (tickets.size() > size || (next != null && tickets.size() == size)) {
+            ticketPageResponseDto.setNext(SeekCursor.of(page.get(page.size() - 1)).encode());
+        } else if (next != null) {
+            ticketPageResponseDto.setNext(next.encode());
         }
-        throw new NullPointerException(NULL_POINTER_EXCEPTION_THREE_MESSAGE_SERVICE);
+        return ticketPageResponseDto;
     }
 }
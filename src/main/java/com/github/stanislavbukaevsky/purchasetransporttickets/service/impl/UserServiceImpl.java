@@ -1,7 +1,7 @@
 package com.github.stanislavbukaevsky.purchasetransporttickets.service.impl;
 
 import com.github.stanislavbukaevsky.purchasetransporttickets.model.User;
-import com.github.stanislavbukaevsky.purchasetransporttickets.repository.UserRepository;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.ReactiveUserRepository;
 import com.github.stanislavbukaevsky.purchasetransporttickets.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +18,7 @@ import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.Lo
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
-    private final UserRepository userRepository;
+    private final ReactiveUserRepository reactiveUserRepository;
 
     /**
      * Реализация метода для поиска зарегистрированных пользователей в приложении
@@ -29,6 +29,6 @@ public class UserServiceImpl implements UserService {
     @Override
     public Mono<User> findUserByLogin(String login) {
         log.info(FIND_USER_BY_LOGIN_MESSAGE_LOGGER_SERVICE, login);
-        return Mono.just(userRepository.findUserByLogin(login));
+        return reactiveUserRepository.findUserByLogin(login);
     }
 }
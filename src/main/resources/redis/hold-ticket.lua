@@ -0,0 +1,18 @@
+-- Бронирование транспортного билета
+-- KEYS[1] - ключ брони билета
+-- ARGV[1] - логин покупателя
+-- ARGV[2] - время жизни брони в миллисекундах
+-- Возвращает 1, если билет забронирован, 2, если бронь этого покупателя продлена,
+-- и 0, если билет забронирован другим покупателем. Оставшееся время жизни брони никогда не сокращается
+local holder = redis.call('GET', KEYS[1])
+if holder == false then
+    redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+    return 1
+end
+if holder == ARGV[1] then
+    if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[2]) then
+        redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    end
+    return 2
+end
+return 0
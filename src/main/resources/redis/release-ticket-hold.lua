@@ -0,0 +1,7 @@
+-- Снятие брони транспортного билета, только если бронь принадлежит этому покупателю
+-- KEYS[1] - ключ брони билета
+-- ARGV[1] - логин покупателя
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
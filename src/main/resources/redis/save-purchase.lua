@@ -0,0 +1,23 @@
+-- Сохранение версии купленного транспортного билета в истории покупок пользователя
+-- KEYS[1] - ключ отсортированного множества купленных билетов пользователя
+-- KEYS[2] - ключ хэша купленного билета с полем version
+-- ARGV[1] - уникальный идентификатор билета, он же порядок билета в истории покупок
+-- ARGV[2] - версия билета
+-- ARGV[3] - время жизни записей в миллисекундах
+-- ARGV[4..] - пары поле и значение хэша купленного билета вместе с версией
+--             или ничего для отметки об удалении билета из истории
+local current = redis.call('HGET', KEYS[2], 'version')
+if current and tonumber(current) >= tonumber(ARGV[2]) then
+    return 0
+end
+redis.call('DEL', KEYS[2])
+if #ARGV > 3 then
+    redis.call('HSET', KEYS[2], unpack(ARGV, 4))
+    redis.call('ZADD', KEYS[1], ARGV[1], ARGV[1])
+else
+    redis.call('HSET', KEYS[2], 'version', ARGV[2])
+    redis.call('ZREM', KEYS[1], ARGV[1])
+end
+redis.call('PEXPIRE', KEYS[2], ARGV[3])
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return 1
@@ -0,0 +1,12 @@
+-- Сохранение версии транспортного билета в кэше билетов
+-- KEYS[1] - ключ хэша билета с полями version и value
+-- ARGV[1] - версия билета
+-- ARGV[2] - значение билета или пустая строка для отметки об удалении билета
+-- ARGV[3] - время жизни записи в миллисекундах
+local current = redis.call('HGET', KEYS[1], 'version')
+if current and tonumber(current) >= tonumber(ARGV[1]) then
+    return 0
+end
+redis.call('HSET', KEYS[1], 'version', ARGV[1], 'value', ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return 1
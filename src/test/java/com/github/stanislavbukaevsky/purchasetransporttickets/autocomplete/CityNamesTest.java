@@ -0,0 +1,48 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Тесты ключей названий пунктов {@link CityNames}: один ключ для разных регистров и алфавитов,
+ * одинаковых звуков, записанных по-разному, диакритических знаков и разделителей
+ */
+class CityNamesTest {
+
+    @Test
+    void cyrillicAndLatinSpellingsHaveOneKey() {
+        assertEquals("moskva", CityNames.key("Москва"));
+        assertEquals("moskva", CityNames.key("Moskva"));
+        assertEquals("moskva", CityNames.key("MOSKVA"));
+        assertEquals("moskva", CityNames.key("мОсКвА"));
+        assertEquals(CityNames.key("Хабаровск"), CityNames.key("Khabarovsk"));
+        assertEquals(CityNames.key("Казань"), CityNames.key("Kazan"));
+        assertEquals(CityNames.key("Нижний Новгород"), CityNames.key("Nizhniy Novgorod"));
+    }
+
+    @Test
+    void soundsSpelledDifferentlyHaveOneKey() {
+        assertEquals(CityNames.key("София"), CityNames.key("Sophiya"));
+        assertEquals(CityNames.key("Тверь"), CityNames.key("Twer"));
+        assertEquals(CityNames.key("Таллин"), CityNames.key("Tallinn"));
+        assertEquals(CityNames.key("Kaliningrad"), CityNames.key("Caliningrad"));
+        assertEquals(CityNames.key("Ярославль"), CityNames.key("Jaroslavl"));
+    }
+
+    @Test
+    void diacriticsAndSeparatorsAreIgnored() {
+        assertEquals("koln", CityNames.key("Köln"));
+        assertEquals(CityNames.key("Ёлки"), CityNames.key("Елки"));
+        assertEquals("sankt peterburg", CityNames.key("Санкт-Петербург"));
+        assertEquals("sankt peterburg", CityNames.key("  Санкт -- Петербург!  "));
+        assertEquals("", CityNames.key(" - ! "));
+    }
+
+    @Test
+    void differentCitiesHaveDifferentKeys() {
+        assertNotEquals(CityNames.key("Омск"), CityNames.key("Томск"));
+        assertNotEquals(CityNames.key("Москва"), CityNames.key("Moscow"));
+    }
+}
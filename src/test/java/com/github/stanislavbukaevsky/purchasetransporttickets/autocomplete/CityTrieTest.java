@@ -0,0 +1,113 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты префиксного дерева названий пунктов {@link CityTrie}: подсказки по началу названия кириллицей и латиницей,
+ * их порядок по количеству билетов и поиск названия с одной и двумя опечатками
+ */
+class CityTrieTest {
+    private static final int MAXIMUM_COMPLETIONS = 10;
+    private static final CityTrie CITY_TRIE = CityTrie.build(Map.of(
+            "Москва", 100,
+            "Мурманск", 30,
+            "Мончегорск", 5,
+            "Казань", 40,
+            "Тверь", 20,
+            "Петербург", 60,
+            "Омск", 50,
+            "Томск", 10), MAXIMUM_COMPLETIONS);
+
+    @Test
+    void completeRanksCitiesByAvailableTickets() {
+        assertEquals(List.of(
+                        new CityCompletion("Москва", 100),
+                        new CityCompletion("Мурманск", 30),
+                        new CityCompletion("Мончегорск", 5)),
+                CITY_TRIE.complete("М", MAXIMUM_COMPLETIONS));
+        assertEquals(List.of("Москва", "Мончегорск"), cities(CITY_TRIE.complete("Мо", MAXIMUM_COMPLETIONS)));
+    }
+
+    @Test
+    void completeKeepsBestCitiesWithinLimit() {
+        assertEquals(List.of("Москва", "Мурманск"), cities(CITY_TRIE.complete("м", 2)));
+        assertEquals(List.of("Москва"), cities(CityTrie.build(Map.of("Москва", 100, "Мурманск", 30), 1)
+                .complete("м", MAXIMUM_COMPLETIONS)));
+    }
+
+    @Test
+    void completeAcceptsLatinAndCyrillicPrefixes() {
+        assertEquals(List.of("Москва"), cities(CITY_TRIE.complete("Mos", MAXIMUM_COMPLETIONS)));
+        assertEquals(List.of("Мурманск"), cities(CITY_TRIE.complete("MUR", MAXIMUM_COMPLETIONS)));
+        assertEquals(List.of("Тверь"), cities(CITY_TRIE.complete("Tw", MAXIMUM_COMPLETIONS)));
+        assertEquals(List.of("Петербург"), cities(CITY_TRIE.complete("пЕтЕр", MAXIMUM_COMPLETIONS)));
+    }
+
+    @Test
+    void completeReturnsNothingForUnknownPrefix() {
+        assertTrue(CITY_TRIE.complete("Влад", MAXIMUM_COMPLETIONS).isEmpty());
+        assertTrue(CITY_TRIE.complete("Moscow", MAXIMUM_COMPLETIONS).isEmpty());
+        assertTrue(CityTrie.empty().complete("М", MAXIMUM_COMPLETIONS).isEmpty());
+    }
+
+    @Test
+    void spellingsOfOneCityAreMerged() {
+        CityTrie cityTrie = CityTrie.build(Map.of("Москва", 10, "Moskva", 3, "МОСКВА ", 1), MAXIMUM_COMPLETIONS);
+
+        assertEquals(1, cityTrie.size());
+        assertEquals(List.of(new CityCompletion("Москва", 14)), cityTrie.complete("mo", MAXIMUM_COMPLETIONS));
+    }
+
+    @Test
+    void resolveFindsCityInAnotherAlphabet() {
+        assertEquals("Москва", CITY_TRIE.resolve("moskva"));
+        assertEquals("Казань", CITY_TRIE.resolve("KAZAN"));
+        assertEquals("Тверь", CITY_TRIE.resolve("Twer"));
+    }
+
+    @Test
+    void resolveFindsCityWithOneEdit() {
+        assertEquals("Казань", CITY_TRIE.resolve("Kazn"));
+        assertEquals("Петербург", CITY_TRIE.resolve("Petersburg"));
+        assertEquals("Мурманск", CITY_TRIE.resolve("Мурманс"));
+    }
+
+    @Test
+    void resolveFindsCityWithTwoEdits() {
+        assertEquals("Москва", CITY_TRIE.resolve("Moscow"));
+        assertEquals("Петербург", CITY_TRIE.resolve("Pitersburg"));
+    }
+
+    @Test
+    void resolvePrefersFewerEditsThenMoreTickets() {
+        assertEquals("Томск", CITY_TRIE.resolve("Tomsk"));
+        assertEquals("Омск", CITY_TRIE.resolve("Romsk"));
+        assertEquals("Томск", CityTrie.build(Map.of("Омск", 10, "Томск", 50), MAXIMUM_COMPLETIONS).resolve("Romsk"));
+    }
+
+    @Test
+    void resolveReturnsNullWithoutMatch() {
+        assertNull(CITY_TRIE.resolve("Владивосток"));
+        assertNull(CITY_TRIE.resolve("Mascuw"));
+        assertNull(CITY_TRIE.resolve("Tvr"));
+        assertNull(CITY_TRIE.resolve(" - "));
+        assertNull(CityTrie.empty().resolve("Москва"));
+    }
+
+    /**
+     * Этот метод возвращает названия пунктов из подсказок
+     *
+     * @param completions подсказки названий
+     * @return Возвращает названия пунктов в порядке подсказок
+     */
+    private static List<String> cities(List<CityCompletion> completions) {
+        return completions.stream()
+                .map(CityCompletion::city)
+                .toList();
+    }
+}
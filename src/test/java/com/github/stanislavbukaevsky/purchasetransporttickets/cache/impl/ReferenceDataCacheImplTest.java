@@ -0,0 +1,127 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.cache.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Carrier;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.MessagePublisher;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.CarrierRepository;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.RouteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты локального кэша справочных данных: сброс записи рассылается остальным экземплярам приложения,
+ * сообщение о сбросе от другого экземпляра сбрасывает только свою запись, а чужие сообщения игнорируются
+ */
+class ReferenceDataCacheImplTest {
+    private static final Long ROUTE_ID = 1L;
+    private static final Long CARRIER_ID = 2L;
+    private RouteRepository routeRepository;
+    private CarrierRepository carrierRepository;
+    private MessagePublisher messagePublisher;
+    private ReferenceDataCacheImpl referenceDataCache;
+
+    @BeforeEach
+    void setUp() {
+        routeRepository = mock(RouteRepository.class);
+        carrierRepository = mock(CarrierRepository.class);
+        messagePublisher = mock(MessagePublisher.class);
+        when(routeRepository.findRouteById(ROUTE_ID)).thenAnswer(invocation -> route());
+        when(carrierRepository.findCarrierById(CARRIER_ID)).thenAnswer(invocation -> carrier());
+        referenceDataCache = new ReferenceDataCacheImpl(Caffeine.newBuilder().build(), Caffeine.newBuilder().build(),
+                routeRepository, carrierRepository, messagePublisher);
+    }
+
+    @Test
+    void cachedEntriesAreLoadedOnce() {
+        Route route = referenceDataCache.findRouteWithCarrierById(ROUTE_ID);
+        referenceDataCache.findRouteWithCarrierById(ROUTE_ID);
+
+        assertEquals(CARRIER_ID, route.getCarrier().getId());
+        verify(routeRepository).findRouteById(ROUTE_ID);
+        verify(carrierRepository).findCarrierById(CARRIER_ID);
+        verifyNoInteractions(messagePublisher);
+    }
+
+    @Test
+    void invalidatedRouteIsPublishedAndReloaded() {
+        referenceDataCache.findRouteById(ROUTE_ID);
+
+        referenceDataCache.invalidateRoute(ROUTE_ID);
+        referenceDataCache.findRouteById(ROUTE_ID);
+
+        verify(messagePublisher).publish("reference-cache:evict:route:" + ROUTE_ID);
+        verify(routeRepository, times(2)).findRouteById(ROUTE_ID);
+    }
+
+    @Test
+    void invalidatedCarrierIsPublishedAndReloaded() {
+        referenceDataCache.findCarrierById(CARRIER_ID);
+
+        referenceDataCache.invalidateCarrier(CARRIER_ID);
+        referenceDataCache.findCarrierById(CARRIER_ID);
+
+        verify(messagePublisher).publish("reference-cache:evict:carrier:" + CARRIER_ID);
+        verify(carrierRepository, times(2)).findCarrierById(CARRIER_ID);
+    }
+
+    @Test
+    void evictMessageOfAnotherInstanceEvictsOnlyItsEntry() {
+        referenceDataCache.findRouteWithCarrierById(ROUTE_ID);
+
+        referenceDataCache.evict("reference-cache:evict:route:" + ROUTE_ID);
+        referenceDataCache.findRouteWithCarrierById(ROUTE_ID);
+        verify(routeRepository, times(2)).findRouteById(ROUTE_ID);
+        verify(carrierRepository).findCarrierById(CARRIER_ID);
+
+        referenceDataCache.evict("reference-cache:evict:carrier:" + CARRIER_ID);
+        referenceDataCache.findRouteWithCarrierById(ROUTE_ID);
+        verify(routeRepository, times(2)).findRouteById(ROUTE_ID);
+        verify(carrierRepository, times(2)).findCarrierById(CARRIER_ID);
+        verifyNoInteractions(messagePublisher);
+    }
+
+    @Test
+    void unrelatedMessagesAreIgnored() {
+        referenceDataCache.findRouteWithCarrierById(ROUTE_ID);
+
+        referenceDataCache.evict("journey:remove-ticket:" + ROUTE_ID);
+        referenceDataCache.evict("reference-cache:evict:depot:" + ROUTE_ID);
+        referenceDataCache.evict("reference-cache:evict:route:" + (ROUTE_ID + 1));
+        referenceDataCache.findRouteWithCarrierById(ROUTE_ID);
+
+        verify(routeRepository).findRouteById(ROUTE_ID);
+        verify(carrierRepository).findCarrierById(CARRIER_ID);
+        verifyNoInteractions(messagePublisher);
+    }
+
+    /**
+     * Этот метод формирует маршрут перевозчика
+     *
+     * @return Возвращает модель маршрута
+     */
+    private static Route route() {
+        Route route = new Route();
+        route.setId(ROUTE_ID);
+        route.setDeparturePoint("Москва");
+        route.setDestination("Казань");
+        route.setCarrierId(CARRIER_ID);
+        route.setDurationInMinutes(720);
+        return route;
+    }
+
+    /**
+     * Этот метод формирует перевозчика
+     *
+     * @return Возвращает модель перевозчика
+     */
+    private static Carrier carrier() {
+        Carrier carrier = new Carrier();
+        carrier.setId(CARRIER_ID);
+        carrier.setCompanyName("Перевозчик");
+        return carrier;
+    }
+}
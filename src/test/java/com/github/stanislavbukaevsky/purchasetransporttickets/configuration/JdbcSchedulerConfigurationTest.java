@@ -0,0 +1,81 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты планировщика jdbcScheduler из {@link JdbcSchedulerConfiguration}: потоки пула заняты блокирующими задачами,
+ * очередь ограничена, задача сверх очереди отклоняется, а метрики пула показывают занятые потоки и глубину очереди
+ */
+class JdbcSchedulerConfigurationTest {
+    private static final int MAXIMUM_POOL_SIZE = 2;
+    private static final int QUEUE_CAPACITY = 3;
+    private static final String JDBC_SCHEDULER_NAME = "jdbc";
+    private static final long WAIT_IN_SECONDS = 5;
+
+    @Test
+    void saturatedSchedulerRejectsTasksBeyondQueue() throws Exception {
+        JdbcSchedulerConfiguration configuration = new JdbcSchedulerConfiguration();
+        ReflectionTestUtils.setField(configuration, "maximumPoolSize", MAXIMUM_POOL_SIZE);
+        ReflectionTestUtils.setField(configuration, "queueCapacity", QUEUE_CAPACITY);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Scheduler scheduler = configuration.jdbcScheduler(configuration.jdbcExecutorService(meterRegistry));
+
+        CountDownLatch started = new CountDownLatch(MAXIMUM_POOL_SIZE);
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<Integer>> tasks = new ArrayList<>();
+        try {
+            for (int i = 0; i < MAXIMUM_POOL_SIZE + QUEUE_CAPACITY; i++) {
+                int number = i;
+                tasks.add(Mono.fromCallable(() -> {
+                    started.countDown();
+                    assertTrue(release.await(WAIT_IN_SECONDS, TimeUnit.SECONDS));
+                    return number;
+                }).subscribeOn(scheduler).toFuture());
+            }
+            assertTrue(started.await(WAIT_IN_SECONDS, TimeUnit.SECONDS));
+
+            assertEquals(MAXIMUM_POOL_SIZE, gauge(meterRegistry, "executor.active"));
+            assertEquals(QUEUE_CAPACITY, gauge(meterRegistry, "executor.queued"));
+            assertEquals(0, gauge(meterRegistry, "executor.queue.remaining"));
+            StepVerifier.create(Mono.fromCallable(() -> -1).subscribeOn(scheduler))
+                    .expectError(RejectedExecutionException.class)
+                    .verify();
+
+            release.countDown();
+            for (int i = 0; i < tasks.size(); i++) {
+                assertEquals(i, tasks.get(i).get(WAIT_IN_SECONDS, TimeUnit.SECONDS));
+            }
+            assertEquals(0, gauge(meterRegistry, "executor.queued"));
+            assertEquals(QUEUE_CAPACITY, gauge(meterRegistry, "executor.queue.remaining"));
+        } finally {
+            release.countDown();
+            scheduler.dispose();
+        }
+    }
+
+    /**
+     * Этот метод читает значение метрики пула потоков планировщика jdbcScheduler
+     *
+     * @param meterRegistry реестр метрик
+     * @param name          название метрики
+     * @return Возвращает значение метрики
+     */
+    private static double gauge(MeterRegistry meterRegistry, String name) {
+        return meterRegistry.get(name).tag("name", JDBC_SCHEDULER_NAME).gauge().value();
+    }
+}
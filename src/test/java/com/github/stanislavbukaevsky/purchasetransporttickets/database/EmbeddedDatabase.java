@@ -0,0 +1,131 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.database;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import liquibase.integration.spring.SpringLiquibase;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Класс встроенной базы данных PostgreSQL для тестов планов запросов и замеров производительности JMH.
+ * Схема создается теми же миграциями Liquibase, что и в приложении
+ */
+public final class EmbeddedDatabase implements AutoCloseable {
+    public static final String LOGIN = "benchmark";
+    public static final LocalDateTime FIRST_DEPARTURE = LocalDateTime.of(2030, 1, 1, 0, 0);
+    public static final String[] CITIES = {"Москва", "Санкт-Петербург", "Казань", "Новосибирск", "Екатеринбург",
+            "Нижний Новгород", "Самара", "Ростов-на-Дону", "Краснодар", "Владивосток"};
+    private static final String CHANGE_LOG = "classpath:liquibase/changelog-master.xml";
+    private static final int MAXIMUM_POOL_SIZE = 4;
+    private final EmbeddedPostgres postgres;
+    private final HikariDataSource dataSource;
+    private final DSLContext dsl;
+
+    private EmbeddedDatabase(EmbeddedPostgres postgres, HikariDataSource dataSource) {
+        this.postgres = postgres;
+        this.dataSource = dataSource;
+        this.dsl = DSL.using(dataSource, SQLDialect.POSTGRES);
+    }
+
+    /**
+     * Этот метод запускает встроенную базу данных и применяет к ней миграции Liquibase
+     *
+     * @return Возвращает запущенную базу данных с пустыми таблицами
+     * @throws Exception если база данных не запустилась или миграции не применились
+     */
+    public static EmbeddedDatabase start() throws Exception {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl("postgres", "postgres"));
+        dataSource.setUsername("postgres");
+        dataSource.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog(CHANGE_LOG);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+        return new EmbeddedDatabase(postgres, dataSource);
+    }
+
+    /**
+     * Этот метод заполняет базу данных перевозчиками, маршрутами между городами из {@link #CITIES},
+     * билетами в продаже с их отправлениями и покупателем с логином {@link #LOGIN}.
+     * Отправления билетов распределены по часам начиная с {@link #FIRST_DEPARTURE}
+     *
+     * @param ticketsPerRoute количество билетов на каждом маршруте
+     */
+    public void seed(int ticketsPerRoute) {
+        dsl.execute("insert into users (login, password, first_name, middle_name, last_name, role) "
+                + "values (?, 'benchmark', 'Иван', 'Иванович', 'Иванов', 'BUYER')", LOGIN);
+        dsl.execute("insert into carriers (company_name, phone_number) "
+                + "select 'Перевозчик ' || s, '+7900000000' || s from generate_series(0, 9) s");
+        for (String departurePoint : CITIES) {
+            for (String destination : CITIES) {
+                if (!departurePoint.equals(destination)) {
+                    dsl.execute("insert into routes (departure_point, destination, carrier_id, duration_in_minutes) "
+                            + "select ?, ?, min(id), 180 from carriers", departurePoint, destination);
+                }
+            }
+        }
+        dsl.execute("insert into tickets (route_id, date_time_departure, seat_number, price, ticket_status) "
+                + "select r.id, cast(? as timestamp) + (s % 720) * interval '1 hour', s % 60 + 1, 1000 + s % 500, 'AVAILABLE_FOR_SALE' "
+                + "from routes r, generate_series(1, ?) s", FIRST_DEPARTURE, ticketsPerRoute);
+        dsl.execute("insert into departures (route_id, date_time_departure, capacity, available_seats) "
+                + "select route_id, date_time_departure, count(*), count(*) from tickets group by route_id, date_time_departure");
+        dsl.execute("analyze");
+    }
+
+    /**
+     * Этот метод возвращает пул соединений со встроенной базой данных
+     *
+     * @return Возвращает пул соединений
+     */
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Этот метод возвращает контекст jOOQ, работающий через пул соединений со встроенной базой данных
+     *
+     * @return Возвращает контекст jOOQ
+     */
+    public DSLContext dsl() {
+        return dsl;
+    }
+
+    /**
+     * Этот метод возвращает адрес встроенной базы данных для подключения через R2DBC
+     *
+     * @return Возвращает адрес базы данных в формате R2DBC
+     */
+    public String r2dbcUrl() {
+        return "r2dbc:postgresql://localhost:" + postgres.getPort() + "/postgres";
+    }
+
+    /**
+     * Этот метод возвращает размер пула соединений JDBC со встроенной базой данных
+     *
+     * @return Возвращает наибольшее количество соединений пула
+     */
+    public int maximumPoolSize() {
+        return MAXIMUM_POOL_SIZE;
+    }
+
+    /**
+     * Этот метод закрывает пул соединений и останавливает встроенную базу данных
+     *
+     * @throws IOException если база данных не остановилась
+     */
+    @Override
+    public void close() throws IOException {
+        dataSource.close();
+        postgres.close();
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.database;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * Класс встроенного хранилища Redis для тестов скриптов Lua и репозиториев Redis.
+ * Сервер запускается на свободном порту, а соединение создается так же, как в приложении, через Lettuce
+ */
+public final class EmbeddedRedis implements AutoCloseable {
+    private static final String HOST = "localhost";
+    private final RedisServer server;
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private EmbeddedRedis(RedisServer server, LettuceConnectionFactory connectionFactory) {
+        this.server = server;
+        this.connectionFactory = connectionFactory;
+        this.stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    /**
+     * Этот метод запускает встроенное хранилище Redis и подключается к нему
+     *
+     * @return Возвращает запущенное пустое хранилище
+     * @throws IOException если хранилище не запустилось
+     */
+    public static EmbeddedRedis start() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        RedisServer server = new RedisServer(port);
+        server.start();
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(HOST, port));
+        connectionFactory.afterPropertiesSet();
+        return new EmbeddedRedis(server, connectionFactory);
+    }
+
+    /**
+     * Этот метод возвращает фабрику соединений со встроенным хранилищем
+     *
+     * @return Возвращает фабрику соединений Lettuce
+     */
+    public LettuceConnectionFactory connectionFactory() {
+        return connectionFactory;
+    }
+
+    /**
+     * Этот метод возвращает шаблон для обращений к встроенному хранилищу со строковыми ключами и значениями
+     *
+     * @return Возвращает шаблон Redis
+     */
+    public StringRedisTemplate stringRedisTemplate() {
+        return stringRedisTemplate;
+    }
+
+    /**
+     * Этот метод удаляет все ключи встроенного хранилища
+     */
+    public void flushAll() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+    }
+
+    /**
+     * Этот метод закрывает соединения и останавливает встроенное хранилище
+     *
+     * @throws IOException если хранилище не остановилось
+     */
+    @Override
+    public void close() throws IOException {
+        connectionFactory.destroy();
+        server.stop();
+    }
+}
@@ -0,0 +1,180 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.inventory;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.constant.ExceptionTextMessageConstant.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты снимка индекса билетов в продаже {@link AvailabilitySnapshot}: запись и чтение снимка без потерь,
+ * отказ от снимка, который обрезан, поврежден, записан другой версией формата или старше журнала изменений.
+ * Индекс, из которого не удалось прочитать снимок, не изменяется
+ */
+class AvailabilitySnapshotTest {
+    private static final LocalDateTime FIRST_DEPARTURE = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final LocalDateTime REPLAY_FROM = LocalDateTime.of(2029, 12, 31, 23, 59, 30, 123_456_000);
+    private static final int TICKETS = 50;
+    private static final int HEADER_SIZE = 32;
+    @TempDir
+    Path directory;
+    private Path file;
+    private AvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = directory.resolve("availability.snapshot");
+        index = new AvailabilityIndex(16);
+        List<Ticket> tickets = new ArrayList<>();
+        for (int number = 1; number <= TICKETS; number++) {
+            tickets.add(ticket(number));
+        }
+        index.putTickets(tickets.subList(0, TICKETS / 2));
+        tickets.subList(TICKETS / 2, TICKETS).forEach(index::putTicket);
+        index.removeTicket(2L, FIRST_DEPARTURE.plusHours(1), 3L);
+        index.writeSnapshot(file, REPLAY_FROM);
+    }
+
+    @Test
+    void snapshotRoundTripRestoresEveryLiveTicket() throws IOException {
+        AvailabilityIndex restored = new AvailabilityIndex(16);
+
+        assertEquals(REPLAY_FROM, restored.restoreSnapshot(file, REPLAY_FROM));
+
+        assertEquals(TICKETS - 1, restored.size());
+        assertEquals(describe(index), describe(restored));
+        assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".tmp")));
+    }
+
+    @Test
+    void truncatedSnapshotIsRejected() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - Integer.BYTES);
+        }
+        assertRejected(CORRUPT_SNAPSHOT_HEADER_EXCEPTION_MESSAGE_SERVICE, REPLAY_FROM);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(HEADER_SIZE - 1);
+        }
+        assertRejected(CORRUPT_SNAPSHOT_HEADER_EXCEPTION_MESSAGE_SERVICE, REPLAY_FROM);
+    }
+
+    @Test
+    void flippedByteIsRejectedByChecksum() throws IOException {
+        long size = Files.size(file);
+        flipByte(size - 1);
+        assertRejected(CORRUPT_SNAPSHOT_CHECKSUM_EXCEPTION_MESSAGE_SERVICE, REPLAY_FROM);
+
+        flipByte(size - 1);
+        flipByte(HEADER_SIZE + 3);
+        assertRejected(CORRUPT_SNAPSHOT_CHECKSUM_EXCEPTION_MESSAGE_SERVICE, REPLAY_FROM);
+
+        flipByte(HEADER_SIZE + 3);
+        flipByte(8);
+        assertRejected(CORRUPT_SNAPSHOT_CHECKSUM_EXCEPTION_MESSAGE_SERVICE, REPLAY_FROM.minusYears(1));
+    }
+
+    @Test
+    void wrongMagicIsRejected() throws IOException {
+        flipByte(0);
+        assertRejected(CORRUPT_SNAPSHOT_HEADER_EXCEPTION_MESSAGE_SERVICE, REPLAY_FROM);
+    }
+
+    @Test
+    void otherFormatVersionIsRejected() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 2), 4);
+        }
+        assertRejected(CORRUPT_SNAPSHOT_HEADER_EXCEPTION_MESSAGE_SERVICE, REPLAY_FROM);
+    }
+
+    @Test
+    void snapshotOlderThanChangeRetentionIsRejected() throws IOException {
+        assertRejected(STALE_SNAPSHOT_EXCEPTION_MESSAGE_SERVICE, REPLAY_FROM.plusNanos(1_000));
+    }
+
+    @Test
+    void missingSnapshotIsRejected() throws IOException {
+        Files.delete(file);
+        AvailabilityIndex restored = new AvailabilityIndex(16);
+
+        assertThrows(NoSuchFileException.class, () -> restored.restoreSnapshot(file, REPLAY_FROM));
+        assertEquals(0, restored.size());
+    }
+
+    /**
+     * Этот метод проверяет, что снимок не читается с ожидаемой причиной, а индекс, в который он читался, не изменился
+     *
+     * @param message         начало сообщения исключения
+     * @param replayNotBefore самое раннее время, с которого еще можно повторить изменения билетов
+     */
+    private void assertRejected(String message, LocalDateTime replayNotBefore) {
+        AvailabilityIndex restored = new AvailabilityIndex(16);
+        restored.putTicket(ticket(TICKETS + 1));
+
+        IOException exception = assertThrows(IOException.class, () -> restored.restoreSnapshot(file, replayNotBefore));
+
+        assertEquals(message + file, exception.getMessage());
+        assertEquals(1, restored.size());
+    }
+
+    /**
+     * Этот метод инвертирует один байт файла снимка
+     *
+     * @param position смещение байта от начала файла
+     */
+    private void flipByte(long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1);
+            channel.read(buffer, position);
+            buffer.put(0, (byte) ~buffer.get(0));
+            channel.write(buffer.position(0), position);
+        }
+    }
+
+    /**
+     * Этот метод описывает все билеты индекса в порядке отправления полями, которые хранятся в снимке
+     *
+     * @param availabilityIndex индекс билетов в продаже
+     * @return Возвращает описания билетов
+     */
+    private static List<String> describe(AvailabilityIndex availabilityIndex) {
+        return availabilityIndex.findByDateAndTimeDeparture(FIRST_DEPARTURE, FIRST_DEPARTURE.plusDays(10), null, 2 * TICKETS)
+                .stream()
+                .map(ticket -> ticket.getId() + "|" + ticket.getRouteId() + "|" + ticket.getDateTimeDeparture()
+                        + "|" + ticket.getDateTimeTicketIssuance() + "|" + ticket.getSeatNumber() + "|" + ticket.getPrice()
+                        + "|" + ticket.getAvailableSeats())
+                .toList();
+    }
+
+    /**
+     * Этот метод формирует билет в продаже: билеты распределены по трем маршрутам, на каждом отправлении по два билета,
+     * дата и время выпуска записаны с точностью до микросекунды
+     *
+     * @param number номер билета
+     * @return Возвращает модель билета в продаже
+     */
+    private static Ticket ticket(int number) {
+        Ticket ticket = new Ticket();
+        ticket.setId((long) number);
+        ticket.setRouteId((long) number / 2 % 3 + 1);
+        ticket.setDateTimeDeparture(FIRST_DEPARTURE.plusHours(number / 2));
+        ticket.setDateTimeTicketIssuance(FIRST_DEPARTURE.minusDays(1).plusNanos(number * 1_001_000L));
+        ticket.setSeatNumber(number);
+        ticket.setPrice(1000 + number);
+        return ticket;
+    }
+}
@@ -0,0 +1,310 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.inventory.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.stanislavbukaevsky.purchasetransporttickets.cache.impl.ReferenceDataCacheImpl;
+import com.github.stanislavbukaevsky.purchasetransporttickets.database.EmbeddedDatabase;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Tickets;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.CarrierRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.RouteRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.TicketRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.pagination.SeekCursor;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.MessagePublisher;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.CarrierRepository;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.JdbcReactiveTicketRepository;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.ReactiveTicketRepository;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.RouteRepository;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.TicketRepository;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты равенства поиска по индексу билетов в продаже и поиска в базе данных на заполненной встроенной базе данных.
+ * Во время полной загрузки индекса билеты покупаются, изменяются, добавляются и удаляются в том же порядке вызовов
+ * индекса, что и в сервисе билетов. После этого каждая страница каждого поиска и курсор следующей страницы
+ * должны совпадать с базой данных на экземпляре, который сделал изменения, и на экземпляре,
+ * который получил их только из сообщений топика
+ */
+class TicketInventoryEquivalenceTest {
+    private static final int TICKETS_PER_ROUTE = 30;
+    private static final int PAGE_SIZE = 40;
+    private static final int CHANGED_PRICE = 4321;
+    private static final List<String> messages = new ArrayList<>();
+    @TempDir
+    static Path directory;
+    private static EmbeddedDatabase database;
+    private static TicketRepository ticketRepository;
+    private static RouteRepository routeRepository;
+    private static TicketRepository subscriberTicketRepository;
+    private static ReactiveTicketRepository reactiveTicketRepository;
+    private static TicketInventoryImpl ticketInventory;
+    private static TicketInventoryImpl subscriberInventory;
+    private static Long boughtBeforeStreamId;
+    private static Long boughtAfterStreamId;
+    private static Long updatedId;
+    private static Long neighbourId;
+    private static Long deletedId;
+    private static Long savedId;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        database = EmbeddedDatabase.start();
+        database.seed(TICKETS_PER_ROUTE);
+        DSLContext dsl = database.dsl();
+        ticketRepository = new TicketRepository(dsl, new TicketRecordMapper(dsl));
+        routeRepository = new RouteRepository(dsl, new RouteRecordMapper(dsl));
+        reactiveTicketRepository = new JdbcReactiveTicketRepository(ticketRepository, database.dataSource(), Schedulers.immediate());
+        List<Long> ids = dsl.select(Tickets.TICKETS.ID).from(Tickets.TICKETS)
+                .orderBy(Tickets.TICKETS.ID)
+                .fetch(Tickets.TICKETS.ID);
+        boughtBeforeStreamId = ids.get(0);
+        updatedId = ids.get(1);
+        neighbourId = ids.get(3);
+        boughtAfterStreamId = ids.get(ids.size() - 1);
+        deletedId = ids.get(ids.size() - 2);
+
+        subscriberTicketRepository = spy(new TicketRepository(dsl, new TicketRecordMapper(dsl)));
+        subscriberInventory = inventory(subscriberTicketRepository, message -> {
+        }, "subscriber");
+        subscriberInventory.reload();
+
+        AtomicInteger streamed = new AtomicInteger();
+        int changeAfter = ids.size() / 2;
+        TicketRepository streamingRepository = new TicketRepository(dsl, new TicketRecordMapper(dsl)) {
+            @Override
+            public void streamAvailableTickets(int fetchSize, Consumer<Ticket> consumer) {
+                super.streamAvailableTickets(fetchSize, ticket -> {
+                    consumer.accept(ticket);
+                    if (streamed.incrementAndGet() == changeAfter) {
+                        changeTickets();
+                    }
+                });
+            }
+        };
+        ticketInventory = inventory(streamingRepository, messages::add, "publisher");
+        ticketInventory.reload();
+        assertTrue(streamed.get() > changeAfter);
+        clearInvocations(subscriberTicketRepository);
+        messages.forEach(subscriberInventory::apply);
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Test
+    void changesDuringReloadAreNotLost() {
+        LocalDateTime departureTo = EmbeddedDatabase.FIRST_DEPARTURE.plusDays(40);
+        List<Long> ids = allPages(cursor -> ticketInventory.findTicketsByDateAndTimeDeparture(
+                EmbeddedDatabase.FIRST_DEPARTURE, departureTo, cursor, PAGE_SIZE)).stream()
+                .map(Ticket::getId)
+                .toList();
+
+        assertFalse(ids.contains(boughtBeforeStreamId));
+        assertFalse(ids.contains(boughtAfterStreamId));
+        assertFalse(ids.contains(deletedId));
+        assertTrue(ids.contains(updatedId));
+        assertTrue(ids.contains(savedId));
+    }
+
+    @Test
+    void subscriberAppliesMessagesWithoutDatabase() {
+        assertFalse(messages.isEmpty());
+        verifyNoInteractions(subscriberTicketRepository);
+    }
+
+    @Test
+    void findTicketsByDateAndTimeDepartureMatchesDatabase() {
+        LocalDateTime departureTo = EmbeddedDatabase.FIRST_DEPARTURE.plusDays(1);
+        assertPagesMatchDatabase(
+                cursor -> reactiveTicketRepository.findTicketsByDateAndTimeDeparture(
+                        EmbeddedDatabase.FIRST_DEPARTURE, departureTo, cursor, PAGE_SIZE),
+                inventory -> cursor -> inventory.findTicketsByDateAndTimeDeparture(
+                        EmbeddedDatabase.FIRST_DEPARTURE, departureTo, cursor, PAGE_SIZE));
+    }
+
+    @Test
+    void findTicketsByDeparturePointMatchesDatabase() {
+        assertPagesMatchDatabase(
+                cursor -> reactiveTicketRepository.findTicketsByDeparturePoint("Москва", cursor, PAGE_SIZE),
+                inventory -> cursor -> inventory.findTicketsByDeparturePoint("Москва", cursor, PAGE_SIZE));
+    }
+
+    @Test
+    void findTicketsByDestinationMatchesDatabase() {
+        assertPagesMatchDatabase(
+                cursor -> reactiveTicketRepository.findTicketsByDestination("Казань", cursor, PAGE_SIZE),
+                inventory -> cursor -> inventory.findTicketsByDestination("Казань", cursor, PAGE_SIZE));
+    }
+
+    @Test
+    void findTicketsBySubstringOfPointMatchesDatabase() {
+        assertPagesMatchDatabase(
+                cursor -> reactiveTicketRepository.findTicketsByDeparturePoint("Новгород", cursor, PAGE_SIZE),
+                inventory -> cursor -> inventory.findTicketsByDeparturePoint("Новгород", cursor, PAGE_SIZE));
+    }
+
+    @Test
+    void findTicketsByCompanyNameCarrierMatchesDatabase() {
+        assertPagesMatchDatabase(
+                cursor -> reactiveTicketRepository.findTicketsByCompanyNameCarrier("Перевозчик 0", cursor, PAGE_SIZE),
+                inventory -> cursor -> inventory.findTicketsByCompanyNameCarrier("Перевозчик 0", cursor, PAGE_SIZE));
+    }
+
+    /**
+     * Этот метод изменяет билеты в базе данных и в индексе в том же порядке, что и сервис билетов:
+     * покупка уже выгруженного и еще не выгруженного билета, изменение стоимости и отправления,
+     * добавление билета на существующее отправление и удаление билета
+     */
+    private static void changeTickets() {
+        buy(boughtBeforeStreamId);
+        buy(boughtAfterStreamId);
+
+        Ticket ticket = ticketRepository.findTicketById(updatedId);
+        Long previousRouteId = ticket.getRouteId();
+        LocalDateTime previousDateTimeDeparture = ticket.getDateTimeDeparture();
+        ticket.setRoute(routeRepository.findRouteById(ticket.getRouteId()));
+        ticket.setDateTimeDeparture(previousDateTimeDeparture.plusHours(1));
+        ticket.setPrice(CHANGED_PRICE);
+        ticket.setDateTimeTicketIssuance(LocalDateTime.now());
+        Ticket updated = ticketRepository.update(ticket);
+        ticketInventory.removeTicket(previousRouteId, previousDateTimeDeparture, updated.getId());
+        ticketInventory.refreshTicket(updated.getId());
+
+        Ticket neighbour = ticketRepository.findTicketById(neighbourId);
+        Ticket added = new Ticket();
+        added.setRoute(routeRepository.findRouteById(neighbour.getRouteId()));
+        added.setDateTimeDeparture(neighbour.getDateTimeDeparture());
+        added.setSeatNumber(neighbour.getSeatNumber() + 1);
+        added.setPrice(CHANGED_PRICE);
+        added.setDateTimeTicketIssuance(LocalDateTime.now());
+        savedId = ticketRepository.save(added).getId();
+        ticketInventory.refreshTicket(savedId);
+
+        Ticket deleted = ticketRepository.findTicketById(deletedId);
+        ticketRepository.deleteById(deletedId);
+        ticketInventory.removeTicket(deleted.getRouteId(), deleted.getDateTimeDeparture(), deletedId);
+    }
+
+    /**
+     * Этот метод покупает билет и удаляет его из индекса, как сервис билетов
+     *
+     * @param id уникальный идентификатор билета
+     */
+    private static void buy(Long id) {
+        Ticket ticket = ticketRepository.buyingTicket(id, EmbeddedDatabase.LOGIN).orElseThrow();
+        ticketInventory.removeTicket(ticket.getRouteId(), ticket.getDateTimeDeparture(), id);
+    }
+
+    /**
+     * Этот метод создает включенный индекс билетов в продаже со своим кэшем справочных данных
+     *
+     * @param repository       репозиторий билетов
+     * @param messagePublisher получатель сообщений индекса
+     * @param name             имя файла снимка
+     * @return Возвращает индекс билетов в продаже
+     */
+    private static TicketInventoryImpl inventory(TicketRepository repository, MessagePublisher messagePublisher, String name) {
+        DSLContext dsl = database.dsl();
+        ReferenceDataCacheImpl referenceDataCache = new ReferenceDataCacheImpl(Caffeine.newBuilder().build(),
+                Caffeine.newBuilder().build(), new RouteRepository(dsl, new RouteRecordMapper(dsl)),
+                new CarrierRepository(dsl, new CarrierRecordMapper(dsl)), message -> {
+        });
+        TicketInventoryImpl inventory = new TicketInventoryImpl(referenceDataCache, repository, messagePublisher, Schedulers.immediate());
+        ReflectionTestUtils.setField(inventory, "enabled", true);
+        ReflectionTestUtils.setField(inventory, "fetchSize", 500);
+        ReflectionTestUtils.setField(inventory, "snapshotFile", directory.resolve(name + ".snapshot").toString());
+        ReflectionTestUtils.setField(inventory, "replayOverlapInSeconds", 60L);
+        ReflectionTestUtils.setField(inventory, "changeRetentionInHours", 24L);
+        return inventory;
+    }
+
+    /**
+     * Этот метод проверяет, что каждая страница поиска и курсор следующей страницы по индексу совпадают
+     * с базой данных на обоих экземплярах, и что поиск находит хотя бы две страницы
+     *
+     * @param databaseSearch поиск страницы в базе данных по курсору
+     * @param indexSearch    поиск страницы по индексу экземпляра по курсору
+     */
+    private static void assertPagesMatchDatabase(Function<SeekCursor, Flux<Ticket>> databaseSearch,
+                                                 Function<TicketInventoryImpl, Function<SeekCursor, Flux<Ticket>>> indexSearch) {
+        for (TicketInventoryImpl inventory : List.of(ticketInventory, subscriberInventory)) {
+            Function<SeekCursor, Flux<Ticket>> search = indexSearch.apply(inventory);
+            SeekCursor cursor = null;
+            int pages = 0;
+            List<Ticket> expected;
+            do {
+                expected = databaseSearch.apply(cursor).collectList().block();
+                List<Ticket> actual = search.apply(cursor).collectList().block();
+                assertEquals(describe(expected), describe(actual), "страница " + pages);
+                if (!expected.isEmpty()) {
+                    SeekCursor next = SeekCursor.of(expected.get(expected.size() - 1));
+                    assertEquals(next, SeekCursor.of(actual.get(actual.size() - 1)));
+                    cursor = next;
+                }
+                pages++;
+            } while (expected.size() == PAGE_SIZE);
+            assertTrue(pages > 1);
+        }
+    }
+
+    /**
+     * Этот метод описывает страницу билетов полями, которые видит пользователь в ответе поиска
+     *
+     * @param tickets страница билетов
+     * @return Возвращает описания билетов в порядке страницы
+     */
+    private static List<String> describe(List<Ticket> tickets) {
+        return tickets.stream()
+                .map(ticket -> String.join("|", String.valueOf(ticket.getId()),
+                        String.valueOf(ticket.getRoute().getId()),
+                        ticket.getRoute().getDeparturePoint(),
+                        ticket.getRoute().getDestination(),
+                        ticket.getRoute().getCarrier().getCompanyName(),
+                        String.valueOf(ticket.getDateTimeDeparture()),
+                        String.valueOf(ticket.getDateTimeTicketIssuance()),
+                        String.valueOf(ticket.getSeatNumber()),
+                        String.valueOf(ticket.getPrice()),
+                        String.valueOf(ticket.getAvailableSeats()),
+                        String.valueOf(ticket.getTicketStatus())))
+                .toList();
+    }
+
+    /**
+     * Этот метод выбирает все страницы поиска по курсору
+     *
+     * @param search поиск страницы по курсору
+     * @return Возвращает билеты всех страниц
+     */
+    private static List<Ticket> allPages(Function<SeekCursor, Flux<Ticket>> search) {
+        List<Ticket> tickets = new ArrayList<>();
+        SeekCursor cursor = null;
+        List<Ticket> page;
+        do {
+            page = search.apply(cursor).collectList().block();
+            tickets.addAll(page);
+            if (!page.isEmpty()) {
+                cursor = SeekCursor.of(page.get(page.size() - 1));
+            }
+        } while (page.size() == PAGE_SIZE);
+        return tickets;
+    }
+}
@@ -0,0 +1,250 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.inventory.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.stanislavbukaevsky.purchasetransporttickets.cache.impl.ReferenceDataCacheImpl;
+import com.github.stanislavbukaevsky.purchasetransporttickets.database.EmbeddedDatabase;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Tickets;
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.CarrierRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.RouteRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.TicketRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.pagination.SeekCursor;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.CarrierRepository;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.RouteRepository;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.TicketRepository;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты восстановления индекса билетов в продаже из снимка на заполненной встроенной базе данных.
+ * После записи снимка билеты покупаются, изменяются, добавляются и удаляются только в базе данных, как на других
+ * экземплярах приложения, пока этот экземпляр остановлен. Индекс, восстановленный из снимка с повтором журнала
+ * изменений билетов, должен совпадать с индексом, полностью перестроенным из базы данных, а поврежденный
+ * или устаревший снимок должен приводить к полному перестроению
+ */
+class TicketInventoryRestoreTest {
+    private static final int TICKETS_PER_ROUTE = 20;
+    private static final int PAGE_SIZE = 500;
+    private static final long REPLAY_OVERLAP_IN_SECONDS = 60L;
+    private static final long CHANGE_RETENTION_IN_HOURS = 24L;
+    private static EmbeddedDatabase database;
+    private static TicketRepository ticketRepository;
+    private static RouteRepository routeRepository;
+    @TempDir
+    Path directory;
+    private Path snapshotFile;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        database = EmbeddedDatabase.start();
+        database.seed(TICKETS_PER_ROUTE);
+        DSLContext dsl = database.dsl();
+        ticketRepository = new TicketRepository(dsl, new TicketRecordMapper(dsl));
+        routeRepository = new RouteRepository(dsl, new RouteRecordMapper(dsl));
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        database.close();
+    }
+
+    @BeforeEach
+    void writeSnapshot() {
+        snapshotFile = directory.resolve("availability.snapshot");
+        inventory(ticketRepository, CHANGE_RETENTION_IN_HOURS).reload();
+    }
+
+    @Test
+    void restoreReplaysTicketChangesAndEqualsFullReload() {
+        changeTickets();
+        TicketRepository repository = spy(ticketRepository);
+        TicketInventoryImpl restored = inventory(repository, CHANGE_RETENTION_IN_HOURS);
+
+        restored.restore();
+
+        verify(repository, never()).streamAvailableTickets(anyInt(), any());
+        verify(repository).findTicketChangesSince(any());
+        assertEquals(reloaded(), describe(restored));
+    }
+
+    @Test
+    void truncatedSnapshotFallsBackToReload() throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() / 2);
+        }
+        assertRestoreFallsBackToReload(CHANGE_RETENTION_IN_HOURS);
+    }
+
+    @Test
+    void snapshotWithFlippedByteFallsBackToReload() throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long position = channel.size() - 1;
+            ByteBuffer buffer = ByteBuffer.allocate(1);
+            channel.read(buffer, position);
+            buffer.put(0, (byte) ~buffer.get(0));
+            channel.write(buffer.position(0), position);
+        }
+        assertRestoreFallsBackToReload(CHANGE_RETENTION_IN_HOURS);
+    }
+
+    @Test
+    void snapshotWithWrongMagicOrVersionFallsBackToReload() throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 0), 0);
+        }
+        assertRestoreFallsBackToReload(CHANGE_RETENTION_IN_HOURS);
+
+        inventory(ticketRepository, CHANGE_RETENTION_IN_HOURS).reload();
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 2), 4);
+        }
+        assertRestoreFallsBackToReload(CHANGE_RETENTION_IN_HOURS);
+    }
+
+    @Test
+    void snapshotOlderThanChangeRetentionFallsBackToReload() {
+        assertRestoreFallsBackToReload(0L);
+    }
+
+    /**
+     * Этот метод меняет билеты в базе данных после записи снимка и проверяет, что восстановление
+     * не читает снимок, а перестраивает индекс из базы данных с тем же результатом, что и полная загрузка
+     *
+     * @param changeRetentionInHours срок хранения журнала изменений билетов
+     */
+    private void assertRestoreFallsBackToReload(long changeRetentionInHours) {
+        changeTickets();
+        TicketRepository repository = spy(ticketRepository);
+        TicketInventoryImpl restored = inventory(repository, changeRetentionInHours);
+
+        restored.restore();
+
+        verify(repository).streamAvailableTickets(anyInt(), any());
+        verify(repository, never()).findTicketChangesSince(any());
+        assertEquals(reloaded(), describe(restored));
+    }
+
+    /**
+     * Этот метод покупает, изменяет, добавляет и удаляет билеты только в базе данных, без обновления индекса.
+     * Каждый вызов выбирает еще не измененные билеты, поэтому тесты не зависят от порядка выполнения
+     */
+    private static void changeTickets() {
+        List<Long> ids = database.dsl().select(Tickets.TICKETS.ID).from(Tickets.TICKETS)
+                .where(Tickets.TICKETS.TICKET_STATUS.eq(TicketStatus.AVAILABLE_FOR_SALE.name()),
+                        Tickets.TICKETS.PRICE.lt(2000))
+                .orderBy(Tickets.TICKETS.ID)
+                .limit(4)
+                .fetch(Tickets.TICKETS.ID);
+        ticketRepository.buyingTicket(ids.get(0), EmbeddedDatabase.LOGIN).orElseThrow();
+
+        Ticket ticket = ticketRepository.findTicketById(ids.get(1));
+        ticket.setRoute(routeRepository.findRouteById(ticket.getRouteId()));
+        ticket.setDateTimeDeparture(ticket.getDateTimeDeparture().plusHours(1));
+        ticket.setPrice(ticket.getPrice() + 2000);
+        ticket.setDateTimeTicketIssuance(LocalDateTime.now());
+        ticketRepository.update(ticket);
+
+        Ticket neighbour = ticketRepository.findTicketById(ids.get(2));
+        Ticket added = new Ticket();
+        added.setRoute(routeRepository.findRouteById(neighbour.getRouteId()));
+        added.setDateTimeDeparture(neighbour.getDateTimeDeparture());
+        added.setSeatNumber(neighbour.getSeatNumber() + 100);
+        added.setPrice(neighbour.getPrice() + 2000);
+        added.setDateTimeTicketIssuance(LocalDateTime.now());
+        ticketRepository.save(added);
+
+        ticketRepository.deleteById(ids.get(3));
+    }
+
+    /**
+     * Этот метод создает включенный индекс билетов в продаже со своим кэшем справочных данных и снимком теста
+     *
+     * @param repository             репозиторий билетов
+     * @param changeRetentionInHours срок хранения журнала изменений билетов
+     * @return Возвращает индекс билетов в продаже
+     */
+    private TicketInventoryImpl inventory(TicketRepository repository, long changeRetentionInHours) {
+        DSLContext dsl = database.dsl();
+        ReferenceDataCacheImpl referenceDataCache = new ReferenceDataCacheImpl(Caffeine.newBuilder().build(),
+                Caffeine.newBuilder().build(), new RouteRepository(dsl, new RouteRecordMapper(dsl)),
+                new CarrierRepository(dsl, new CarrierRecordMapper(dsl)), message -> {
+        });
+        TicketInventoryImpl inventory = new TicketInventoryImpl(referenceDataCache, repository, message -> {
+        }, Schedulers.immediate());
+        ReflectionTestUtils.setField(inventory, "enabled", true);
+        ReflectionTestUtils.setField(inventory, "fetchSize", 500);
+        ReflectionTestUtils.setField(inventory, "snapshotFile", snapshotFile.toString());
+        ReflectionTestUtils.setField(inventory, "replayOverlapInSeconds", REPLAY_OVERLAP_IN_SECONDS);
+        ReflectionTestUtils.setField(inventory, "changeRetentionInHours", changeRetentionInHours);
+        return inventory;
+    }
+
+    /**
+     * Этот метод полностью перестраивает новый индекс из базы данных в отдельный файл снимка
+     *
+     * @return Возвращает описания всех билетов перестроенного индекса
+     */
+    private List<String> reloaded() {
+        Path file = snapshotFile;
+        snapshotFile = directory.resolve("reloaded.snapshot");
+        try {
+            TicketInventoryImpl inventory = inventory(ticketRepository, CHANGE_RETENTION_IN_HOURS);
+            inventory.reload();
+            return describe(inventory);
+        } finally {
+            snapshotFile = file;
+        }
+    }
+
+    /**
+     * Этот метод описывает все билеты индекса в порядке отправления полями, которые видит пользователь в ответе поиска
+     *
+     * @param inventory индекс билетов в продаже
+     * @return Возвращает описания билетов
+     */
+    private static List<String> describe(TicketInventoryImpl inventory) {
+        LocalDateTime departureTo = EmbeddedDatabase.FIRST_DEPARTURE.plusDays(40);
+        List<String> tickets = new ArrayList<>();
+        SeekCursor cursor = null;
+        List<Ticket> page;
+        do {
+            page = inventory.findTicketsByDateAndTimeDeparture(EmbeddedDatabase.FIRST_DEPARTURE, departureTo, cursor, PAGE_SIZE)
+                    .collectList()
+                    .block();
+            page.forEach(ticket -> tickets.add(String.join("|", String.valueOf(ticket.getId()),
+                    String.valueOf(ticket.getRoute().getId()),
+                    ticket.getRoute().getCarrier().getCompanyName(),
+                    String.valueOf(ticket.getDateTimeDeparture()),
+                    String.valueOf(ticket.getDateTimeTicketIssuance()),
+                    String.valueOf(ticket.getSeatNumber()),
+                    String.valueOf(ticket.getPrice()),
+                    String.valueOf(ticket.getAvailableSeats()))));
+            if (!page.isEmpty()) {
+                cursor = SeekCursor.of(page.get(page.size() - 1));
+            }
+        } while (page.size() == PAGE_SIZE);
+        assertFalse(tickets.isEmpty());
+        return tickets;
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.journey;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Carrier;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Класс тестового расписания поездок из Москвы в Петербург.
+ * Прямой рейс прибывает позже всех, поездка с одной пересадкой в Твери - раньше,
+ * а поездка с двумя пересадками в Клину и Новгороде - раньше всех, причем пересадка в Клину
+ * занимает ровно минимальное время пересадки
+ */
+public final class TimetableFixture {
+    public static final LocalDateTime DEPARTURE_FROM = LocalDateTime.of(2030, 1, 1, 8, 0);
+    public static final long MINIMUM_TRANSFER_IN_MINUTES = 30;
+    public static final String MOSCOW = "Москва";
+    public static final String TVER = "Тверь";
+    public static final String KLIN = "Клин";
+    public static final String NOVGOROD = "Новгород";
+    public static final String PETERSBURG = "Петербург";
+    public static final Ticket DIRECT = ticket(1L, 1L, MOSCOW, PETERSBURG, "08:00", 600, 5000);
+    public static final Ticket MOSCOW_TVER = ticket(2L, 2L, MOSCOW, TVER, "08:30", 120, 1000);
+    public static final Ticket TVER_PETERSBURG = ticket(3L, 3L, TVER, PETERSBURG, "11:00", 300, 2000);
+    public static final Ticket MOSCOW_KLIN = ticket(4L, 4L, MOSCOW, KLIN, "08:10", 60, 500);
+    public static final Ticket KLIN_NOVGOROD = ticket(5L, 5L, KLIN, NOVGOROD, "09:40", 180, 1500);
+    public static final Ticket NOVGOROD_PETERSBURG = ticket(6L, 6L, NOVGOROD, PETERSBURG, "13:10", 120, 1200);
+
+    private TimetableFixture() {
+    }
+
+    /**
+     * Этот метод возвращает все билеты тестового расписания
+     *
+     * @return Возвращает билеты прямого рейса и рейсов с одной и двумя пересадками
+     */
+    public static List<Ticket> tickets() {
+        return List.of(DIRECT, MOSCOW_TVER, TVER_PETERSBURG, MOSCOW_KLIN, KLIN_NOVGOROD, NOVGOROD_PETERSBURG);
+    }
+
+    /**
+     * Этот метод формирует билет в продаже 1 января 2030 года с заполненными маршрутом и перевозчиком
+     *
+     * @param id                уникальный идентификатор билета
+     * @param routeId           уникальный идентификатор маршрута
+     * @param departurePoint    пункт отправления
+     * @param destination       пункт назначения
+     * @param time              время отправления в формате HH:mm
+     * @param durationInMinutes продолжительность рейса в минутах
+     * @param price             стоимость билета
+     * @return Возвращает модель билета
+     */
+    public static Ticket ticket(Long id, Long routeId, String departurePoint, String destination,
+                                String time, int durationInMinutes, int price) {
+        Carrier carrier = new Carrier();
+        carrier.setId(routeId);
+        carrier.setCompanyName("Перевозчик " + routeId);
+        Route route = new Route();
+        route.setId(routeId);
+        route.setDeparturePoint(departurePoint);
+        route.setDestination(destination);
+        route.setCarrier(carrier);
+        route.setCarrierId(carrier.getId());
+        route.setDurationInMinutes(durationInMinutes);
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setRoute(route);
+        ticket.setRouteId(routeId);
+        ticket.setDateTimeDeparture(LocalDateTime.of(DEPARTURE_FROM.toLocalDate(), LocalTime.parse(time)));
+        ticket.setSeatNumber(1);
+        ticket.setPrice(price);
+        ticket.setDateTimeTicketIssuance(DEPARTURE_FROM.minusDays(30));
+        return ticket;
+    }
+}
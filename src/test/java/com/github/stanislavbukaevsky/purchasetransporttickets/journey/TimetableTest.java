@@ -0,0 +1,160 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.journey;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.journey.TimetableFixture.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты поиска поездок алгоритмом сканирования рейсов по тестовому расписанию {@link TimetableFixture}:
+ * поездки с пересадками, минимальное время пересадки и изменения, пришедшие во время перестроения расписания
+ */
+class TimetableTest {
+    private static final Duration MINIMUM_TRANSFER = Duration.ofMinutes(MINIMUM_TRANSFER_IN_MINUTES);
+    private static final Duration HORIZON = Duration.ofHours(24);
+    private static final int MAXIMUM_TRIPS = 3;
+    private Timetable timetable;
+
+    @BeforeEach
+    void setUp() {
+        timetable = new Timetable();
+        timetable.reload(TimetableFixture::tickets);
+    }
+
+    @Test
+    void searchReturnsDirectOneTransferAndTwoTransferItineraries() {
+        List<Itinerary> itineraries = search(MAXIMUM_TRIPS);
+
+        assertEquals(3, itineraries.size());
+        assertEquals(List.of(DIRECT.getId()), ticketIds(itineraries.get(0)));
+        assertEquals(List.of(MOSCOW_TVER.getId(), TVER_PETERSBURG.getId()), ticketIds(itineraries.get(1)));
+        assertEquals(List.of(MOSCOW_KLIN.getId(), KLIN_NOVGOROD.getId(), NOVGOROD_PETERSBURG.getId()),
+                ticketIds(itineraries.get(2)));
+        assertEquals(DEPARTURE_FROM.withHour(18), itineraries.get(0).dateTimeArrival());
+        assertEquals(DEPARTURE_FROM.withHour(16), itineraries.get(1).dateTimeArrival());
+        assertEquals(DEPARTURE_FROM.withHour(15).withMinute(10), itineraries.get(2).dateTimeArrival());
+    }
+
+    @Test
+    void searchStopsAtMaximumTrips() {
+        List<Itinerary> itineraries = search(2);
+
+        assertEquals(2, itineraries.size());
+        assertEquals(2, itineraries.get(1).trips().size());
+    }
+
+    @Test
+    void searchSkipsItineraryThatDoesNotArriveEarlier() {
+        timetable.removeTicket(NOVGOROD_PETERSBURG.getId());
+        timetable.putTicket(ticket(7L, 7L, NOVGOROD, PETERSBURG, "13:10", 240, 1200));
+
+        List<Itinerary> itineraries = search(MAXIMUM_TRIPS);
+
+        assertEquals(2, itineraries.size());
+        assertEquals(1, itineraries.get(0).trips().size());
+        assertEquals(2, itineraries.get(1).trips().size());
+    }
+
+    @Test
+    void transferOfExactlyMinimumTimeIsTaken() {
+        Itinerary twoTransfers = search(MAXIMUM_TRIPS).get(2);
+
+        Trip arriving = twoTransfers.trips().get(0);
+        Trip leaving = twoTransfers.trips().get(1);
+        assertEquals(MINIMUM_TRANSFER, Duration.between(arriving.dateTimeArrival(), leaving.dateTimeDeparture()));
+    }
+
+    @Test
+    void connectionMissedByOneMinuteIsNotTaken() {
+        timetable.removeTicket(TVER_PETERSBURG.getId());
+        timetable.putTicket(ticket(8L, 8L, TVER, PETERSBURG, "10:59", 300, 2000));
+
+        List<Itinerary> itineraries = search(2);
+
+        assertEquals(1, itineraries.size());
+        assertEquals(List.of(DIRECT.getId()), ticketIds(itineraries.get(0)));
+        assertEquals(List.of(MOSCOW_TVER.getId(), 8L),
+                ticketIds(timetable.search(MOSCOW, PETERSBURG, DEPARTURE_FROM, MINIMUM_TRANSFER.minusMinutes(1), 2, HORIZON).get(1)));
+    }
+
+    @Test
+    void laterConnectionIsTakenWhenEarlierIsMissed() {
+        timetable.putTicket(ticket(8L, 8L, TVER, PETERSBURG, "10:59", 200, 2000));
+
+        Itinerary oneTransfer = search(2).get(1);
+
+        assertEquals(List.of(MOSCOW_TVER.getId(), TVER_PETERSBURG.getId()), ticketIds(oneTransfer));
+    }
+
+    @Test
+    void firstTripIsBoardedWithoutTransferTime() {
+        List<Itinerary> itineraries = timetable.search(MOSCOW, TVER, MOSCOW_TVER.getDateTimeDeparture(), MINIMUM_TRANSFER, 1, HORIZON);
+
+        assertEquals(List.of(MOSCOW_TVER.getId()), ticketIds(itineraries.get(0)));
+        assertTrue(timetable.search(MOSCOW, TVER, MOSCOW_TVER.getDateTimeDeparture().plusMinutes(1),
+                MINIMUM_TRANSFER, 1, HORIZON).isEmpty());
+    }
+
+    @Test
+    void reloadReplaysChangesMadeWhileTicketsAreLoaded() {
+        Ticket added = ticket(9L, 9L, MOSCOW, PETERSBURG, "09:00", 300, 3000);
+        timetable.reload(() -> {
+            List<Ticket> loaded = TimetableFixture.tickets();
+            Thread writer = new Thread(() -> {
+                timetable.removeTicket(DIRECT.getId());
+                timetable.putTicket(added);
+            });
+            writer.start();
+            try {
+                writer.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(exception);
+            }
+            return loaded;
+        });
+
+        assertEquals(TimetableFixture.tickets().size(), timetable.size());
+        List<Itinerary> itineraries = search(MAXIMUM_TRIPS);
+        assertEquals(List.of(added.getId()), ticketIds(itineraries.get(0)));
+        assertTrue(itineraries.stream().noneMatch(itinerary -> ticketIds(itinerary).contains(DIRECT.getId())));
+    }
+
+    @Test
+    void changesAfterReloadAreNotReplayedAgain() {
+        timetable.removeTicket(DIRECT.getId());
+        assertEquals(TimetableFixture.tickets().size() - 1, timetable.size());
+
+        timetable.reload(TimetableFixture::tickets);
+
+        assertEquals(TimetableFixture.tickets().size(), timetable.size());
+        assertEquals(List.of(DIRECT.getId()), ticketIds(search(MAXIMUM_TRIPS).get(0)));
+    }
+
+    /**
+     * Этот метод ищет поездки из Москвы в Петербург с минимальным временем пересадки тестового расписания
+     *
+     * @param maximumTrips наибольшее количество рейсов в поездке
+     * @return Возвращает найденные поездки
+     */
+    private List<Itinerary> search(int maximumTrips) {
+        return timetable.search(MOSCOW, PETERSBURG, DEPARTURE_FROM, MINIMUM_TRANSFER, maximumTrips, HORIZON);
+    }
+
+    /**
+     * Этот метод возвращает самые дешевые билеты рейсов поездки
+     *
+     * @param itinerary поездка
+     * @return Возвращает уникальные идентификаторы билетов в порядке следования рейсов
+     */
+    private static List<Long> ticketIds(Itinerary itinerary) {
+        return itinerary.trips().stream()
+                .map(Trip::cheapestTicketId)
+                .toList();
+    }
+}
@@ -0,0 +1,145 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.journey.impl;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.cache.ReferenceDataCache;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.JourneyRequestDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.JourneyResponseDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.journey.TimetableFixture;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.MessagePublisher;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.TicketRow;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.github.stanislavbukaevsky.purchasetransporttickets.journey.TimetableFixture.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты сервиса планирования поездок по тестовому расписанию {@link TimetableFixture}:
+ * ответ пользователю, минимальное время пересадки из настроек и изменения расписания по сообщениям.
+ * Сообщение об обновлении билета содержит поля билета, поэтому другой экземпляр применяет его без базы данных
+ */
+class JourneyPlannerImplTest {
+    private ReferenceDataCache referenceDataCache;
+    private TicketRepository ticketRepository;
+    private MessagePublisher messagePublisher;
+    private JourneyPlannerImpl journeyPlanner;
+
+    @BeforeEach
+    void setUp() {
+        referenceDataCache = mock(ReferenceDataCache.class);
+        ticketRepository = mock(TicketRepository.class);
+        messagePublisher = mock(MessagePublisher.class);
+        journeyPlanner = new JourneyPlannerImpl(referenceDataCache, ticketRepository, messagePublisher);
+        ReflectionTestUtils.setField(journeyPlanner, "minimumTransferTimeInMinutes", MINIMUM_TRANSFER_IN_MINUTES);
+        ReflectionTestUtils.setField(journeyPlanner, "maximumTrips", 3);
+        ReflectionTestUtils.setField(journeyPlanner, "searchHorizonInHours", 24L);
+        when(ticketRepository.findAvailableTicketsDepartingAfter(any())).thenReturn(TimetableFixture.tickets());
+        journeyPlanner.reload();
+    }
+
+    @Test
+    void findJourneysDescribesTransfersDurationAndPrice() {
+        List<JourneyResponseDto> journeys = journeyPlanner.findJourneys(request());
+
+        assertEquals(List.of(0, 1, 2), journeys.stream().map(JourneyResponseDto::getTransfers).toList());
+        JourneyResponseDto twoTransfers = journeys.get(2);
+        assertEquals(MOSCOW_KLIN.getDateTimeDeparture(), twoTransfers.getDateTimeDeparture());
+        assertEquals(DEPARTURE_FROM.withHour(15).withMinute(10), twoTransfers.getDateTimeArrival());
+        assertEquals(420L, twoTransfers.getDurationInMinutes());
+        assertEquals(MOSCOW_KLIN.getPrice() + KLIN_NOVGOROD.getPrice() + NOVGOROD_PETERSBURG.getPrice(),
+                twoTransfers.getTotalPrice());
+        assertEquals(KLIN, twoTransfers.getLegs().get(0).getDestination());
+        verifyNoInteractions(messagePublisher);
+    }
+
+    @Test
+    void findJourneysOffersCheapestTicketOfTrip() {
+        Ticket cheaper = ticket(10L, DIRECT.getRoute().getId(), MOSCOW, PETERSBURG, "08:00", 600, 4000);
+        when(ticketRepository.findAvailableTicketById(cheaper.getId())).thenReturn(Optional.of(cheaper));
+
+        journeyPlanner.refreshTicket(cheaper.getId());
+
+        JourneyResponseDto direct = journeyPlanner.findJourneys(request()).get(0);
+        assertEquals(cheaper.getId(), direct.getLegs().get(0).getTicketId());
+        assertEquals(4000, direct.getTotalPrice());
+        assertEquals(2, direct.getLegs().get(0).getAvailableSeats());
+    }
+
+    @Test
+    void refreshedTicketIsPublishedWithItsFields() {
+        Ticket cheaper = ticket(10L, DIRECT.getRoute().getId(), MOSCOW, PETERSBURG, "08:00", 600, 4000);
+        when(ticketRepository.findAvailableTicketById(cheaper.getId())).thenReturn(Optional.of(cheaper));
+
+        journeyPlanner.refreshTicket(cheaper.getId());
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(messagePublisher).publish(message.capture());
+        assertEquals("journey:put-ticket:" + TicketRow.of(cheaper), message.getValue());
+        assertEquals(TicketRow.of(cheaper), TicketRow.parse(message.getValue().substring("journey:put-ticket:".length())));
+    }
+
+    @Test
+    void refreshOfTicketNoLongerOnSaleRemovesIt() {
+        when(ticketRepository.findAvailableTicketById(DIRECT.getId())).thenReturn(Optional.empty());
+
+        journeyPlanner.refreshTicket(DIRECT.getId());
+
+        verify(messagePublisher).publish("journey:remove-ticket:" + DIRECT.getId());
+        assertEquals(List.of(1, 2), journeyPlanner.findJourneys(request()).stream()
+                .map(JourneyResponseDto::getTransfers)
+                .toList());
+    }
+
+    @Test
+    void ticketFromMessageIsAppliedWithoutDatabase() {
+        Ticket cheaper = ticket(10L, DIRECT.getRoute().getId(), MOSCOW, PETERSBURG, "08:00", 600, 4000);
+        when(referenceDataCache.findRouteWithCarrierById(DIRECT.getRoute().getId())).thenReturn(DIRECT.getRoute());
+        clearInvocations(ticketRepository);
+
+        journeyPlanner.apply("journey:put-ticket:" + TicketRow.of(cheaper));
+
+        JourneyResponseDto direct = journeyPlanner.findJourneys(request()).get(0);
+        assertEquals(cheaper.getId(), direct.getLegs().get(0).getTicketId());
+        assertEquals(4000, direct.getTotalPrice());
+        verifyNoInteractions(ticketRepository, messagePublisher);
+    }
+
+    @Test
+    void findJourneysRespectsConfiguredMinimumTransfer() {
+        ReflectionTestUtils.setField(journeyPlanner, "minimumTransferTimeInMinutes", MINIMUM_TRANSFER_IN_MINUTES + 1);
+
+        List<JourneyResponseDto> journeys = journeyPlanner.findJourneys(request());
+
+        assertEquals(List.of(0), journeys.stream().map(JourneyResponseDto::getTransfers).toList());
+    }
+
+    @Test
+    void soldTicketIsRemovedFromTimetable() {
+        journeyPlanner.removeTicket(DIRECT.getId());
+
+        assertEquals(List.of(1, 2), journeyPlanner.findJourneys(request()).stream()
+                .map(JourneyResponseDto::getTransfers)
+                .toList());
+    }
+
+    /**
+     * Этот метод формирует запрос поездки из Москвы в Петербург от начала тестового расписания
+     *
+     * @return Возвращает класс-DTO для запроса от пользователя
+     */
+    private static JourneyRequestDto request() {
+        JourneyRequestDto journeyRequestDto = new JourneyRequestDto();
+        journeyRequestDto.setDeparturePoint(MOSCOW);
+        journeyRequestDto.setDestination(PETERSBURG);
+        journeyRequestDto.setDateTimeDeparture("2030-01-01 08:00");
+        return journeyRequestDto;
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.redis.impl;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete.CityAutocomplete;
+import com.github.stanislavbukaevsky.purchasetransporttickets.cache.ReferenceDataCache;
+import com.github.stanislavbukaevsky.purchasetransporttickets.inventory.TicketInventory;
+import com.github.stanislavbukaevsky.purchasetransporttickets.journey.JourneyPlanner;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.InstanceId;
+import com.github.stanislavbukaevsky.purchasetransporttickets.seatmap.SeatAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты получения сообщений из топика Redis: сообщения другого экземпляра приложения применяются без метки экземпляра,
+ * а свои сообщения пропускаются, потому что изменения из них уже применены до публикации
+ */
+class MessageSubscriberImplTest {
+    private static final String TEXT = "journey:remove-ticket:1";
+    private final InstanceId instanceId = new InstanceId("this");
+    private ReferenceDataCache referenceDataCache;
+    private JourneyPlanner journeyPlanner;
+    private CityAutocomplete cityAutocomplete;
+    private SeatAllocator seatAllocator;
+    private TicketInventory ticketInventory;
+    private MessageSubscriberImpl messageSubscriber;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        doReturn(RedisSerializer.string()).when(redisTemplate).getValueSerializer();
+        referenceDataCache = mock(ReferenceDataCache.class);
+        journeyPlanner = mock(JourneyPlanner.class);
+        cityAutocomplete = mock(CityAutocomplete.class);
+        seatAllocator = mock(SeatAllocator.class);
+        ticketInventory = mock(TicketInventory.class);
+        messageSubscriber = new MessageSubscriberImpl(redisTemplate, referenceDataCache, journeyPlanner,
+                cityAutocomplete, seatAllocator, ticketInventory, instanceId);
+    }
+
+    @Test
+    void messageOfAnotherInstanceIsApplied() {
+        messageSubscriber.onMessage(message(new InstanceId("other").tag(TEXT)), null);
+
+        verify(referenceDataCache).evict(TEXT);
+        verify(journeyPlanner).apply(TEXT);
+        verify(cityAutocomplete).apply(TEXT);
+        verify(seatAllocator).apply(TEXT);
+        verify(ticketInventory).apply(TEXT);
+    }
+
+    @Test
+    void ownMessageIsSkipped() {
+        messageSubscriber.onMessage(message(instanceId.tag(TEXT)), null);
+
+        verifyNoInteractions(referenceDataCache, journeyPlanner, cityAutocomplete, seatAllocator, ticketInventory);
+    }
+
+    @Test
+    void untaggedMessageIsApplied() {
+        messageSubscriber.onMessage(message(TEXT), null);
+
+        verify(journeyPlanner).apply(TEXT);
+        verify(ticketInventory).apply(TEXT);
+    }
+
+    /**
+     * Этот метод формирует сообщение топика с текстом в кодировке UTF-8
+     *
+     * @param text текст сообщения
+     * @return Возвращает сообщение топика
+     */
+    private static DefaultMessage message(String text) {
+        return new DefaultMessage("topic".getBytes(StandardCharsets.UTF_8), text.getBytes(StandardCharsets.UTF_8));
+    }
+}
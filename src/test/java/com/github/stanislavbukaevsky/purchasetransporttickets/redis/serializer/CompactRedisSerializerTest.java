@@ -0,0 +1,132 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.redis.serializer;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты сериализатора значений Redis {@link CompactRedisSerializer}: чтение записанных значений, сжатие
+ * после порога, запись сериализацией JDK внутри компактного формата, чтение значений сериализации JDK,
+ * записанных до перехода на компактный формат, и поврежденных или обрезанных значений
+ */
+class CompactRedisSerializerTest {
+    private static final int COMPRESSION_THRESHOLD = 64;
+    private static final byte PLAIN = 1;
+    private static final byte COMPRESSED = 2;
+    private static final byte LIST_TAG = 3;
+    private static final byte JDK_TAG = 4;
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(COMPRESSION_THRESHOLD);
+
+    @Test
+    void nullIsWrittenAsEmptyValue() {
+        assertArrayEquals(new byte[0], serializer.serialize(null));
+        assertNull(serializer.deserialize(null));
+        assertNull(serializer.deserialize(new byte[0]));
+    }
+
+    @Test
+    void stringsNumbersAndTicketsAreReadBack() {
+        for (Object value : List.of("", "Санкт-Петербург", 0L, -1L, Long.MIN_VALUE, Long.MAX_VALUE,
+                TicketCompactSchemaTest.ticket(), new Ticket())) {
+            assertEquals(value, serializer.deserialize(serializer.serialize(value)));
+        }
+    }
+
+    @Test
+    void listsKeepEmptyElements() {
+        List<Object> list = Arrays.asList("билет", null, 7L, TicketCompactSchemaTest.ticket(), null);
+        List<Object> nested = Arrays.asList(list, List.of(), null);
+
+        assertEquals(list, serializer.deserialize(serializer.serialize(list)));
+        assertEquals(nested, serializer.deserialize(serializer.serialize(nested)));
+        assertEquals(Arrays.asList((Object) null), serializer.deserialize(serializer.serialize(Arrays.asList((Object) null))));
+    }
+
+    @Test
+    void valuesLongerThanThresholdAreCompressed() {
+        String small = "м".repeat(COMPRESSION_THRESHOLD / 4);
+        String large = "м".repeat(COMPRESSION_THRESHOLD * 8);
+
+        byte[] smallBytes = serializer.serialize(small);
+        byte[] largeBytes = serializer.serialize(large);
+
+        assertEquals(PLAIN, smallBytes[0]);
+        assertEquals(COMPRESSED, largeBytes[0]);
+        assertTrue(largeBytes.length < large.length());
+        assertEquals(small, serializer.deserialize(smallBytes));
+        assertEquals(large, serializer.deserialize(largeBytes));
+        assertEquals(PLAIN, new CompactRedisSerializer(0).serialize(large)[0]);
+    }
+
+    @Test
+    void incompressibleValueIsNotCompressed() {
+        byte[] random = new byte[COMPRESSION_THRESHOLD * 4];
+        new Random(1).nextBytes(random);
+        String value = new String(random, StandardCharsets.ISO_8859_1);
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertEquals(PLAIN, bytes[0]);
+        assertEquals(value, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void unregisteredTypeIsWrittenWithJdkSerialization() {
+        Map<String, Integer> value = new HashMap<>(Map.of("seats", 3));
+
+        byte[] bytes = new CompactRedisSerializer(0).serialize(value);
+
+        assertEquals(PLAIN, bytes[0]);
+        assertEquals(JDK_TAG, bytes[1]);
+        assertEquals(value, serializer.deserialize(bytes));
+        assertEquals(value, serializer.deserialize(serializer.serialize(value)));
+    }
+
+    @Test
+    void legacyJdkValueIsRead() {
+        Ticket ticket = TicketCompactSchemaTest.ticket();
+        byte[] legacy = new JdkSerializationRedisSerializer().serialize(ticket);
+
+        assertEquals((byte) 0xAC, legacy[0]);
+        assertEquals(ticket, serializer.deserialize(legacy));
+    }
+
+    @Test
+    void unknownFormatOrSchemaIsReadAsNull() {
+        assertNull(serializer.deserialize(new byte[]{9, 1, 0}));
+        assertNull(serializer.deserialize(new byte[]{PLAIN, 99, 0}));
+        assertNull(serializer.deserialize(new byte[]{PLAIN, LIST_TAG, 2, 0, 99, 0}));
+    }
+
+    @Test
+    void truncatedValueFailsToRead() {
+        List<Object> value = Arrays.asList("билет", null, TicketCompactSchemaTest.ticket());
+        for (byte[] bytes : List.of(serializer.serialize(value), serializer.serialize("м".repeat(COMPRESSION_THRESHOLD * 8)))) {
+            for (int length = 1; length < bytes.length; length++) {
+                byte[] truncated = Arrays.copyOf(bytes, length);
+                assertThrows(SerializationException.class, () -> serializer.deserialize(truncated), () -> Arrays.toString(truncated));
+            }
+        }
+    }
+
+    @Test
+    void corruptedLengthFailsToReadWithoutAllocation() {
+        byte[] hugeString = {PLAIN, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        byte[] hugeList = {PLAIN, LIST_TAG, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        byte[] hugeCompressed = {COMPRESSED, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0};
+
+        for (byte[] bytes : List.of(hugeString, hugeList, hugeCompressed)) {
+            assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+        }
+    }
+}
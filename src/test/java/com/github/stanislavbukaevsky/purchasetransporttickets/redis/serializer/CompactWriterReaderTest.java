@@ -0,0 +1,129 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.redis.serializer;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты записи {@link CompactWriter} и чтения {@link CompactReader} компактного двоичного формата:
+ * размеры чисел переменной длины, зигзаг-кодирование, маска заполненных полей, дата и время с наносекундами
+ * и проверка длин при чтении поврежденных значений
+ */
+class CompactWriterReaderTest {
+
+    @Test
+    void varLongTakesSevenBitsPerByte() {
+        assertEquals(1, varLongSize(0));
+        assertEquals(1, varLongSize(127));
+        assertEquals(2, varLongSize(128));
+        assertEquals(2, varLongSize(16_383));
+        assertEquals(3, varLongSize(16_384));
+        assertEquals(9, varLongSize(Long.MAX_VALUE));
+        assertEquals(10, varLongSize(-1));
+
+        for (long value : new long[]{0, 127, 128, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE, -1, Long.MIN_VALUE}) {
+            CompactWriter writer = new CompactWriter(1);
+            writer.writeVarLong(value);
+            assertEquals(value, reader(writer).readVarLong());
+        }
+    }
+
+    @Test
+    void zigZagKeepsSmallNegativesShort() {
+        for (long value : new long[]{0, 1, -1, 63, -64}) {
+            CompactWriter writer = new CompactWriter(1);
+            writer.writeZigZag(value);
+            assertEquals(1, writer.size(), () -> String.valueOf(value));
+            assertEquals(value, reader(writer).readZigZag());
+        }
+        for (long value : new long[]{64, -65, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            CompactWriter writer = new CompactWriter(1);
+            writer.writeZigZag(value);
+            assertEquals(value, reader(writer).readZigZag());
+        }
+    }
+
+    @Test
+    void emptyFieldsAreMarkedInMaskAndNotWritten() {
+        LocalDateTime dateTime = LocalDateTime.of(2030, 1, 1, 10, 0);
+        CompactWriter writer = new CompactWriter(1);
+        long mask = CompactWriter.presence(7L, null, "место", null, dateTime, null);
+        writer.writeVarLong(mask);
+        writer.writeLong(7L);
+        writer.writeInt(null);
+        writer.writeString("место");
+        writer.writeLong(null);
+        writer.writeDateTime(dateTime);
+        writer.writeDateTime(null);
+
+        assertEquals(0b10101, mask);
+        CompactReader reader = reader(writer);
+        long readMask = reader.readVarLong();
+        assertEquals(7L, reader.readLong(readMask, 0));
+        assertNull(reader.readInt(readMask, 1));
+        assertEquals("место", reader.readString(readMask, 2));
+        assertNull(reader.readLong(readMask, 3));
+        assertEquals(dateTime, reader.readDateTime(readMask, 4));
+        assertNull(reader.readDateTime(readMask, 5));
+        assertEquals(writer.size(), reader.position());
+    }
+
+    @Test
+    void dateTimeKeepsNanosAndDatesBeforeEpoch() {
+        for (LocalDateTime value : new LocalDateTime[]{
+                LocalDateTime.of(2030, 1, 1, 10, 0, 0, 123_456_789),
+                LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_999),
+                LocalDateTime.of(2030, 1, 1, 10, 0)}) {
+            CompactWriter writer = new CompactWriter(1);
+            writer.writeDateTime(value);
+            assertEquals(value, reader(writer).readDateTime(1, 0));
+        }
+
+        CompactWriter withoutNanos = new CompactWriter(1);
+        withoutNanos.writeDateTime(LocalDateTime.of(2030, 1, 1, 10, 0));
+        CompactWriter withNanos = new CompactWriter(1);
+        withNanos.writeDateTime(LocalDateTime.of(2030, 1, 1, 10, 0, 0, 1_000));
+        assertEquals(withoutNanos.size() + 1, withNanos.size());
+    }
+
+    @Test
+    void lengthBeyondRemainingBytesIsRejected() {
+        CompactWriter writer = new CompactWriter(1);
+        writer.writeString("билет");
+        byte[] truncated = new byte[writer.size() - 1];
+        System.arraycopy(writer.buffer(), 0, truncated, 0, truncated.length);
+        assertThrows(IndexOutOfBoundsException.class, () -> new CompactReader(truncated, 0).readString());
+
+        CompactWriter huge = new CompactWriter(1);
+        huge.writeVarLong(Integer.MAX_VALUE);
+        assertThrows(IndexOutOfBoundsException.class, () -> reader(huge).readBytes());
+
+        CompactWriter negative = new CompactWriter(1);
+        negative.writeVarLong(-1);
+        assertThrows(IndexOutOfBoundsException.class, () -> reader(negative).readLength());
+    }
+
+    /**
+     * Этот метод возвращает размер числа, записанного переменной длиной
+     *
+     * @param value число
+     * @return Возвращает размер записи в байтах
+     */
+    private static int varLongSize(long value) {
+        CompactWriter writer = new CompactWriter(1);
+        writer.writeVarLong(value);
+        return writer.size();
+    }
+
+    /**
+     * Этот метод создает чтение записанных байт с начала
+     *
+     * @param writer запись компактного формата
+     * @return Возвращает чтение компактного формата
+     */
+    private static CompactReader reader(CompactWriter writer) {
+        return new CompactReader(writer.toByteArray(), 0);
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.redis.serializer;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты схемы компактного формата {@link TicketCompactSchema}: в кэш записывается только проекция билета
+ * с уникальными идентификаторами маршрута и покупателя, пустые поля не записываются
+ */
+class TicketCompactSchemaTest {
+    private static final TicketCompactSchema SCHEMA = new TicketCompactSchema();
+
+    @Test
+    void allFieldsAreReadBack() {
+        Ticket ticket = ticket();
+
+        assertEquals(ticket, roundTrip(ticket));
+    }
+
+    @Test
+    void emptyTicketIsReadBackAndTakesOneByte() {
+        CompactWriter writer = new CompactWriter(1);
+        SCHEMA.write(writer, new Ticket());
+
+        assertEquals(1, writer.size());
+        assertEquals(new Ticket(), SCHEMA.read(new CompactReader(writer.toByteArray(), 0)));
+    }
+
+    @Test
+    void emptyFieldsStayEmpty() {
+        Ticket ticket = ticket();
+        ticket.setUserId(null);
+        ticket.setDateTimeTicketIssuance(null);
+        ticket.setAvailableSeats(null);
+
+        assertEquals(ticket, roundTrip(ticket));
+    }
+
+    @Test
+    void routeAndUserAreWrittenAsIdentifiers() {
+        Route route = new Route();
+        route.setId(5L);
+        route.setDeparturePoint("Москва");
+        User user = new User();
+        user.setId(9L);
+        user.setLogin("buyer");
+        user.setPassword("password-hash");
+        Ticket ticket = ticket();
+        ticket.setRouteId(null);
+        ticket.setRoute(route);
+        ticket.setUserId(null);
+        ticket.setUser(user);
+
+        CompactWriter writer = new CompactWriter(1);
+        SCHEMA.write(writer, ticket);
+        Ticket result = SCHEMA.read(new CompactReader(writer.toByteArray(), 0));
+
+        assertEquals(5L, result.getRouteId());
+        assertEquals(9L, result.getUserId());
+        assertNull(result.getRoute());
+        assertNull(result.getUser());
+        String written = new String(writer.toByteArray(), StandardCharsets.ISO_8859_1);
+        assertFalse(written.contains("password-hash"));
+        assertFalse(written.contains("buyer"));
+    }
+
+    @Test
+    void unknownStatusFailsToRead() {
+        CompactWriter writer = new CompactWriter(1);
+        writer.writeVarLong(CompactWriter.presence(null, null, null, null, null, null, null, TicketStatus.values().length));
+        writer.writeInt(TicketStatus.values().length);
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> SCHEMA.read(new CompactReader(writer.toByteArray(), 0)));
+    }
+
+    /**
+     * Этот метод записывает и читает билет по схеме
+     *
+     * @param ticket модель билета
+     * @return Возвращает прочитанную модель билета
+     */
+    private static Ticket roundTrip(Ticket ticket) {
+        CompactWriter writer = new CompactWriter(1);
+        SCHEMA.write(writer, ticket);
+        CompactReader reader = new CompactReader(writer.toByteArray(), 0);
+        Ticket result = SCHEMA.read(reader);
+        assertEquals(writer.size(), reader.position());
+        return result;
+    }
+
+    /**
+     * Этот метод формирует купленный билет со всеми полями проекции
+     *
+     * @return Возвращает модель билета
+     */
+    static Ticket ticket() {
+        Ticket ticket = new Ticket();
+        ticket.setId(42L);
+        ticket.setRouteId(5L);
+        ticket.setDateTimeDeparture(LocalDateTime.of(2030, 1, 1, 10, 30, 0, 123_456_789));
+        ticket.setSeatNumber(17);
+        ticket.setPrice(2500);
+        ticket.setDateTimeTicketIssuance(LocalDateTime.of(2029, 12, 1, 8, 0));
+        ticket.setUserId(9L);
+        ticket.setTicketStatus(TicketStatus.NOT_ON_SALE);
+        ticket.setAvailableSeats(3);
+        ticket.setVersion(4L);
+        return ticket;
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.configuration.R2dbcConfiguration;
+import com.github.stanislavbukaevsky.purchasetransporttickets.configuration.R2dbcDslContext;
+import com.github.stanislavbukaevsky.purchasetransporttickets.database.EmbeddedDatabase;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.CarrierRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.RouteRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.TokenRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.UserRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Carrier;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Token;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.User;
+import org.jooq.DSLContext;
+import org.jooq.exception.DataAccessException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Тесты репозиториев маршрутов, перевозчиков и токенов на R2DBC со встроенной базой данных.
+ * Каждая запись, сохраненная или измененная через R2DBC, сверяется с ее чтением через репозитории JDBC
+ */
+class R2dbcReactiveRepositoryTest {
+    private static final LocalDateTime EXPIRES_AT = LocalDateTime.of(2030, 1, 1, 12, 0);
+    private static EmbeddedDatabase database;
+    private static R2dbcDslContext r2dbcDslContext;
+    private static CarrierRepository carrierRepository;
+    private static RouteRepository routeRepository;
+    private static TokenRepository tokenRepository;
+    private static R2dbcReactiveCarrierRepository reactiveCarrierRepository;
+    private static R2dbcReactiveRouteRepository reactiveRouteRepository;
+    private static R2dbcReactiveTokenRepository reactiveTokenRepository;
+    private static User user;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        database = EmbeddedDatabase.start();
+        database.seed(1);
+        DSLContext dsl = database.dsl();
+        R2dbcConfiguration r2dbcConfiguration = new R2dbcConfiguration();
+        ReflectionTestUtils.setField(r2dbcConfiguration, "url", database.r2dbcUrl());
+        ReflectionTestUtils.setField(r2dbcConfiguration, "username", "postgres");
+        ReflectionTestUtils.setField(r2dbcConfiguration, "password", "");
+        ReflectionTestUtils.setField(r2dbcConfiguration, "maxSize", database.maximumPoolSize());
+        r2dbcDslContext = r2dbcConfiguration.r2dbcDslContext();
+
+        carrierRepository = new CarrierRepository(dsl, new CarrierRecordMapper(dsl));
+        routeRepository = new RouteRepository(dsl, new RouteRecordMapper(dsl));
+        tokenRepository = new TokenRepository(dsl, new TokenRecordMapper(dsl));
+        reactiveCarrierRepository = new R2dbcReactiveCarrierRepository(r2dbcDslContext, new CarrierRecordMapper(dsl));
+        reactiveRouteRepository = new R2dbcReactiveRouteRepository(r2dbcDslContext, new RouteRecordMapper(dsl));
+        reactiveTokenRepository = new R2dbcReactiveTokenRepository(r2dbcDslContext, new TokenRecordMapper(dsl));
+        user = new UserRepository(dsl, new UserRecordMapper(dsl, null)).findUserByLogin(EmbeddedDatabase.LOGIN);
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        r2dbcDslContext.close();
+        database.close();
+    }
+
+    @Test
+    void carrierIsSavedUpdatedFoundAndDeleted() {
+        Carrier carrier = new Carrier();
+        carrier.setCompanyName("Новый перевозчик");
+        carrier.setPhoneNumber("+79001112233");
+        Carrier saved = reactiveCarrierRepository.save(carrier).block();
+        assertEquals(carrierRepository.findCarrierById(saved.getId()), saved);
+
+        saved.setPhoneNumber("+79004445566");
+        StepVerifier.create(reactiveCarrierRepository.update(saved))
+                .assertNext(updated -> assertEquals(saved, updated))
+                .verifyComplete();
+        assertEquals(saved, carrierRepository.findCarrierById(saved.getId()));
+        StepVerifier.create(reactiveCarrierRepository.findCarrierByCompanyName("Новый перевоз"))
+                .assertNext(found -> assertEquals(saved, found))
+                .verifyComplete();
+
+        StepVerifier.create(reactiveCarrierRepository.deleteById(saved.getId()))
+                .verifyComplete();
+        StepVerifier.create(reactiveCarrierRepository.findCarrierById(saved.getId()))
+                .verifyError(DataAccessException.class);
+    }
+
+    @Test
+    void routeIsSavedUpdatedFoundAndDeleted() {
+        Carrier carrier = carrierRepository.findCarrierByCompanyName("Перевозчик 1");
+        Route route = new Route();
+        route.setDeparturePoint("Москва");
+        route.setDestination("Тверь");
+        route.setCarrier(carrier);
+        route.setDurationInMinutes(120);
+        Route saved = reactiveRouteRepository.save(route).block();
+        assertEquals(routeRepository.findRouteById(saved.getId()), saved);
+        assertEquals(carrier.getId(), saved.getCarrierId());
+
+        saved.setCarrier(carrier);
+        saved.setDurationInMinutes(150);
+        StepVerifier.create(reactiveRouteRepository.update(saved))
+                .assertNext(updated -> assertEquals(150, updated.getDurationInMinutes()))
+                .verifyComplete();
+        StepVerifier.create(reactiveRouteRepository.findRouteById(saved.getId()))
+                .assertNext(found -> assertEquals(routeRepository.findRouteById(saved.getId()), found))
+                .verifyComplete();
+
+        StepVerifier.create(reactiveRouteRepository.deleteById(saved.getId()))
+                .verifyComplete();
+        StepVerifier.create(reactiveRouteRepository.findRouteById(saved.getId()))
+                .verifyError(DataAccessException.class);
+    }
+
+    @Test
+    void tokenIsFoundAndUpdatedByUserId() {
+        StepVerifier.create(reactiveTokenRepository.existsTokenByUserId(user.getId()))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(reactiveTokenRepository.findTokenByUserId(user.getId()))
+                .verifyError(DataAccessException.class);
+
+        Token token = new Token();
+        token.setUser(user);
+        token.setUserId(user.getId());
+        token.setAccessToken("access");
+        token.setRefreshToken("refresh");
+        token.setExpiresAtAccess(EXPIRES_AT);
+        token.setExpiresAtRefresh(EXPIRES_AT.plusDays(1));
+        tokenRepository.save(token);
+
+        StepVerifier.create(reactiveTokenRepository.existsTokenByUserId(user.getId()))
+                .expectNext(true)
+                .verifyComplete();
+        Token found = reactiveTokenRepository.findTokenByUserId(user.getId()).block();
+        assertEquals(tokenRepository.findTokenByUserId(user.getId()), found);
+
+        found.setAccessToken("new-access");
+        found.setExpiresAtAccess(EXPIRES_AT.plusHours(1));
+        StepVerifier.create(reactiveTokenRepository.update(found))
+                .assertNext(updated -> assertEquals("new-access", updated.getAccessToken()))
+                .verifyComplete();
+        assertEquals(found, tokenRepository.findTokenByUserId(user.getId()));
+    }
+}
@@ -0,0 +1,208 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.database.EmbeddedRedis;
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.serializer.CompactRedisSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты неблокирующего чтения кэша билетов и истории покупок через {@link ReactiveRedisRepository}
+ * на встроенном хранилище Redis. Билеты и история покупок записываются блокирующим {@link RedisRepository},
+ * как в приложении, поэтому тесты проверяют и совпадение ключей и форматов записи и чтения
+ */
+class ReactiveRedisRepositoryTest {
+    private static final Long USER_ID = 7L;
+    private static final LocalDateTime DEPARTURE = LocalDateTime.of(2030, 1, 1, 10, 0);
+    private static final int BATCH_SIZE = 2;
+    private static final long TICKET_TIME_TO_LIVE_IN_SECONDS = 600;
+    private static EmbeddedRedis redis;
+    private static RedisRepository redisRepository;
+    private static ReactiveRedisRepository reactiveRedisRepository;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        redis = EmbeddedRedis.start();
+        RedisSerializer<Object> redisValueSerializer = new CompactRedisSerializer(1024);
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redis.connectionFactory());
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setHashKeySerializer(new GenericToStringSerializer<>(Long.class));
+        redisTemplate.setValueSerializer(redisValueSerializer);
+        redisTemplate.setHashValueSerializer(redisValueSerializer);
+        redisTemplate.afterPropertiesSet();
+
+        redisRepository = new RedisRepository();
+        ReflectionTestUtils.setField(redisRepository, "redisTemplate", redisTemplate);
+        ReflectionTestUtils.setField(redisRepository, "stringRedisTemplate", redis.stringRedisTemplate());
+        ReflectionTestUtils.setField(redisRepository, "redisValueSerializer", redisValueSerializer);
+        ReflectionTestUtils.setField(redisRepository, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(redisRepository, "ticketTimeToLiveInSeconds", TICKET_TIME_TO_LIVE_IN_SECONDS);
+
+        reactiveRedisRepository = new ReactiveRedisRepository(
+                new ReactiveStringRedisTemplate(redis.connectionFactory()), redisValueSerializer);
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        redis.close();
+    }
+
+    @BeforeEach
+    void flush() {
+        redis.flushAll();
+    }
+
+    @Test
+    void savedTicketIsFoundById() {
+        Ticket ticket = ticket(1L);
+        redisRepository.save(ticket);
+
+        StepVerifier.create(reactiveRedisRepository.findById(1L))
+                .assertNext(found -> assertEquals(ticket, found))
+                .verifyComplete();
+    }
+
+    @Test
+    void missingOrDeletedTicketIsNotFound() {
+        redisRepository.save(ticket(1L));
+        redisRepository.delete(1L);
+
+        StepVerifier.create(reactiveRedisRepository.findById(1L)).verifyComplete();
+        StepVerifier.create(reactiveRedisRepository.findById(2L)).verifyComplete();
+    }
+
+    @Test
+    void ticketsSavedByBatchesAreFoundById() {
+        redisRepository.saveAll(List.of(ticket(1L), ticket(2L), ticket(3L), ticket(4L), ticket(5L)));
+        redisRepository.delete(3L);
+
+        for (long id = 1; id <= 5; id++) {
+            StepVerifier.create(reactiveRedisRepository.findById(id).map(Ticket::getId))
+                    .expectNextCount(id == 3 ? 0 : 1)
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void notLoadedPurchasesAreNotFound() {
+        redisRepository.savePurchase(USER_ID, purchase(1L));
+
+        StepVerifier.create(reactiveRedisRepository.findPurchases(USER_ID, 0, 10)).verifyComplete();
+    }
+
+    @Test
+    void loadedPurchasesAreFoundByPage() {
+        redisRepository.savePurchases(USER_ID, List.of(purchase(3L), purchase(1L), purchase(2L)));
+
+        assertEquals(List.of(purchase(1L), purchase(2L)), reactiveRedisRepository.findPurchases(USER_ID, 0, 2).block());
+        assertEquals(List.of(purchase(3L)), reactiveRedisRepository.findPurchases(USER_ID, 2, 2).block());
+        assertEquals(List.of(), reactiveRedisRepository.findPurchases(USER_ID, 4, 2).block());
+    }
+
+    @Test
+    void purchasesWithMissingTicketHashAreNotFound() {
+        redisRepository.savePurchases(USER_ID, List.of(purchase(1L), purchase(2L)));
+        redis.stringRedisTemplate().delete(RedisRepository.ticketKey(USER_ID, 2L));
+
+        StepVerifier.create(reactiveRedisRepository.findPurchases(USER_ID, 0, 10)).verifyComplete();
+    }
+
+    @Test
+    void backfillDoesNotRestoreRemovedOrOverwriteNewerPurchases() {
+        Ticket removed = purchase(1L);
+        removed.setVersion(3L);
+        Ticket repurchased = purchase(2L);
+        repurchased.setVersion(5L);
+        redisRepository.removePurchase(USER_ID, removed);
+        redisRepository.savePurchase(USER_ID, repurchased);
+
+        redisRepository.savePurchases(USER_ID, List.of(purchase(1L), purchase(2L), purchase(3L)));
+
+        assertEquals(List.of(repurchased, purchase(3L)), reactiveRedisRepository.findPurchases(USER_ID, 0, 10).block());
+    }
+
+    @Test
+    void removedPurchaseIsSavedAgainWithNewerVersion() {
+        redisRepository.savePurchases(USER_ID, List.of(purchase(1L)));
+        Ticket removed = purchase(1L);
+        removed.setVersion(3L);
+        redisRepository.removePurchase(USER_ID, removed);
+        assertEquals(List.of(), reactiveRedisRepository.findPurchases(USER_ID, 0, 10).block());
+
+        Ticket repurchased = purchase(1L);
+        repurchased.setVersion(4L);
+        redisRepository.savePurchase(USER_ID, repurchased);
+
+        assertEquals(List.of(repurchased), reactiveRedisRepository.findPurchases(USER_ID, 0, 10).block());
+    }
+
+    @Test
+    void deletedPurchaseIsNotRestored() {
+        redisRepository.savePurchases(USER_ID, List.of(purchase(1L), purchase(2L)));
+        redisRepository.deletePurchase(USER_ID, 1L);
+
+        redisRepository.savePurchase(USER_ID, purchase(1L));
+        redisRepository.savePurchases(USER_ID, List.of(purchase(1L), purchase(2L)));
+
+        assertEquals(List.of(purchase(2L)), reactiveRedisRepository.findPurchases(USER_ID, 0, 10).block());
+    }
+
+    @Test
+    void purchaseKeysExpireWithTicketCache() {
+        redisRepository.savePurchases(USER_ID, List.of(purchase(1L)));
+
+        for (String key : List.of(RedisRepository.purchasesKey(USER_ID), RedisRepository.loadedKey(USER_ID),
+                RedisRepository.ticketKey(USER_ID, 1L))) {
+            Long timeToLive = redis.stringRedisTemplate().getExpire(key);
+            assertTrue(timeToLive > 0 && timeToLive <= TICKET_TIME_TO_LIVE_IN_SECONDS, key);
+        }
+    }
+
+    /**
+     * Этот метод формирует билет в продаже с версией из базы данных
+     *
+     * @param id уникальный идентификатор билета
+     * @return Возвращает модель билета
+     */
+    private static Ticket ticket(Long id) {
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setRouteId(id % 3 + 1);
+        ticket.setDateTimeDeparture(DEPARTURE.plusHours(id));
+        ticket.setDateTimeTicketIssuance(DEPARTURE.minusDays(1));
+        ticket.setSeatNumber(id.intValue());
+        ticket.setPrice(1000 + id.intValue());
+        ticket.setTicketStatus(TicketStatus.AVAILABLE_FOR_SALE);
+        ticket.setVersion(1L);
+        return ticket;
+    }
+
+    /**
+     * Этот метод формирует купленный билет пользователя с полями, которые хранятся в истории покупок
+     *
+     * @param id уникальный идентификатор билета
+     * @return Возвращает модель купленного билета
+     */
+    private static Ticket purchase(Long id) {
+        Ticket ticket = ticket(id);
+        ticket.setUserId(USER_ID);
+        ticket.setTicketStatus(TicketStatus.NOT_ON_SALE);
+        ticket.setVersion(2L);
+        return ticket;
+    }
+}
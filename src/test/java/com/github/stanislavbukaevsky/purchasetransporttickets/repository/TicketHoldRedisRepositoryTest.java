@@ -0,0 +1,127 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.database.EmbeddedRedis;
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketHoldStatus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты скриптов брони hold-ticket.lua и release-ticket-hold.lua через {@link TicketHoldRedisRepository}
+ * на встроенном хранилище Redis: время жизни брони, ее продление и снятие только владельцем
+ */
+class TicketHoldRedisRepositoryTest {
+    private static final Long TICKET_ID = 1L;
+    private static final String BUYER = "buyer";
+    private static final String OTHER_BUYER = "other-buyer";
+    private static final Duration HOLD_TIME_TO_LIVE = Duration.ofMinutes(10);
+    private static final Duration PURCHASE_TIME_TO_LIVE = Duration.ofSeconds(30);
+    private static final Duration EXPIRING_TIME_TO_LIVE = Duration.ofMillis(50);
+    private static final long EXPIRY_WAIT_IN_MILLIS = 2_000;
+    private static EmbeddedRedis redis;
+    private static TicketHoldRedisRepository ticketHoldRedisRepository;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        redis = EmbeddedRedis.start();
+        ticketHoldRedisRepository = new TicketHoldRedisRepository(redis.stringRedisTemplate());
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        redis.close();
+    }
+
+    @BeforeEach
+    void flush() {
+        redis.flushAll();
+    }
+
+    @Test
+    void holdSetsHolderWithTimeToLive() {
+        assertEquals(TicketHoldStatus.HELD, ticketHoldRedisRepository.hold(TICKET_ID, BUYER, HOLD_TIME_TO_LIVE));
+
+        assertEquals(BUYER, holder());
+        long timeToLive = timeToLiveInMillis();
+        assertTrue(timeToLive > 0 && timeToLive <= HOLD_TIME_TO_LIVE.toMillis(), () -> String.valueOf(timeToLive));
+    }
+
+    @Test
+    void holdByAnotherBuyerIsRejected() {
+        ticketHoldRedisRepository.hold(TICKET_ID, BUYER, HOLD_TIME_TO_LIVE);
+
+        assertEquals(TicketHoldStatus.REJECTED, ticketHoldRedisRepository.hold(TICKET_ID, OTHER_BUYER, HOLD_TIME_TO_LIVE));
+        assertEquals(BUYER, holder());
+    }
+
+    @Test
+    void repeatedHoldExtendsTimeToLive() {
+        ticketHoldRedisRepository.hold(TICKET_ID, BUYER, PURCHASE_TIME_TO_LIVE);
+
+        assertEquals(TicketHoldStatus.EXTENDED, ticketHoldRedisRepository.hold(TICKET_ID, BUYER, HOLD_TIME_TO_LIVE));
+        assertTrue(timeToLiveInMillis() > PURCHASE_TIME_TO_LIVE.toMillis());
+    }
+
+    @Test
+    void repeatedHoldNeverShortensTimeToLive() {
+        ticketHoldRedisRepository.hold(TICKET_ID, BUYER, HOLD_TIME_TO_LIVE);
+
+        assertEquals(TicketHoldStatus.EXTENDED, ticketHoldRedisRepository.hold(TICKET_ID, BUYER, PURCHASE_TIME_TO_LIVE));
+        assertTrue(timeToLiveInMillis() > PURCHASE_TIME_TO_LIVE.toMillis());
+    }
+
+    @Test
+    void expiredHoldCanBeTakenByAnotherBuyer() throws InterruptedException {
+        ticketHoldRedisRepository.hold(TICKET_ID, BUYER, EXPIRING_TIME_TO_LIVE);
+
+        long deadline = System.currentTimeMillis() + EXPIRY_WAIT_IN_MILLIS;
+        while (holder() != null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(EXPIRING_TIME_TO_LIVE.toMillis());
+        }
+        assertNull(holder());
+        assertFalse(ticketHoldRedisRepository.release(TICKET_ID, BUYER));
+        assertEquals(TicketHoldStatus.HELD, ticketHoldRedisRepository.hold(TICKET_ID, OTHER_BUYER, HOLD_TIME_TO_LIVE));
+        assertEquals(OTHER_BUYER, holder());
+    }
+
+    @Test
+    void releaseByAnotherBuyerKeepsHold() {
+        ticketHoldRedisRepository.hold(TICKET_ID, BUYER, HOLD_TIME_TO_LIVE);
+
+        assertFalse(ticketHoldRedisRepository.release(TICKET_ID, OTHER_BUYER));
+        assertEquals(BUYER, holder());
+    }
+
+    @Test
+    void releaseByHolderRemovesHold() {
+        ticketHoldRedisRepository.hold(TICKET_ID, BUYER, HOLD_TIME_TO_LIVE);
+
+        assertTrue(ticketHoldRedisRepository.release(TICKET_ID, BUYER));
+        assertNull(holder());
+        assertFalse(ticketHoldRedisRepository.release(TICKET_ID, BUYER));
+    }
+
+    /**
+     * Этот метод читает логин покупателя, за которым забронирован билет
+     *
+     * @return Возвращает логин покупателя или null, если билет не забронирован
+     */
+    private static String holder() {
+        return redis.stringRedisTemplate().opsForValue().get(TicketHoldRedisRepository.key(TICKET_ID));
+    }
+
+    /**
+     * Этот метод возвращает оставшееся время жизни брони билета
+     *
+     * @return Возвращает время жизни в миллисекундах
+     */
+    private static long timeToLiveInMillis() {
+        return redis.stringRedisTemplate().getExpire(TicketHoldRedisRepository.key(TICKET_ID), TimeUnit.MILLISECONDS);
+    }
+}
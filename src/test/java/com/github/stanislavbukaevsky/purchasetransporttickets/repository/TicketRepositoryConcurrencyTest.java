@@ -0,0 +1,147 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.database.EmbeddedDatabase;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Departures;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.TicketChanges;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Tickets;
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
+import com.github.stanislavbukaevsky.purchasetransporttickets.exception.TicketNotFoundException;
+import com.github.stanislavbukaevsky.purchasetransporttickets.exception.UserNotFoundException;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.TicketRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import org.jooq.*;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты покупки билета {@link TicketRepository#buyingTicket(Long, String)} на встроенной базе данных.
+ * Покупатели запускаются одновременно из нескольких потоков, а выполненные запросы считаются через {@link ExecuteListener}
+ */
+class TicketRepositoryConcurrencyTest {
+    private static final int TICKETS_PER_ROUTE = 2;
+    private static final int BUYERS = 16;
+    private static final int WINNER_STATEMENTS = 3;
+    private static final int LOSER_STATEMENTS = 2;
+    private static final AtomicInteger executedStatements = new AtomicInteger();
+    private static EmbeddedDatabase database;
+    private static TicketRepository ticketRepository;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        database = EmbeddedDatabase.start();
+        database.seed(TICKETS_PER_ROUTE);
+        DSLContext dsl = DSL.using(database.dsl().configuration().derive(new ExecuteListener() {
+            @Override
+            public void start(ExecuteContext ctx) {
+                if (ctx.query() != null) {
+                    executedStatements.incrementAndGet();
+                }
+            }
+        }));
+        ticketRepository = new TicketRepository(dsl, new TicketRecordMapper(dsl));
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Test
+    void onlyOneConcurrentBuyerGetsTicket() throws Exception {
+        Long id = availableTicketId();
+        Record2<Long, Integer> departure = availableSeats(id);
+        ExecutorService executor = Executors.newFixedThreadPool(BUYERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<Ticket>>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < BUYERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return ticketRepository.buyingTicket(id, EmbeddedDatabase.LOGIN);
+                }));
+            }
+            executedStatements.set(0);
+            start.countDown();
+            int bought = 0;
+            for (Future<Optional<Ticket>> future : futures) {
+                if (future.get().isPresent()) {
+                    assertEquals(id, future.get().get().getId());
+                    bought++;
+                }
+            }
+            assertEquals(1, bought);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(WINNER_STATEMENTS + LOSER_STATEMENTS * (BUYERS - 1), executedStatements.get());
+        assertEquals(TicketStatus.NOT_ON_SALE.name(), database.dsl().select(Tickets.TICKETS.TICKET_STATUS)
+                .from(Tickets.TICKETS)
+                .where(Tickets.TICKETS.ID.eq(id))
+                .fetchSingle().value1());
+        assertEquals(departure.value2() - 1, availableSeats(id).value2());
+        assertEquals(1, database.dsl().fetchCount(TicketChanges.TICKET_CHANGES, TicketChanges.TICKET_CHANGES.TICKET_ID.eq(id)));
+    }
+
+    @Test
+    void buyingSoldTicketReturnsEmpty() {
+        Long id = availableTicketId();
+        assertTrue(ticketRepository.buyingTicket(id, EmbeddedDatabase.LOGIN).isPresent());
+
+        executedStatements.set(0);
+        assertTrue(ticketRepository.buyingTicket(id, EmbeddedDatabase.LOGIN).isEmpty());
+        assertEquals(LOSER_STATEMENTS, executedStatements.get());
+    }
+
+    @Test
+    void buyingMissingTicketThrowsTicketNotFound() {
+        assertThrows(TicketNotFoundException.class, () -> ticketRepository.buyingTicket(-1L, EmbeddedDatabase.LOGIN));
+    }
+
+    @Test
+    void buyingTicketByMissingUserThrowsUserNotFound() {
+        Long id = availableTicketId();
+        assertThrows(UserNotFoundException.class, () -> ticketRepository.buyingTicket(id, "missing"));
+        assertEquals(id, availableTicketId());
+    }
+
+    /**
+     * Этот метод ищет наименьший уникальный идентификатор билета, который еще есть в продаже
+     *
+     * @return Возвращает уникальный идентификатор билета
+     */
+    private static Long availableTicketId() {
+        return database.dsl().select(DSL.min(Tickets.TICKETS.ID))
+                .from(Tickets.TICKETS)
+                .where(Tickets.TICKETS.TICKET_STATUS.eq(TicketStatus.AVAILABLE_FOR_SALE.name()))
+                .fetchSingle().value1();
+    }
+
+    /**
+     * Этот метод ищет остаток мест отправления билета
+     *
+     * @param id уникальный идентификатор билета
+     * @return Возвращает идентификатор билета и остаток мест его отправления
+     */
+    private static Record2<Long, Integer> availableSeats(Long id) {
+        return database.dsl().select(Tickets.TICKETS.ID, Departures.DEPARTURES.AVAILABLE_SEATS)
+                .from(Tickets.TICKETS)
+                .join(Departures.DEPARTURES).on(Departures.DEPARTURES.ROUTE_ID.eq(Tickets.TICKETS.ROUTE_ID),
+                        Departures.DEPARTURES.DATE_TIME_DEPARTURE.eq(Tickets.TICKETS.DATE_TIME_DEPARTURE))
+                .where(Tickets.TICKETS.ID.eq(id))
+                .fetchSingle();
+    }
+}
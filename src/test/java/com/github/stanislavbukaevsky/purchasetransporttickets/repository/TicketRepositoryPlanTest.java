@@ -0,0 +1,294 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.database.EmbeddedDatabase;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Tickets;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Users;
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketSortOrder;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.TicketRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Route;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.pagination.SeekCursor;
+import org.jooq.*;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты планов запросов {@link TicketRepository} на заполненной встроенной базе данных.
+ * Последовательное сканирование в сессии выключено (enable_seqscan = off), поэтому оно появляется в плане,
+ * только если для запроса нет подходящего индекса. Каждый метод репозитория проверяется тестом с именем
+ * вида methodUsesIndex, кроме загрузчиков из {@link #FULL_SCAN_EXEMPTIONS}. Изменяющие методы выполняются
+ * в транзакции, которая затем откатывается, поэтому тесты не зависят от порядка выполнения
+ */
+class TicketRepositoryPlanTest {
+    private static final int TICKETS_PER_ROUTE = 200;
+    private static final int PAGE_SIZE = 20;
+    /**
+     * Методы, которые не проверяются на индекс: загрузчики всех билетов в продаже для расписания
+     * и индекса билетов, которым последовательное сканирование подходит, и чтение текущего времени без таблиц
+     */
+    private static final Set<String> FULL_SCAN_EXEMPTIONS = Set.of(
+            "findAvailableTicketsDepartingAfter",
+            "streamAvailableTickets",
+            "findCurrentDateTime");
+    private static final String USES_INDEX_SUFFIX = "UsesIndex";
+    private static final List<Query> executedQueries = new ArrayList<>();
+    private static EmbeddedDatabase database;
+    private static Connection connection;
+    private static DSLContext explainDsl;
+    private static DSLContext dsl;
+    private static TicketRepository ticketRepository;
+    private static Long userId;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        database = EmbeddedDatabase.start();
+        database.seed(TICKETS_PER_ROUTE);
+        connection = database.dataSource().getConnection();
+        explainDsl = DSL.using(connection, SQLDialect.POSTGRES);
+        explainDsl.execute("set enable_seqscan = off");
+
+        dsl = DSL.using(new DefaultConfiguration()
+                .set(connection)
+                .set(SQLDialect.POSTGRES)
+                .set(new ExecuteListener() {
+                    @Override
+                    public void start(ExecuteContext ctx) {
+                        if (ctx.query() != null) {
+                            executedQueries.add(ctx.query());
+                        }
+                    }
+                }));
+        ticketRepository = new TicketRepository(dsl, new TicketRecordMapper(dsl));
+        userId = explainDsl.select(Users.USERS.ID).from(Users.USERS)
+                .where(Users.USERS.LOGIN.eq(EmbeddedDatabase.LOGIN))
+                .fetchOne(Users.USERS.ID);
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        connection.close();
+        database.close();
+    }
+
+    @Test
+    void findTicketsByDateAndTimeDepartureUsesIndex() {
+        assertNoSequentialScan(() -> {
+            ticketRepository.findTicketsByDateAndTimeDeparture(EmbeddedDatabase.FIRST_DEPARTURE,
+                    EmbeddedDatabase.FIRST_DEPARTURE, null, PAGE_SIZE);
+            ticketRepository.findTicketsByDateAndTimeDeparture(EmbeddedDatabase.FIRST_DEPARTURE,
+                    EmbeddedDatabase.FIRST_DEPARTURE.plusDays(1), null, PAGE_SIZE);
+            ticketRepository.findTicketsByDateAndTimeDeparture(EmbeddedDatabase.FIRST_DEPARTURE,
+                    EmbeddedDatabase.FIRST_DEPARTURE.plusDays(1),
+                    new SeekCursor(EmbeddedDatabase.FIRST_DEPARTURE, firstTicketId()), PAGE_SIZE);
+        });
+    }
+
+    @Test
+    void findTicketsByDeparturePointUsesIndex() {
+        assertNoSequentialScan(() -> ticketRepository.findTicketsByDeparturePoint("Петербург", null, PAGE_SIZE));
+    }
+
+    @Test
+    void findTicketsByDestinationUsesIndex() {
+        assertNoSequentialScan(() -> ticketRepository.findTicketsByDestination("Казань", null, PAGE_SIZE));
+    }
+
+    @Test
+    void findTicketsByCompanyNameCarrierUsesIndex() {
+        assertNoSequentialScan(() -> ticketRepository.findTicketsByCompanyNameCarrier("Перевозчик", null, PAGE_SIZE));
+    }
+
+    @Test
+    void findTicketsByCriteriaUsesIndex() {
+        LocalDateTime departureTo = EmbeddedDatabase.FIRST_DEPARTURE.plusDays(1);
+        assertNoSequentialScan(() -> {
+            ticketRepository.findTicketsByCriteria(new TicketSearchCriteria("Москва", "Казань",
+                    EmbeddedDatabase.FIRST_DEPARTURE, departureTo, "Перевозчик", 1000, 3000,
+                    TicketSortOrder.DEPARTURE_ASC), null, PAGE_SIZE);
+            ticketRepository.findTicketsByCriteria(new TicketSearchCriteria(null, null,
+                    EmbeddedDatabase.FIRST_DEPARTURE, departureTo, null, null, null,
+                    TicketSortOrder.DEPARTURE_DESC), null, PAGE_SIZE);
+            ticketRepository.findTicketsByCriteria(new TicketSearchCriteria(null, null, null, null, null, null, 3000,
+                    TicketSortOrder.PRICE_ASC), new SeekCursor(null, firstTicketId(), 1000), PAGE_SIZE);
+        });
+    }
+
+    @Test
+    void findTicketsByDepartureUsesIndex() {
+        Ticket ticket = ticketRepository.findTicketById(firstTicketId());
+        assertNoSequentialScan(() -> ticketRepository.findTicketsByDeparture(ticket.getRouteId(), ticket.getDateTimeDeparture()));
+    }
+
+    @Test
+    void findTicketsByUserIdUsesIndex() {
+        assertNoSequentialScan(() -> ticketRepository.findTicketsByUserId(userId));
+    }
+
+    @Test
+    void findTicketByIdUsesIndex() {
+        assertNoSequentialScan(() -> ticketRepository.findTicketById(firstTicketId()));
+    }
+
+    @Test
+    void findAvailableTicketByIdUsesIndex() {
+        assertNoSequentialScan(() -> ticketRepository.findAvailableTicketById(firstTicketId()));
+    }
+
+    @Test
+    void findAvailableTicketsByRouteIdDepartingAfterUsesIndex() {
+        Long routeId = ticketRepository.findTicketById(firstTicketId()).getRouteId();
+        assertNoSequentialScan(() -> ticketRepository.findAvailableTicketsByRouteIdDepartingAfter(routeId,
+                EmbeddedDatabase.FIRST_DEPARTURE.plusDays(1)));
+    }
+
+    @Test
+    void findAvailableTicketsByIdsUsesIndex() {
+        Long id = firstTicketId();
+        assertNoSequentialScan(() -> ticketRepository.findAvailableTicketsByIds(List.of(id, id + 1, id + 2)));
+    }
+
+    @Test
+    void findTicketChangesSinceUsesIndex() {
+        assertNoSequentialScan(() -> ticketRepository.findTicketChangesSince(EmbeddedDatabase.FIRST_DEPARTURE));
+    }
+
+    @Test
+    void deleteTicketChangesBeforeUsesIndex() {
+        assertNoSequentialScanAndRollBack(repository -> repository.deleteTicketChangesBefore(EmbeddedDatabase.FIRST_DEPARTURE));
+    }
+
+    @Test
+    void saveUsesIndex() {
+        Ticket ticket = newTicket();
+        assertNoSequentialScanAndRollBack(repository -> repository.save(ticket));
+    }
+
+    @Test
+    void updateUsesIndex() {
+        Ticket ticket = newTicket();
+        ticket.setId(firstTicketId());
+        ticket.setDateTimeDeparture(EmbeddedDatabase.FIRST_DEPARTURE.plusHours(1));
+        assertNoSequentialScanAndRollBack(repository -> repository.update(ticket));
+    }
+
+    @Test
+    void buyingTicketUsesIndex() {
+        assertNoSequentialScanAndRollBack(repository -> assertTrue(
+                repository.buyingTicket(firstTicketId(), EmbeddedDatabase.LOGIN).isPresent()));
+    }
+
+    @Test
+    void deleteByIdUsesIndex() {
+        assertNoSequentialScanAndRollBack(repository -> repository.deleteById(firstTicketId()));
+    }
+
+    @Test
+    void everyQueryIsCheckedOrExempt() {
+        Set<String> checked = new TreeSet<>();
+        for (Method method : TicketRepositoryPlanTest.class.getDeclaredMethods()) {
+            if (method.getName().endsWith(USES_INDEX_SUFFIX)) {
+                checked.add(method.getName().substring(0, method.getName().length() - USES_INDEX_SUFFIX.length()));
+            }
+        }
+        Set<String> unchecked = new TreeSet<>();
+        Arrays.stream(TicketRepository.class.getDeclaredMethods())
+                .filter(method -> Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers()))
+                .map(Method::getName)
+                .filter(name -> !checked.contains(name) && !FULL_SCAN_EXEMPTIONS.contains(name))
+                .forEach(unchecked::add);
+        assertTrue(unchecked.isEmpty(), unchecked::toString);
+        for (String exemption : FULL_SCAN_EXEMPTIONS) {
+            assertFalse(checked.contains(exemption), exemption);
+        }
+    }
+
+    /**
+     * Этот метод выполняет запросы репозитория и проверяет план каждого выполненного запроса через EXPLAIN
+     *
+     * @param queries вызовы методов репозитория
+     */
+    private static void assertNoSequentialScan(Runnable queries) {
+        assertNoSequentialScan(queries, true);
+    }
+
+    /**
+     * Этот метод выполняет запросы репозитория и проверяет план каждого выполненного запроса через EXPLAIN
+     *
+     * @param queries вызовы методов репозитория
+     * @param clear   true, если ранее выполненные запросы нужно забыть перед вызовами
+     */
+    private static void assertNoSequentialScan(Runnable queries, boolean clear) {
+        if (clear) {
+            executedQueries.clear();
+        }
+        queries.run();
+        assertFalse(executedQueries.isEmpty());
+        for (Query query : executedQueries) {
+            String plan = explainDsl.explain(query).plan();
+            assertFalse(plan.contains("Seq Scan"), () -> query.getSQL() + System.lineSeparator() + plan);
+        }
+    }
+
+    /**
+     * Этот метод выполняет изменяющие запросы репозитория в транзакции, откатывает ее
+     * и проверяет план каждого выполненного запроса через EXPLAIN
+     *
+     * @param queries вызовы методов репозитория, работающего в транзакции
+     */
+    private static void assertNoSequentialScanAndRollBack(Consumer<TicketRepository> queries) {
+        assertThrows(RollbackException.class, () -> dsl.transaction(configuration -> {
+            queries.accept(new TicketRepository(configuration.dsl(), new TicketRecordMapper(configuration.dsl())));
+            throw new RollbackException();
+        }));
+        assertNoSequentialScan(() -> {
+        }, false);
+    }
+
+    /**
+     * Этот метод формирует новый билет в продаже на маршруте билета с наименьшим идентификатором
+     *
+     * @return Возвращает модель билета без идентификатора
+     */
+    private static Ticket newTicket() {
+        Route route = new Route();
+        route.setId(ticketRepository.findTicketById(firstTicketId()).getRouteId());
+        Ticket ticket = new Ticket();
+        ticket.setRoute(route);
+        ticket.setDateTimeDeparture(EmbeddedDatabase.FIRST_DEPARTURE);
+        ticket.setSeatNumber(1);
+        ticket.setPrice(1000);
+        ticket.setDateTimeTicketIssuance(EmbeddedDatabase.FIRST_DEPARTURE.minusDays(1));
+        return ticket;
+    }
+
+    /**
+     * Этот метод ищет наименьший уникальный идентификатор билета
+     *
+     * @return Возвращает уникальный идентификатор билета
+     */
+    private static Long firstTicketId() {
+        return explainDsl.select(DSL.min(Tickets.TICKETS.ID)).from(Tickets.TICKETS).fetchOne().value1();
+    }
+
+    /**
+     * Исключение для отката транзакции после выполнения изменяющих запросов
+     */
+    private static final class RollbackException extends RuntimeException {
+    }
+}
@@ -0,0 +1,121 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.database.EmbeddedDatabase;
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketSortOrder;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.TicketRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.github.stanislavbukaevsky.purchasetransporttickets.pagination.SeekCursor;
+import org.jooq.*;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты количества запросов поиска билетов на заполненной встроенной базе данных.
+ * Каждая страница поиска, первая и по курсору, выбирается вместе с маршрутом и перевозчиком одним запросом,
+ * выполненные запросы считаются через {@link ExecuteListener}
+ */
+class TicketSearchStatementCountTest {
+    private static final int TICKETS_PER_ROUTE = 50;
+    private static final int PAGE_SIZE = 20;
+    private static final AtomicInteger executedStatements = new AtomicInteger();
+    private static EmbeddedDatabase database;
+    private static ReactiveTicketRepository reactiveTicketRepository;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        database = EmbeddedDatabase.start();
+        database.seed(TICKETS_PER_ROUTE);
+        DSLContext dsl = DSL.using(database.dsl().configuration().derive(new ExecuteListener() {
+            @Override
+            public void start(ExecuteContext ctx) {
+                if (ctx.query() != null) {
+                    executedStatements.incrementAndGet();
+                }
+            }
+        }));
+        TicketRepository ticketRepository = new TicketRepository(dsl, new TicketRecordMapper(dsl));
+        reactiveTicketRepository = new JdbcReactiveTicketRepository(ticketRepository, database.dataSource(), Schedulers.immediate());
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Test
+    void findTicketsByDateAndTimeDepartureRunsOneStatementPerPage() {
+        LocalDateTime departureTo = EmbeddedDatabase.FIRST_DEPARTURE.plusDays(1);
+        assertOneStatementPerPage(cursor -> reactiveTicketRepository.findTicketsByDateAndTimeDeparture(
+                EmbeddedDatabase.FIRST_DEPARTURE, departureTo, cursor, PAGE_SIZE));
+    }
+
+    @Test
+    void findTicketsByDeparturePointRunsOneStatementPerPage() {
+        assertOneStatementPerPage(cursor -> reactiveTicketRepository.findTicketsByDeparturePoint("Петербург", cursor, PAGE_SIZE));
+    }
+
+    @Test
+    void findTicketsByDestinationRunsOneStatementPerPage() {
+        assertOneStatementPerPage(cursor -> reactiveTicketRepository.findTicketsByDestination("Казань", cursor, PAGE_SIZE));
+    }
+
+    @Test
+    void findTicketsByCompanyNameCarrierRunsOneStatementPerPage() {
+        assertOneStatementPerPage(cursor -> reactiveTicketRepository.findTicketsByCompanyNameCarrier("Перевозчик", cursor, PAGE_SIZE));
+    }
+
+    @Test
+    void findTicketsByCriteriaRunsOneStatementPerPage() {
+        for (TicketSortOrder sortOrder : TicketSortOrder.values()) {
+            TicketSearchCriteria criteria = new TicketSearchCriteria("Москва", null, EmbeddedDatabase.FIRST_DEPARTURE,
+                    null, null, null, null, sortOrder);
+            assertOneStatementPerPage(cursor -> reactiveTicketRepository.findTicketsByCriteria(criteria, cursor, PAGE_SIZE));
+        }
+    }
+
+    /**
+     * Этот метод выбирает первую страницу поиска и страницу по ее курсору и проверяет,
+     * что каждая страница выбрана одним запросом и страницы не пересекаются
+     *
+     * @param search поиск страницы билетов по курсору
+     */
+    private static void assertOneStatementPerPage(Function<SeekCursor, Flux<Ticket>> search) {
+        List<Ticket> first = assertHydratedPage(() -> search.apply(null).collectList().block());
+        SeekCursor cursor = SeekCursor.of(first.get(first.size() - 1));
+        List<Ticket> second = assertHydratedPage(() -> search.apply(cursor).collectList().block());
+        for (Ticket ticket : second) {
+            assertTrue(first.stream().noneMatch(previous -> previous.getId().equals(ticket.getId())), ticket::toString);
+        }
+    }
+
+    /**
+     * Этот метод выбирает страницу билетов и проверяет, что она заполнена полностью вместе с маршрутами
+     * и перевозчиками и выбрана одним запросом
+     *
+     * @param page выборка страницы билетов
+     * @return Возвращает выбранную страницу билетов
+     */
+    private static List<Ticket> assertHydratedPage(Supplier<List<Ticket>> page) {
+        executedStatements.set(0);
+        List<Ticket> tickets = page.get();
+        assertEquals(1, executedStatements.get());
+        assertEquals(PAGE_SIZE, tickets.size());
+        for (Ticket ticket : tickets) {
+            assertNotNull(ticket.getRoute(), ticket::toString);
+            assertNotNull(ticket.getRoute().getCarrier(), ticket::toString);
+        }
+        return tickets;
+    }
+}
@@ -0,0 +1,211 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.repository;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.configuration.R2dbcConfiguration;
+import com.github.stanislavbukaevsky.purchasetransporttickets.configuration.R2dbcDslContext;
+import com.github.stanislavbukaevsky.purchasetransporttickets.database.EmbeddedDatabase;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.TicketRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты потоковой выгрузки билетов на встроенной базе данных.
+ * Строки курсора JDBC считаются через обертку над пулом соединений: билеты читаются из курсора
+ * только по запросу подписчика, а при отмене подписки курсор и соединение закрываются
+ */
+class TicketStreamBackpressureTest {
+    private static final int TICKETS_PER_ROUTE = 50;
+    private static final int FETCH_SIZE = 10;
+    private static final long RELEASE_WAIT_IN_MILLIS = 5_000;
+    private static final AtomicInteger fetchedRows = new AtomicInteger();
+    private static final AtomicBoolean resultSetClosed = new AtomicBoolean();
+    private static final AtomicBoolean connectionClosed = new AtomicBoolean();
+    private static EmbeddedDatabase database;
+    private static R2dbcDslContext r2dbcDslContext;
+    private static ReactiveTicketRepository jdbcReactiveTicketRepository;
+    private static ReactiveTicketRepository r2dbcReactiveTicketRepository;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        database = EmbeddedDatabase.start();
+        database.seed(TICKETS_PER_ROUTE);
+        TicketRepository ticketRepository = new TicketRepository(database.dsl(), new TicketRecordMapper(database.dsl()));
+        jdbcReactiveTicketRepository = new JdbcReactiveTicketRepository(ticketRepository,
+                probe(DataSource.class, database.dataSource()), Schedulers.immediate());
+        ReflectionTestUtils.setField(jdbcReactiveTicketRepository, "streamFetchSize", FETCH_SIZE);
+
+        R2dbcConfiguration r2dbcConfiguration = new R2dbcConfiguration();
+        ReflectionTestUtils.setField(r2dbcConfiguration, "url", database.r2dbcUrl());
+        ReflectionTestUtils.setField(r2dbcConfiguration, "username", "postgres");
+        ReflectionTestUtils.setField(r2dbcConfiguration, "password", "");
+        ReflectionTestUtils.setField(r2dbcConfiguration, "maxSize", database.maximumPoolSize());
+        r2dbcDslContext = r2dbcConfiguration.r2dbcDslContext();
+        r2dbcReactiveTicketRepository = new R2dbcReactiveTicketRepository(r2dbcDslContext);
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        r2dbcDslContext.close();
+        database.close();
+    }
+
+    @BeforeEach
+    void resetProbe() {
+        fetchedRows.set(0);
+        resultSetClosed.set(false);
+        connectionClosed.set(false);
+    }
+
+    @Test
+    void streamTicketsByDateAndTimeDepartureReadsCursorOnDemand() {
+        LocalDateTime departureTo = EmbeddedDatabase.FIRST_DEPARTURE.plusDays(30);
+        assertCursorReadOnDemand(() -> jdbcReactiveTicketRepository.streamTicketsByDateAndTimeDeparture(
+                EmbeddedDatabase.FIRST_DEPARTURE, departureTo, null));
+    }
+
+    @Test
+    void streamTicketsByDeparturePointReadsCursorOnDemand() {
+        assertCursorReadOnDemand(() -> jdbcReactiveTicketRepository.streamTicketsByDeparturePoint("Москва", null));
+    }
+
+    @Test
+    void streamTicketsByDestinationReadsCursorOnDemand() {
+        assertCursorReadOnDemand(() -> jdbcReactiveTicketRepository.streamTicketsByDestination("Казань", null));
+    }
+
+    @Test
+    void streamTicketsByCompanyNameCarrierReadsCursorOnDemand() {
+        assertCursorReadOnDemand(() -> jdbcReactiveTicketRepository.streamTicketsByCompanyNameCarrier("Перевозчик", null));
+    }
+
+    @Test
+    void completedStreamClosesCursorAndConnection() {
+        List<Ticket> tickets = jdbcReactiveTicketRepository.streamTicketsByDeparturePoint("Москва", null)
+                .collectList()
+                .block();
+
+        assertEquals((EmbeddedDatabase.CITIES.length - 1) * TICKETS_PER_ROUTE, tickets.size());
+        assertEquals(tickets.size(), fetchedRows.get());
+        assertCursorReleased();
+    }
+
+    @Test
+    void cancelledR2dbcStreamReleasesConnection() throws InterruptedException {
+        StepVerifier.create(r2dbcReactiveTicketRepository.streamTicketsByDeparturePoint("Москва", null), 0)
+                .expectSubscription()
+                .thenRequest(FETCH_SIZE)
+                .expectNextCount(FETCH_SIZE)
+                .thenCancel()
+                .verify();
+
+        long deadline = System.currentTimeMillis() + RELEASE_WAIT_IN_MILLIS;
+        while (acquiredR2dbcConnections() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(FETCH_SIZE);
+        }
+        assertEquals(0, acquiredR2dbcConnections());
+    }
+
+    /**
+     * Этот метод запрашивает билеты из потока порциями, проверяет, что из курсора прочитано не больше
+     * запрошенного (и одной строки упреждающего чтения итератора), и отменяет подписку
+     *
+     * @param stream потоковая выгрузка билетов
+     */
+    private static void assertCursorReadOnDemand(Supplier<Flux<Ticket>> stream) {
+        StepVerifier.create(stream.get(), 0)
+                .expectSubscription()
+                .then(() -> assertTrue(fetchedRows.get() <= 1, () -> String.valueOf(fetchedRows.get())))
+                .thenRequest(FETCH_SIZE)
+                .expectNextCount(FETCH_SIZE)
+                .then(() -> assertTrue(fetchedRows.get() <= FETCH_SIZE + 1, () -> String.valueOf(fetchedRows.get())))
+                .thenRequest(2 * FETCH_SIZE)
+                .expectNextCount(2 * FETCH_SIZE)
+                .then(() -> {
+                    assertTrue(fetchedRows.get() <= 3 * FETCH_SIZE + 1, () -> String.valueOf(fetchedRows.get()));
+                    assertFalse(resultSetClosed.get());
+                    assertFalse(connectionClosed.get());
+                })
+                .thenCancel()
+                .verify();
+
+        assertTrue(fetchedRows.get() <= 3 * FETCH_SIZE + 1, () -> String.valueOf(fetchedRows.get()));
+        assertCursorReleased();
+    }
+
+    /**
+     * Этот метод проверяет, что курсор закрыт, а соединение возвращено в пул
+     */
+    private static void assertCursorReleased() {
+        assertTrue(resultSetClosed.get());
+        assertTrue(connectionClosed.get());
+        assertEquals(0, ((HikariDataSource) database.dataSource()).getHikariPoolMXBean().getActiveConnections());
+    }
+
+    /**
+     * Этот метод возвращает количество соединений R2DBC, выданных из пула
+     *
+     * @return Возвращает количество занятых соединений
+     */
+    private static int acquiredR2dbcConnections() {
+        return r2dbcDslContext.pool().getMetrics().orElseThrow().acquiredSize();
+    }
+
+    /**
+     * Этот метод оборачивает пул соединений, соединение, запрос или курсор JDBC.
+     * Обертка считает прочитанные из курсора строки и отмечает закрытие курсора и соединения,
+     * а соединения, запросы и курсоры, полученные через нее, тоже оборачивает
+     *
+     * @param type   интерфейс JDBC
+     * @param target оборачиваемый объект
+     * @param <T>    тип интерфейса JDBC
+     * @return Возвращает обертку
+     */
+    private static <T> T probe(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+            if (type == ResultSet.class && method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                fetchedRows.incrementAndGet();
+            } else if (type == ResultSet.class && method.getName().equals("close")) {
+                resultSetClosed.set(true);
+            } else if (type == Connection.class && method.getName().equals("close")) {
+                connectionClosed.set(true);
+            }
+            if (result instanceof Connection connection && method.getReturnType() == Connection.class) {
+                return probe(Connection.class, connection);
+            }
+            if (result instanceof PreparedStatement statement && method.getReturnType() == PreparedStatement.class) {
+                return probe(PreparedStatement.class, statement);
+            }
+            if (result instanceof ResultSet resultSet && method.getReturnType() == ResultSet.class) {
+                return probe(ResultSet.class, resultSet);
+            }
+            return result;
+        }));
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.seatmap;
+
+import com.github.stanislavbukaevsky.purchasetransporttickets.enums.TicketStatus;
+import com.github.stanislavbukaevsky.purchasetransporttickets.model.Ticket;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты поиска групп соседних мест в карте мест {@link SeatMap}.
+ * Карты строятся из записи в формате {@link SeatMap#render(long)} без разделителей рядов:
+ * "." - место в продаже, "x" - проданное место, "_" - место без билета. Идентификатор билета равен номеру места
+ */
+class SeatMapTest {
+    private static final int LIMIT = 10;
+    private static final long NOW = 1_000L;
+
+    @Test
+    void groupLargerThanRowIsNotFound() {
+        SeatMap seatMap = seatMap("........", 4);
+
+        assertEquals(0, seatMap.findAdjacentSeats(5, LIMIT, NOW).length);
+        assertEquals(2, seatMap.findAdjacentSeats(4, LIMIT, NOW).length);
+    }
+
+    @Test
+    void invalidCountOrLimitFindsNothing() {
+        SeatMap seatMap = seatMap("........", 4);
+
+        assertEquals(0, seatMap.findAdjacentSeats(0, LIMIT, NOW).length);
+        assertEquals(0, seatMap.findAdjacentSeats(2, 0, NOW).length);
+    }
+
+    @Test
+    void runAcrossRowBoundaryIsNotReturned() {
+        SeatMap seatMap = seatMap("xx....xx", 4);
+
+        assertEquals(0, seatMap.findAdjacentSeats(3, LIMIT, NOW).length);
+        assertArrayEquals(new int[][]{{3, 4}, {5, 6}}, seatMap.findAdjacentSeats(2, LIMIT, NOW));
+    }
+
+    @Test
+    void lastShortRowIsSearchedToItsEnd() {
+        SeatMap seatMap = seatMap("xxxx...", 4);
+
+        assertArrayEquals(new int[][]{{5, 6, 7}}, seatMap.findAdjacentSeats(3, LIMIT, NOW));
+    }
+
+    @Test
+    void runAcrossWordBoundaryIsFound() {
+        String layout = "x".repeat(60) + "........" + "x".repeat(32);
+        SeatMap seatMap = seatMap(layout, 100);
+
+        assertArrayEquals(new int[][]{{61, 62, 63, 64, 65, 66, 67, 68}}, seatMap.findAdjacentSeats(8, LIMIT, NOW));
+        assertEquals(0, seatMap.findAdjacentSeats(9, LIMIT, NOW).length);
+    }
+
+    @Test
+    void limitKeepsShortestRuns() {
+        SeatMap seatMap = seatMap(".........."
+                + "...x.....x"
+                + "..x....xxx", 10);
+
+        assertArrayEquals(new int[][]{{21, 22}, {11, 12}}, seatMap.findAdjacentSeats(2, 2, NOW));
+        assertArrayEquals(new int[][]{{21, 22}, {11, 12}, {24, 25}}, seatMap.findAdjacentSeats(2, 3, NOW));
+        assertArrayEquals(new int[][]{{11, 12, 13}, {24, 25, 26}}, seatMap.findAdjacentSeats(3, 2, NOW));
+        assertArrayEquals(new int[][]{{11, 12, 13}, {24, 25, 26}, {15, 16, 17}, {1, 2, 3}},
+                seatMap.findAdjacentSeats(3, LIMIT, NOW));
+    }
+
+    @Test
+    void runsOfEqualLengthKeepSeatOrder() {
+        SeatMap seatMap = seatMap("..x..x..", 8);
+
+        assertArrayEquals(new int[][]{{1, 2}, {4, 5}}, seatMap.findAdjacentSeats(2, 2, NOW));
+    }
+
+    @Test
+    void missingAndSoldSeatsSplitRuns() {
+        SeatMap seatMap = seatMap("..._....", 8);
+
+        assertArrayEquals(new int[][]{{1, 2, 3}, {5, 6, 7}}, seatMap.findAdjacentSeats(3, LIMIT, NOW));
+        assertTrue(seatMap.sell(6, 6L));
+        assertArrayEquals(new int[][]{{1, 2, 3}}, seatMap.findAdjacentSeats(3, LIMIT, NOW));
+    }
+
+    @Test
+    void heldSeatBecomesFreeWhenHoldExpires() {
+        SeatMap seatMap = seatMap("......", 6);
+        long until = NOW + 100;
+        assertTrue(seatMap.hold(3, 3L, until));
+
+        assertArrayEquals(new int[][]{{4, 5, 6}}, seatMap.findAdjacentSeats(3, LIMIT, NOW));
+        assertEquals("..h...", seatMap.render(NOW));
+        assertEquals(5, seatMap.countFreeSeats(until - 1));
+
+        assertArrayEquals(new int[][]{{1, 2, 3, 4, 5, 6}}, seatMap.findAdjacentSeats(6, LIMIT, until));
+        assertEquals("......", seatMap.render(until));
+        assertEquals(6, seatMap.countFreeSeats(until));
+    }
+
+    @Test
+    void releasedSeatIsFreeBeforeHoldExpires() {
+        SeatMap seatMap = seatMap("....", 4);
+        seatMap.hold(2, 2L, NOW + 100);
+
+        assertEquals(0, seatMap.findAdjacentSeats(4, LIMIT, NOW).length);
+        assertTrue(seatMap.release(2, 2L));
+        assertEquals(1, seatMap.findAdjacentSeats(4, LIMIT, NOW).length);
+        assertFalse(seatMap.release(2, 3L));
+    }
+
+    /**
+     * Этот метод строит карту мест из записи мест отправления
+     *
+     * @param layout      запись мест: "." - место в продаже, "x" - проданное место, "_" - место без билета
+     * @param seatsPerRow количество мест в одном ряду
+     * @return Возвращает карту мест
+     */
+    private static SeatMap seatMap(String layout, int seatsPerRow) {
+        List<Ticket> tickets = new ArrayList<>();
+        for (int seat = 1; seat <= layout.length(); seat++) {
+            char symbol = layout.charAt(seat - 1);
+            if (symbol == '_') {
+                continue;
+            }
+            Ticket ticket = new Ticket();
+            ticket.setId((long) seat);
+            ticket.setSeatNumber(seat);
+            ticket.setTicketStatus(symbol == '.' ? TicketStatus.AVAILABLE_FOR_SALE : TicketStatus.NOT_ON_SALE);
+            tickets.add(ticket);
+        }
+        return SeatMap.build(tickets, seatsPerRow);
+    }
+}
@@ -0,0 +1,204 @@
+package com.github.stanislavbukaevsky.purchasetransporttickets.service.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.stanislavbukaevsky.purchasetransporttickets.autocomplete.impl.CityAutocompleteImpl;
+import com.github.stanislavbukaevsky.purchasetransporttickets.cache.impl.ReferenceDataCacheImpl;
+import com.github.stanislavbukaevsky.purchasetransporttickets.database.EmbeddedDatabase;
+import com.github.stanislavbukaevsky.purchasetransporttickets.database.EmbeddedRedis;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Tickets;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.Users;
+import com.github.stanislavbukaevsky.purchasetransporttickets.domain.tables.records.TicketsRecord;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.BuyingTicketResponseDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.TicketRequestDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.dto.TicketResponseDto;
+import com.github.stanislavbukaevsky.purchasetransporttickets.inventory.impl.TicketInventoryImpl;
+import com.github.stanislavbukaevsky.purchasetransporttickets.journey.impl.JourneyPlannerImpl;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.TicketMapperImpl;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.CarrierRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.RouteRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.TicketRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.mapper.record.UserRecordMapper;
+import com.github.stanislavbukaevsky.purchasetransporttickets.redis.serializer.CompactRedisSerializer;
+import com.github.stanislavbukaevsky.purchasetransporttickets.repository.*;
+import com.github.stanislavbukaevsky.purchasetransporttickets.seatmap.impl.SeatAllocatorImpl;
+import com.github.stanislavbukaevsky.purchasetransporttickets.security.CustomPrincipal;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты покупки и истории покупок сервиса билетов на встроенной базе данных и встроенном хранилище Redis.
+ * Сервис собирается без контекста Spring. Блокирующие обращения сервиса выполняются на отдельном планировщике,
+ * как на jdbcScheduler, а не в потоке ответа Redis
+ */
+class TicketServicePurchaseHistoryTest {
+    private static final String OTHER_LOGIN = "other";
+    private static final String THIRD_LOGIN = "third";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static EmbeddedDatabase database;
+    private static EmbeddedRedis redis;
+    private static TicketServiceImpl ticketService;
+    private static volatile boolean failKafka;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        database = EmbeddedDatabase.start();
+        database.seed(2);
+        database.dsl().execute("insert into users (login, password, first_name, middle_name, last_name, role) "
+                + "values (?, 'other', 'Петр', 'Петрович', 'Петров', 'BUYER')", OTHER_LOGIN);
+        database.dsl().execute("insert into users (login, password, first_name, middle_name, last_name, role) "
+                + "values (?, 'third', 'Семен', 'Семенович', 'Семенов', 'BUYER')", THIRD_LOGIN);
+        redis = EmbeddedRedis.start();
+
+        DSLContext dsl = database.dsl();
+        TicketRepository ticketRepository = new TicketRepository(dsl, new TicketRecordMapper(dsl));
+        RouteRepository routeRepository = new RouteRepository(dsl, new RouteRecordMapper(dsl));
+        ReferenceDataCacheImpl referenceDataCache = new ReferenceDataCacheImpl(Caffeine.newBuilder().build(),
+                Caffeine.newBuilder().build(), routeRepository, new CarrierRepository(dsl, new CarrierRecordMapper(dsl)), message -> {
+        });
+
+        RedisSerializer<Object> redisValueSerializer = new CompactRedisSerializer(1024);
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redis.connectionFactory());
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setHashKeySerializer(new GenericToStringSerializer<>(Long.class));
+        redisTemplate.setValueSerializer(redisValueSerializer);
+        redisTemplate.setHashValueSerializer(redisValueSerializer);
+        redisTemplate.afterPropertiesSet();
+        RedisRepository redisRepository = new RedisRepository();
+        ReflectionTestUtils.setField(redisRepository, "redisTemplate", redisTemplate);
+        ReflectionTestUtils.setField(redisRepository, "stringRedisTemplate", redis.stringRedisTemplate());
+        ReflectionTestUtils.setField(redisRepository, "redisValueSerializer", redisValueSerializer);
+        ReflectionTestUtils.setField(redisRepository, "batchSize", 100);
+        ReflectionTestUtils.setField(redisRepository, "ticketTimeToLiveInSeconds", 600L);
+        ReactiveRedisRepository reactiveRedisRepository = new ReactiveRedisRepository(
+                new ReactiveStringRedisTemplate(redis.connectionFactory()), redisValueSerializer);
+
+        ticketService = new TicketServiceImpl(
+                referenceDataCache,
+                new JourneyPlannerImpl(referenceDataCache, ticketRepository, message -> {
+                }),
+                new CityAutocompleteImpl(routeRepository, message -> {
+                }),
+                new SeatAllocatorImpl(Caffeine.newBuilder().build(), ticketRepository, message -> {
+                }, Schedulers.immediate()),
+                new TicketInventoryImpl(referenceDataCache, ticketRepository, message -> {
+                }, Schedulers.immediate()),
+                ticketRepository,
+                new JdbcReactiveTicketRepository(ticketRepository, database.dataSource(), Schedulers.immediate()),
+                new UserRepository(dsl, new UserRecordMapper(dsl, null)),
+                redisRepository,
+                new TicketHoldRedisRepository(redis.stringRedisTemplate()),
+                reactiveRedisRepository,
+                buyingTicketResponseDto -> {
+                    if (failKafka) {
+                        throw new IllegalStateException("Kafka недоступна");
+                    }
+                },
+                new TicketMapperImpl(),
+                Schedulers.boundedElastic());
+        ReflectionTestUtils.setField(ticketService, "purchaseHoldTimeToLiveInSeconds", 30L);
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        redis.close();
+        database.close();
+    }
+
+    @Test
+    void updatedTicketLeavesPreviousOwnerHistory() {
+        Long id = database.dsl().select(Tickets.TICKETS.ID).from(Tickets.TICKETS)
+                .orderBy(Tickets.TICKETS.ID.asc())
+                .limit(1)
+                .fetchSingle().value1();
+        ticketService.buyingTicket(id, authentication(EmbeddedDatabase.LOGIN)).block();
+        assertEquals(List.of(id), history(EmbeddedDatabase.LOGIN));
+
+        TicketResponseDto ticket = ticketService.updateTicket(request(id), id).block();
+        assertNotNull(ticket);
+        assertEquals(List.of(), history(EmbeddedDatabase.LOGIN));
+
+        ticketService.buyingTicket(id, authentication(OTHER_LOGIN)).block();
+        assertEquals(List.of(), history(EmbeddedDatabase.LOGIN));
+        assertEquals(List.of(id), history(OTHER_LOGIN));
+
+        redis.flushAll();
+        assertEquals(List.of(), history(EmbeddedDatabase.LOGIN));
+        assertEquals(List.of(id), history(OTHER_LOGIN));
+    }
+
+    @Test
+    void purchaseIsReturnedWhenSideEffectFails() {
+        Long id = database.dsl().select(Tickets.TICKETS.ID).from(Tickets.TICKETS)
+                .orderBy(Tickets.TICKETS.ID.desc())
+                .limit(1)
+                .fetchSingle().value1();
+        failKafka = true;
+        try {
+            BuyingTicketResponseDto ticket = ticketService.buyingTicket(id, authentication(THIRD_LOGIN)).block();
+            assertNotNull(ticket);
+            assertEquals(id, ticket.getId());
+        } finally {
+            failKafka = false;
+        }
+
+        assertEquals(THIRD_LOGIN, database.dsl().select(Users.USERS.LOGIN).from(Tickets.TICKETS)
+                .join(Users.USERS).on(Users.USERS.ID.eq(Tickets.TICKETS.USER_ID))
+                .where(Tickets.TICKETS.ID.eq(id))
+                .fetchSingle().value1());
+        assertEquals(List.of(id), history(THIRD_LOGIN));
+    }
+
+    /**
+     * Этот метод читает первую страницу истории покупок пользователя через сервис билетов
+     *
+     * @param login логин покупателя
+     * @return Возвращает уникальные идентификаторы купленных билетов
+     */
+    private static List<Long> history(String login) {
+        return ticketService.findBuyingTicketsByUserId(authentication(login), 1, 10).block().stream()
+                .map(TicketResponseDto::getId)
+                .toList();
+    }
+
+    /**
+     * Этот метод формирует запрос изменения билета с теми же маршрутом, отправлением, местом и ценой
+     *
+     * @param id уникальный идентификатор билета
+     * @return Возвращает DTO с запросом изменения билета
+     */
+    private static TicketRequestDto request(Long id) {
+        TicketsRecord ticket = database.dsl().selectFrom(Tickets.TICKETS).where(Tickets.TICKETS.ID.eq(id)).fetchSingle();
+        TicketRequestDto request = new TicketRequestDto();
+        request.setRouteId(ticket.getRouteId());
+        request.setDateTimeDeparture(ticket.getDateTimeDeparture().format(DATE_TIME_FORMATTER));
+        request.setSeatNumber(ticket.getSeatNumber());
+        request.setPrice(ticket.getPrice());
+        return request;
+    }
+
+    /**
+     * Этот метод формирует объект аутентификации покупателя
+     *
+     * @param login логин покупателя
+     * @return Возвращает объект аутентификации
+     */
+    private static Authentication authentication(String login) {
+        return new UsernamePasswordAuthenticationToken(new CustomPrincipal(login), null, List.of());
+    }
+}